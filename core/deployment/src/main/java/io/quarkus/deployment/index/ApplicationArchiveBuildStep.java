@@ -50,6 +50,7 @@
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithParentName;
 
 public class ApplicationArchiveBuildStep {
@@ -90,6 +91,30 @@ interface IndexDependencyConfig {
         }
     }
 
+    /**
+     * Index cache
+     */
+    @ConfigMapping(prefix = "quarkus.index-cache")
+    @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+    interface IndexCacheConfiguration {
+        /**
+         * If set to true, the Jandex indexes of application dependency archives are stored in a persistent cache and reused
+         * by subsequent builds.
+         * <p>
+         * The cache is content-addressed, i.e. an index is looked up by the hash of the archive content. Therefore, it is safe
+         * to share the cache directory between multiple applications and builds. Directories, such as the output of the
+         * current project, are never cached.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The directory of the persistent index cache.
+         */
+        @WithDefault("${user.home}/.quarkus/cache/index")
+        Path directory();
+    }
+
     @BuildStep
     void addConfiguredIndexedDependencies(IndexDependencyConfiguration config,
             BuildProducer<IndexDependencyBuildItem> indexDependencyBuildItemBuildProducer) {
@@ -108,13 +133,16 @@ ApplicationArchivesBuildItem build(
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
             LiveReloadBuildItem liveReloadContext,
             CurateOutcomeBuildItem curateOutcomeBuildItem,
-            ClassLoadingConfig classLoadingConfig) throws IOException {
+            ClassLoadingConfig classLoadingConfig,
+            IndexCacheConfiguration indexCacheConfig) throws IOException {
 
         IndexCache indexCache = liveReloadContext.getContextObject(IndexCache.class);
         if (indexCache == null) {
             indexCache = new IndexCache();
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
+        indexCache.persistentCache = indexCacheConfig.enabled() ? new PersistentIndexCache(indexCacheConfig.directory())
+                : null;
 
         Map<ArtifactKey, Set<String>> removedResources = new HashMap<>();
         for (Map.Entry<String, Set<String>> entry : classLoadingConfig.removedResources().entrySet()) {
@@ -269,8 +297,10 @@ private static void addMarkerFilePaths(Set<String> applicationArchiveMarkers,
                         }
                         Index index = indexCache.cache.get(rootPath);
                         if (index == null) {
+                            final Set<String> removedFromTree = removed.get(dependencyKey);
                             try {
-                                index = IndexingUtil.indexTree(tree, removed.get(dependencyKey));
+                                index = indexCache.index(rootPath, removedFromTree,
+                                        () -> IndexingUtil.indexTree(tree, removedFromTree));
                             } catch (IOException ioe) {
                                 throw new UncheckedIOException(ioe);
                             }
@@ -329,7 +359,7 @@ private static Index handleJarPath(Path path, IndexCache indexCache, Set<String>
             @Override
             public Index apply(Path path) {
                 try {
-                    return IndexingUtil.indexJar(path, removed);
+                    return indexCache.index(path, removed, () -> IndexingUtil.indexJar(path, removed));
                 } catch (IOException e) {
                     throw new RuntimeException("Failed to process " + path, e);
                 }
@@ -340,8 +370,16 @@ public Index apply(Path path) {
     /**
      * When running in hot deployment mode we know that java archives will never change, there is no need
      * to re-index them each time. We cache them here to reduce the hot reload time.
+     * <p>
+     * If the persistent cache is enabled, the indexes are also reused across builds.
      */
     private static final class IndexCache {
         final Map<Path, Index> cache = new HashMap<>();
+        PersistentIndexCache persistentCache;
+
+        Index index(Path archive, Set<String> removed, PersistentIndexCache.IndexFunction indexFunction)
+                throws IOException {
+            return persistentCache != null ? persistentCache.get(archive, removed, indexFunction) : indexFunction.index();
+        }
     }
 }
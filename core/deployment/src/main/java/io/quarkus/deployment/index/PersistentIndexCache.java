@@ -0,0 +1,137 @@
+package io.quarkus.deployment.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+/**
+ * A content-addressed on-disk cache of Jandex indexes of application archives.
+ * <p>
+ * An index is stored under the hash of the archive content, the set of removed resources, the Java version (multi-release
+ * JARs are indexed for the current version) and the Jandex version. Therefore, an entry never needs to be invalidated and the
+ * cache directory can be shared by multiple builds, including concurrent ones. Entries are written to a temporary file first
+ * and then moved atomically.
+ */
+final class PersistentIndexCache {
+
+    private static final Logger LOGGER = Logger.getLogger(PersistentIndexCache.class);
+
+    // Bump if the way archives are indexed changes
+    private static final String FORMAT = "1";
+
+    private static final String SUFFIX = ".idx";
+
+    private final Path directory;
+
+    PersistentIndexCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     *
+     * @param archive the archive file
+     * @param removed the resources that are removed from the archive, may be {@code null}
+     * @param indexFunction computes the index if it is not cached
+     * @return the index of the archive
+     * @throws IOException
+     */
+    Index get(Path archive, Set<String> removed, IndexFunction indexFunction) throws IOException {
+        String key = key(archive, removed);
+        Path entry = directory.resolve(key.substring(0, 2)).resolve(key + SUFFIX);
+        if (Files.isRegularFile(entry)) {
+            try (InputStream in = Files.newInputStream(entry)) {
+                Index index = new IndexReader(in).read();
+                LOGGER.debugf("Index of %s read from %s", archive, entry);
+                return index;
+            } catch (IOException | RuntimeException e) {
+                LOGGER.debugf(e, "Unable to read the cached index %s, the archive %s will be reindexed", entry, archive);
+            }
+        }
+        Index index = indexFunction.index();
+        try {
+            store(entry, index);
+        } catch (IOException e) {
+            LOGGER.warnf("Unable to store the index of %s in %s: %s", archive, directory, e.toString());
+        }
+        return index;
+    }
+
+    private void store(Path entry, Index index) throws IOException {
+        Files.createDirectories(entry.getParent());
+        Path tmp = Files.createTempFile(entry.getParent(), entry.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                new IndexWriter(out).write(index);
+            }
+            try {
+                Files.move(tmp, entry, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static String key(Path archive, Set<String> removed) throws IOException {
+        MessageDigest digest = newDigest();
+        update(digest, FORMAT);
+        update(digest, String.valueOf(Runtime.version().feature()));
+        update(digest, String.valueOf(Index.class.getPackage().getImplementationVersion()));
+        if (removed == null) {
+            update(digest, "-");
+        } else {
+            update(digest, "+");
+            for (String resource : new TreeSet<>(removed)) {
+                update(digest, resource);
+            }
+        }
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(archive)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        StringBuilder key = new StringBuilder();
+        for (byte b : digest.digest()) {
+            key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return key.toString();
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    interface IndexFunction {
+
+        Index index() throws IOException;
+
+    }
+
+}
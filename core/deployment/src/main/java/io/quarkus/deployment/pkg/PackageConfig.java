@@ -109,6 +109,19 @@ interface JarConfig {
         @WithDefault("true")
         boolean compress();
 
+        /**
+         * Whether the class files of the application and its dependencies should also be stored in a single uncompressed
+         * archive that is memory-mapped when the application starts.
+         * <p>
+         * The archive is indexed with a perfect hash function, so that loading a class does not require opening the JAR,
+         * parsing its central directory and inflating the class file. The size of the application increases accordingly.
+         * <p>
+         * Only supported for the {@linkplain JarType#FAST_JAR fast JAR} and {@linkplain JarType#MUTABLE_JAR mutable JAR}
+         * output types.
+         */
+        @WithDefault("false")
+        boolean mappedClassArchive();
+
         /**
          * The JAR's manifest sub-configuration.
          */
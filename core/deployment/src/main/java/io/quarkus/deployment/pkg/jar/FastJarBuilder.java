@@ -283,7 +283,7 @@ public JarBuildItem build() throws IOException {
             List<String> sortedNonExistentResources = new ArrayList<>(nonExistentResources);
             Collections.sort(sortedNonExistentResources);
             SerializedApplication.write(out, mainClass.getClassName(), buildDir, allJars, sortedParentFirst,
-                    sortedNonExistentResources);
+                    sortedNonExistentResources, packageConfig.jar().mappedClassArchive());
         }
 
         runnerJar.toFile().setReadable(true, false);
@@ -0,0 +1,65 @@
+package io.quarkus.deployment.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.jandex.Index;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PersistentIndexCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testCache() throws IOException {
+        Path jar = tempDir.resolve("foo.jar");
+        ShrinkWrap.create(JavaArchive.class).addClasses(Foo.class, Bar.class).as(ZipExporter.class).exportTo(jar.toFile());
+        PersistentIndexCache cache = new PersistentIndexCache(tempDir.resolve("cache"));
+        AtomicInteger indexed = new AtomicInteger();
+        PersistentIndexCache.IndexFunction indexFunction = () -> {
+            indexed.incrementAndGet();
+            return IndexingUtil.indexJar(jar, null);
+        };
+
+        Index index = cache.get(jar, null, indexFunction);
+        assertThat(index.getKnownClasses()).hasSize(2);
+        assertThat(indexed).hasValue(1);
+
+        // A new cache instance simulates a subsequent build
+        index = new PersistentIndexCache(tempDir.resolve("cache")).get(jar, null, indexFunction);
+        assertThat(index.getClassByName(Foo.class)).isNotNull();
+        assertThat(index.getKnownClasses()).hasSize(2);
+        assertThat(indexed).hasValue(1);
+
+        // Removed resources are part of the key
+        Set<String> removed = Set.of(Bar.class.getName().replace('.', '/') + ".class");
+        index = cache.get(jar, removed, () -> {
+            indexed.incrementAndGet();
+            return IndexingUtil.indexJar(jar, removed);
+        });
+        assertThat(index.getKnownClasses()).hasSize(1);
+        assertThat(indexed).hasValue(2);
+
+        // A modified archive is reindexed
+        ShrinkWrap.create(JavaArchive.class).addClasses(Foo.class).as(ZipExporter.class).exportTo(jar.toFile(), true);
+        index = cache.get(jar, null, indexFunction);
+        assertThat(index.getKnownClasses()).hasSize(1);
+        assertThat(indexed).hasValue(3);
+    }
+
+    public static class Foo {
+    }
+
+    public static class Bar {
+    }
+
+}
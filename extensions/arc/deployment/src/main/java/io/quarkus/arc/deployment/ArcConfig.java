@@ -235,6 +235,43 @@ public enum OptimizeContexts {
         AUTO
     }
 
+    /**
+     * If set to {@code true}, the container injects the contextual instance of an {@code @ApplicationScoped} bean directly
+     * into an {@code @ApplicationScoped} bean, instead of its client proxy, if it is safe to do so.
+     * <p>
+     * The client proxy is only elided if the injected bean is not obtained via programmatic lookup, and therefore cannot be
+     * destroyed via {@code Instance#destroy()}, if it has no name and is not excluded from the removal of unused beans, and
+     * if it can be initialized eagerly, i.e. all its dependencies are known at build time and do not include the bean that
+     * declares the injection point. The number of affected injection points is reported in the build output.
+     * <p>
+     * Note that the injected bean is initialized when the bean that declares the injection point is created. An injected
+     * bean that is destroyed by any means is not re-created for the injection point, e.g. via {@code InstanceHandle#destroy()}
+     * after {@code Arc.container().instance()}, via {@code Instance#destroy()} after {@code CDI.current().select()}, via
+     * {@code BeanManager} or via {@code InjectableContext#destroy(Contextual)}. Such dynamic lookups cannot be detected at
+     * build time, so only enable this optimization if the application never destroys {@code @ApplicationScoped} beans. This
+     * optimization is ignored in the test mode, where beans may be mocked.
+     */
+    @WithDefault("false")
+    boolean elideClientProxies();
+
+    /**
+     * If set to {@code true}, the container generates a specialized invocation context for each intercepted method.
+     * <p>
+     * The interceptor context data map is only created when an interceptor needs it, and the method arguments are only
+     * copied to a parameter array if an interceptor calls {@code InvocationContext#getParameters()} or
+     * {@code InvocationContext#setParameters()}. This reduces the number of allocations per invocation of an intercepted
+     * method at the cost of an additional generated class per intercepted method.
+     */
+    @WithDefault("false")
+    boolean flattenInterceptorChains();
+
+    /**
+     * If set to {@code true}, the injection points are resolved and the beans are validated in parallel, using the build
+     * executor. The result is identical to a sequential run, including the order of the errors.
+     */
+    @WithDefault("true")
+    boolean parallelValidation();
+
     default boolean isRemoveUnusedBeansFieldValid() {
         return ALLOWED_REMOVE_UNUSED_BEANS_VALUES.contains(removeUnusedBeans().toLowerCase());
     }
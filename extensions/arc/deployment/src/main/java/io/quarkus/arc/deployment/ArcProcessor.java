@@ -412,6 +412,8 @@ public boolean test(BeanDeployment deployment) {
                 }
             }
         });
+        builder.setElideClientProxies(arcConfig.elideClientProxies());
+        builder.setFlattenInterceptorChains(arcConfig.flattenInterceptorChains());
 
         BeanProcessor beanProcessor = builder.build();
         ContextRegistrar.RegistrationContext context = beanProcessor.registerCustomContexts();
@@ -476,7 +478,8 @@ public ValidationPhaseBuildItem validate(ObserverRegistrationPhaseBuildItem obse
             List<ObserverConfiguratorBuildItem> observerConfigurationRegistry,
             List<UnremovableBeanBuildItem> unremovableBeans,
             BuildProducer<BytecodeTransformerBuildItem> bytecodeTransformer,
-            BuildProducer<SynthesisFinishedBuildItem> synthesisFinished) {
+            BuildProducer<SynthesisFinishedBuildItem> synthesisFinished,
+            ArcConfig arcConfig, ExecutorService buildExecutor) {
 
         for (ObserverConfiguratorBuildItem configurator : observerConfigurationRegistry) {
             // Just make sure the configurator is processed
@@ -488,9 +491,11 @@ public ValidationPhaseBuildItem validate(ObserverRegistrationPhaseBuildItem obse
 
         Consumer<BytecodeTransformer> bytecodeTransformerConsumer = new BytecodeTransformerConsumer(bytecodeTransformer);
 
+        ExecutorService executor = arcConfig.parallelValidation() ? buildExecutor : null;
         beanProcessor.initialize(bytecodeTransformerConsumer,
-                unremovableBeans.stream().map(UnremovableBeanBuildItem::getPredicate).collect(Collectors.toList()));
-        BeanDeploymentValidator.ValidationContext validationContext = beanProcessor.validate(bytecodeTransformerConsumer);
+                unremovableBeans.stream().map(UnremovableBeanBuildItem::getPredicate).collect(Collectors.toList()), executor);
+        BeanDeploymentValidator.ValidationContext validationContext = beanProcessor.validate(bytecodeTransformerConsumer,
+                executor);
 
         return new ValidationPhaseBuildItem(validationContext, beanProcessor);
     }
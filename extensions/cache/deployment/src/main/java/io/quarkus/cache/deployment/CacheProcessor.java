@@ -1,5 +1,6 @@
 package io.quarkus.cache.deployment;
 
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.BULK_KEY_TYPES;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_INVALIDATE_ALL_LIST;
@@ -8,11 +9,14 @@
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.COMPLETION_STAGE;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTORS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDINGS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDING_CONTAINERS;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.MAP;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.MULTI;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.REGISTER_REST_CLIENT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.UNI;
 import static io.quarkus.cache.runtime.CacheBuildConfig.CAFFEINE_CACHE_TYPE;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.runtime.metrics.MetricsFactory.MICROMETER;
@@ -48,6 +52,7 @@
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.deployment.exception.BulkCacheResultTargetException;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
@@ -202,6 +207,13 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
                         LOGGER.warnf("@CacheResult is not currently supported on a method returning %s [class=%s, method=%s]",
                                 MULTI, methodInfo.declaringClass().name(), methodInfo.name());
                     }
+                    AnnotationValue bulk = binding.value("bulk");
+                    if (bulk != null && bulk.asBoolean()) {
+                        String reason = validateBulkTarget(binding, methodInfo);
+                        if (reason != null) {
+                            throwables.add(new BulkCacheResultTargetException(methodInfo, reason));
+                        }
+                    }
                 }
                 break;
             default:
@@ -211,6 +223,38 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
         return throwables;
     }
 
+    private String validateBulkTarget(AnnotationInstance binding, MethodInfo methodInfo) {
+        if (binding.value("keyGenerator") != null) {
+            return "a key generator cannot be used";
+        }
+        List<Short> cacheKeyPositions = new ArrayList<>();
+        for (AnnotationInstance cacheKey : methodInfo.annotations(CACHE_KEY)) {
+            if (cacheKey.target().kind() == Kind.METHOD_PARAMETER) {
+                cacheKeyPositions.add(cacheKey.target().asMethodParameter().position());
+            }
+        }
+        int position;
+        if (cacheKeyPositions.size() == 1) {
+            position = cacheKeyPositions.get(0);
+        } else if (cacheKeyPositions.isEmpty() && methodInfo.parametersCount() == 1) {
+            position = 0;
+        } else {
+            return "the method must have a single cache key parameter";
+        }
+        if (!BULK_KEY_TYPES.contains(methodInfo.parameterType(position).name())) {
+            return "the cache key parameter must be a Collection, a Set or a List";
+        }
+        Type returnType = methodInfo.returnType();
+        if ((UNI.equals(returnType.name()) || COMPLETION_STAGE.equals(returnType.name()))
+                && returnType.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            returnType = returnType.asParameterizedType().arguments().get(0);
+        }
+        if (!MAP.equals(returnType.name())) {
+            return "the method must return a Map, or a Uni or a CompletionStage of a Map";
+        }
+        return null;
+    }
+
     private Optional<DotName> findCacheKeyGenerator(AnnotationInstance binding, AnnotationTarget target) {
         if (target.kind() == METHOD && (CACHE_RESULT.equals(binding.name()) || CACHE_INVALIDATE.equals(binding.name()))) {
             AnnotationValue keyGenerator = binding.value("keyGenerator");
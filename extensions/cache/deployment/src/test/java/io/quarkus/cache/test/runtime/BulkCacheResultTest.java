@@ -0,0 +1,84 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the {@link CacheResult#bulk()} mode.
+ */
+public class BulkCacheResultTest {
+
+    private static final String CACHE_NAME = "bulk-cache";
+    private static final String ASYNC_CACHE_NAME = "async-bulk-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot(jar -> jar.addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testSync() {
+        assertEquals(Map.of("a", "A", "b", "B"), cachedService.load(Set.of("a", "b"), "ignored"));
+        assertEquals(List.of(Set.of("a", "b")), cachedService.invocations);
+
+        // only the missing keys are loaded, keys absent from the result are not cached
+        assertEquals(Map.of("a", "A", "c", "C"), cachedService.load(Set.of("a", "c", "unknown"), "ignored"));
+        assertEquals(List.of(Set.of("a", "b"), Set.of("c", "unknown")), cachedService.invocations);
+
+        assertEquals(Map.of("b", "B", "c", "C"), cachedService.load(Set.of("b", "c"), "ignored"));
+        assertEquals(2, cachedService.invocations.size());
+    }
+
+    @Test
+    public void testAsync() {
+        assertEquals(Map.of("x", "X", "y", "Y"), cachedService.loadAsync(List.of("x", "y")).await().indefinitely());
+        assertEquals(Map.of("x", "X", "z", "Z"), cachedService.loadAsync(List.of("x", "z")).await().indefinitely());
+        assertEquals(List.of(List.of("x", "y"), List.of("z")), cachedService.asyncInvocations);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        final List<Set<String>> invocations = new ArrayList<>();
+        final List<List<String>> asyncInvocations = new ArrayList<>();
+
+        @CacheResult(cacheName = CACHE_NAME, bulk = true)
+        public Map<String, String> load(@CacheKey Set<String> keys, String other) {
+            invocations.add(Set.copyOf(keys));
+            return toUpperCase(keys);
+        }
+
+        @CacheResult(cacheName = ASYNC_CACHE_NAME, bulk = true)
+        public Uni<Map<String, String>> loadAsync(List<String> keys) {
+            asyncInvocations.add(List.copyOf(keys));
+            return Uni.createFrom().item(toUpperCase(keys));
+        }
+
+        private static Map<String, String> toUpperCase(Iterable<String> keys) {
+            Map<String, String> result = new HashMap<>();
+            for (String key : keys) {
+                if (!key.equals("unknown")) {
+                    result.put(key, key.toUpperCase());
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CaffeineCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests caches bounded by weight and caches storing their values off-heap.
+ */
+public class OffHeapCaffeineCacheTest {
+
+    private static final String OFF_HEAP_CACHE = "off-heap-cache";
+    private static final String WEIGHTED_CACHE = "weighted-cache";
+    private static final String LARGE_OFF_HEAP_CACHE = "large-off-heap-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClass(CachedService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.maximum-size", "1000")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + OFF_HEAP_CACHE + "\".off-heap", "true")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + OFF_HEAP_CACHE + "\".maximum-weight", "10000")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + WEIGHTED_CACHE + "\".maximum-weight", "10000")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + LARGE_OFF_HEAP_CACHE + "\".off-heap", "true");
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(OFF_HEAP_CACHE)
+    Cache offHeapCache;
+
+    @CacheName(WEIGHTED_CACHE)
+    Cache weightedCache;
+
+    @CacheName(LARGE_OFF_HEAP_CACHE)
+    Cache largeOffHeapCache;
+
+    @Test
+    public void testOffHeapValues() {
+        CaffeineCacheImpl cache = (CaffeineCacheImpl) offHeapCache;
+        assertTrue(cache.getCacheInfo().offHeap);
+        assertNull(cache.getCacheInfo().maximumSize);
+        assertEquals(10000L, cache.getCacheInfo().maximumWeight);
+
+        List<String> value1 = cachedService.offHeap("foo");
+        List<String> value2 = cachedService.offHeap("foo");
+        // the value is deserialized on each cache hit
+        assertEquals(value1, value2);
+        assertNotSame(value1, value2);
+        assertEquals(1, cachedService.invocations);
+
+        assertNull(cachedService.offHeapNull("bar"));
+        assertNull(cachedService.offHeapNull("bar"));
+        assertEquals(2, cachedService.invocations);
+    }
+
+    @Test
+    public void testOffHeapValuesReleasedOnRemoval() throws InterruptedException {
+        BufferPoolMXBean directPool = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals("direct"))
+                .findFirst().orElseThrow();
+
+        long before = directPool.getMemoryUsed();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(500_000, cachedService.large(i).length);
+        }
+        assertTrue(directPool.getMemoryUsed() - before >= 5_000_000);
+
+        // the direct memory is freed without waiting for a garbage collection, the removal listener runs asynchronously
+        largeOffHeapCache.invalidateAll().await().indefinitely();
+        for (int i = 0; i < 50 && directPool.getMemoryUsed() - before >= 1_000_000; i++) {
+            Thread.sleep(100L);
+        }
+        assertTrue(directPool.getMemoryUsed() - before < 1_000_000);
+    }
+
+    @Test
+    public void testWeightedValues() throws InterruptedException {
+        CaffeineCacheImpl cache = (CaffeineCacheImpl) weightedCache;
+        assertNull(cache.getCacheInfo().maximumSize);
+        assertEquals(10000L, cache.getCacheInfo().maximumWeight);
+
+        byte[] value = cachedService.weighted(1);
+        assertSame(value, cachedService.weighted(1));
+
+        // each value weighs more than 1000, so the cache can't hold all of them
+        for (int i = 2; i <= 20; i++) {
+            cachedService.weighted(i);
+        }
+        // eviction happens asynchronously
+        for (int i = 0; i < 50 && cache.getSize() >= 10; i++) {
+            Thread.sleep(100L);
+        }
+        assertTrue(cache.getSize() < 10);
+
+        assertThrows(IllegalStateException.class, () -> weightedCache.as(CaffeineCache.class).setMaximumSize(10L));
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        int invocations;
+
+        @CacheResult(cacheName = OFF_HEAP_CACHE)
+        public List<String> offHeap(String key) {
+            invocations++;
+            List<String> result = new ArrayList<>();
+            result.add(key);
+            result.add(key.toUpperCase());
+            return result;
+        }
+
+        @CacheResult(cacheName = OFF_HEAP_CACHE)
+        public List<String> offHeapNull(String key) {
+            invocations++;
+            return null;
+        }
+
+        @CacheResult(cacheName = LARGE_OFF_HEAP_CACHE)
+        public byte[] large(int key) {
+            return new byte[500_000];
+        }
+
+        @CacheResult(cacheName = WEIGHTED_CACHE)
+        public byte[] weighted(int key) {
+            return new byte[1000];
+        }
+    }
+}
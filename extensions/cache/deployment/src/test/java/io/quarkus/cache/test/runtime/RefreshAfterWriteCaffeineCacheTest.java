@@ -0,0 +1,187 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests that stale values are returned while they are reloaded asynchronously.
+ */
+public class RefreshAfterWriteCaffeineCacheTest {
+
+    private static final String CACHE_NAME = "refreshed-cache";
+    private static final String BULK_CACHE_NAME = "refreshed-bulk-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(CachedService.class, RequestState.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".refresh-after-write", "100ms")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + BULK_CACHE_NAME + "\".refresh-after-write", "100ms");
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testSyncRefresh() throws InterruptedException {
+        assertEquals("foo-1", cachedService.sync("foo"));
+        assertEquals("foo-1", cachedService.sync("foo"));
+        Thread.sleep(200L);
+        // the stale value is returned and a reload starts
+        assertEquals("foo-1", cachedService.sync("foo"));
+        awaitValue("foo-2", () -> cachedService.sync("foo"));
+        assertEquals(2, cachedService.syncInvocations.get());
+    }
+
+    @Test
+    public void testAsyncRefresh() throws InterruptedException {
+        assertEquals("bar-1", cachedService.async("bar").await().indefinitely());
+        assertEquals("bar-1", cachedService.async("bar").await().indefinitely());
+        Thread.sleep(200L);
+        assertEquals("bar-1", cachedService.async("bar").await().indefinitely());
+        awaitValue("bar-2", () -> cachedService.async("bar").await().indefinitely());
+        assertEquals(2, cachedService.asyncInvocations.get());
+    }
+
+    @Test
+    public void testSyncRefreshActivatesRequestContext() throws InterruptedException {
+        ManagedContext requestContext = Arc.container().requestContext();
+        requestContext.activate();
+        try {
+            assertEquals("baz-1", cachedService.requestScoped("baz"));
+        } finally {
+            requestContext.terminate();
+        }
+        Thread.sleep(200L);
+        // the reload outlives the caller so it runs within its own request context
+        assertEquals("baz-1", cachedService.requestScoped("baz"));
+        awaitValue("baz-2", () -> cachedService.requestScoped("baz"));
+    }
+
+    @Test
+    public void testFailedRefreshIsRetriedAfterBackoff() throws InterruptedException {
+        assertEquals("qux-1", cachedService.failing("qux"));
+        Thread.sleep(200L);
+        for (int i = 0; i < 10; i++) {
+            // the stale value is kept, the reload is not attempted again on every read
+            assertEquals("qux-1", cachedService.failing("qux"));
+            Thread.sleep(50L);
+        }
+        assertEquals(2, cachedService.failingInvocations.get());
+    }
+
+    @Test
+    public void testFailedComputationIsNotRefreshed() {
+        // the failure of the computation is propagated as is, the staleness check does not throw
+        assertThrows(IllegalStateException.class, () -> cachedService.asyncFailing("quux").await().indefinitely());
+        assertThrows(IllegalStateException.class, () -> cachedService.asyncFailing("quux").await().indefinitely());
+    }
+
+    @Test
+    public void testBulkRefresh() throws InterruptedException {
+        assertEquals(Map.of("a", "a-1", "b", "b-1"), cachedService.bulk(Set.of("a", "b")));
+        Thread.sleep(200L);
+        // the stale values are returned and each entry is reloaded on its own
+        assertEquals(Map.of("a", "a-1", "b", "b-1"), cachedService.bulk(Set.of("a", "b")));
+        awaitValue("a-2", () -> cachedService.bulk(Set.of("a")).get("a"));
+        awaitValue("b-2", () -> cachedService.bulk(Set.of("b")).get("b"));
+        assertEquals(3, cachedService.bulkInvocations.size());
+        assertEquals(Set.of("a", "b"), cachedService.bulkInvocations.get(0));
+        assertTrue(cachedService.bulkInvocations.containsAll(List.of(Set.of("a"), Set.of("b"))));
+    }
+
+    private static void awaitValue(String expected, Supplier<String> actual)
+            throws InterruptedException {
+        // the refreshed value is stored asynchronously
+        for (int i = 0; i < 50 && !expected.equals(actual.get()); i++) {
+            Thread.sleep(20L);
+        }
+        assertEquals(expected, actual.get());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        final AtomicInteger syncInvocations = new AtomicInteger();
+        final AtomicInteger asyncInvocations = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String sync(String key) {
+            return key + "-" + syncInvocations.incrementAndGet();
+        }
+
+        @Inject
+        RequestState requestState;
+
+        final AtomicInteger failingInvocations = new AtomicInteger();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String requestScoped(String key) {
+            return key + "-" + requestState.next();
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String failing(String key) {
+            if (failingInvocations.incrementAndGet() > 1) {
+                throw new IllegalStateException("Reload failed");
+            }
+            return key + "-1";
+        }
+
+        final List<Set<String>> bulkInvocations = new CopyOnWriteArrayList<>();
+        final Map<String, Integer> bulkLoads = new ConcurrentHashMap<>();
+
+        @CacheResult(cacheName = BULK_CACHE_NAME, bulk = true)
+        public Map<String, String> bulk(Set<String> keys) {
+            bulkInvocations.add(Set.copyOf(keys));
+            Map<String, String> result = new HashMap<>();
+            for (String key : keys) {
+                result.put(key, key + "-" + bulkLoads.merge(key, 1, Integer::sum));
+            }
+            return result;
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public Uni<String> async(String key) {
+            return Uni.createFrom().item(key + "-" + asyncInvocations.incrementAndGet())
+                    .onItem().delayIt().by(Duration.ofMillis(10));
+        }
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public Uni<String> asyncFailing(String key) {
+            return Uni.createFrom().failure(new IllegalStateException("Computation failed"));
+        }
+    }
+
+    @RequestScoped
+    static class RequestState {
+
+        static final AtomicInteger COUNTER = new AtomicInteger();
+
+        int next() {
+            return COUNTER.incrementAndGet();
+        }
+    }
+}
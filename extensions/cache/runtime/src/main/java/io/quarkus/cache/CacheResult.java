@@ -68,4 +68,17 @@
      */
     @Nonbinding
     Class<? extends CacheKeyGenerator> keyGenerator() default UndefinedCacheKeyGenerator.class;
+
+    /**
+     * Whether each element of the collection passed as the cache key is cached individually.
+     * <p>
+     * If {@code true}, the method must have a single cache key argument of type {@link java.util.Collection},
+     * {@link java.util.Set} or {@link java.util.List}, and return a {@link java.util.Map} (or a {@code Uni} or a
+     * {@link java.util.concurrent.CompletionStage} of a {@code Map}) whose keys are elements of that collection. Each element
+     * is looked up in the cache, the method is invoked once with a collection of the missing elements only, and the returned
+     * map is merged with the cached values. Elements absent from the returned map are neither cached nor part of the result.
+     * The {@code lockTimeout} and {@code keyGenerator} parameters are not supported in this mode.
+     */
+    @Nonbinding
+    boolean bulk() default false;
 }
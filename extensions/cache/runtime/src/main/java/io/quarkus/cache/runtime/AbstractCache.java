@@ -1,7 +1,17 @@
 package io.quarkus.cache.runtime;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.DefaultCacheKey;
+import io.smallrye.mutiny.Uni;
 
 public abstract class AbstractCache implements Cache {
 
@@ -27,4 +37,55 @@ public <T extends Cache> T as(Class<T> type) {
         }
     }
 
+    /**
+     * Returns a lazy asynchronous action that will emit the values of the given keys, computing the missing values with
+     * the given loader. The emitted map only contains the keys whose value is cached or was returned by the loader. Values
+     * returned by the loader for keys that were not requested are ignored.
+     * <p>
+     * This implementation looks up each key individually and invokes the loader once per missing key. Implementations
+     * able to look up several keys at once should override it, so that the loader is invoked only once for all the
+     * missing keys.
+     *
+     * @param keys cache keys
+     * @param valueLoader function used to compute the values of the missing keys
+     * @return a lazy asynchronous action that will emit the values of the given keys
+     */
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valueLoader) {
+        if (keys.isEmpty()) {
+            return Uni.createFrom().item(Collections.emptyMap());
+        }
+        List<K> orderedKeys = new ArrayList<>(keys);
+        List<Uni<V>> values = new ArrayList<>(orderedKeys.size());
+        for (K key : orderedKeys) {
+            values.add(getAsync(key, new Function<K, Uni<V>>() {
+                @Override
+                public Uni<V> apply(K k) {
+                    return valueLoader.apply(Set.of(k)).map(new Function<Map<K, V>, V>() {
+                        @Override
+                        public V apply(Map<K, V> loaded) {
+                            return loaded.get(k);
+                        }
+                    });
+                }
+            }).call(new Function<V, Uni<?>>() {
+                @Override
+                public Uni<?> apply(V value) {
+                    // keys missing from the loaded values must not be cached
+                    return value == null ? invalidate(key) : Uni.createFrom().voidItem();
+                }
+            }));
+        }
+        return Uni.join().all(values).andFailFast().map(new Function<List<V>, Map<K, V>>() {
+            @Override
+            public Map<K, V> apply(List<V> list) {
+                Map<K, V> result = new LinkedHashMap<>();
+                for (int i = 0; i < list.size(); i++) {
+                    if (list.get(i) != null) {
+                        result.put(orderedKeys.get(i), list.get(i));
+                    }
+                }
+                return result;
+            }
+        });
+    }
 }
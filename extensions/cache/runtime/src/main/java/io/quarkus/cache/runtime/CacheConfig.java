@@ -63,6 +63,23 @@ interface CaffeineCacheConfig {
              */
             OptionalLong maximumSize();
 
+            /**
+             * Maximum total weight of the entries the cache may contain, in bytes. The weight of an entry is an estimate of
+             * the size of its value: byte arrays, byte buffers and strings are weighed by their length, other
+             * {@link java.io.Serializable} values by the length of their serialized form and values stored off-heap by the
+             * amount of direct memory they use. This can be used instead of {@code maximum-size} when the cached values vary
+             * a lot in size. If both are configured at the same level, the cache fails to start.
+             */
+            OptionalLong maximumWeight();
+
+            /**
+             * Whether the values of the cache should be serialized and stored in direct memory, outside of the Java heap.
+             * Keys and eviction metadata stay on the heap. This keeps large caches from growing the old generation, but
+             * every cache hit deserializes the value and therefore returns a new copy of it. Values that are not
+             * {@link java.io.Serializable} are kept on the heap. This is best combined with {@code maximum-weight}.
+             */
+            Optional<Boolean> offHeap();
+
             /**
              * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
              * the entry's creation, or the most recent replacement of its value.
@@ -75,6 +92,15 @@ interface CaffeineCacheConfig {
              */
             Optional<Duration> expireAfterAccess();
 
+            /**
+             * Specifies that each entry should be reloaded once a fixed duration has elapsed after the entry's creation, or
+             * the most recent replacement of its value. The first read of a stale entry triggers a single asynchronous
+             * reload, and the stale value is returned until the reload completes. The reload does not run on the thread of
+             * the caller. This is best combined with a longer {@code expire-after-write} value, which bounds how stale a
+             * returned value can be.
+             */
+            Optional<Duration> refreshAfterWrite();
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
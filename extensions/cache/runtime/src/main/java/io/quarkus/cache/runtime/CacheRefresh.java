@@ -0,0 +1,79 @@
+package io.quarkus.cache.runtime;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ManagedContext;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.vertx.core.Context;
+import io.vertx.core.impl.ContextInternal;
+
+/**
+ * This class is used by the Quarkus cache implementations to reload stale cache entries asynchronously.
+ * Do not use it explicitly from your Quarkus application.
+ */
+public final class CacheRefresh {
+
+    private static final long MIN_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private CacheRefresh() {
+    }
+
+    /**
+     * Runs the reload of a synchronous value loader on a worker thread. The reload may outlive the request that triggered
+     * it, so it does not share the Vert.x duplicated context nor the request context of the caller: it runs on a new
+     * duplicated context if the caller was running on a Vert.x context, and within a new request context.
+     *
+     * @param context the Vert.x context of the caller, may be {@code null}
+     */
+    public static <K, V> Uni<V> reloadOnWorkerThread(K key, Function<K, V> valueLoader, Context context) {
+        Supplier<V> reload = new Supplier<V>() {
+            @Override
+            public V get() {
+                ArcContainer container = Arc.container();
+                ManagedContext requestContext = container != null ? container.requestContext() : null;
+                if (requestContext == null || requestContext.isActive()) {
+                    return valueLoader.apply(key);
+                }
+                requestContext.activate();
+                try {
+                    return valueLoader.apply(key);
+                } finally {
+                    requestContext.terminate();
+                }
+            }
+        };
+        if (context == null) {
+            return Uni.createFrom().item(reload).runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+        }
+        Context duplicate = ((ContextInternal) context).duplicate();
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<V>>() {
+            @Override
+            public CompletionStage<V> get() {
+                return duplicate.executeBlocking(new Callable<V>() {
+                    @Override
+                    public V call() {
+                        return reload.get();
+                    }
+                }, false).toCompletionStage();
+            }
+        });
+    }
+
+    /**
+     * Returns the delay after which a failed reload may be attempted again. The delay doubles after each failure.
+     *
+     * @param failures the number of consecutive failed reloads
+     * @param maxBackoffNanos the maximum backoff delay
+     */
+    public static long backoffNanos(int failures, long maxBackoffNanos) {
+        long backoff = MIN_BACKOFF_NANOS << Math.min(failures - 1, 30);
+        return Math.max(MIN_BACKOFF_NANOS, Math.min(backoff, maxBackoffNanos));
+    }
+}
@@ -1,6 +1,11 @@
 package io.quarkus.cache.runtime;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -46,6 +51,9 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
 
         CacheResult binding = interceptionContext.getInterceptorBindings().get(0);
         AbstractCache cache = (AbstractCache) cacheManager.getCache(binding.cacheName()).get();
+        if (binding.bulk()) {
+            return interceptBulk(invocationContext, interceptionContext, binding, cache);
+        }
         Object key = getCacheKey(cache, binding.keyGenerator(), interceptionContext.getCacheKeyParameterPositions(),
                 invocationContext.getMethod(), invocationContext.getParameters());
         LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, binding.cacheName());
@@ -133,4 +141,62 @@ public Object apply(Object k) {
         }
     }
 
+    /*
+     * Each element of the collection passed as the cache key is cached individually, and the intercepted method is invoked
+     * once with the missing elements only.
+     */
+    @SuppressWarnings("unchecked")
+    private Object interceptBulk(InvocationContext invocationContext,
+            CacheInterceptionContext<CacheResult> interceptionContext, CacheResult binding, AbstractCache cache)
+            throws Throwable {
+        List<Short> cacheKeyParameterPositions = interceptionContext.getCacheKeyParameterPositions();
+        // the single cache key parameter is validated at build time
+        int position = cacheKeyParameterPositions.isEmpty() ? 0 : cacheKeyParameterPositions.get(0);
+        Object[] parameters = invocationContext.getParameters();
+        Class<?> parameterType = invocationContext.getMethod().getParameterTypes()[position];
+        Collection<Object> keys = (Collection<Object>) parameters[position];
+        LOGGER.debugf("Loading %s entries from cache [%s]", keys.size(), binding.cacheName());
+
+        try {
+            ReturnType returnType = determineReturnType(invocationContext.getMethod().getReturnType());
+            Uni<Map<Object, Object>> cacheValues = cache.getAll(keys,
+                    new Function<Set<Object>, Uni<Map<Object, Object>>>() {
+                        @Override
+                        public Uni<Map<Object, Object>> apply(Set<Object> missingKeys) {
+                            LOGGER.debugf("Adding %s entries into cache [%s]", missingKeys.size(), binding.cacheName());
+                            Object[] missingKeysParameters = parameters.clone();
+                            missingKeysParameters[position] = Set.class.isAssignableFrom(parameterType)
+                                    ? missingKeys
+                                    : new ArrayList<>(missingKeys);
+                            try {
+                                Object result;
+                                // the stale entries returned by a single call may be reloaded concurrently
+                                synchronized (invocationContext) {
+                                    invocationContext.setParameters(missingKeysParameters);
+                                    result = invocationContext.proceed();
+                                }
+                                if (returnType == ReturnType.NonAsync) {
+                                    return Uni.createFrom().item((Map<Object, Object>) result);
+                                }
+                                return (Uni<Map<Object, Object>>) asyncInvocationResultToUni(result, returnType);
+                            } catch (CacheException e) {
+                                throw e;
+                            } catch (Exception e) {
+                                throw new CacheException(e);
+                            }
+                        }
+                    });
+            if (returnType != ReturnType.NonAsync) {
+                return createAsyncResult((Uni<Object>) (Uni<?>) cacheValues, returnType);
+            }
+            return cacheValues.await().indefinitely();
+        } catch (CacheException e) {
+            if (e.getCause() != null) {
+                throw e.getCause();
+            } else {
+                throw e;
+            }
+        }
+    }
+
 }
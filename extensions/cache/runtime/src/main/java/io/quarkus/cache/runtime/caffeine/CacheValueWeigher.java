@@ -0,0 +1,73 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Weighs cache entries by an estimate of the size of their value in bytes.
+ * <p>
+ * Byte arrays, byte buffers and strings are weighed by their length. Other {@link Serializable} values are
+ * weighed by the length of their serialized form, which is computed once, when the entry is added. Values that
+ * are stored off-heap are weighed by the amount of direct memory they use. Remaining values are given a small
+ * constant weight.
+ */
+final class CacheValueWeigher implements Weigher<Object, Object> {
+
+    static final CacheValueWeigher INSTANCE = new CacheValueWeigher();
+
+    private static final int OBJECT_WEIGHT = 16;
+
+    private CacheValueWeigher() {
+    }
+
+    @Override
+    public int weigh(Object key, Object value) {
+        return (int) Math.min(Integer.MAX_VALUE, estimateSize(value));
+    }
+
+    static long estimateSize(Object value) {
+        if (value instanceof RefreshableValue) {
+            return estimateSize(((RefreshableValue) value).value);
+        } else if (value instanceof OffHeapValue) {
+            return ((OffHeapValue) value).size();
+        } else if (value instanceof byte[]) {
+            return OBJECT_WEIGHT + ((byte[]) value).length;
+        } else if (value instanceof CharSequence) {
+            return OBJECT_WEIGHT + 2L * ((CharSequence) value).length();
+        } else if (value instanceof ByteBuffer) {
+            return OBJECT_WEIGHT + ((ByteBuffer) value).remaining();
+        } else if (value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum) {
+            return OBJECT_WEIGHT;
+        } else if (value instanceof Serializable) {
+            CountingOutputStream counter = new CountingOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(counter)) {
+                out.writeObject(value);
+            } catch (IOException e) {
+                return OBJECT_WEIGHT;
+            }
+            return counter.count;
+        }
+        return OBJECT_WEIGHT;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -1,12 +1,20 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -17,13 +25,17 @@
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Policy;
 import com.github.benmanes.caffeine.cache.Policy.FixedExpiration;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
 import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CaffeineCache;
 import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheRefresh;
 import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.runtime.BlockingOperationControl;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
@@ -44,6 +56,9 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
     private final boolean recordStats;
+    private final Function<Object, Object> toCacheValue;
+    private final Function<Object, Object> fromCacheValue;
+    private final long maxRefreshBackoffNanos;
 
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
@@ -54,6 +69,10 @@ public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         if (cacheInfo.maximumSize != null) {
             builder.maximumSize(cacheInfo.maximumSize);
         }
+        if (cacheInfo.maximumWeight != null) {
+            builder.maximumWeight(cacheInfo.maximumWeight);
+            builder.weigher(CacheValueWeigher.INSTANCE);
+        }
         if (cacheInfo.expireAfterWrite != null) {
             builder.expireAfterWrite(cacheInfo.expireAfterWrite);
         }
@@ -74,6 +93,30 @@ public StatsCounter get() {
             LOGGER.tracef("Caffeine stats recording is disabled for cache [%s]", cacheInfo.name);
             statsCounter = StatsCounter.disabledStatsCounter();
         }
+        Function<Object, Object> toCacheValue;
+        Function<Object, Object> fromCacheValue;
+        if (cacheInfo.offHeap) {
+            LOGGER.tracef("Storing values of Caffeine cache [%s] off-heap", cacheInfo.name);
+            // free the direct memory as soon as an entry is removed instead of waiting for a garbage collection
+            builder.removalListener(new RemovalListener<Object, Object>() {
+                @Override
+                public void onRemoval(Object key, Object value, RemovalCause cause) {
+                    releaseOffHeapValue(value);
+                }
+            });
+            toCacheValue = TO_OFF_HEAP_CACHE_VALUE;
+            fromCacheValue = FROM_OFF_HEAP_CACHE_VALUE;
+        } else {
+            toCacheValue = TO_CACHE_VALUE;
+            fromCacheValue = FROM_CACHE_VALUE;
+        }
+        if (cacheInfo.refreshAfterWrite != null) {
+            toCacheValue = toRefreshableCacheValue(toCacheValue, cacheInfo.refreshAfterWrite.toNanos());
+            fromCacheValue = fromRefreshableCacheValue(fromCacheValue);
+        }
+        this.toCacheValue = toCacheValue;
+        this.fromCacheValue = fromCacheValue;
+        this.maxRefreshBackoffNanos = cacheInfo.refreshAfterWrite != null ? cacheInfo.refreshAfterWrite.toNanos() : 0;
         cache = builder.buildAsync();
     }
 
@@ -96,7 +139,9 @@ public CompletionStage<V> get() {
                         CompletionStage<Object> caffeineValue = getFromCaffeine(key, valueLoader);
                         return cast(caffeineValue);
                     }
-                });
+                })
+                // the entry was removed while it was read, look it up again
+                .onFailure(OffHeapValue.ReleasedValueException.class).retry().indefinitely();
     }
 
     @Override
@@ -116,58 +161,129 @@ public CompletionStage<V> get() {
                                     public CompletableFuture<Object> apply(Object key) {
                                         recorder.onValueAbsent();
                                         return valueLoader.apply((K) key)
-                                                .map(TO_CACHE_VALUE)
+                                                .map(toCacheValue)
                                                 .subscribeAsCompletionStage();
                                     }
                                 });
                         recorder.doRecord(key);
+                        if (cacheInfo.refreshAfterWrite != null) {
+                            refreshIfStale(key, (CompletableFuture<Object>) result, new Supplier<Uni<?>>() {
+                                @Override
+                                public Uni<?> get() {
+                                    return valueLoader.apply(key);
+                                }
+                            });
+                        }
                         return result;
                     }
                 })
                 .map(fromCacheValue())
-                .emitOn(new Executor() {
-                    // We need make sure we go back to the original context when the cache value is computed.
-                    // Otherwise, we would always emit on the context having computed the value, which could
-                    // break the duplicated context isolation.
+                .onFailure(OffHeapValue.ReleasedValueException.class).retry().indefinitely()
+                .emitOn(capturedContextExecutor(context));
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valueLoader) {
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        Context context = Vertx.currentContext();
+        boolean isWorkerThread = BlockingOperationControl.isBlockingAllowed();
+        return Uni.createFrom()
+                .completionStage(new Supplier<CompletionStage<Map<Object, Object>>>() {
                     @Override
-                    public void execute(Runnable command) {
-                        Context ctx = Vertx.currentContext();
-                        if (context == null) {
-                            // We didn't capture a context
-                            if (ctx == null) {
-                                // We are not on a context => we can execute immediately.
-                                command.run();
-                            } else {
-                                // We are on a context.
-                                // We cannot continue on the current context as we may share a duplicated context.
-                                // We need a new one. Note that duplicate() does not duplicate the duplicated context,
-                                // but the root context.
-                                ((ContextInternal) ctx).duplicate()
-                                        .runOnContext(new Handler<Void>() {
-                                            @Override
-                                            public void handle(Void ignored) {
-                                                command.run();
-                                            }
-                                        });
+                    public CompletionStage<Map<Object, Object>> get() {
+                        return cache.getAll(keys,
+                                new BiFunction<Set<?>, Executor, CompletableFuture<Map<Object, Object>>>() {
+                                    @SuppressWarnings("unchecked")
+                                    @Override
+                                    public CompletableFuture<Map<Object, Object>> apply(Set<?> missingKeys, Executor executor) {
+                                        LOGGER.tracef("Loading %s missing keys of cache [%s]", missingKeys.size(),
+                                                cacheInfo.name);
+                                        return valueLoader.apply((Set<K>) missingKeys)
+                                                .map(new Function<Map<K, V>, Map<Object, Object>>() {
+                                                    @Override
+                                                    public Map<Object, Object> apply(Map<K, V> loaded) {
+                                                        Map<Object, Object> cacheValues = new HashMap<>();
+                                                        for (Map.Entry<K, V> entry : loaded.entrySet()) {
+                                                            if (entry.getValue() != null) {
+                                                                cacheValues.put(entry.getKey(),
+                                                                        toCacheValue.apply(entry.getValue()));
+                                                            }
+                                                        }
+                                                        return cacheValues;
+                                                    }
+                                                })
+                                                .subscribeAsCompletionStage();
+                                    }
+                                });
+                    }
+                })
+                .map(new Function<Map<Object, Object>, Map<K, V>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override
+                    public Map<K, V> apply(Map<Object, Object> cacheValues) {
+                        Map<K, V> result = new LinkedHashMap<>();
+                        for (Map.Entry<Object, Object> entry : cacheValues.entrySet()) {
+                            if (cacheInfo.refreshAfterWrite != null) {
+                                refreshIfStale((K) entry.getKey(), entry.getValue(), valueLoader, isWorkerThread, context);
                             }
-                        } else {
-                            // We captured a context.
-                            if (ctx == context) {
-                                // We are on the same context => we can execute immediately
-                                command.run();
-                            } else {
-                                // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
-                                // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
-                                context.runOnContext(new Handler<Void>() {
+                            Object value = fromCacheValue.apply(entry.getValue());
+                            if (value != null) {
+                                result.put((K) entry.getKey(), (V) value);
+                            }
+                        }
+                        return result;
+                    }
+                })
+                .onFailure(OffHeapValue.ReleasedValueException.class).retry().indefinitely()
+                .emitOn(capturedContextExecutor(context));
+    }
+
+    private static Executor capturedContextExecutor(Context context) {
+        return new Executor() {
+            // We need make sure we go back to the original context when the cache value is computed.
+            // Otherwise, we would always emit on the context having computed the value, which could
+            // break the duplicated context isolation.
+            @Override
+            public void execute(Runnable command) {
+                Context ctx = Vertx.currentContext();
+                if (context == null) {
+                    // We didn't capture a context
+                    if (ctx == null) {
+                        // We are not on a context => we can execute immediately.
+                        command.run();
+                    } else {
+                        // We are on a context.
+                        // We cannot continue on the current context as we may share a duplicated context.
+                        // We need a new one. Note that duplicate() does not duplicate the duplicated context,
+                        // but the root context.
+                        ((ContextInternal) ctx).duplicate()
+                                .runOnContext(new Handler<Void>() {
                                     @Override
                                     public void handle(Void ignored) {
                                         command.run();
                                     }
                                 });
+                    }
+                } else {
+                    // We captured a context.
+                    if (ctx == context) {
+                        // We are on the same context => we can execute immediately
+                        command.run();
+                    } else {
+                        // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
+                        // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
+                        context.runOnContext(new Handler<Void>() {
+                            @Override
+                            public void handle(Void ignored) {
+                                command.run();
                             }
-                        }
+                        });
                     }
-                });
+                }
+            }
+        };
     }
 
     @Override
@@ -181,7 +297,7 @@ public <V> CompletableFuture<V> getIfPresent(Object key) {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
 
             // cast, but still throw the CacheException in case it fails
-            return unwrapCacheValueOrThrowable(existingCacheValue)
+            CompletableFuture<V> value = unwrapCacheValueOrThrowable(existingCacheValue)
                     .thenApply(new Function<>() {
                         @SuppressWarnings("unchecked")
                         @Override
@@ -193,6 +309,21 @@ public V apply(Object value) {
                             }
                         }
                     });
+            if (cacheInfo.offHeap) {
+                value = value.exceptionallyCompose(new Function<Throwable, CompletionStage<V>>() {
+                    @Override
+                    public CompletionStage<V> apply(Throwable t) {
+                        Throwable cause = t instanceof CompletionException ? t.getCause() : t;
+                        if (cause instanceof OffHeapValue.ReleasedValueException) {
+                            // the entry was removed while it was read, look it up again
+                            CompletableFuture<V> current = getIfPresent(key);
+                            return current != null ? current : CompletableFuture.completedFuture(null);
+                        }
+                        return CompletableFuture.failedFuture(t);
+                    }
+                });
+            }
+            return value;
 
         }
     }
@@ -214,7 +345,7 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
             statsCounter.recordMisses(1);
             try {
                 Object value = valueLoader.apply(key);
-                newCacheValue.complete(NullValueConverter.toCacheValue(value));
+                newCacheValue.complete(toCacheValue.apply(value));
             } catch (Throwable t) {
                 cache.asMap().remove(key, newCacheValue);
                 newCacheValue.complete(new CaffeineComputationThrowable(t));
@@ -223,10 +354,126 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
             statsCounter.recordHits(1);
+            if (cacheInfo.refreshAfterWrite != null) {
+                refreshIfStale(key, existingCacheValue, new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        return CacheRefresh.reloadOnWorkerThread(key, valueLoader, Vertx.currentContext());
+                    }
+                });
+            }
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
+    /**
+     * Reloads a single entry returned by {@link #getAll(Collection, Function)} if it is stale. A bulk value loader may
+     * block, so it is run on a worker thread if the caller was allowed to block.
+     */
+    private <K, V> void refreshIfStale(K key, Object cacheValue, Function<Set<K>, Uni<Map<K, V>>> valueLoader,
+            boolean isWorkerThread, Context context) {
+        CompletableFuture<Object> stored = cache.asMap().get(key);
+        if (stored == null || getIfCompleted(stored) != cacheValue) {
+            // the entry was invalidated or replaced in the meantime
+            return;
+        }
+        Function<K, Uni<V>> singleLoader = new Function<K, Uni<V>>() {
+            @Override
+            public Uni<V> apply(K k) {
+                return valueLoader.apply(Set.of(k)).map(new Function<Map<K, V>, V>() {
+                    @Override
+                    public V apply(Map<K, V> loaded) {
+                        V value = loaded.get(k);
+                        if (value == null) {
+                            throw new NoSuchElementException("The bulk value loader did not return a value for the key");
+                        }
+                        return value;
+                    }
+                });
+            }
+        };
+        refreshIfStale(key, stored, new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                if (isWorkerThread) {
+                    return CacheRefresh.reloadOnWorkerThread(key, new Function<K, V>() {
+                        @Override
+                        public V apply(K k) {
+                            return singleLoader.apply(k).await().indefinitely();
+                        }
+                    }, context);
+                }
+                return singleLoader.apply(key);
+            }
+        });
+    }
+
+    /**
+     * Reloads the value of the given entry asynchronously if it is stale, unless a reload is already in progress. The
+     * entry is only replaced if it was neither invalidated nor replaced in the meantime.
+     */
+    private void refreshIfStale(Object key, CompletableFuture<Object> cacheValue, Supplier<Uni<?>> valueLoader) {
+        Object value = getIfCompleted(cacheValue);
+        if (!(value instanceof RefreshableValue)) {
+            // the value is still being computed, or its computation failed
+            return;
+        }
+        RefreshableValue refreshableValue = (RefreshableValue) value;
+        if (!refreshableValue.startRefresh(System.nanoTime())) {
+            return;
+        }
+        LOGGER.tracef("Refreshing key [%s] of cache [%s]", key, cacheInfo.name);
+        Uni<?> reload;
+        try {
+            reload = valueLoader.get();
+        } catch (Throwable t) {
+            reload = Uni.createFrom().failure(t);
+        }
+        reload.subscribe().with(new Consumer<Object>() {
+            @Override
+            public void accept(Object newValue) {
+                Object refreshed = toCacheValue.apply(newValue);
+                CompletableFuture<Object> refreshedValue = CompletableFuture.completedFuture(refreshed);
+                // the stored future may be a context propagation wrapper, which must be compared by identity
+                CompletableFuture<Object> stored = cache.asMap().computeIfPresent(key,
+                        new BiFunction<Object, CompletableFuture<Object>, CompletableFuture<Object>>() {
+                            @Override
+                            public CompletableFuture<Object> apply(Object k, CompletableFuture<Object> current) {
+                                return current == cacheValue ? refreshedValue : current;
+                            }
+                        });
+                if (stored != refreshedValue) {
+                    // the entry was invalidated or replaced in the meantime
+                    releaseOffHeapValue(refreshed);
+                }
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable t) {
+                // the stale value is reloaded again once the backoff delay has elapsed
+                int failures = refreshableValue.refreshFailed(System.nanoTime(), maxRefreshBackoffNanos);
+                if (failures == 1) {
+                    LOGGER.warnf(t, "Unable to refresh key [%s] of cache [%s], the stale value is kept", key,
+                            cacheInfo.name);
+                } else {
+                    LOGGER.debugf(t, "Unable to refresh key [%s] of cache [%s] after %s attempts, the stale value is kept",
+                            key, cacheInfo.name, failures);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the value of the given cache value future if it completed normally, or {@code null} otherwise.
+     * Unlike {@link CompletableFuture#getNow(Object)}, this method never throws.
+     */
+    private static Object getIfCompleted(CompletableFuture<Object> cacheValue) {
+        if (cacheValue.isDone() && !cacheValue.isCompletedExceptionally()) {
+            return cacheValue.join();
+        }
+        return null;
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
@@ -240,7 +487,7 @@ public Object apply(Object value) {
                         throw new CacheException(cause);
                     }
                 } else {
-                    return NullValueConverter.fromCacheValue(value);
+                    return fromCacheValue.apply(value);
                 }
             }
         });
@@ -288,7 +535,11 @@ public Set<Object> keySet() {
     @SuppressWarnings("unchecked")
     @Override
     public <V> void put(Object key, CompletableFuture<V> valueFuture) {
-        cache.put(key, (CompletableFuture<Object>) valueFuture);
+        if (cacheInfo.offHeap || cacheInfo.refreshAfterWrite != null) {
+            cache.put(key, valueFuture.thenApply(toCacheValue));
+        } else {
+            cache.put(key, (CompletableFuture<Object>) valueFuture);
+        }
     }
 
     @Override
@@ -319,6 +570,10 @@ public void setExpireAfterAccess(Duration duration) {
     public void setMaximumSize(long maximumSize) {
         Optional<Policy.Eviction<Object, Object>> eviction = cache.synchronous().policy().eviction();
         if (eviction.isPresent()) {
+            if (eviction.get().isWeighted()) {
+                throw new IllegalStateException("The maximum size cannot be changed if the cache was constructed with a " +
+                        "maximum-weight configuration value");
+            }
             eviction.get().setMaximum(maximumSize);
             cacheInfo.maximumSize = maximumSize;
         } else {
@@ -348,7 +603,7 @@ private <T> T cast(Object value) {
 
     @SuppressWarnings("unchecked")
     private <V> Function<V, V> fromCacheValue() {
-        return (Function<V, V>) FROM_CACHE_VALUE;
+        return (Function<V, V>) fromCacheValue;
     }
 
     private interface StatsRecorder {
@@ -396,6 +651,37 @@ public <K> void doRecord(K key) {
 
     }
 
+    private static void releaseOffHeapValue(Object value) {
+        if (value instanceof RefreshableValue) {
+            value = ((RefreshableValue) value).value;
+        }
+        if (value instanceof OffHeapValue) {
+            ((OffHeapValue) value).release();
+        }
+    }
+
+    private static Function<Object, Object> toRefreshableCacheValue(Function<Object, Object> toCacheValue,
+            long refreshAfterWriteNanos) {
+        return new Function<Object, Object>() {
+            @Override
+            public Object apply(Object value) {
+                return new RefreshableValue(toCacheValue.apply(value), System.nanoTime() + refreshAfterWriteNanos);
+            }
+        };
+    }
+
+    private static Function<Object, Object> fromRefreshableCacheValue(Function<Object, Object> fromCacheValue) {
+        return new Function<Object, Object>() {
+            @Override
+            public Object apply(Object value) {
+                if (value instanceof RefreshableValue) {
+                    return fromCacheValue.apply(((RefreshableValue) value).value);
+                }
+                return fromCacheValue.apply(value);
+            }
+        };
+    }
+
     private static final Function<Object, Object> FROM_CACHE_VALUE = new Function<Object, Object>() {
 
         @Override
@@ -412,4 +698,23 @@ public Object apply(Object value) {
         }
     };
 
+    private static final Function<Object, Object> FROM_OFF_HEAP_CACHE_VALUE = new Function<Object, Object>() {
+
+        @Override
+        public Object apply(Object value) {
+            if (value instanceof OffHeapValue) {
+                return ((OffHeapValue) value).get();
+            }
+            return NullValueConverter.fromCacheValue(value);
+        }
+    };
+
+    private static final Function<Object, Object> TO_OFF_HEAP_CACHE_VALUE = new Function<Object, Object>() {
+
+        @Override
+        public Object apply(Object value) {
+            return value == null ? NullValueConverter.toCacheValue(null) : OffHeapValue.of(value);
+        }
+    };
+
 }
@@ -36,6 +36,26 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                     cacheInfo.maximumSize = defaultConfig.maximumSize().getAsLong();
                 }
 
+                if (namedCacheConfig != null && namedCacheConfig.maximumWeight().isPresent()) {
+                    cacheInfo.maximumWeight = namedCacheConfig.maximumWeight().getAsLong();
+                } else if (defaultConfig.maximumWeight().isPresent()) {
+                    cacheInfo.maximumWeight = defaultConfig.maximumWeight().getAsLong();
+                }
+
+                if (cacheInfo.maximumSize != null && cacheInfo.maximumWeight != null) {
+                    // a bound configured for a specific cache overrides the other bound configured for all caches
+                    boolean namedMaximumSize = namedCacheConfig != null && namedCacheConfig.maximumSize().isPresent();
+                    boolean namedMaximumWeight = namedCacheConfig != null && namedCacheConfig.maximumWeight().isPresent();
+                    if (namedMaximumSize == namedMaximumWeight) {
+                        throw new IllegalStateException("The maximum-size and maximum-weight configuration values cannot " +
+                                "be used together, check the configuration of cache [" + cacheName + "]");
+                    } else if (namedMaximumWeight) {
+                        cacheInfo.maximumSize = null;
+                    } else {
+                        cacheInfo.maximumWeight = null;
+                    }
+                }
+
                 if (namedCacheConfig != null && namedCacheConfig.expireAfterWrite().isPresent()) {
                     cacheInfo.expireAfterWrite = namedCacheConfig.expireAfterWrite().get();
                 } else if (defaultConfig.expireAfterWrite().isPresent()) {
@@ -48,6 +68,18 @@ public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig c
                     cacheInfo.expireAfterAccess = defaultConfig.expireAfterAccess().get();
                 }
 
+                if (namedCacheConfig != null && namedCacheConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = namedCacheConfig.refreshAfterWrite().get();
+                } else if (defaultConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = defaultConfig.refreshAfterWrite().get();
+                }
+
+                if (namedCacheConfig != null && namedCacheConfig.offHeap().isPresent()) {
+                    cacheInfo.offHeap = namedCacheConfig.offHeap().get();
+                } else if (defaultConfig.offHeap().isPresent()) {
+                    cacheInfo.offHeap = defaultConfig.offHeap().get();
+                }
+
                 if (namedCacheConfig != null && namedCacheConfig.metricsEnabled().isPresent()) {
                     cacheInfo.metricsEnabled = namedCacheConfig.metricsEnabled().get();
                 } else if (defaultConfig.metricsEnabled().isPresent()) {
@@ -42,10 +42,13 @@ public CacheManager get() {
                     for (CaffeineCacheInfo cacheInfo : cacheInfos) {
                         if (LOGGER.isDebugEnabled()) {
                             LOGGER.debugf(
-                                    "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s], "
-                                            + "[expireAfterAccess=%s] and [metricsEnabled=%s]",
-                                    cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize,
-                                    cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess, cacheInfo.metricsEnabled);
+                                    "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], "
+                                            + "[maximumWeight=%s], [expireAfterWrite=%s], [expireAfterAccess=%s], "
+                                            + "[refreshAfterWrite=%s], [offHeap=%s] and [metricsEnabled=%s]",
+                                    cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize, cacheInfo.maximumWeight,
+                                    cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess, cacheInfo.refreshAfterWrite,
+                                    cacheInfo.offHeap,
+                                    cacheInfo.metricsEnabled);
                         }
                         /*
                          * Metrics will be recorded for the current cache if:
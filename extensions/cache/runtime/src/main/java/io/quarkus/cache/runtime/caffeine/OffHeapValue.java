@@ -0,0 +1,143 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.util.IllegalReferenceCountException;
+import io.quarkus.cache.CacheException;
+
+/**
+ * A cache value serialized into direct memory, so that its content doesn't occupy the Java heap.
+ * <p>
+ * The direct memory is released explicitly by {@link #release()} when the entry is removed from the cache, so that it
+ * doesn't wait for the {@link OffHeapValue} to be garbage collected. Readers retain the memory while they deserialize
+ * the value, and a reader that finds the value already released gets a {@link ReleasedValueException}. The memory of a
+ * value that is never released, for example because it was computed for an entry that was removed in the meantime, is
+ * still reclaimed by the garbage collector.
+ */
+final class OffHeapValue {
+
+    private static final Logger LOGGER = Logger.getLogger(OffHeapValue.class);
+
+    // not pooled and with a cleaner, so that a buffer that is not released explicitly is freed by the garbage collector
+    private static final ByteBufAllocator ALLOCATOR = new UnpooledByteBufAllocator(true, true, false);
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final ByteBuf buffer;
+
+    private OffHeapValue(ByteBuf buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Returns an {@link OffHeapValue} holding the serialized form of the given value, or the value itself
+     * if it cannot be serialized.
+     */
+    static Object of(Object value) {
+        if (!(value instanceof Serializable)) {
+            return value;
+        }
+        ByteBuf buffer = ALLOCATOR.directBuffer(INITIAL_CAPACITY);
+        boolean serialized = false;
+        // serialize directly into direct memory
+        try (ObjectOutputStream out = new ObjectOutputStream(new ByteBufOutputStream(buffer))) {
+            out.writeObject(value);
+            serialized = true;
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Unable to serialize a value of type [%s], keeping it on heap", value.getClass().getName());
+        } finally {
+            if (!serialized) {
+                buffer.release();
+            }
+        }
+        if (!serialized) {
+            return value;
+        }
+        int size = buffer.writerIndex();
+        if (buffer.capacity() - size > size / 4) {
+            // the buffer grows by doubling its capacity, don't keep more than a quarter of it unused
+            buffer.capacity(size);
+        }
+        return new OffHeapValue(buffer);
+    }
+
+    /**
+     * @return a new copy of the value, deserialized from direct memory
+     * @throws ReleasedValueException if the value was removed from the cache and released concurrently
+     */
+    Object get() {
+        try {
+            buffer.retain();
+        } catch (IllegalReferenceCountException e) {
+            throw ReleasedValueException.INSTANCE;
+        }
+        try (ObjectInputStream in = new ContextClassLoaderObjectInputStream(new ByteBufInputStream(buffer.duplicate()))) {
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new CacheException("Unable to deserialize an off-heap cache value", e);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Releases the direct memory once there are no more readers. Must be called at most once, when the value is removed
+     * from the cache.
+     */
+    void release() {
+        buffer.release();
+    }
+
+    /**
+     * @return the number of bytes of direct memory used by this value
+     */
+    int size() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Thrown when an off-heap value was released before it could be read. The entry is no longer in the cache, so the
+     * lookup can be retried.
+     */
+    static final class ReleasedValueException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        static final ReleasedValueException INSTANCE = new ReleasedValueException();
+
+        private ReleasedValueException() {
+            super("The off-heap cache value was released", null, false, false);
+        }
+    }
+
+    private static final class ContextClassLoaderObjectInputStream extends ObjectInputStream {
+
+        ContextClassLoaderObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader == null) {
+                return super.resolveClass(desc);
+            }
+            try {
+                return Class.forName(desc.getName(), false, classLoader);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
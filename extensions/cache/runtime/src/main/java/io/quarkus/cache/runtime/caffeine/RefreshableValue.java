@@ -0,0 +1,48 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.quarkus.cache.runtime.CacheRefresh;
+
+/**
+ * A cache value that should be reloaded once it gets older than the {@code refresh-after-write} duration.
+ * <p>
+ * The stale value is still returned to the callers while a single reload, started by the first caller noticing that
+ * the value is stale, runs asynchronously.
+ */
+final class RefreshableValue {
+
+    final Object value;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    // only updated by the caller holding the refreshing flag
+    private volatile long retryAt;
+    private int failures;
+
+    RefreshableValue(Object value, long refreshAt) {
+        this.value = value;
+        this.retryAt = refreshAt;
+    }
+
+    /**
+     * @return {@code true} if the value is stale and the caller is responsible for reloading it
+     */
+    boolean startRefresh(long now) {
+        return now - retryAt >= 0 && refreshing.compareAndSet(false, true);
+    }
+
+    /**
+     * Allows a subsequent caller to attempt the reload again once a backoff delay, doubling after each failure, has
+     * elapsed.
+     *
+     * @param maxBackoffNanos the maximum backoff delay
+     * @return the number of consecutive failed reloads
+     */
+    int refreshFailed(long now, long maxBackoffNanos) {
+        failures++;
+        retryAt = now + CacheRefresh.backoffNanos(failures, maxBackoffNanos);
+        refreshing.set(false);
+        return failures;
+    }
+}
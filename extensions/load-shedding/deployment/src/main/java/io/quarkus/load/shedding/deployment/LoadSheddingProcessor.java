@@ -2,15 +2,20 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.load.shedding.runtime.HttpLoadShedding;
 import io.quarkus.load.shedding.runtime.HttpRequestClassifier;
 import io.quarkus.load.shedding.runtime.ManagementRequestPrioritizer;
 import io.quarkus.load.shedding.runtime.OverloadDetector;
 import io.quarkus.load.shedding.runtime.PriorityLoadShedding;
+import io.quarkus.load.shedding.runtime.RequestQueue;
+import io.quarkus.load.shedding.runtime.RequestQueueMetrics;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 public class LoadSheddingProcessor {
     private static final String FEATURE = "load-shedding";
@@ -21,13 +26,17 @@ FeatureBuildItem feature() {
     }
 
     @BuildStep
-    AdditionalBeanBuildItem beans() {
+    AdditionalBeanBuildItem beans(Optional<MetricsCapabilityBuildItem> metricsCapability) {
         List<String> beans = new ArrayList<>();
         beans.add(OverloadDetector.class.getName());
         beans.add(HttpLoadShedding.class.getName());
         beans.add(PriorityLoadShedding.class.getName());
+        beans.add(RequestQueue.class.getName());
         beans.add(ManagementRequestPrioritizer.class.getName());
         beans.add(HttpRequestClassifier.class.getName());
+        if (metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER)) {
+            beans.add(RequestQueueMetrics.class.getName());
+        }
 
         return AdditionalBeanBuildItem.builder().addBeanClasses(beans).build();
     }
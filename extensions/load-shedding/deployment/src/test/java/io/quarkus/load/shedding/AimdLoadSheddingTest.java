@@ -0,0 +1,53 @@
+package io.quarkus.load.shedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class AimdLoadSheddingTest {
+    private static final int IN_FLIGHT = 60;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .overrideConfigKey("quarkus.load-shedding.initial-limit", "10")
+            .overrideConfigKey("quarkus.load-shedding.max-limit", "100")
+            .overrideConfigKey("quarkus.load-shedding.algorithm", "aimd")
+            .overrideConfigKey("quarkus.load-shedding.aimd.timeout", "100ms")
+            .overrideConfigKey("quarkus.load-shedding.aimd.backoff-ratio", "0.5");
+
+    @Inject
+    OverloadDetector detector;
+
+    @Test
+    public void test() {
+        for (int i = 0; i < IN_FLIGHT; i++) {
+            detector.requestBegin();
+        }
+        assertThat(detector.isOverloaded()).isTrue();
+
+        // fast requests, the limit increases by 1 per request up to the max limit
+        sample(1_000, 200);
+        assertThat(detector.isOverloaded()).isFalse();
+
+        // requests time out, the limit is halved each time
+        sample(200_000, 5);
+        assertThat(detector.isOverloaded()).isTrue();
+
+        // requests are fast again, the limit recovers
+        sample(1_000, 200);
+        assertThat(detector.isOverloaded()).isFalse();
+    }
+
+    private void sample(long requestTime, int count) {
+        for (int i = 0; i < count; i++) {
+            detector.requestBegin();
+            detector.requestEnd(requestTime);
+        }
+    }
+}
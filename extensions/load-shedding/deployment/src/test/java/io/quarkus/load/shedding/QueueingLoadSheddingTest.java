@@ -0,0 +1,110 @@
+package io.quarkus.load.shedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.load.shedding.runtime.RequestQueue;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class QueueingLoadSheddingTest {
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .overrideConfigKey("quarkus.load-shedding.queue.enabled", "true")
+            .overrideConfigKey("quarkus.load-shedding.queue.max-size", "2")
+            .overrideConfigKey("quarkus.load-shedding.queue.max-wait", "100ms")
+            .overrideConfigKey("quarkus.load-shedding.queue.target", "5ms")
+            .overrideConfigKey("quarkus.load-shedding.queue.lifo", "true");
+
+    @Inject
+    RequestQueue queue;
+
+    final List<Object> expired = new ArrayList<>();
+
+    @AfterEach
+    public void drain() {
+        while (queue.poll(Long.MAX_VALUE / 2, ignored -> {
+        }) != null) {
+        }
+    }
+
+    @Test
+    public void highestPriorityFirst() {
+        offer("normal", RequestPriority.NORMAL, 0);
+        offer("critical", RequestPriority.CRITICAL, 1);
+        offer("background", RequestPriority.BACKGROUND, 2);
+
+        assertThat(poll(3)).isEqualTo("critical");
+        assertThat(poll(3)).isEqualTo("normal");
+        assertThat(poll(3)).isEqualTo("background");
+        assertThat(poll(3)).isNull();
+    }
+
+    @Test
+    public void rejectWhenFull() {
+        assertThat(offer("a", RequestPriority.NORMAL, 0)).isTrue();
+        assertThat(offer("b", RequestPriority.NORMAL, 0)).isTrue();
+        assertThat(offer("c", RequestPriority.NORMAL, 0)).isFalse();
+        // the limit applies per priority
+        assertThat(offer("d", RequestPriority.CRITICAL, 0)).isTrue();
+    }
+
+    @Test
+    public void expireAfterMaxWait() {
+        offer("a", RequestPriority.NORMAL, 0);
+        offer("b", RequestPriority.CRITICAL, 50 * MS);
+
+        queue.expire(100 * MS, e -> expired.add(e.request()));
+        assertThat(expired).isEmpty();
+
+        queue.expire(101 * MS, e -> expired.add(e.request()));
+        assertThat(expired).containsExactly("a");
+        assertThat(poll(101 * MS)).isEqualTo("b");
+    }
+
+    @Test
+    public void standingQueue() {
+        // the queue is not empty from now on
+        offer("a", RequestPriority.NORMAL, 0);
+        offer("b", RequestPriority.NORMAL, 50 * MS);
+        assertThat(poll(90 * MS)).isEqualTo("a");
+        offer("c", RequestPriority.NORMAL, 152 * MS);
+
+        // the queue is standing, requests may only wait up to the target and are dispatched in LIFO order
+        queue.expire(155 * MS, e -> expired.add(e.request()));
+        assertThat(expired).containsExactly("b");
+        offer("d", RequestPriority.NORMAL, 153 * MS);
+        assertThat(poll(155 * MS)).isEqualTo("d");
+        assertThat(poll(155 * MS)).isEqualTo("c");
+    }
+
+    @Test
+    public void removeAbandonedRequest() {
+        RequestQueue.Entry entry = new RequestQueue.Entry("a", RequestPriority.NORMAL, 0);
+        assertThat(queue.offer(entry)).isTrue();
+        queue.remove(entry, 1);
+        assertThat(queue.isEmpty()).isTrue();
+        // already removed
+        queue.remove(entry, 2);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    private boolean offer(String request, RequestPriority priority, long now) {
+        return queue.offer(new RequestQueue.Entry(request, priority, now));
+    }
+
+    private Object poll(long now) {
+        RequestQueue.Entry entry = queue.poll(now, e -> expired.add(e.request()));
+        return entry != null ? entry.request() : null;
+    }
+}
@@ -0,0 +1,57 @@
+package io.quarkus.load.shedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class WindowedGradient2LoadSheddingTest {
+    private static final int IN_FLIGHT = 60;
+    private static final int SAMPLE_WINDOW = 10;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .overrideConfigKey("quarkus.load-shedding.initial-limit", "10")
+            .overrideConfigKey("quarkus.load-shedding.max-limit", "100")
+            .overrideConfigKey("quarkus.load-shedding.algorithm", "gradient2")
+            .overrideConfigKey("quarkus.load-shedding.sample-window", "" + SAMPLE_WINDOW);
+
+    @Inject
+    OverloadDetector detector;
+
+    @Test
+    public void test() {
+        for (int i = 0; i < IN_FLIGHT; i++) {
+            detector.requestBegin();
+        }
+        assertThat(detector.isOverloaded()).isTrue();
+
+        // an incomplete window doesn't update the limit
+        sample(1_000, SAMPLE_WINDOW - 1);
+        assertThat(detector.isOverloaded()).isTrue();
+
+        // stable request times over many windows, the limit grows towards the max limit
+        sample(1_000, 200 * SAMPLE_WINDOW);
+        assertThat(detector.isOverloaded()).isFalse();
+
+        // request times inflate tenfold, the gradient drops and the limit shrinks
+        sample(10_000, 50 * SAMPLE_WINDOW);
+        assertThat(detector.isOverloaded()).isTrue();
+
+        // request times recover, so does the limit
+        sample(1_000, 200 * SAMPLE_WINDOW);
+        assertThat(detector.isOverloaded()).isFalse();
+    }
+
+    private void sample(long requestTime, int count) {
+        for (int i = 0; i < count; i++) {
+            detector.requestBegin();
+            detector.requestEnd(requestTime);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * Additive increase, multiplicative decrease.
+ * <p>
+ * The limit is increased by 1 when at least half of it is used and requests are fast enough,
+ * and it is multiplied by a backoff ratio when a request takes longer than a timeout.
+ */
+final class AimdLimitAlgorithm implements LimitAlgorithm {
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long timeoutInMicros;
+
+    AimdLimitAlgorithm(LoadSheddingRuntimeConfig config) {
+        maxLimit = config.maxLimit();
+        backoffRatio = config.aimd().backoffRatio();
+        timeoutInMicros = config.aimd().timeout().toNanos() / 1_000;
+    }
+
+    @Override
+    public long update(long currentLimit, long requestTime, int currentRequests) {
+        long newLimit;
+        if (requestTime > timeoutInMicros) {
+            newLimit = (long) (currentLimit * backoffRatio);
+        } else if (2L * currentRequests >= currentLimit) {
+            newLimit = currentLimit + 1;
+        } else {
+            return currentLimit;
+        }
+
+        return Math.max(1, Math.min(maxLimit, newLimit));
+    }
+}
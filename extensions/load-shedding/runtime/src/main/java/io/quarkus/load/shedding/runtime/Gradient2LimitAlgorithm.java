@@ -0,0 +1,63 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * Gradient2, as implemented by <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The limit is adjusted based on the gradient between a long-term exponential average of request times
+ * and the current request time. If the current request time is higher than the long-term average
+ * (multiplied by a tolerance), requests are queueing up and the limit is decreased.
+ */
+final class Gradient2LimitAlgorithm implements LimitAlgorithm {
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final int queueSize;
+    private final double longWindowFactor;
+
+    private double estimatedLimit;
+    private double longRequestTime;
+    private int longRequestTimeSamples;
+
+    Gradient2LimitAlgorithm(LoadSheddingRuntimeConfig config) {
+        maxLimit = config.maxLimit();
+        rttTolerance = config.gradient2().rttTolerance();
+        smoothing = config.gradient2().smoothing();
+        queueSize = config.gradient2().queueSize();
+        longWindowFactor = 2.0 / (config.gradient2().longWindow() + 1);
+        estimatedLimit = config.initialLimit();
+    }
+
+    @Override
+    public long update(long currentLimit, long requestTime, int currentRequests) {
+        double shortRequestTime = Math.max(1, requestTime);
+        double longRequestTime = updateLongRequestTime(shortRequestTime);
+
+        // if the long-term request time is substantially higher than the current one, recover faster
+        if (longRequestTime / shortRequestTime > 2) {
+            this.longRequestTime = longRequestTime * 0.95;
+        }
+
+        // don't grow the limit if the application doesn't use it
+        if (currentRequests < estimatedLimit / 2) {
+            return currentLimit;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRequestTime / shortRequestTime));
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(1, Math.min(maxLimit, newLimit));
+        return (long) estimatedLimit;
+    }
+
+    private double updateLongRequestTime(double sample) {
+        if (longRequestTimeSamples < WARMUP_SAMPLES) {
+            longRequestTimeSamples++;
+            longRequestTime += (sample - longRequestTime) / longRequestTimeSamples;
+        } else {
+            longRequestTime = longRequestTime * (1 - longWindowFactor) + sample * longWindowFactor;
+        }
+        return longRequestTime;
+    }
+}
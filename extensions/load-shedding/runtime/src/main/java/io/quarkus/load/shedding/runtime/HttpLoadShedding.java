@@ -1,5 +1,9 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
 import jakarta.annotation.Priority;
 import jakarta.enterprise.event.Observes;
 import jakarta.inject.Singleton;
@@ -7,43 +11,152 @@
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
 
 @Singleton
 public class HttpLoadShedding {
+    private final AtomicBoolean expirationScheduled = new AtomicBoolean();
+
     public void init(@Observes @Priority(-1_000_000_000) Router router, OverloadDetector detector,
-            PriorityLoadShedding priority, LoadSheddingRuntimeConfig config) {
+            PriorityLoadShedding priority, RequestQueue queue, LoadSheddingRuntimeConfig config) {
 
         if (!config.enabled()) {
             return;
         }
 
-        router.route().order(-1_000_000_000).handler(ctx -> {
-            if (detector.isOverloaded() && priority.shedLoad(ctx)) {
-                HttpServerResponse response = ctx.response();
-                response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
-                response.headers().add(HttpHeaderNames.CONNECTION, "close");
-                response.endHandler(new Handler<Void>() {
+        Consumer<RequestQueue.Entry> expired = new Consumer<>() {
+            @Override
+            public void accept(RequestQueue.Entry entry) {
+                QueuedRequest request = (QueuedRequest) entry.request();
+                request.context.runOnContext(new Handler<Void>() {
                     @Override
                     public void handle(Void ignored) {
-                        ctx.request().connection().close();
+                        if (!request.isClosed()) {
+                            reject(request.ctx);
+                        }
                     }
                 });
-                response.end();
+            }
+        };
+
+        router.route().order(-1_000_000_000).handler(ctx -> {
+            if (detector.isOverloaded() && priority.shedLoad(ctx)) {
+                if (queue.isEnabled()) {
+                    ctx.request().pause();
+                    QueuedRequest request = new QueuedRequest(ctx, Vertx.currentContext());
+                    RequestQueue.Entry entry = new RequestQueue.Entry(request, priority.priority(ctx), System.nanoTime());
+                    if (queue.offer(entry)) {
+                        // the client went away while the request was waiting
+                        ctx.response().closeHandler(new Handler<Void>() {
+                            @Override
+                            public void handle(Void ignored) {
+                                queue.remove(entry, System.nanoTime());
+                            }
+                        });
+                        scheduleExpiration(ctx.vertx(), detector, queue, expired);
+                        return;
+                    }
+                    ctx.request().resume();
+                }
+                reject(ctx);
             } else {
                 detector.requestBegin();
-                long start = System.nanoTime();
-                ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
-                    @Override
-                    public void handle(AsyncResult<Void> ignored) {
-                        long end = System.nanoTime();
-                        detector.requestEnd((end - start) / 1_000);
+                proceed(ctx, detector, queue, expired);
+            }
+        });
+    }
+
+    private void proceed(RoutingContext ctx, OverloadDetector detector, RequestQueue queue,
+            Consumer<RequestQueue.Entry> expired) {
+        long start = System.nanoTime();
+        ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> ignored) {
+                long end = System.nanoTime();
+                detector.requestEnd((end - start) / 1_000);
+                if (!queue.isEmpty()) {
+                    dispatchQueued(detector, queue, expired);
+                }
+            }
+        });
+        ctx.next();
+    }
+
+    private void dispatchQueued(OverloadDetector detector, RequestQueue queue, Consumer<RequestQueue.Entry> expired) {
+        while (!detector.isOverloaded()) {
+            RequestQueue.Entry entry = queue.poll(System.nanoTime(), expired);
+            if (entry == null) {
+                return;
+            }
+            QueuedRequest request = (QueuedRequest) entry.request();
+            if (request.isClosed()) {
+                continue;
+            }
+            // reserve the slot before the request is actually dispatched on its own context
+            detector.requestBegin();
+            request.context.runOnContext(new Handler<Void>() {
+                @Override
+                public void handle(Void ignored) {
+                    if (request.isClosed()) {
+                        // the end handler would never be called
+                        detector.requestAbandoned();
+                        return;
                     }
-                });
-                ctx.next();
+                    request.ctx.request().resume();
+                    proceed(request.ctx, detector, queue, expired);
+                }
+            });
+        }
+    }
+
+    private void scheduleExpiration(Vertx vertx, OverloadDetector detector, RequestQueue queue,
+            Consumer<RequestQueue.Entry> expired) {
+        if (!expirationScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        long delay = Math.max(1, TimeUnit.NANOSECONDS.toMillis(queue.checkIntervalInNanos()));
+        vertx.setTimer(delay, new Handler<Long>() {
+            @Override
+            public void handle(Long ignored) {
+                expirationScheduled.set(false);
+                queue.expire(System.nanoTime(), expired);
+                dispatchQueued(detector, queue, expired);
+                if (!queue.isEmpty()) {
+                    scheduleExpiration(vertx, detector, queue, expired);
+                }
+            }
+        });
+    }
+
+    private static void reject(RoutingContext ctx) {
+        HttpServerResponse response = ctx.response();
+        response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
+        response.headers().add(HttpHeaderNames.CONNECTION, "close");
+        response.endHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void ignored) {
+                ctx.request().connection().close();
             }
         });
+        response.end();
+    }
+
+    private static final class QueuedRequest {
+        final RoutingContext ctx;
+        final Context context;
+
+        QueuedRequest(RoutingContext ctx, Context context) {
+            this.ctx = ctx;
+            this.context = context;
+        }
+
+        boolean isClosed() {
+            return ctx.response().closed() || ctx.response().ended();
+        }
     }
 }
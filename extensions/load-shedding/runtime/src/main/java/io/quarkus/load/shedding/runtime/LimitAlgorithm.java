@@ -0,0 +1,17 @@
+package io.quarkus.load.shedding.runtime;
+
+/**
+ * An algorithm that adjusts the limit of concurrent requests based on the observed request times.
+ * <p>
+ * Implementations are not thread safe; the {@link OverloadDetector} never calls {@link #update(long, long, int)}
+ * concurrently.
+ */
+interface LimitAlgorithm {
+    /**
+     * @param currentLimit the current limit of concurrent requests
+     * @param requestTime the time it took to process a request, in microseconds
+     * @param currentRequests the number of concurrent requests when the request finished
+     * @return the new limit of concurrent requests, which may be equal to {@code currentLimit}
+     */
+    long update(long currentLimit, long requestTime, int currentRequests);
+}
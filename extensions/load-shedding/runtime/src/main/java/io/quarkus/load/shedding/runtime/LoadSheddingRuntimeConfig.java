@@ -1,5 +1,7 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.time.Duration;
+
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -22,6 +24,23 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("1000")
     int maxLimit();
 
+    /**
+     * The algorithm used to adjust the limit of concurrent requests.
+     */
+    @WithDefault("vegas")
+    Algorithm algorithm();
+
+    /**
+     * The number of completed requests whose samples are accumulated before the limit is updated.
+     * <p>
+     * With the default value of {@code 1}, the limit is updated after each request, which requires
+     * serializing all request completions. With a larger value, samples are accumulated without locking
+     * and the limit is updated once per window, based on the average request time and the highest number
+     * of concurrent requests in the window. This avoids contention under high request rates.
+     */
+    @WithDefault("1")
+    int sampleWindow();
+
     /**
      * The {@code alpha} factor of the Vegas overload detection algorithm.
      */
@@ -46,11 +65,26 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("100")
     int initialLimit();
 
+    /**
+     * Configuration of the Gradient2 overload detection algorithm.
+     */
+    Gradient2 gradient2();
+
+    /**
+     * Configuration of the AIMD overload detection algorithm.
+     */
+    Aimd aimd();
+
     /**
      * Configuration of priority load shedding.
      */
     PriorityLoadShedding priority();
 
+    /**
+     * Configuration of request queueing.
+     */
+    RequestQueueing queue();
+
     @ConfigGroup
     interface PriorityLoadShedding {
         /**
@@ -59,4 +93,98 @@ interface PriorityLoadShedding {
         @WithDefault("true")
         boolean enabled();
     }
+
+    @ConfigGroup
+    interface RequestQueueing {
+        /**
+         * Whether requests that would be rejected due to overload should be queued for a short time instead.
+         * Queued requests are dispatched, highest priority first, as soon as the overload subsides.
+         * Requests that wait for too long are rejected.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The maximum number of requests queued per request priority.
+         * When the queue is full, requests are rejected immediately.
+         */
+        @WithDefault("100")
+        int maxSize();
+
+        /**
+         * The maximum time a request may wait in the queue.
+         */
+        @WithDefault("100ms")
+        Duration maxWait();
+
+        /**
+         * The maximum time a request may wait in a standing queue, that is, a queue
+         * that has not been empty for longer than {@code max-wait}.
+         */
+        @WithDefault("5ms")
+        Duration target();
+
+        /**
+         * Whether requests from a standing queue should be dispatched in last-in, first-out order.
+         */
+        @WithDefault("true")
+        boolean lifo();
+    }
+
+    enum Algorithm {
+        /**
+         * TCP Vegas, which estimates the length of the request queue from the lowest seen request time.
+         */
+        VEGAS,
+        /**
+         * Gradient2, which compares the current request time to a long-term average of request times.
+         */
+        GRADIENT2,
+        /**
+         * Additive increase, multiplicative decrease, which backs off when requests time out.
+         */
+        AIMD,
+    }
+
+    @ConfigGroup
+    interface Gradient2 {
+        /**
+         * How much higher than the long-term average the current request time may be before the limit is reduced.
+         */
+        @WithDefault("1.5")
+        double rttTolerance();
+
+        /**
+         * The smoothing factor applied to limit changes, between 0.0 and 1.0.
+         */
+        @WithDefault("0.2")
+        double smoothing();
+
+        /**
+         * The number of concurrent requests the limit is allowed to exceed the no-queueing estimate by.
+         */
+        @WithDefault("4")
+        int queueSize();
+
+        /**
+         * The number of samples over which the long-term average of request times is computed.
+         */
+        @WithDefault("600")
+        int longWindow();
+    }
+
+    @ConfigGroup
+    interface Aimd {
+        /**
+         * The ratio by which the limit is multiplied when a request takes longer than the timeout.
+         */
+        @WithDefault("0.9")
+        double backoffRatio();
+
+        /**
+         * The request time after which a request is considered a sign of overload.
+         */
+        @WithDefault("5s")
+        Duration timeout();
+    }
 }
@@ -1,46 +1,44 @@
 package io.quarkus.load.shedding.runtime;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 /**
- * An overload detector based on TCP Vegas, as implemented by
- * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * An overload detector based on a limit of concurrent requests. The limit is adjusted dynamically
+ * by a {@linkplain LoadSheddingRuntimeConfig#algorithm() configurable algorithm}, by default TCP Vegas,
+ * as implemented by <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * By default, the limit is updated after each request. If a {@linkplain LoadSheddingRuntimeConfig#sampleWindow()
+ * sample window} is configured, samples are accumulated in striped, lock-free accumulators instead,
+ * and the limit is only updated once per window by a single thread.
  */
 @Singleton
 public class OverloadDetector {
-    private static final int[] LOG10_PLUS_1_TABLE = new int[1_000];
-
-    static {
-        LOG10_PLUS_1_TABLE[0] = 1;
-        for (int i = 1; i < 1_000; i++) {
-            LOG10_PLUS_1_TABLE[i] = 1 + (int) Math.log10(i);
-        }
-    }
-
-    private final int maxLimit;
-    private final int alphaFactor;
-    private final int betaFactor;
-    private final double probeFactor;
+    private final LimitAlgorithm algorithm;
+    private final int sampleWindow;
 
     private final AtomicInteger currentRequests = new AtomicInteger();
     private volatile long currentLimit;
 
-    private long lowestRequestTime = Long.MAX_VALUE;
-    private double probeCount = 0.0;
-    private double probeJitter;
+    private final LongAdder windowSamples = new LongAdder();
+    private final LongAdder windowRequestTime = new LongAdder();
+    private final LongAccumulator windowMaxRequests = new LongAccumulator(Math::max, 0);
+    private final AtomicBoolean windowUpdating = new AtomicBoolean();
 
     @Inject
     public OverloadDetector(LoadSheddingRuntimeConfig config) {
-        maxLimit = config.maxLimit();
-        alphaFactor = config.alphaFactor();
-        betaFactor = config.betaFactor();
-        probeFactor = config.probeFactor();
+        algorithm = switch (config.algorithm()) {
+            case VEGAS -> new VegasLimitAlgorithm(config);
+            case GRADIENT2 -> new Gradient2LimitAlgorithm(config);
+            case AIMD -> new AimdLimitAlgorithm(config);
+        };
+        sampleWindow = config.sampleWindow();
         currentLimit = config.initialLimit();
-        resetProbeJitter();
     }
 
     public boolean isOverloaded() {
@@ -54,56 +52,47 @@ public void requestBegin() {
     public void requestEnd(long timeInMicros) {
         int current = currentRequests.getAndDecrement();
 
-        update(timeInMicros, current);
-    }
-
-    private synchronized void update(long requestTime, int currentRequests) {
-        probeCount++;
-        if (probeFactor * probeJitter * currentLimit <= probeCount) {
-            resetProbeJitter();
-            probeCount = 0.0;
-            lowestRequestTime = requestTime;
-            return;
-        }
-
-        if (requestTime < lowestRequestTime) {
-            lowestRequestTime = requestTime;
-            return;
-        }
-
-        long currentLimit = this.currentLimit;
-
-        if (2L * currentRequests < currentLimit) {
-            return;
-        }
-
-        int queueSize = (int) Math.ceil(currentLimit * (1.0 - (double) lowestRequestTime / (double) requestTime));
-
-        int currentLimitLog10Plus1;
-        if (currentLimit >= 0 && currentLimit < 1_000) {
-            currentLimitLog10Plus1 = LOG10_PLUS_1_TABLE[(int) currentLimit];
+        if (sampleWindow > 1) {
+            accumulate(timeInMicros, current);
         } else {
-            currentLimitLog10Plus1 = 1 + (int) Math.log10(currentLimit);
+            update(timeInMicros, current);
         }
-        int alpha = alphaFactor * currentLimitLog10Plus1;
-        int beta = betaFactor * currentLimitLog10Plus1;
+    }
 
-        long newLimit;
-        if (queueSize <= currentLimitLog10Plus1) {
-            newLimit = currentLimit + beta;
-        } else if (queueSize < alpha) {
-            newLimit = currentLimit + currentLimitLog10Plus1;
-        } else if (queueSize > beta) {
-            newLimit = currentLimit - currentLimitLog10Plus1;
-        } else {
-            return;
-        }
+    /**
+     * Releases a request slot reserved by {@link #requestBegin()} for a request that was never processed,
+     * without affecting the limit.
+     */
+    void requestAbandoned() {
+        currentRequests.decrementAndGet();
+    }
 
-        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
-        this.currentLimit = newLimit;
+    private void accumulate(long requestTime, int currentRequests) {
+        windowRequestTime.add(requestTime);
+        windowMaxRequests.accumulate(currentRequests);
+        windowSamples.increment();
+
+        // only one thread updates the limit, the others don't wait for it
+        if (windowSamples.sum() >= sampleWindow && windowUpdating.compareAndSet(false, true)) {
+            try {
+                // the accumulators are reset one after another, not atomically as a group, so a request
+                // completing concurrently may have its request time counted in this window and its sample
+                // in the next one (or vice versa); this is bounded by the number of concurrently completing
+                // requests and only slightly skews the average request time, which is acceptable
+                // for a heuristic that doesn't need to be exact and avoids locking on the hot path
+                long samples = windowSamples.sumThenReset();
+                long requestTimeSum = windowRequestTime.sumThenReset();
+                long maxRequests = windowMaxRequests.getThenReset();
+                if (samples > 0) {
+                    update(requestTimeSum / samples, (int) maxRequests);
+                }
+            } finally {
+                windowUpdating.set(false);
+            }
+        }
     }
 
-    private void resetProbeJitter() {
-        probeJitter = ThreadLocalRandom.current().nextDouble(0.5, 1);
+    private synchronized void update(long requestTime, int currentRequests) {
+        currentLimit = algorithm.update(currentLimit, requestTime, currentRequests);
     }
 }
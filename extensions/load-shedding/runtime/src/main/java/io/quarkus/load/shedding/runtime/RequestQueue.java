@@ -0,0 +1,170 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.quarkus.arc.All;
+import io.quarkus.load.shedding.RequestPriority;
+
+/**
+ * Holds requests that would otherwise be rejected due to overload, so that a short spike
+ * results in a delay instead of errors. There is one bounded queue per {@link RequestPriority}
+ * and requests are dispatched from the highest priority queue first.
+ * <p>
+ * The time a request may wait is limited in the spirit of CoDel: if a queue was empty
+ * at some point during the last {@linkplain LoadSheddingRuntimeConfig.RequestQueueing#maxWait() max wait},
+ * requests may wait up to the max wait. Otherwise, the queue is standing and requests may only wait up to
+ * the {@linkplain LoadSheddingRuntimeConfig.RequestQueueing#target() target}. A standing queue is also
+ * optionally dispatched in LIFO order, so that the requests whose clients are most likely still waiting
+ * are served first.
+ */
+@Singleton
+public class RequestQueue {
+    @Inject
+    @All
+    List<RequestQueueListener> listeners;
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final long maxWait;
+    private final long target;
+    private final boolean lifo;
+
+    private final PriorityQueue[] queues;
+    private final AtomicInteger size = new AtomicInteger();
+
+    @Inject
+    RequestQueue(LoadSheddingRuntimeConfig config) {
+        enabled = config.queue().enabled();
+        maxSize = config.queue().maxSize();
+        maxWait = config.queue().maxWait().toNanos();
+        target = config.queue().target().toNanos();
+        lifo = config.queue().lifo();
+
+        RequestPriority[] priorities = RequestPriority.values();
+        queues = new PriorityQueue[priorities.length];
+        for (RequestPriority priority : priorities) {
+            queues[priority.ordinal()] = new PriorityQueue(priority);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isEmpty() {
+        return size.get() == 0;
+    }
+
+    /**
+     * @return the interval in which queued requests should be checked for expiration
+     */
+    public long checkIntervalInNanos() {
+        return Math.min(target, maxWait);
+    }
+
+    /**
+     * @return whether the request was queued; if {@code false}, the queue for given priority is full
+     */
+    public synchronized boolean offer(Entry entry) {
+        PriorityQueue queue = queues[entry.priority.ordinal()];
+        if (queue.entries.size() >= maxSize) {
+            return false;
+        }
+        if (queue.entries.isEmpty()) {
+            queue.nonEmptySince = entry.enqueuedAt;
+        }
+        queue.entries.addLast(entry);
+        size.incrementAndGet();
+        for (RequestQueueListener listener : listeners) {
+            listener.enqueued(entry.priority);
+        }
+        return true;
+    }
+
+    /**
+     * Removes all requests that waited for too long, passes them to the {@code expired} callback and
+     * returns the request that should be dispatched next.
+     *
+     * @return the next request to dispatch, or {@code null} if there's none
+     */
+    public synchronized Entry poll(long now, Consumer<Entry> expired) {
+        expire(now, expired);
+        for (PriorityQueue queue : queues) {
+            if (!queue.entries.isEmpty()) {
+                Entry entry = lifo && queue.isStanding(now) ? queue.entries.pollLast() : queue.entries.pollFirst();
+                removed(entry, now, true);
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes the request from the queue, for example because its client went away.
+     * Does nothing if the request was already dispatched or expired.
+     */
+    public synchronized void remove(Entry entry, long now) {
+        if (queues[entry.priority.ordinal()].entries.remove(entry)) {
+            removed(entry, now, false);
+        }
+    }
+
+    /**
+     * Removes all requests that waited for too long and passes them to the {@code expired} callback.
+     */
+    public synchronized void expire(long now, Consumer<Entry> expired) {
+        for (PriorityQueue queue : queues) {
+            long allowedWait = queue.isStanding(now) ? target : maxWait;
+            // entries are ordered by their enqueue time
+            Entry entry;
+            while ((entry = queue.entries.peekFirst()) != null && now - entry.enqueuedAt > allowedWait) {
+                queue.entries.pollFirst();
+                removed(entry, now, false);
+                expired.accept(entry);
+            }
+        }
+    }
+
+    private void removed(Entry entry, long now, boolean dispatched) {
+        size.decrementAndGet();
+        for (RequestQueueListener listener : listeners) {
+            listener.dequeued(entry.priority, now - entry.enqueuedAt, dispatched);
+        }
+    }
+
+    private final class PriorityQueue {
+        final RequestPriority priority;
+        final ArrayDeque<Entry> entries = new ArrayDeque<>();
+        long nonEmptySince;
+
+        PriorityQueue(RequestPriority priority) {
+            this.priority = priority;
+        }
+
+        boolean isStanding(long now) {
+            return !entries.isEmpty() && now - nonEmptySince > maxWait;
+        }
+    }
+
+    public static final class Entry {
+        final Object request;
+        final RequestPriority priority;
+        final long enqueuedAt;
+
+        public Entry(Object request, RequestPriority priority, long enqueuedAt) {
+            this.request = request;
+            this.priority = priority;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        public Object request() {
+            return request;
+        }
+    }
+}
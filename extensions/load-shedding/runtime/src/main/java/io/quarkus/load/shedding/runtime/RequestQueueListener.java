@@ -0,0 +1,17 @@
+package io.quarkus.load.shedding.runtime;
+
+import io.quarkus.load.shedding.RequestPriority;
+
+/**
+ * Observes the {@link RequestQueue}. Methods are called while holding the queue lock,
+ * so implementations must be fast and must not block.
+ */
+interface RequestQueueListener {
+    void enqueued(RequestPriority priority);
+
+    /**
+     * @param waitInNanos how long the request waited in the queue
+     * @param dispatched whether the request was dispatched or rejected because it waited for too long
+     */
+    void dequeued(RequestPriority priority, long waitInNanos, boolean dispatched);
+}
@@ -0,0 +1,63 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.load.shedding.RequestPriority;
+
+/**
+ * Exposes the {@link RequestQueue} depth and the time requests spent in it through Micrometer.
+ * Only registered when Micrometer is present.
+ */
+@Singleton
+public class RequestQueueMetrics implements RequestQueueListener {
+    private final AtomicInteger[] depths;
+    private final Timer[] dispatched;
+    private final Timer[] rejected;
+
+    @Inject
+    RequestQueueMetrics(MeterRegistry registry) {
+        RequestPriority[] priorities = RequestPriority.values();
+        depths = new AtomicInteger[priorities.length];
+        dispatched = new Timer[priorities.length];
+        rejected = new Timer[priorities.length];
+        for (RequestPriority priority : priorities) {
+            String tag = priority.name().toLowerCase(Locale.ROOT);
+            AtomicInteger depth = new AtomicInteger();
+            Gauge.builder("load.shedding.queue.depth", depth, AtomicInteger::get)
+                    .description("Number of requests waiting in the load shedding queue")
+                    .tag("priority", tag)
+                    .register(registry);
+            depths[priority.ordinal()] = depth;
+            dispatched[priority.ordinal()] = Timer.builder("load.shedding.queue.wait")
+                    .description("Time requests spent in the load shedding queue")
+                    .tag("priority", tag)
+                    .tag("outcome", "dispatched")
+                    .register(registry);
+            rejected[priority.ordinal()] = Timer.builder("load.shedding.queue.wait")
+                    .description("Time requests spent in the load shedding queue")
+                    .tag("priority", tag)
+                    .tag("outcome", "rejected")
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void enqueued(RequestPriority priority) {
+        depths[priority.ordinal()].incrementAndGet();
+    }
+
+    @Override
+    public void dequeued(RequestPriority priority, long waitInNanos, boolean dispatched) {
+        depths[priority.ordinal()].decrementAndGet();
+        Timer timer = dispatched ? this.dispatched[priority.ordinal()] : this.rejected[priority.ordinal()];
+        timer.record(waitInNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -29,6 +29,12 @@ public void report(String name, long durationInNs, boolean succeeded) {
                 .report(name, durationInNs, succeeded);
     }
 
+    @Override
+    public void reportClientSideCacheLookup(String name, boolean hit) {
+        reportedMetrics.computeIfAbsent(name, n -> new RedisMetrics(registry, n))
+                .reportClientSideCacheLookup(name, hit);
+    }
+
     private class RedisMetrics implements ObservableRedisMetrics {
         private final Tags tags;
         private final Counter operationCounter;
@@ -36,6 +42,9 @@ private class RedisMetrics implements ObservableRedisMetrics {
 
         private final Counter failureCounter;
         private final Timer timer;
+        // only registered when the client-side cache is used
+        private volatile Counter clientSideCacheHitCounter;
+        private volatile Counter clientSideCacheMissCounter;
         private String name;
 
         private RedisMetrics(MeterRegistry registry, String name) {
@@ -69,5 +78,26 @@ public void report(String name, long durationInNs, boolean succeeded) {
             }
             timer.record(durationInNs, TimeUnit.NANOSECONDS);
         }
+
+        @Override
+        public void reportClientSideCacheLookup(String name, boolean hit) {
+            if (clientSideCacheHitCounter == null) {
+                // registering the same meter again returns the existing one
+                // the hit counter is assigned last, as it is the one checked
+                clientSideCacheMissCounter = Counter.builder("redis.client-side-cache.gets")
+                        .description("The number of reads from the client-side cache")
+                        .tags(tags.and("result", "miss"))
+                        .register(registry);
+                clientSideCacheHitCounter = Counter.builder("redis.client-side-cache.gets")
+                        .description("The number of reads from the client-side cache")
+                        .tags(tags.and("result", "hit"))
+                        .register(registry);
+            }
+            if (hit) {
+                clientSideCacheHitCounter.increment();
+            } else {
+                clientSideCacheMissCounter.increment();
+            }
+        }
     }
 }
@@ -63,6 +63,24 @@ private WebSocketMetricConstants() {
      */
     public static final String CLIENT_BYTES = "quarkus.websockets.client.bytes";
 
+    /**
+     * Time it takes to send a message broadcast by a server endpoint to all the connections.
+     */
+    public static final String SERVER_BROADCAST = "quarkus.websockets.server.broadcast";
+    /**
+     * Number of connections a message broadcast by a server endpoint is sent to.
+     */
+    public static final String SERVER_BROADCAST_RECIPIENTS = "quarkus.websockets.server.broadcast.recipients";
+
+    /**
+     * Counts how many times the outbound data of a server connection exceeded the high watermark.
+     */
+    public static final String SERVER_OUTBOUND_SATURATED = "quarkus.websockets.server.outbound.saturated";
+    /**
+     * Counts the outbound messages of server connections discarded because the high watermark was exceeded.
+     */
+    public static final String SERVER_OUTBOUND_DROPPED = "quarkus.websockets.server.outbound.dropped";
+
     /**
      * {@link Direction} tag key.
      */
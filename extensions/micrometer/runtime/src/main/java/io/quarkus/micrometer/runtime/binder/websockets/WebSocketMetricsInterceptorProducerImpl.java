@@ -4,11 +4,15 @@
 import static io.quarkus.micrometer.runtime.binder.websockets.WebSocketMetricConstants.Direction.INBOUND;
 import static io.quarkus.micrometer.runtime.binder.websockets.WebSocketMetricConstants.Direction.OUTBOUND;
 
+import java.util.concurrent.TimeUnit;
+
 import jakarta.enterprise.context.Dependent;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.quarkus.websockets.next.runtime.spi.telemetry.WebSocketMetricsInterceptorProducer;
 
 @Dependent
@@ -47,8 +51,25 @@ public WebSocketMetricsInterceptor createServerMetricsInterceptor() {
                 .builder(WebSocketMetricConstants.SERVER_CONNECTION_ON_OPEN_ERROR)
                 .description("Number of failures occurred when opening server connection failed.")
                 .withRegistry(meterRegistry);
+        final Meter.MeterProvider<Timer> broadcastTimer = Timer
+                .builder(WebSocketMetricConstants.SERVER_BROADCAST)
+                .description("Time it takes to send a broadcast message to all the connections of server endpoints.")
+                .withRegistry(meterRegistry);
+        final Meter.MeterProvider<DistributionSummary> broadcastRecipients = DistributionSummary
+                .builder(WebSocketMetricConstants.SERVER_BROADCAST_RECIPIENTS)
+                .description("Number of connections a broadcast message is sent to by server endpoints.")
+                .withRegistry(meterRegistry);
+        final Meter.MeterProvider<Counter> outboundSaturatedCounter = Counter
+                .builder(WebSocketMetricConstants.SERVER_OUTBOUND_SATURATED)
+                .description("Number of times the outbound data of a server connection exceeded the high watermark.")
+                .withRegistry(meterRegistry);
+        final Meter.MeterProvider<Counter> outboundDroppedCounter = Counter
+                .builder(WebSocketMetricConstants.SERVER_OUTBOUND_DROPPED)
+                .description("Number of outbound messages dropped by server connections.")
+                .withRegistry(meterRegistry);
         return new WebSocketMetricsInterceptorImpl(messagesCounter, bytesCounter, closedConnectionCounter, serverErrorsCounter,
-                connectionOpenCounter, connectionOnOpenErrorsCounter);
+                connectionOpenCounter, connectionOnOpenErrorsCounter, broadcastTimer, broadcastRecipients,
+                outboundSaturatedCounter, outboundDroppedCounter);
     }
 
     @Override
@@ -77,8 +98,9 @@ public WebSocketMetricsInterceptor createClientMetricsInterceptor() {
                 .builder(WebSocketMetricConstants.CLIENT_CONNECTION_ON_OPEN_ERROR)
                 .description("Number of failures occurred when opening client connection failed.")
                 .withRegistry(meterRegistry);
+        // Client connections cannot broadcast messages and their outbound data is not limited
         return new WebSocketMetricsInterceptorImpl(messagesCounter, bytesCounter, closedConnectionCounter, clientErrorsCounter,
-                connectionOpenCounter, connectionOnOpenErrorsCounter);
+                connectionOpenCounter, connectionOnOpenErrorsCounter, null, null, null, null);
     }
 
     private static final class WebSocketMetricsInterceptorImpl implements WebSocketMetricsInterceptor {
@@ -89,17 +111,27 @@ private static final class WebSocketMetricsInterceptorImpl implements WebSocketM
         private final Meter.MeterProvider<Counter> errorsCounter;
         private final Meter.MeterProvider<Counter> connectionOpenCounter;
         private final Meter.MeterProvider<Counter> connectionOnOpenErrorsCounter;
+        private final Meter.MeterProvider<Timer> broadcastTimer;
+        private final Meter.MeterProvider<DistributionSummary> broadcastRecipients;
+        private final Meter.MeterProvider<Counter> outboundSaturatedCounter;
+        private final Meter.MeterProvider<Counter> outboundDroppedCounter;
 
         private WebSocketMetricsInterceptorImpl(Meter.MeterProvider<Counter> messagesCounter,
                 Meter.MeterProvider<Counter> bytesCounter, Meter.MeterProvider<Counter> closedConnectionCounter,
                 Meter.MeterProvider<Counter> errorsCounter, Meter.MeterProvider<Counter> connectionOpenCounter,
-                Meter.MeterProvider<Counter> connectionOnOpenErrorsCounter) {
+                Meter.MeterProvider<Counter> connectionOnOpenErrorsCounter, Meter.MeterProvider<Timer> broadcastTimer,
+                Meter.MeterProvider<DistributionSummary> broadcastRecipients,
+                Meter.MeterProvider<Counter> outboundSaturatedCounter, Meter.MeterProvider<Counter> outboundDroppedCounter) {
             this.messagesCounter = messagesCounter;
             this.bytesCounter = bytesCounter;
             this.closedConnectionCounter = closedConnectionCounter;
             this.errorsCounter = errorsCounter;
             this.connectionOpenCounter = connectionOpenCounter;
             this.connectionOnOpenErrorsCounter = connectionOnOpenErrorsCounter;
+            this.broadcastTimer = broadcastTimer;
+            this.broadcastRecipients = broadcastRecipients;
+            this.outboundSaturatedCounter = outboundSaturatedCounter;
+            this.outboundDroppedCounter = outboundDroppedCounter;
         }
 
         @Override
@@ -119,6 +151,28 @@ public void onMessageReceived(byte[] data, String route) {
             bytesCounter.withTags(URI_TAG_KEY, route, DIRECTION_TAG_KEY, INBOUND.toString()).increment(data.length);
         }
 
+        @Override
+        public void onBroadcast(int recipients, long durationInNanos, String route) {
+            if (broadcastTimer != null) {
+                broadcastTimer.withTag(URI_TAG_KEY, route).record(durationInNanos, TimeUnit.NANOSECONDS);
+                broadcastRecipients.withTag(URI_TAG_KEY, route).record(recipients);
+            }
+        }
+
+        @Override
+        public void onHighWatermarkExceeded(String route) {
+            if (outboundSaturatedCounter != null) {
+                outboundSaturatedCounter.withTag(URI_TAG_KEY, route).increment();
+            }
+        }
+
+        @Override
+        public void onMessageDropped(String route) {
+            if (outboundDroppedCounter != null) {
+                outboundDroppedCounter.withTag(URI_TAG_KEY, route).increment();
+            }
+        }
+
         @Override
         public void onConnectionOpened(String route) {
             connectionOpenCounter.withTag(URI_TAG_KEY, route).increment();
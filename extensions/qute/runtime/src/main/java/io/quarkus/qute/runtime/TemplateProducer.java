@@ -29,6 +29,7 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.impl.LazyValue;
+import io.quarkus.qute.ByteSink;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.Expression;
 import io.quarkus.qute.Location;
@@ -396,6 +397,11 @@ public CompletionStage<Void> consume(Consumer<String> consumer) {
                 return templateInstance().consume(consumer);
             }
 
+            @Override
+            public CompletionStage<Void> consumeBytes(ByteSink sink) {
+                return templateInstance().consumeBytes(sink);
+            }
+
             @Override
             protected Engine engine() {
                 return engine;
@@ -9,10 +9,13 @@
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import jakarta.inject.Inject;
@@ -23,6 +26,7 @@
 import org.junit.jupiter.api.extension.RegisterExtension;
 import org.testcontainers.containers.GenericContainer;
 
+import io.quarkus.arc.Arc;
 import io.quarkus.cache.redis.runtime.RedisCacheImpl;
 import io.quarkus.cache.redis.runtime.RedisCacheInfo;
 import io.quarkus.test.QuarkusUnitTest;
@@ -621,6 +625,179 @@ void testInvalidation() {
         assertThat(getAllKeys()).hasSize(1);
     }
 
+    @Test
+    public void testRefreshAfterWrite() throws InterruptedException {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.refreshAfterWrite = Optional.of(Duration.ofSeconds(1));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        assertThat(cache.get(k, s -> "bonjour").await().indefinitely()).isEqualTo("hello");
+        Thread.sleep(1500);
+        // the stale value is returned while it is reloaded
+        assertThat(cache.get(k, s -> "bonjour").await().indefinitely()).isEqualTo("hello");
+        await().until(() -> "bonjour".equals(cache.getOrNull(k, String.class).await().indefinitely()));
+
+        info.expireAfterWrite = Optional.empty();
+        assertThatThrownBy(() -> new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void testFailedRefreshIsRetriedAfterBackoff() throws InterruptedException {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "failing-refresh";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.refreshAfterWrite = Optional.of(Duration.ofSeconds(1));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        Thread.sleep(1500);
+
+        List<Boolean> requestContextActive = new CopyOnWriteArrayList<>();
+        Function<String, String> failing = s -> {
+            // the reload outlives the caller so it runs within its own request context
+            requestContextActive.add(Arc.container().requestContext().isActive());
+            throw new IllegalStateException("Reload failed");
+        };
+        for (int i = 0; i < 10; i++) {
+            // the stale value is kept, the reload is not attempted again on every read
+            assertThat(cache.get(k, failing).await().indefinitely()).isEqualTo("hello");
+            Thread.sleep(50);
+        }
+        assertThat(requestContextActive).containsExactly(true);
+    }
+
+    @Test
+    public void testNearCache() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "near";
+        info.valueType = String.class;
+        info.nearCacheEnabled = true;
+        RedisCacheImpl cache1 = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        RedisCacheImpl cache2 = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        // once the near cache is subscribed to invalidations, values are served without reading Redis
+        await().untilAsserted(() -> {
+            cache1.put(k, "hello").await().indefinitely();
+            assertThat(cache1.get(k, s -> "computed").await().indefinitely()).isEqualTo("hello");
+            redis.send(Request.cmd(Command.DEL).arg("cache:near:" + k)).await().indefinitely();
+            assertThat(cache1.getOrNull(k, String.class).await().indefinitely()).isEqualTo("hello");
+        });
+
+        // modifications through another instance are propagated
+        cache2.put(k, "bonjour").await().indefinitely();
+        await().until(() -> "bonjour".equals(cache1.getOrNull(k, String.class).await().indefinitely()));
+
+        cache2.invalidate(k).await().indefinitely();
+        await().until(() -> cache1.getOrNull(k, String.class).await().indefinitely() == null);
+
+        cache1.put(k, "hallo").await().indefinitely();
+        assertThat(cache1.get(k, s -> "computed").await().indefinitely()).isEqualTo("hallo");
+        cache2.invalidateAll().await().indefinitely();
+        await().until(() -> "computed".equals(cache1.get(k, s -> "computed").await().indefinitely()));
+
+        // values loaded by another instance are propagated, even if the key was missing from Redis
+        await().untilAsserted(() -> {
+            redis.send(Request.cmd(Command.DEL).arg("cache:near:" + k)).await().indefinitely();
+            assertThat(cache1.getOrNull(k, String.class).await().indefinitely()).isEqualTo("computed");
+        });
+        assertThat(cache2.get(k, s -> "loaded").await().indefinitely()).isEqualTo("loaded");
+        await().until(() -> "loaded".equals(cache1.getOrNull(k, String.class).await().indefinitely()));
+
+        // once closed, the near cache is not used anymore
+        cache1.close();
+        redis.send(Request.cmd(Command.DEL).arg("cache:near:" + k)).await().indefinitely();
+        assertThat(cache1.getOrNull(k, String.class).await().indefinitely()).isNull();
+        cache2.close();
+    }
+
+    @Test
+    public void testNearCacheResubscription() {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "near-resubscription";
+        info.valueType = String.class;
+        info.nearCacheEnabled = true;
+        RedisCacheImpl cache1 = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        RedisCacheImpl cache2 = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        Uni<String> get = cache1.getOrNull(k, String.class);
+        Uni<Map<String, String>> getAll = cache1.getAll(List.of(k), missing -> Uni.createFrom().item(Map.of()));
+        await().untilAsserted(() -> {
+            cache1.put(k, "hello").await().indefinitely();
+            assertThat(get.await().indefinitely()).isEqualTo("hello");
+            redis.send(Request.cmd(Command.DEL).arg("cache:near-resubscription:" + k)).await().indefinitely();
+            assertThat(get.await().indefinitely()).isEqualTo("hello");
+        });
+        Map<String, String> all = getAll.await().indefinitely();
+        assertThat(all).containsExactly(Map.entry(k, "hello"));
+
+        // the near cache is looked up again when the same Uni is subscribed again
+        cache2.invalidate(k).await().indefinitely();
+        await().until(() -> get.await().indefinitely() == null);
+        assertThat(getAll.await().indefinitely()).isEmpty();
+        assertThat(all).containsExactly(Map.entry(k, "hello"));
+
+        cache1.close();
+        cache2.close();
+    }
+
+    @Test
+    public void testGetAll() {
+        String k1 = UUID.randomUUID().toString();
+        String k2 = UUID.randomUUID().toString();
+        String k3 = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "bulk";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        cache.put(k1, "one").await().indefinitely();
+
+        List<Set<String>> loaded = new ArrayList<>();
+        Map<String, String> result = cache.<String, String> getAll(List.of(k1, k2, k3), missing -> {
+            loaded.add(missing);
+            return Uni.createFrom().item(Map.of(k2, "two"));
+        }).await().indefinitely();
+
+        // only the missing keys are loaded, keys absent from the loaded map are not cached
+        assertThat(result).containsExactly(Map.entry(k1, "one"), Map.entry(k2, "two"));
+        assertThat(loaded).containsExactly(Set.of(k2, k3));
+        assertThat(getAllKeys()).contains("cache:bulk:" + k2).doesNotContain("cache:bulk:" + k3);
+        assertThat(cache.getOrNull(k2, String.class).await().indefinitely()).isEqualTo("two");
+    }
+
+    @Test
+    public void testGetAllWithBlockingLoader() throws InterruptedException {
+        String k = UUID.randomUUID().toString();
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "bulk-refreshed";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.refreshAfterWrite = Optional.of(Duration.ofSeconds(1));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, () -> true);
+
+        List<Boolean> onWorkerThread = new CopyOnWriteArrayList<>();
+        Function<Set<String>, Uni<Map<String, String>>> loader = missing -> {
+            // the loader of a synchronous method blocks, it must not run on the event loop
+            onWorkerThread.add(io.vertx.core.Context.isOnWorkerThread());
+            return Uni.createFrom().item(Map.of(k, "value-" + onWorkerThread.size()));
+        };
+        assertThat(cache.getAll(List.of(k), loader).await().indefinitely()).containsExactly(Map.entry(k, "value-1"));
+        assertThat(cache.getAll(List.of(k), loader).await().indefinitely()).containsExactly(Map.entry(k, "value-1"));
+        Thread.sleep(1500);
+        // the stale value is returned while it is reloaded
+        assertThat(cache.getAll(List.of(k), loader).await().indefinitely()).containsExactly(Map.entry(k, "value-1"));
+        await().until(() -> "value-2".equals(cache.getOrNull(k, String.class).await().indefinitely()));
+        assertThat(onWorkerThread).containsExactly(true, true);
+    }
+
     private Set<String> getAllKeys() {
         return redis.send(Request.cmd(Command.KEYS).arg("*"))
                 .map(r -> {
@@ -4,10 +4,19 @@
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -22,6 +31,7 @@
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CompositeCacheKey;
 import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.CacheRefresh;
 import io.quarkus.redis.client.RedisClientName;
 import io.quarkus.redis.runtime.datasource.Marshaller;
 import io.quarkus.runtime.BlockingOperationControl;
@@ -30,6 +40,7 @@
 import io.smallrye.mutiny.unchecked.Unchecked;
 import io.smallrye.mutiny.unchecked.UncheckedFunction;
 import io.smallrye.mutiny.vertx.MutinyHelper;
+import io.vertx.core.Context;
 import io.vertx.core.http.ConnectionPoolTooBusyException;
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.redis.client.Command;
@@ -57,6 +68,11 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
+    private final RedisNearCache nearCache;
+
+    private final ConcurrentMap<String, RefreshState> refreshes = new ConcurrentHashMap<>();
+    private final long maxRefreshBackoffNanos;
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
 
         this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
@@ -88,6 +104,24 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
         }
         this.marshaller.add(CompositeCacheKey.class);
         this.redis = redis;
+
+        if (cacheInfo.refreshAfterWrite.isPresent()) {
+            if (cacheInfo.expireAfterWrite.isEmpty() || cacheInfo.expireAfterAccess.isPresent()) {
+                throw new IllegalStateException("The refresh-after-write configuration value requires an expire-after-write "
+                        + "configuration value and cannot be used with expire-after-access, check the configuration of cache ["
+                        + getName() + "]");
+            }
+            this.maxRefreshBackoffNanos = cacheInfo.refreshAfterWrite.get().toNanos();
+        } else {
+            this.maxRefreshBackoffNanos = 0;
+        }
+
+        if (cacheInfo.nearCacheEnabled) {
+            this.nearCache = new RedisNearCache(cacheInfo, getKeyPrefix(), vertx, redis);
+            this.nearCache.subscribe();
+        } else {
+            this.nearCache = null;
+        }
     }
 
     private static boolean isRecomputableError(Throwable error) {
@@ -158,17 +192,36 @@ private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
         // val = deserialize(GET K)
         // if (val == null) => SET K computation.apply(K)
         // else => return val
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
         boolean isWorkerThread = blockingAllowedSupplier.get();
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        Runnable onStale = null;
+        if (cacheInfo.refreshAfterWrite.isPresent()) {
+            Context context = io.vertx.core.Vertx.currentContext();
+            onStale = new Runnable() {
+                @Override
+                public void run() {
+                    refresh(actualKey, encodedKey, new Supplier<Uni<V>>() {
+                        @Override
+                        public Uni<V> get() {
+                            return CacheRefresh.reloadOnWorkerThread(key, valueLoader, context);
+                        }
+                    });
+                }
+            };
+        }
+        Runnable refreshIfStale = onStale;
+        return withNearCache(actualKey, withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
                 if (cacheInfo.useOptimisticLocking) {
                     startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, marshaller));
+                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, marshaller,
+                                    refreshIfStale));
                 } else {
-                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, marshaller).get();
+                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, marshaller,
+                            refreshIfStale).get();
                 }
 
                 return startingPoint
@@ -192,13 +245,14 @@ public Uni<?> apply(V value) {
                                                 throw new IllegalArgumentException("Cannot cache `null` value");
                                             }
                                             byte[] encodedValue = marshaller.encode(value);
-                                            Uni<V> result;
+                                            Uni<Void> stored;
                                             if (cacheInfo.useOptimisticLocking) {
-                                                result = multi(connection, set(connection, encodedKey, encodedValue))
-                                                        .replaceWith(value);
+                                                stored = multi(connection, set(connection, encodedKey, encodedValue));
                                             } else {
-                                                result = set(connection, encodedKey, encodedValue).replaceWith(value);
+                                                stored = set(connection, encodedKey, encodedValue);
                                             }
+                                            Uni<V> result = stored.call(() -> publishLoaded(connection, actualKey))
+                                                    .replaceWith(value);
                                             if (isWorkerThread) {
                                                 return result.runSubscriptionOn(
                                                         MutinyHelper.blockingExecutor(vertx.getDelegate(), false));
@@ -210,7 +264,7 @@ public Uni<?> apply(V value) {
                             }
                         }));
             }
-        })
+        }))
 
                 .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(new Function<Throwable, Uni<? extends V>>() {
                     @Override
@@ -238,16 +292,34 @@ public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> va
     }
 
     private <K, V> Uni<V> getAsync(K key, Type type, Function<K, Uni<V>> valueLoader) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        Runnable onStale = null;
+        if (cacheInfo.refreshAfterWrite.isPresent()) {
+            onStale = new Runnable() {
+                @Override
+                public void run() {
+                    refresh(actualKey, encodedKey, new Supplier<Uni<V>>() {
+                        @Override
+                        public Uni<V> get() {
+                            return valueLoader.apply(key);
+                        }
+                    });
+                }
+            };
+        }
+        Runnable refreshIfStale = onStale;
+        return withNearCache(actualKey, withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
                 if (cacheInfo.useOptimisticLocking) {
                     startingPoint = watch(connection, encodedKey)
-                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, marshaller));
+                            .chain(new GetFromConnectionSupplier<>(connection, type, encodedKey, marshaller,
+                                    refreshIfStale));
                 } else {
-                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, marshaller).get();
+                    startingPoint = new GetFromConnectionSupplier<V>(connection, type, encodedKey, marshaller,
+                            refreshIfStale).get();
                 }
 
                 return startingPoint
@@ -264,24 +336,192 @@ public Uni<V> apply(RedisConnection connection) {
                                 return getter
                                         .chain(value -> {
                                             byte[] encodedValue = marshaller.encode(value);
+                                            Uni<Void> stored;
                                             if (cacheInfo.useOptimisticLocking) {
-                                                return multi(connection, set(connection, encodedKey, encodedValue))
-                                                        .replaceWith(value);
+                                                stored = multi(connection, set(connection, encodedKey, encodedValue));
                                             } else {
-                                                return set(connection, encodedKey, encodedValue)
-                                                        .replaceWith(value);
+                                                stored = set(connection, encodedKey, encodedValue);
                                             }
+                                            return stored.call(() -> publishLoaded(connection, actualKey))
+                                                    .replaceWith(value);
                                         });
                             }
                         });
             }
-        })
+        }))
                 .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(e -> {
                     log.warn("Unable to connect to Redis, recomputing cached value", e);
                     return valueLoader.apply(key);
                 });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valueLoader) {
+        // MGET all the keys, load the missing values at once and store them with a single pipelined batch of SET
+        enforceDefaultType("getAll");
+        if (keys.isEmpty()) {
+            return Uni.createFrom().item(Collections.emptyMap());
+        }
+        boolean isWorkerThread = blockingAllowedSupplier.get();
+        Context context = io.vertx.core.Vertx.currentContext();
+        // the near cache is looked up and the result is collected for each subscription
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Map<K, V>>>() {
+            @Override
+            public Uni<? extends Map<K, V>> get() {
+                return getAll(keys, valueLoader, isWorkerThread, context);
+            }
+        });
+    }
+
+    private <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valueLoader,
+            boolean isWorkerThread, Context context) {
+        Map<K, V> result = new LinkedHashMap<>();
+        Map<K, String> actualKeys = new LinkedHashMap<>();
+        for (K key : keys) {
+            String actualKey = computeActualKey(encodeKey(key));
+            V local = nearCache != null ? nearCache.get(actualKey) : null;
+            if (local != null) {
+                result.put(key, local);
+            } else {
+                actualKeys.put(key, actualKey);
+            }
+        }
+        if (actualKeys.isEmpty()) {
+            return Uni.createFrom().item(result);
+        }
+        long stamp = nearCache != null ? nearCache.stamp() : 0;
+        List<Request> reads = new ArrayList<>();
+        Request mget = Request.cmd(Command.MGET);
+        reads.add(mget);
+        for (String actualKey : actualKeys.values()) {
+            mget.arg(marshaller.encode(actualKey));
+            if (cacheInfo.refreshAfterWrite.isPresent()) {
+                // the age of the entries is derived from their remaining time to live
+                reads.add(Request.cmd(Command.PTTL).arg(marshaller.encode(actualKey)));
+            }
+        }
+        return withConnection(new Function<RedisConnection, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(RedisConnection connection) {
+                return connection.batch(reads).chain(new Function<List<Response>, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<? extends Map<K, V>> apply(List<Response> responses) {
+                        Response values = responses.get(0);
+                        Set<K> missingKeys = new LinkedHashSet<>();
+                        int i = 0;
+                        for (Map.Entry<K, String> entry : actualKeys.entrySet()) {
+                            V value = marshaller.decode(classOfValue, values.get(i++));
+                            if (value == null) {
+                                missingKeys.add(entry.getKey());
+                            } else {
+                                result.put(entry.getKey(), value);
+                                if (nearCache != null) {
+                                    nearCache.put(entry.getValue(), value, stamp);
+                                }
+                                if (cacheInfo.refreshAfterWrite.isPresent() && isStale(responses.get(i))) {
+                                    refreshOne(entry.getKey(), entry.getValue(), valueLoader, isWorkerThread,
+                                            context);
+                                }
+                            }
+                        }
+                        if (missingKeys.isEmpty()) {
+                            return Uni.createFrom().item(result);
+                        }
+                        return loadAll(missingKeys, valueLoader, isWorkerThread)
+                                .chain(new Function<Map<K, V>, Uni<? extends Map<K, V>>>() {
+                                    @Override
+                                    public Uni<? extends Map<K, V>> apply(Map<K, V> loaded) {
+                                        List<Request> sets = new ArrayList<>();
+                                        for (K key : missingKeys) {
+                                            V value = loaded.get(key);
+                                            if (value != null) {
+                                                result.put(key, value);
+                                                Request set = Request.cmd(Command.SET)
+                                                        .arg(marshaller.encode(actualKeys.get(key)))
+                                                        .arg(marshaller.encode(value));
+                                                if (cacheInfo.expireAfterWrite.isPresent()) {
+                                                    set.arg("EX").arg(cacheInfo.expireAfterWrite.get().toSeconds());
+                                                }
+                                                sets.add(set);
+                                                if (nearCache != null) {
+                                                    sets.add(nearCache.publishRequest(actualKeys.get(key)));
+                                                }
+                                            }
+                                        }
+                                        if (sets.isEmpty()) {
+                                            return Uni.createFrom().item(result);
+                                        }
+                                        Uni<Map<K, V>> stored = connection.batch(sets).replaceWith(result);
+                                        if (isWorkerThread) {
+                                            return stored.runSubscriptionOn(
+                                                    MutinyHelper.blockingExecutor(vertx.getDelegate(), false));
+                                        }
+                                        return stored;
+                                    }
+                                });
+                    }
+                });
+            }
+        }).onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(new Function<Throwable, Uni<? extends Map<K, V>>>() {
+            @Override
+            public Uni<? extends Map<K, V>> apply(Throwable e) {
+                log.warn("Unable to connect to Redis, recomputing cached values", e);
+                return loadAll(new LinkedHashSet<>(keys), valueLoader, isWorkerThread);
+            }
+        });
+    }
+
+    /**
+     * Invokes a bulk value loader. The loader of a synchronous method blocks, so it is offloaded to a worker thread
+     * when the caller is allowed to block, as {@link #computeValue(Object, Function, boolean)} does.
+     */
+    private <K, V> Uni<Map<K, V>> loadAll(Set<K> keys, Function<Set<K>, Uni<Map<K, V>>> valueLoader,
+            boolean isWorkerThread) {
+        if (isWorkerThread) {
+            return Uni.createFrom().deferred(new Supplier<Uni<? extends Map<K, V>>>() {
+                @Override
+                public Uni<? extends Map<K, V>> get() {
+                    return valueLoader.apply(keys);
+                }
+            }).runSubscriptionOn(MutinyHelper.blockingExecutor(vertx.getDelegate(), false))
+                    .emitOn(MutinyHelper.blockingExecutor(vertx.getDelegate(), false));
+        }
+        return valueLoader.apply(keys);
+    }
+
+    /**
+     * Reloads a single stale entry returned by {@link #getAll(Collection, Function)}. A bulk value loader may block, so
+     * it is run on a worker thread if the caller was allowed to block.
+     */
+    private <K, V> void refreshOne(K key, String actualKey, Function<Set<K>, Uni<Map<K, V>>> valueLoader,
+            boolean isWorkerThread, Context context) {
+        Function<K, Uni<V>> singleLoader = new Function<K, Uni<V>>() {
+            @Override
+            public Uni<V> apply(K k) {
+                return valueLoader.apply(Set.of(k)).map(new Function<Map<K, V>, V>() {
+                    @Override
+                    public V apply(Map<K, V> loaded) {
+                        return loaded.get(k);
+                    }
+                });
+            }
+        };
+        refresh(actualKey, marshaller.encode(actualKey), new Supplier<Uni<V>>() {
+            @Override
+            public Uni<V> get() {
+                if (isWorkerThread) {
+                    return CacheRefresh.reloadOnWorkerThread(key, new Function<K, V>() {
+                        @Override
+                        public V apply(K k) {
+                            return singleLoader.apply(k).await().indefinitely();
+                        }
+                    }, context);
+                }
+                return singleLoader.apply(key);
+            }
+        });
+    }
+
     @Override
     public <K, V> Uni<Void> put(K key, V value) {
         return put(key, new StaticSupplier<>(value));
@@ -289,13 +529,19 @@ public <K, V> Uni<Void> put(K key, V value) {
 
     @Override
     public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
         byte[] encodedValue = marshaller.encode(supplier.get());
         return withConnection(new Function<RedisConnection, Uni<Void>>() {
             @Override
             public Uni<Void> apply(RedisConnection connection) {
                 return set(connection, encodedKey, encodedValue);
             }
+        }).call(new Supplier<Uni<?>>() {
+            @Override
+            public Uni<?> get() {
+                return publishInvalidation(actualKey);
+            }
         });
     }
 
@@ -325,13 +571,14 @@ public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
     }
 
     private <K, V> Uni<V> getOrDefault(K key, Type type, V defaultValue) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        return withNearCache(actualKey, withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
-                return doGet(redisConnection, encodedKey, type, marshaller);
+                return doGet(redisConnection, encodedKey, type, marshaller, null);
             }
-        }).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
+        })).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
     }
 
     @Override
@@ -351,19 +598,26 @@ public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
     }
 
     private <K, V> Uni<V> getOrNull(K key, Type type) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        return withNearCache(actualKey, withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
-                return doGet(redisConnection, encodedKey, type, marshaller);
+                return doGet(redisConnection, encodedKey, type, marshaller, null);
             }
-        });
+        }));
     }
 
     @Override
     public Uni<Void> invalidate(Object key) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return redis.send(Request.cmd(Command.DEL).arg(encodedKey))
+        String actualKey = computeActualKey(encodeKey(key));
+        return redis.send(Request.cmd(Command.DEL).arg(marshaller.encode(actualKey)))
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        return publishInvalidation(actualKey);
+                    }
+                })
                 .replaceWithVoid();
     }
 
@@ -399,6 +653,13 @@ public Uni<?> apply(Set<String> setOfKeys) {
                 }
             }
         })
+                .call(new Supplier<Uni<?>>() {
+                    @Override
+                    public Uni<?> get() {
+                        // entries may still be cached locally even if they have expired in Redis
+                        return publishInvalidation(RedisNearCache.INVALIDATE_ALL);
+                    }
+                })
                 .replaceWithVoid();
     }
 
@@ -457,6 +718,56 @@ private String getKeyPrefix() {
         }
     }
 
+    /**
+     * Returns the value of the given entry from the near cache, if any, or subscribes to the given {@code Uni} and stores
+     * the value it emits in the near cache otherwise. The near cache is looked up for each subscription, so that
+     * a resubscription doesn't replay a value that was invalidated in the meantime.
+     */
+    private <V> Uni<V> withNearCache(String actualKey, Uni<V> uni) {
+        if (nearCache == null) {
+            return uni;
+        }
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> get() {
+                V local = nearCache.get(actualKey);
+                if (local != null) {
+                    return Uni.createFrom().item(local);
+                }
+                long stamp = nearCache.stamp();
+                return uni.invoke(new Consumer<V>() {
+                    @Override
+                    public void accept(V value) {
+                        nearCache.put(actualKey, value, stamp);
+                    }
+                });
+            }
+        });
+    }
+
+    private Uni<Void> publishInvalidation(String actualKey) {
+        if (nearCache == null) {
+            return Uni.createFrom().voidItem();
+        }
+        return nearCache.publish(actualKey);
+    }
+
+    private Uni<Void> publishLoaded(RedisConnection connection, String actualKey) {
+        if (nearCache == null) {
+            return Uni.createFrom().voidItem();
+        }
+        return connection.send(nearCache.publishRequest(actualKey)).replaceWithVoid();
+    }
+
+    /**
+     * Closes the near cache subscription, if any.
+     */
+    public void close() {
+        if (nearCache != null) {
+            nearCache.close();
+        }
+    }
+
     private <X> Uni<X> withConnection(Function<RedisConnection, Uni<X>> function) {
         return redis.connect()
                 .chain(new Function<RedisConnection, Uni<? extends X>>() {
@@ -480,8 +791,21 @@ private Uni<Void> watch(RedisConnection connection, byte[] keyToWatch) {
     }
 
     private <X> Uni<X> doGet(RedisConnection connection, byte[] encoded, Type clazz,
-            Marshaller marshaller) {
-        if (cacheInfo.expireAfterAccess.isPresent()) {
+            Marshaller marshaller, Runnable onStale) {
+        if (onStale != null) {
+            // the age of the entry is derived from its remaining time to live
+            return connection.batch(List.of(Request.cmd(Command.GET).arg(encoded), Request.cmd(Command.PTTL).arg(encoded)))
+                    .map(new Function<List<Response>, X>() {
+                        @Override
+                        public X apply(List<Response> responses) {
+                            X value = marshaller.decode(clazz, responses.get(0));
+                            if (value != null && isStale(responses.get(1))) {
+                                onStale.run();
+                            }
+                            return value;
+                        }
+                    });
+        } else if (cacheInfo.expireAfterAccess.isPresent()) {
             Duration duration = cacheInfo.expireAfterAccess.get();
             return connection.send(Request.cmd(Command.GETEX).arg(encoded).arg("EX").arg(duration.toSeconds()))
                     .map(new Function<Response, X>() {
@@ -501,6 +825,82 @@ public X apply(Response r) {
         }
     }
 
+    private boolean isStale(Response pttl) {
+        long remaining = pttl == null ? -1 : pttl.toLong();
+        if (remaining < 0) {
+            // the key has no time to live, or has expired in the meantime
+            return false;
+        }
+        long age = cacheInfo.expireAfterWrite.get().toMillis() - remaining;
+        return age >= cacheInfo.refreshAfterWrite.get().toMillis();
+    }
+
+    /**
+     * Reloads the value of the given entry asynchronously, unless this application instance is already reloading it or
+     * a previous reload failed less than a backoff delay ago. The entry is only replaced if it was not invalidated in the
+     * meantime.
+     */
+    private <V> void refresh(String actualKey, byte[] encodedKey, Supplier<Uni<V>> valueLoader) {
+        RefreshState state = refreshes.computeIfAbsent(actualKey, new Function<String, RefreshState>() {
+            @Override
+            public RefreshState apply(String k) {
+                return new RefreshState();
+            }
+        });
+        if (!state.start(System.nanoTime())) {
+            return;
+        }
+        Uni<V> reload;
+        try {
+            reload = valueLoader.get();
+        } catch (Throwable t) {
+            reload = Uni.createFrom().failure(t);
+        }
+        reload.chain(new Function<V, Uni<?>>() {
+            @Override
+            public Uni<?> apply(V value) {
+                if (value == null) {
+                    return Uni.createFrom().voidItem();
+                }
+                Request request = Request.cmd(Command.SET).arg(encodedKey).arg(marshaller.encode(value)).arg("XX")
+                        .arg("EX").arg(cacheInfo.expireAfterWrite.get().toSeconds());
+                return redis.send(request)
+                        .call(new Supplier<Uni<?>>() {
+                            @Override
+                            public Uni<?> get() {
+                                return publishInvalidation(actualKey);
+                            }
+                        });
+            }
+        }).subscribe().with(new Consumer<Object>() {
+            @Override
+            public void accept(Object ignored) {
+                refreshes.remove(actualKey, state);
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable t) {
+                // the stale value is reloaded again once the backoff delay has elapsed
+                long now = System.nanoTime();
+                int failures = state.failed(now, maxRefreshBackoffNanos);
+                if (failures == 1) {
+                    log.warnf(t, "Unable to refresh key %s of cache %s, the stale value is kept", actualKey, getName());
+                } else {
+                    log.debugf(t, "Unable to refresh key %s of cache %s after %s attempts, the stale value is kept",
+                            actualKey, getName(), failures);
+                }
+                // the entries that failed to reload have expired once the expire-after-write duration has elapsed
+                long expireAfterWriteNanos = cacheInfo.expireAfterWrite.get().toNanos();
+                refreshes.values().removeIf(new Predicate<RefreshState>() {
+                    @Override
+                    public boolean test(RefreshState s) {
+                        return s.isObsolete(now, expireAfterWriteNanos);
+                    }
+                });
+            }
+        });
+    }
+
     private Uni<Void> set(RedisConnection connection, byte[] key, byte[] value) {
         Request request = Request.cmd(Command.SET).arg(key).arg(value);
         if (cacheInfo.expireAfterWrite.isPresent()) {
@@ -544,17 +944,53 @@ public V get() {
         private final Type clazz;
         private final byte[] encodedKey;
         private final Marshaller marshaller;
+        private final Runnable onStale;
 
-        public GetFromConnectionSupplier(RedisConnection connection, Type clazz, byte[] encodedKey, Marshaller marshaller) {
+        public GetFromConnectionSupplier(RedisConnection connection, Type clazz, byte[] encodedKey, Marshaller marshaller,
+                Runnable onStale) {
             this.connection = connection;
             this.clazz = clazz;
             this.encodedKey = encodedKey;
             this.marshaller = marshaller;
+            this.onStale = onStale;
         }
 
         @Override
         public Uni<V> get() {
-            return doGet(connection, encodedKey, clazz, marshaller);
+            return doGet(connection, encodedKey, clazz, marshaller, onStale);
+        }
+    }
+
+    /**
+     * The state of the reloads of a stale entry. A single reload runs at a time, and a failed reload is only attempted
+     * again once a backoff delay, doubling after each failure, has elapsed.
+     */
+    private static final class RefreshState {
+
+        private boolean refreshing;
+        private long retryAt;
+        private int failures;
+
+        synchronized boolean start(long now) {
+            if (refreshing || (failures > 0 && now - retryAt < 0)) {
+                return false;
+            }
+            refreshing = true;
+            return true;
+        }
+
+        /**
+         * @return the number of consecutive failed reloads
+         */
+        synchronized int failed(long now, long maxBackoffNanos) {
+            failures++;
+            retryAt = now + CacheRefresh.backoffNanos(failures, maxBackoffNanos);
+            refreshing = false;
+            return failures;
+        }
+
+        synchronized boolean isObsolete(long now, long expireAfterWriteNanos) {
+            return !refreshing && now - retryAt >= expireAfterWriteNanos;
         }
     }
 
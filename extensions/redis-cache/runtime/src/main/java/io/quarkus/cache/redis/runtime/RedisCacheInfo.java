@@ -22,6 +22,11 @@ public class RedisCacheInfo {
      */
     public Optional<Duration> expireAfterWrite = Optional.empty();
 
+    /**
+     * The duration after which an item stored in the cache is reloaded asynchronously when read
+     */
+    public Optional<Duration> refreshAfterWrite = Optional.empty();
+
     /**
      * the key prefix allowing to identify the keys belonging to the cache.
      * If not set, use "cache:$cache-name"
@@ -51,4 +56,19 @@ public class RedisCacheInfo {
      * no {@code COUNT} argument is present.
      */
     public OptionalInt invalidationScanSize = OptionalInt.empty();
+
+    /**
+     * Whether values read from Redis are also cached in memory
+     */
+    public boolean nearCacheEnabled = false;
+
+    /**
+     * The maximum number of entries of the near cache
+     */
+    public long nearCacheMaximumSize = 10_000;
+
+    /**
+     * The time to live of the entries of the near cache, the {@link #expireAfterWrite} value is used if not set
+     */
+    public Optional<Duration> nearCacheExpireAfterWrite = Optional.empty();
 }
@@ -43,6 +43,12 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.expireAfterWrite = defaultRuntimeConfig.ttl();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = namedRuntimeConfig.refreshAfterWrite();
+                } else if (defaultRuntimeConfig.refreshAfterWrite().isPresent()) {
+                    cacheInfo.refreshAfterWrite = defaultRuntimeConfig.refreshAfterWrite();
+                }
+
                 if (namedRuntimeConfig != null && namedRuntimeConfig.prefix().isPresent()) {
                     cacheInfo.prefix = namedRuntimeConfig.prefix().get();
                 } else if (defaultRuntimeConfig.prefix().isPresent()) {
@@ -67,6 +73,24 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.invalidationScanSize = defaultRuntimeConfig.invalidationScanSize();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCache().enabled().isPresent()) {
+                    cacheInfo.nearCacheEnabled = namedRuntimeConfig.nearCache().enabled().get();
+                } else if (defaultRuntimeConfig.nearCache().enabled().isPresent()) {
+                    cacheInfo.nearCacheEnabled = defaultRuntimeConfig.nearCache().enabled().get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCache().maximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedRuntimeConfig.nearCache().maximumSize().getAsLong();
+                } else if (defaultRuntimeConfig.nearCache().maximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultRuntimeConfig.nearCache().maximumSize().getAsLong();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCache().expireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = namedRuntimeConfig.nearCache().expireAfterWrite();
+                } else if (defaultRuntimeConfig.nearCache().expireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = defaultRuntimeConfig.nearCache().expireAfterWrite();
+                }
+
                 result.add(cacheInfo);
             }
             return result;
@@ -3,6 +3,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 
@@ -28,6 +29,14 @@ public interface RedisCacheRuntimeConfig {
      */
     Optional<Duration> expireAfterAccess();
 
+    /**
+     * Specifies that each entry should be reloaded once a fixed duration has elapsed after the entry's creation, or the
+     * most recent replacement of its value. The first read of a stale entry triggers an asynchronous reload, and the stale
+     * value is returned until the reload completes. The age of an entry is derived from its time to live, so this requires
+     * {@code expire-after-write} to be set, to a longer duration, and cannot be combined with {@code expire-after-access}.
+     */
+    Optional<Duration> refreshAfterWrite();
+
     /**
      * The key prefix allowing to identify the keys belonging to the cache.
      * If not set, the value "{@code cache:{cache-name}}" will be used. The variable
@@ -49,4 +58,34 @@ public interface RedisCacheRuntimeConfig {
      * no {@code COUNT} argument is present.
      */
     OptionalInt invalidationScanSize();
+
+    /**
+     * The near cache, a bounded in-memory cache kept by each application instance in front of Redis.
+     */
+    NearCacheConfig nearCache();
+
+    @ConfigGroup
+    interface NearCacheConfig {
+
+        /**
+         * Whether values read from Redis should also be cached in memory.
+         * Local copies are dropped when any application instance modifies or invalidates the corresponding entries
+         * through the cache, using a Redis pub/sub channel. Values modified directly in Redis are not detected.
+         * Default is {@code false}.
+         */
+        Optional<Boolean> enabled();
+
+        /**
+         * The maximum number of entries the near cache can contain.
+         * Default is {@code 10000}.
+         */
+        OptionalLong maximumSize();
+
+        /**
+         * Specifies that each entry should be automatically removed from the near cache once a fixed duration has
+         * elapsed after it was read from Redis. If not set, the {@code refresh-after-write} value of the cache is used, or
+         * else its {@code expire-after-write} value.
+         */
+        Optional<Duration> expireAfterWrite();
+    }
 }
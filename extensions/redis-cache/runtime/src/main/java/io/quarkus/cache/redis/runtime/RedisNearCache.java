@@ -0,0 +1,236 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * A bounded in-memory cache kept in front of Redis, keyed by the actual Redis key.
+ * <p>
+ * Every application instance writing to the cache publishes the modified keys to a Redis pub/sub channel, and every
+ * instance subscribes to that channel to drop its local copies. Local entries are only used while the subscription is
+ * active, so that no invalidation can be missed. Each invalidation also increments a stamp; a value read from Redis is
+ * only stored locally if no invalidation was received since the read started.
+ * <p>
+ * Messages are prefixed with the identifier of the publishing instance, which drops its own local copy before publishing
+ * and ignores its own messages.
+ */
+class RedisNearCache {
+
+    private static final Logger log = Logger.getLogger(RedisNearCache.class);
+
+    static final String INVALIDATE_ALL = "*";
+
+    private static final long RESUBSCRIBE_DELAY = 1000;
+
+    private final Cache<String, Object> entries;
+    private final String channel;
+    private final Vertx vertx;
+    private final Redis redis;
+
+    private final String id = UUID.randomUUID().toString();
+    private final AtomicLong stamp = new AtomicLong();
+
+    private volatile boolean subscribed;
+    private volatile boolean closed;
+    private volatile RedisConnection connection;
+
+    RedisNearCache(RedisCacheInfo cacheInfo, String keyPrefix, Vertx vertx, Redis redis) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(cacheInfo.nearCacheMaximumSize);
+        if (cacheInfo.nearCacheExpireAfterWrite.isPresent()) {
+            builder.expireAfterWrite(cacheInfo.nearCacheExpireAfterWrite.get());
+        } else if (cacheInfo.refreshAfterWrite.isPresent()) {
+            // the near cache must not keep serving values that are reloaded in Redis
+            builder.expireAfterWrite(cacheInfo.refreshAfterWrite.get());
+        } else if (cacheInfo.expireAfterWrite.isPresent()) {
+            builder.expireAfterWrite(cacheInfo.expireAfterWrite.get());
+        }
+        this.entries = builder.build();
+        this.channel = keyPrefix + ":invalidations";
+        this.vertx = vertx;
+        this.redis = redis;
+    }
+
+    void subscribe() {
+        redis.connect().subscribe().with(new Consumer<RedisConnection>() {
+            @Override
+            public void accept(RedisConnection connection) {
+                if (closed) {
+                    close(connection);
+                    return;
+                }
+                RedisNearCache.this.connection = connection;
+                connection.handler(new Consumer<Response>() {
+                    @Override
+                    public void accept(Response message) {
+                        onMessage(message);
+                    }
+                });
+                connection.exceptionHandler(new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        log.debugf(failure, "Near cache subscription to %s failed", channel);
+                        close(connection);
+                    }
+                });
+                connection.endHandler(new Runnable() {
+                    @Override
+                    public void run() {
+                        unsubscribed();
+                    }
+                });
+                connection.send(Request.cmd(Command.SUBSCRIBE).arg(channel)).subscribe().with(new Consumer<Response>() {
+                    @Override
+                    public void accept(Response response) {
+                        // anything cached before the subscription was established may be stale
+                        invalidateAll();
+                        subscribed = !closed;
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        log.debugf(failure, "Unable to subscribe to %s", channel);
+                        close(connection);
+                    }
+                });
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                log.debugf(failure, "Unable to connect to Redis to subscribe to %s", channel);
+                unsubscribed();
+            }
+        });
+    }
+
+    private void unsubscribed() {
+        subscribed = false;
+        connection = null;
+        invalidateAll();
+        if (closed) {
+            return;
+        }
+        try {
+            vertx.setTimer(RESUBSCRIBE_DELAY, new Consumer<Long>() {
+                @Override
+                public void accept(Long timerId) {
+                    subscribe();
+                }
+            });
+        } catch (IllegalStateException e) {
+            // Vert.x is closed, the application is shutting down
+        }
+    }
+
+    private void onMessage(Response message) {
+        // [message, channel, payload]; both RESP2 and RESP3 pushes have this shape
+        if (message.size() == 3 && "message".equals(message.get(0).toString())) {
+            String payload = message.get(2).toString();
+            int separator = payload.indexOf(' ');
+            if (separator < 0 || id.equals(payload.substring(0, separator))) {
+                // published by this instance, the local copy was already dropped
+                return;
+            }
+            String key = payload.substring(separator + 1);
+            if (INVALIDATE_ALL.equals(key)) {
+                invalidateAll();
+            } else {
+                invalidate(key);
+            }
+        }
+    }
+
+    /**
+     * @return the stamp to pass to {@link #put(String, Object, long)} once the value is read from Redis
+     */
+    long stamp() {
+        return stamp.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    <V> V get(String key) {
+        if (!subscribed) {
+            return null;
+        }
+        return (V) entries.getIfPresent(key);
+    }
+
+    void put(String key, Object value, long stamp) {
+        if (value == null || !subscribed) {
+            return;
+        }
+        entries.put(key, value);
+        if (this.stamp.get() != stamp) {
+            // an invalidation raced with the read from Redis
+            entries.invalidate(key);
+        }
+    }
+
+    void invalidate(String key) {
+        stamp.incrementAndGet();
+        entries.invalidate(key);
+    }
+
+    void invalidateAll() {
+        stamp.incrementAndGet();
+        entries.invalidateAll();
+    }
+
+    /**
+     * Drops the local copy of the given key and notifies the other application instances.
+     *
+     * @param key the actual Redis key, or {@link #INVALIDATE_ALL}
+     */
+    Uni<Void> publish(String key) {
+        if (INVALIDATE_ALL.equals(key)) {
+            invalidateAll();
+        } else {
+            invalidate(key);
+        }
+        return redis.send(publishRequest(key)).replaceWithVoid();
+    }
+
+    /**
+     * Creates the request notifying the other application instances that the given key was modified, without dropping
+     * the local copy. This is used when a value missing from Redis is loaded, as other instances may still hold a copy
+     * of an older value.
+     *
+     * @param key the actual Redis key, or {@link #INVALIDATE_ALL}
+     */
+    Request publishRequest(String key) {
+        return Request.cmd(Command.PUBLISH).arg(channel).arg(id + ' ' + key);
+    }
+
+    /**
+     * Closes the subscription, the local entries are not used anymore.
+     */
+    void close() {
+        closed = true;
+        subscribed = false;
+        invalidateAll();
+        RedisConnection connection = this.connection;
+        if (connection != null) {
+            this.connection = null;
+            close(connection);
+        }
+    }
+
+    private static void close(RedisConnection connection) {
+        connection.close().subscribe().with(ignored -> {
+        }, ignored -> {
+        });
+    }
+}
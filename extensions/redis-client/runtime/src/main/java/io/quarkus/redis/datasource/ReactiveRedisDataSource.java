@@ -2,6 +2,7 @@
 
 import static io.quarkus.redis.runtime.datasource.Marshaller.STRING_TYPE_REFERENCE;
 
+import java.time.Duration;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -145,6 +146,39 @@ <I> Uni<OptimisticLockingTransactionResult<I>> withTransaction(Function<Reactive
             BiFunction<I, ReactiveTransactionalRedisDataSource, Uni<Void>> tx,
             String... watchedKeys);
 
+    /**
+     * Obtains a {@link ReactiveRedisDataSource} that pipelines the commands and passes it to the given {@code function}.
+     * <p>
+     * Unlike with {@link #withTransaction(Function)}, the commands are not executed in a transaction and each command
+     * produces its own result, as it would without pipelining. However, the commands are not written to Redis
+     * immediately: all the commands subscribed to during the same event loop iteration are queued and written at once.
+     * So, commands issued concurrently, for example using {@code Uni.combine()}, only need a single round trip.
+     * Note that if one of the commands written at once fails, all of them fail.
+     * <p>
+     * This method is equivalent to {@code withPipeline(Duration.ZERO, function)}.
+     *
+     * @param function the function receiving the pipelined data source and producing the result
+     * @param <T> the type of the result
+     * @return the result produced by the function
+     */
+    @Experimental("The Redis pipelining support is experimental")
+    <T> Uni<T> withPipeline(Function<ReactiveRedisDataSource, Uni<T>> function);
+
+    /**
+     * Obtains a {@link ReactiveRedisDataSource} that pipelines the commands and passes it to the given {@code function}.
+     * <p>
+     * This method is similar to {@link #withPipeline(Function)}, except that queued commands are written once the given
+     * {@code autoFlushWindow} has elapsed since the first command was queued. It allows grouping commands issued from
+     * different event loop iterations, at the cost of the added latency.
+     *
+     * @param autoFlushWindow the time during which commands are queued before being written, must not be negative
+     * @param function the function receiving the pipelined data source and producing the result
+     * @param <T> the type of the result
+     * @return the result produced by the function
+     */
+    @Experimental("The Redis pipelining support is experimental")
+    <T> Uni<T> withPipeline(Duration autoFlushWindow, Function<ReactiveRedisDataSource, Uni<T>> function);
+
     /**
      * Execute the command <a href="https://redis.io/commands/select">SELECT</a>.
      * Summary: Change the selected database for the current connection
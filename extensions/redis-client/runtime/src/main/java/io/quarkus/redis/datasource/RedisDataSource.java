@@ -2,6 +2,7 @@
 
 import static io.quarkus.redis.runtime.datasource.Marshaller.STRING_TYPE_REFERENCE;
 
+import java.time.Duration;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -33,6 +34,7 @@
 import io.quarkus.redis.datasource.transactions.TransactionalRedisDataSource;
 import io.quarkus.redis.datasource.value.ValueCommands;
 import io.smallrye.common.annotation.Experimental;
+import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.redis.client.Command;
 import io.vertx.mutiny.redis.client.Response;
 
@@ -141,6 +143,34 @@ public interface RedisDataSource {
     <I> OptimisticLockingTransactionResult<I> withTransaction(Function<RedisDataSource, I> preTx,
             BiConsumer<I, TransactionalRedisDataSource> tx, String... watchedKeys);
 
+    /**
+     * Obtains a {@link ReactiveRedisDataSource} that pipelines the commands, passes it to the given {@code function},
+     * and waits for the result.
+     * <p>
+     * The commands issued from a blocking data source wait for their response, so they cannot be pipelined. The passed
+     * data source is therefore reactive; see {@link ReactiveRedisDataSource#withPipeline(Function)} for details.
+     *
+     * @param function the function receiving the pipelined data source and producing the result
+     * @param <T> the type of the result
+     * @return the result produced by the function
+     */
+    @Experimental("The Redis pipelining support is experimental")
+    <T> T withPipeline(Function<ReactiveRedisDataSource, Uni<T>> function);
+
+    /**
+     * Obtains a {@link ReactiveRedisDataSource} that pipelines the commands, passes it to the given {@code function},
+     * and waits for the result.
+     * <p>
+     * See {@link ReactiveRedisDataSource#withPipeline(Duration, Function)} for details.
+     *
+     * @param autoFlushWindow the time during which commands are queued before being written, must not be negative
+     * @param function the function receiving the pipelined data source and producing the result
+     * @param <T> the type of the result
+     * @return the result produced by the function
+     */
+    @Experimental("The Redis pipelining support is experimental")
+    <T> T withPipeline(Duration autoFlushWindow, Function<ReactiveRedisDataSource, Uni<T>> function);
+
     /**
      * Execute the command <a href="https://redis.io/commands/select">SELECT</a>.
      * Summary: Change the selected database for the current connection
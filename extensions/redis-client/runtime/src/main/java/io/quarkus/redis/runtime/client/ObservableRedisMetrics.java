@@ -12,6 +12,16 @@ public interface ObservableRedisMetrics {
      */
     void report(String name, long durationInNs, boolean succeeded);
 
+    /**
+     * Method called after every lookup in the client-side cache.
+     *
+     * @param name the client name
+     * @param hit whether the value was found in the client-side cache
+     */
+    default void reportClientSideCacheLookup(String name, boolean hit) {
+
+    }
+
     ObservableRedisMetrics NOOP = new ObservableRedisMetrics() {
         @Override
         public void report(String name, long durationInNs, boolean succeeded) {
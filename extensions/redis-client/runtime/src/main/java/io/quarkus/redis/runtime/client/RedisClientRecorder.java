@@ -9,11 +9,14 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
 
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.spi.CDI;
 
+import org.jboss.logging.Logger;
+
 import io.quarkus.arc.ActiveResult;
 import io.quarkus.proxy.ProxyConfigurationRegistry;
 import io.quarkus.redis.client.RedisClient;
@@ -22,10 +25,12 @@
 import io.quarkus.redis.datasource.RedisDataSource;
 import io.quarkus.redis.datasource.codecs.Codec;
 import io.quarkus.redis.datasource.codecs.Codecs;
+import io.quarkus.redis.runtime.client.config.ClientSideCacheConfig;
 import io.quarkus.redis.runtime.client.config.RedisClientConfig;
 import io.quarkus.redis.runtime.client.config.RedisConfig;
 import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
 import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.RedisClientSideCache;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
@@ -35,13 +40,18 @@
 import io.vertx.mutiny.redis.client.Redis;
 import io.vertx.mutiny.redis.client.RedisAPI;
 import io.vertx.mutiny.redis.client.Request;
+import io.vertx.redis.client.RedisClientType;
 
 @Recorder
 public class RedisClientRecorder {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisClientRecorder.class);
+
     // Split client and DS recorders
     private final RuntimeValue<RedisConfig> runtimeConfig;
     private static final Map<String, RedisClientAndApi> clients = new HashMap<>();
     private static final Map<String, ReactiveRedisDataSourceImpl> dataSources = new HashMap<>();
+    private static final List<RedisClientSideCache> clientSideCaches = new CopyOnWriteArrayList<>();
     private Vertx vertx;
     private ObservableRedisMetrics metrics;
 
@@ -130,12 +140,30 @@ public ReactiveRedisDataSource get() {
                     RedisClientAndApi redisClientAndApi = clients.get(name);
                     Redis redis = redisClientAndApi.redis;
                     RedisAPI api = redisClientAndApi.api;
-                    return new ReactiveRedisDataSourceImpl(vertx, redis, api);
+                    return new ReactiveRedisDataSourceImpl(vertx, redis, api, createClientSideCache(name, redis));
                 });
             }
         };
     }
 
+    private RedisClientSideCache createClientSideCache(String name, Redis redis) {
+        RedisClientConfig redisClientConfig = runtimeConfig.getValue().clients().get(name);
+        ClientSideCacheConfig config = redisClientConfig.clientSideCache();
+        if (!config.enabled()) {
+            return null;
+        }
+        if (redisClientConfig.clientType() != RedisClientType.STANDALONE) {
+            LOGGER.warnf("The client-side cache of the Redis client %s is disabled, it is only supported by the standalone"
+                    + " client type", name);
+            return null;
+        }
+        RedisClientSideCache cache = new RedisClientSideCache(name, vertx, redis, config.maximumSize(),
+                config.prefixes().orElse(List.of()), metrics);
+        cache.start();
+        clientSideCaches.add(cache);
+        return cache;
+    }
+
     public Supplier<RedisDataSource> getBlockingDataSource(String name) {
         return new Supplier<RedisDataSource>() {
             @Override
@@ -203,6 +231,10 @@ public void cleanup(ShutdownContext context) {
         context.addShutdownTask(new Runnable() {
             @Override
             public void run() {
+                for (RedisClientSideCache cache : clientSideCaches) {
+                    cache.close();
+                }
+                clientSideCaches.clear();
                 for (RedisClientAndApi value : clients.values()) {
                     value.redis.close();
                 }
@@ -0,0 +1,34 @@
+package io.quarkus.redis.runtime.client.config;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface ClientSideCacheConfig {
+
+    /**
+     * Whether the server-assisted client-side cache is enabled.
+     * <p>
+     * When enabled, the values read by the {@code GET}, {@code HGET} and {@code HGETALL} commands of the data sources
+     * are kept in memory, and the Redis server notifies the client when the corresponding keys are modified
+     * ({@code CLIENT TRACKING}). This requires Redis 6+ and is only supported by the standalone client.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * The maximum number of Redis keys whose values are kept in memory.
+     */
+    @WithDefault("10000")
+    int maximumSize();
+
+    /**
+     * The key prefixes to track. Only the values of the keys starting with one of these prefixes are cached.
+     * <p>
+     * By default, all keys are tracked, which means the Redis server notifies the client of every modified key.
+     */
+    Optional<List<String>> prefixes();
+}
@@ -225,6 +225,12 @@ public interface RedisClientConfig {
     @ConfigDocDefault("disabled")
     Optional<RedisClusterTransactions> clusterTransactions();
 
+    /**
+     * Server-assisted client-side cache config.
+     */
+    @ConfigDocSection
+    ClientSideCacheConfig clientSideCache();
+
     /**
      * TCP config.
      */
@@ -295,6 +301,7 @@ default String toDebugString() {
                 ", hashSlotCacheTtl=" + hashSlotCacheTtl() +
                 ", tcp=" + tcp() +
                 ", tls=" + tls() +
+                ", clientSideCache=" + clientSideCache() +
                 ", clientName=" + clientName() +
                 ", configureClientName=" + configureClientName() +
                 '}';
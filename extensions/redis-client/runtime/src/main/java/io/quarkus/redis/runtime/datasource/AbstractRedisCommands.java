@@ -1,6 +1,8 @@
 package io.quarkus.redis.runtime.datasource;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.redis.client.Response;
@@ -20,6 +22,27 @@ public Uni<Response> execute(RedisCommand cmd) {
         return redis.execute(cmd.toRequest());
     }
 
+    /**
+     * Serves the response of a read command from the client-side cache if enabled, or sends the command.
+     *
+     * @param cache the client-side cache, {@code null} if disabled
+     * @param key the key read by the command
+     * @param command the command name
+     * @param argument the argument of the command following the key, {@code null} if none
+     * @param send sends the command
+     */
+    Uni<Response> executeCached(RedisClientSideCache cache, Object key, String command, Object argument,
+            Supplier<Uni<Response>> send) {
+        if (cache == null || key == null) {
+            return send.get();
+        }
+        if (argument != null) {
+            // ISO-8859-1 maps each byte to a distinct char, so that binary arguments cannot collide
+            command = command + ' ' + new String(marshaller.encode(argument), StandardCharsets.ISO_8859_1);
+        }
+        return cache.get(marshaller.encode(key), command, send);
+    }
+
     static boolean isMap(Response response) {
         try {
             return response != null && response.type() == ResponseType.MULTI && notEmptyOrNull(response.getKeys());
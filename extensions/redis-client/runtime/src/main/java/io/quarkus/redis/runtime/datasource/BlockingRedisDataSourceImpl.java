@@ -35,6 +35,7 @@
 import io.quarkus.redis.datasource.transactions.TransactionResult;
 import io.quarkus.redis.datasource.transactions.TransactionalRedisDataSource;
 import io.quarkus.redis.datasource.value.ValueCommands;
+import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.core.Vertx;
 import io.vertx.mutiny.redis.client.Command;
 import io.vertx.mutiny.redis.client.Redis;
@@ -206,6 +207,16 @@ public void withConnection(Consumer<RedisDataSource> consumer) {
         }
     }
 
+    @Override
+    public <T> T withPipeline(Function<ReactiveRedisDataSource, Uni<T>> function) {
+        return reactive.withPipeline(function).await().atMost(timeout);
+    }
+
+    @Override
+    public <T> T withPipeline(Duration autoFlushWindow, Function<ReactiveRedisDataSource, Uni<T>> function) {
+        return reactive.withPipeline(autoFlushWindow, function).await().atMost(timeout);
+    }
+
     @Override
     public void select(long index) {
         reactive.select(index)
@@ -17,10 +17,12 @@
 public class ReactiveHashCommandsImpl<K, F, V> extends AbstractHashCommands<K, F, V> implements ReactiveHashCommands<K, F, V> {
 
     private final ReactiveRedisDataSource reactive;
+    private final RedisClientSideCache clientSideCache;
 
     public ReactiveHashCommandsImpl(ReactiveRedisDataSourceImpl redis, Type k, Type f, Type v) {
         super(redis, k, f, v);
         this.reactive = redis;
+        this.clientSideCache = redis.clientSideCache;
     }
 
     @Override
@@ -43,7 +45,7 @@ public Uni<Boolean> hexists(K key, F field) {
 
     @Override
     public Uni<V> hget(K key, F field) {
-        return super._hget(key, field)
+        return executeCached(clientSideCache, key, "HGET", field, () -> super._hget(key, field))
                 .map(this::decodeV);
     }
 
@@ -61,7 +63,7 @@ public Uni<Double> hincrbyfloat(K key, F field, double amount) {
 
     @Override
     public Uni<Map<F, V>> hgetall(K key) {
-        return super._hgetall(key)
+        return executeCached(clientSideCache, key, "HGETALL", null, () -> super._hgetall(key))
                 .map(this::decodeMap);
     }
 
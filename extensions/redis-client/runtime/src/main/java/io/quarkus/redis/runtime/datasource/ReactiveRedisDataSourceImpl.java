@@ -5,6 +5,7 @@
 import static io.smallrye.mutiny.helpers.ParameterValidation.nonNull;
 import static io.smallrye.mutiny.helpers.ParameterValidation.positiveOrZero;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -50,14 +51,22 @@ public class ReactiveRedisDataSourceImpl implements ReactiveRedisDataSource, Red
     final Redis redis;
     final RedisConnection connection;
     private final Vertx vertx;
+    private final RedisPipeline pipeline;
+    final RedisClientSideCache clientSideCache;
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api) {
+        this(vertx, redis, api, null);
+    }
+
+    public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisAPI api, RedisClientSideCache clientSideCache) {
         nonNull(redis, "redis");
         nonNull(api, "api");
         nonNull(vertx, "vertx");
         this.vertx = vertx;
         this.redis = redis;
         this.connection = null;
+        this.pipeline = null;
+        this.clientSideCache = clientSideCache;
     }
 
     public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection connection) {
@@ -67,10 +76,25 @@ public ReactiveRedisDataSourceImpl(Vertx vertx, Redis redis, RedisConnection con
         this.vertx = vertx;
         this.redis = redis;
         this.connection = connection;
+        this.pipeline = null;
+        // the connection may select another database, the client-side cache is only used with pooled connections
+        this.clientSideCache = null;
+    }
+
+    private ReactiveRedisDataSourceImpl(ReactiveRedisDataSourceImpl source, RedisPipeline pipeline) {
+        this.vertx = source.vertx;
+        this.redis = source.redis;
+        this.connection = source.connection;
+        this.pipeline = pipeline;
+        // reads must be queued after the preceding writes of the pipeline, so they bypass the client-side cache
+        this.clientSideCache = null;
     }
 
     @Override
     public Uni<Response> execute(Request request) {
+        if (pipeline != null) {
+            return pipeline.enqueue(request);
+        }
         if (connection != null) {
             return connection.send(request);
         }
@@ -262,6 +286,29 @@ public Uni<Void> withConnection(Function<ReactiveRedisDataSource, Uni<Void>> fun
                 });
     }
 
+    @Override
+    public <T> Uni<T> withPipeline(Function<ReactiveRedisDataSource, Uni<T>> function) {
+        return withPipeline(Duration.ZERO, function);
+    }
+
+    @Override
+    public <T> Uni<T> withPipeline(Duration autoFlushWindow, Function<ReactiveRedisDataSource, Uni<T>> function) {
+        nonNull(autoFlushWindow, "autoFlushWindow");
+        nonNull(function, "function");
+        if (autoFlushWindow.isNegative()) {
+            throw new IllegalArgumentException("`autoFlushWindow` must not be negative");
+        }
+        if (pipeline != null) {
+            // Already pipelined, keep the current pipeline
+            return function.apply(this);
+        }
+        return Uni.createFrom().deferred(() -> {
+            RedisPipeline pipeline = new RedisPipeline(vertx, redis, connection, autoFlushWindow);
+            return Uni.createFrom().deferred(() -> function.apply(new ReactiveRedisDataSourceImpl(this, pipeline)))
+                    .runSubscriptionOn(pipeline.executor());
+        });
+    }
+
     @Override
     public Uni<Void> select(long index) {
         positiveOrZero(index, "index");
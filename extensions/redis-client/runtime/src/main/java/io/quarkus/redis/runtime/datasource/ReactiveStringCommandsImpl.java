@@ -15,10 +15,12 @@
         implements ReactiveStringCommands<K, V>, ReactiveValueCommands<K, V> {
 
     private final ReactiveRedisDataSource reactive;
+    private final RedisClientSideCache clientSideCache;
 
     public ReactiveStringCommandsImpl(ReactiveRedisDataSourceImpl redis, Type k, Type v) {
         super(redis, k, v);
         this.reactive = redis;
+        this.clientSideCache = redis.clientSideCache;
     }
 
     @Override
@@ -106,7 +108,7 @@ public Uni<Long> decrby(K key, long amount) {
 
     @Override
     public Uni<V> get(K key) {
-        return super._get(key)
+        return executeCached(clientSideCache, key, "GET", null, () -> super._get(key))
                 .map(this::decodeV);
     }
 
@@ -0,0 +1,281 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.redis.runtime.client.ObservableRedisMetrics;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
+
+/**
+ * A bounded in-memory cache of read responses, invalidated by the Redis server.
+ * <p>
+ * A dedicated connection enables the broadcasting mode of the Redis {@code CLIENT TRACKING} feature, redirected to
+ * itself, and subscribes to the {@code __redis__:invalidate} channel. The server then publishes the names of the
+ * modified keys, whichever connection reads or writes them, which works with pooled connections and with both RESP2 and
+ * RESP3. Responses are only cached and served while the tracking connection is active, so that no invalidation can be
+ * missed. A response is only cached if the key was not invalidated since the command was sent.
+ * <p>
+ * When prefixes are configured, the server only publishes the invalidations of the keys starting with one of them, so
+ * the responses for the other keys are never cached.
+ */
+public class RedisClientSideCache {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisClientSideCache.class);
+
+    private static final String INVALIDATION_CHANNEL = "__redis__:invalidate";
+    private static final long RECONNECT_DELAY = 1000;
+
+    private final String name;
+    private final Vertx vertx;
+    private final Redis redis;
+    private final List<String> prefixes;
+    private final List<byte[]> encodedPrefixes;
+    private final ObservableRedisMetrics metrics;
+
+    /**
+     * The cached responses, per raw Redis key, and then per command ({@code GET}, {@code HGETALL} or {@code HGET} and the
+     * field). The map of a key is replaced when the key is invalidated. Guarded by {@code this}.
+     */
+    private final Map<ByteBuffer, Map<String, Response>> entries;
+
+    private volatile boolean tracking;
+    private volatile boolean closed;
+    private volatile RedisConnection connection;
+
+    public RedisClientSideCache(String name, Vertx vertx, Redis redis, int maximumSize, List<String> prefixes,
+            ObservableRedisMetrics metrics) {
+        this.name = name;
+        this.vertx = vertx;
+        this.redis = redis;
+        this.prefixes = prefixes;
+        this.encodedPrefixes = new ArrayList<>(prefixes.size());
+        for (String prefix : prefixes) {
+            encodedPrefixes.add(prefix.getBytes(StandardCharsets.UTF_8));
+        }
+        this.metrics = metrics == null ? ObservableRedisMetrics.NOOP : metrics;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Map<String, Response>> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Opens the tracking connection. Until it is established, commands are sent to Redis.
+     */
+    public void start() {
+        if (closed) {
+            return;
+        }
+        redis.connect().subscribe().with(new Consumer<RedisConnection>() {
+            @Override
+            public void accept(RedisConnection connection) {
+                RedisClientSideCache.this.connection = connection;
+                if (closed) {
+                    // closed while connecting, close() may not have seen this connection
+                    connection.close().subscribe().with(ignored -> {
+                    }, ignored -> {
+                    });
+                    return;
+                }
+                connection.handler(new Consumer<Response>() {
+                    @Override
+                    public void accept(Response message) {
+                        onMessage(message);
+                    }
+                });
+                connection.exceptionHandler(new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        LOGGER.debugf(failure, "Client-side cache tracking connection of the Redis client %s failed", name);
+                        connection.close().subscribe().with(ignored -> {
+                        }, ignored -> {
+                        });
+                    }
+                });
+                connection.endHandler(new Runnable() {
+                    @Override
+                    public void run() {
+                        stopped();
+                    }
+                });
+                connection.send(Request.cmd(Command.CLIENT).arg("ID"))
+                        .chain(id -> connection.send(trackingRequest(id.toLong())))
+                        .chain(() -> connection.send(Request.cmd(Command.SUBSCRIBE).arg(INVALIDATION_CHANNEL)))
+                        .subscribe().with(new Consumer<Response>() {
+                            @Override
+                            public void accept(Response response) {
+                                if (closed) {
+                                    return;
+                                }
+                                // anything cached before the tracking was enabled may be stale
+                                invalidateAll();
+                                tracking = true;
+                            }
+                        }, new Consumer<Throwable>() {
+                            @Override
+                            public void accept(Throwable failure) {
+                                LOGGER.warnf(failure, "Unable to enable the client-side cache of the Redis client %s", name);
+                                connection.close().subscribe().with(ignored -> {
+                                }, ignored -> {
+                                });
+                            }
+                        });
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                LOGGER.debugf(failure, "Unable to open the client-side cache tracking connection of the Redis client %s",
+                        name);
+                stopped();
+            }
+        });
+    }
+
+    /**
+     * @return {@code true} if the tracking connection is established and responses are cached
+     */
+    public boolean isActive() {
+        return tracking;
+    }
+
+    public void close() {
+        closed = true;
+        tracking = false;
+        RedisConnection connection = this.connection;
+        if (connection != null) {
+            connection.close().subscribe().with(ignored -> {
+            }, ignored -> {
+            });
+        }
+    }
+
+    private Request trackingRequest(long clientId) {
+        Request request = Request.cmd(Command.CLIENT).arg("TRACKING").arg("ON")
+                .arg("REDIRECT").arg(clientId)
+                .arg("BCAST");
+        for (String prefix : prefixes) {
+            request.arg("PREFIX").arg(prefix);
+        }
+        return request;
+    }
+
+    private void stopped() {
+        tracking = false;
+        invalidateAll();
+        if (closed) {
+            return;
+        }
+        try {
+            vertx.setTimer(RECONNECT_DELAY, new Consumer<Long>() {
+                @Override
+                public void accept(Long timerId) {
+                    start();
+                }
+            });
+        } catch (IllegalStateException e) {
+            // Vert.x is closed, the application is shutting down
+        }
+    }
+
+    private void onMessage(Response message) {
+        // [message, channel, payload]; the payload is the list of invalidated keys, or null when the database is flushed
+        if (message.size() != 3 || !"message".equals(message.get(0).toString())
+                || !INVALIDATION_CHANNEL.equals(message.get(1).toString())) {
+            return;
+        }
+        Response keys = message.get(2);
+        if (keys == null || keys.type() != ResponseType.MULTI) {
+            invalidateAll();
+            return;
+        }
+        for (Response key : keys) {
+            invalidate(ByteBuffer.wrap(key.toBytes()));
+        }
+    }
+
+    /**
+     * Returns the cached response of the given command, or sends it and caches its response.
+     *
+     * @param key the encoded Redis key read by the command, which must not be modified afterwards
+     * @param command the command and its arguments other than the key, used to distinguish the responses of a key
+     * @param send sends the command
+     * @return the response
+     */
+    Uni<Response> get(byte[] key, String command, Supplier<Uni<Response>> send) {
+        if (!tracking || !isTracked(key)) {
+            return send.get();
+        }
+        ByteBuffer entryKey = ByteBuffer.wrap(key);
+        Map<String, Response> responses;
+        Response cached;
+        synchronized (this) {
+            responses = entries.computeIfAbsent(entryKey, k -> new HashMap<>());
+            cached = responses.get(command);
+        }
+        metrics.reportClientSideCacheLookup(name, cached != null);
+        if (cached != null) {
+            return Uni.createFrom().item(cached);
+        }
+        return send.get().invoke(new Consumer<Response>() {
+            @Override
+            public void accept(Response response) {
+                put(entryKey, command, response, responses);
+            }
+        });
+    }
+
+    /**
+     * @return {@code true} if the server publishes the invalidations of the given key
+     */
+    private boolean isTracked(byte[] key) {
+        if (encodedPrefixes.isEmpty()) {
+            return true;
+        }
+        for (byte[] prefix : encodedPrefixes) {
+            if (key.length >= prefix.length && Arrays.equals(key, 0, prefix.length, prefix, 0, prefix.length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void put(ByteBuffer key, String command, Response response, Map<String, Response> responses) {
+        if (response == null || !tracking) {
+            // nil responses are not cached, the key does not exist
+            return;
+        }
+        synchronized (this) {
+            // if the key was invalidated while the command was sent, its map was replaced or removed
+            if (entries.get(key) == responses) {
+                responses.put(command, response);
+            }
+        }
+    }
+
+    private synchronized void invalidate(ByteBuffer key) {
+        entries.remove(key);
+    }
+
+    private synchronized void invalidateAll() {
+        entries.clear();
+    }
+}
@@ -0,0 +1,147 @@
+package io.quarkus.redis.runtime.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.mutiny.core.Vertx;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * Queues the requests sent through a pipelined data source and writes them to Redis in batches.
+ * <p>
+ * The first request queued after a flush schedules the next flush: at the end of the current event loop task if the
+ * auto-flush window is zero, or once the window has elapsed otherwise. So, all the commands subscribed to in the same
+ * event loop task, or during the window, are written at once. The response of each command is then dispatched to the
+ * {@code Uni} returned by {@link #enqueue(Request)}, and decoded by the command group that issued it.
+ * <p>
+ * The function passed to {@code withPipeline} is also invoked on an event loop, see {@link #executor()}, so that the
+ * commands it issues synchronously end up in the same batch even when the caller is a worker thread.
+ */
+class RedisPipeline {
+
+    private final Vertx vertx;
+    private final Redis redis;
+    private final RedisConnection connection;
+    private final long windowInMillis;
+    private final Context context;
+
+    private List<Request> requests = new ArrayList<>();
+    private List<UniEmitter<? super Response>> emitters = new ArrayList<>();
+    private boolean flushScheduled;
+
+    RedisPipeline(Vertx vertx, Redis redis, RedisConnection connection, Duration autoFlushWindow) {
+        this.vertx = vertx;
+        this.redis = redis;
+        this.connection = connection;
+        this.windowInMillis = autoFlushWindow.toMillis();
+        Context context = vertx.getDelegate().getOrCreateContext();
+        if (!context.isEventLoopContext()) {
+            // flushing on a worker context could be blocked by the thread waiting for the pipeline
+            context = ((VertxInternal) vertx.getDelegate()).createEventLoopContext();
+        }
+        this.context = context;
+    }
+
+    /**
+     * @return an executor running tasks on the event loop of the pipeline
+     */
+    Executor executor() {
+        return new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                if (Context.isOnEventLoopThread() && io.vertx.core.Vertx.currentContext() == context) {
+                    command.run();
+                } else {
+                    context.runOnContext(new Handler<Void>() {
+                        @Override
+                        public void handle(Void ignored) {
+                            command.run();
+                        }
+                    });
+                }
+            }
+        };
+    }
+
+    Uni<Response> enqueue(Request request) {
+        return Uni.createFrom().emitter(new Consumer<UniEmitter<? super Response>>() {
+            @Override
+            public void accept(UniEmitter<? super Response> emitter) {
+                boolean schedule;
+                synchronized (RedisPipeline.this) {
+                    requests.add(request);
+                    emitters.add(emitter);
+                    schedule = !flushScheduled;
+                    flushScheduled = true;
+                }
+                if (schedule) {
+                    scheduleFlush();
+                }
+            }
+        });
+    }
+
+    private void scheduleFlush() {
+        // Responses are dispatched on the event loop of the connection, so the commands issued from a response
+        // callback must be flushed at the end of that event loop task, not on the event loop of the pipeline
+        Context current = io.vertx.core.Vertx.currentContext();
+        Context target = current != null && Context.isOnEventLoopThread() ? current : context;
+        target.runOnContext(new Handler<Void>() {
+            @Override
+            public void handle(Void ignored) {
+                if (windowInMillis <= 0) {
+                    flush();
+                } else {
+                    vertx.setTimer(windowInMillis, new Consumer<Long>() {
+                        @Override
+                        public void accept(Long timerId) {
+                            flush();
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    private void flush() {
+        List<Request> batch;
+        List<UniEmitter<? super Response>> waiting;
+        synchronized (this) {
+            batch = requests;
+            waiting = emitters;
+            requests = new ArrayList<>();
+            emitters = new ArrayList<>();
+            flushScheduled = false;
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        Uni<List<Response>> responses = connection != null ? connection.batch(batch) : redis.batch(batch);
+        responses.subscribe().with(new Consumer<List<Response>>() {
+            @Override
+            public void accept(List<Response> list) {
+                for (int i = 0; i < waiting.size(); i++) {
+                    waiting.get(i).complete(list.get(i));
+                }
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                for (UniEmitter<? super Response> emitter : waiting) {
+                    emitter.fail(failure);
+                }
+            }
+        });
+    }
+}
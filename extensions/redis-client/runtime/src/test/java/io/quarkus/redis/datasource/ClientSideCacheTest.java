@@ -0,0 +1,162 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.quarkus.redis.runtime.client.ObservableRedisMetrics;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.RedisClientSideCache;
+import io.smallrye.mutiny.Uni;
+
+public class ClientSideCacheTest extends DatasourceTestBase {
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    private RedisClientSideCache cache;
+    private RedisDataSource cached;
+    private RedisDataSource plain;
+
+    @BeforeEach
+    void initialize() {
+        cache = new RedisClientSideCache("test", vertx, redis, 100, List.of(), new ObservableRedisMetrics() {
+            @Override
+            public void report(String name, long durationInNs, boolean succeeded) {
+            }
+
+            @Override
+            public void reportClientSideCacheLookup(String name, boolean hit) {
+                (hit ? hits : misses).incrementAndGet();
+            }
+        });
+        cache.start();
+        Awaitility.await().until(() -> cache.isActive());
+
+        cached = new BlockingRedisDataSourceImpl(new ReactiveRedisDataSourceImpl(vertx, redis, api, cache),
+                Duration.ofSeconds(5));
+        plain = new BlockingRedisDataSourceImpl(vertx, redis, api, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    public void clear() {
+        cache.close();
+        plain.flushall();
+    }
+
+    @Test
+    void getIsServedLocallyUntilInvalidated() {
+        plain.value(String.class).set(key, "hello");
+
+        assertThat(cached.value(String.class).get(key)).isEqualTo("hello");
+        assertThat(cached.value(String.class).get(key)).isEqualTo("hello");
+        assertThat(misses).hasValue(1);
+        assertThat(hits).hasValue(1);
+
+        plain.value(String.class).set(key, "bonjour");
+        Awaitility.await().untilAsserted(() -> assertThat(cached.value(String.class).get(key)).isEqualTo("bonjour"));
+    }
+
+    @Test
+    void hashFieldsAreCachedSeparately() {
+        plain.hash(String.class).hset(key, "a", "1");
+        plain.hash(String.class).hset(key, "b", "2");
+
+        assertThat(cached.hash(String.class).hget(key, "a")).isEqualTo("1");
+        assertThat(cached.hash(String.class).hget(key, "b")).isEqualTo("2");
+        assertThat(cached.hash(String.class).hget(key, "a")).isEqualTo("1");
+        assertThat(cached.hash(String.class).hgetall(key)).containsEntry("a", "1").containsEntry("b", "2");
+        assertThat(misses).hasValue(3);
+        assertThat(hits).hasValue(1);
+
+        plain.hash(String.class).hset(key, "a", "3");
+        Awaitility.await().untilAsserted(() -> assertThat(cached.hash(String.class).hget(key, "a")).isEqualTo("3"));
+        assertThat(cached.hash(String.class).hgetall(key)).containsEntry("a", "3").containsEntry("b", "2");
+    }
+
+    @Test
+    void onlyKeysMatchingATrackedPrefixAreCached() {
+        cache.close();
+        cache = new RedisClientSideCache("test", vertx, redis, 100, List.of("tracked:"), new ObservableRedisMetrics() {
+            @Override
+            public void report(String name, long durationInNs, boolean succeeded) {
+            }
+
+            @Override
+            public void reportClientSideCacheLookup(String name, boolean hit) {
+                (hit ? hits : misses).incrementAndGet();
+            }
+        });
+        cache.start();
+        Awaitility.await().until(() -> cache.isActive());
+        cached = new BlockingRedisDataSourceImpl(new ReactiveRedisDataSourceImpl(vertx, redis, api, cache),
+                Duration.ofSeconds(5));
+
+        plain.value(String.class).set("tracked:" + key, "hello");
+        plain.value(String.class).set(key, "hello");
+        assertThat(cached.value(String.class).get("tracked:" + key)).isEqualTo("hello");
+        assertThat(cached.value(String.class).get("tracked:" + key)).isEqualTo("hello");
+        assertThat(misses).hasValue(1);
+        assertThat(hits).hasValue(1);
+
+        // the server does not publish the invalidations of the other keys, they are always read from Redis
+        assertThat(cached.value(String.class).get(key)).isEqualTo("hello");
+        plain.value(String.class).set(key, "bonjour");
+        assertThat(cached.value(String.class).get(key)).isEqualTo("bonjour");
+        assertThat(misses).hasValue(1);
+        assertThat(hits).hasValue(1);
+    }
+
+    @Test
+    void pipelinedReadsBypassTheCache() {
+        plain.value(String.class).set(key, "hello");
+        assertThat(cached.value(String.class).get(key)).isEqualTo("hello");
+
+        // the read must observe the write queued before it in the same pipeline
+        ReactiveRedisDataSource reactive = new ReactiveRedisDataSourceImpl(vertx, redis, api, cache);
+        List<String> results = reactive.withPipeline(ds -> {
+            ReactiveValueCommands<String, String> values = ds.value(String.class);
+            return Uni.join().all(
+                    values.set(key, "bonjour").replaceWith("OK"),
+                    values.get(key))
+                    .andFailFast();
+        }).await().indefinitely();
+
+        assertThat(results).containsExactly("OK", "bonjour");
+        assertThat(hits).hasValue(0);
+    }
+
+    @Test
+    void closingWhileConnectingDoesNotLeakTheTrackingConnection() throws InterruptedException {
+        cache.close();
+        Awaitility.await().until(() -> invalidationSubscribers() == 0);
+
+        cache = new RedisClientSideCache("test", vertx, redis, 100, List.of(), null);
+        cache.start();
+        cache.close();
+
+        Thread.sleep(500);
+        assertThat(cache.isActive()).isFalse();
+        assertThat(invalidationSubscribers()).isZero();
+    }
+
+    @Test
+    void missingKeysAreNotCached() {
+        assertThat(cached.value(String.class).get(key)).isNull();
+        plain.value(String.class).set(key, "hello");
+        assertThat(cached.value(String.class).get(key)).isEqualTo("hello");
+    }
+
+    private int invalidationSubscribers() {
+        return plain.execute("PUBSUB", "NUMSUB", "__redis__:invalidate").get(1).toInteger();
+    }
+}
@@ -0,0 +1,102 @@
+package io.quarkus.redis.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.datasource.hash.ReactiveHashCommands;
+import io.quarkus.redis.datasource.value.ReactiveValueCommands;
+import io.quarkus.redis.runtime.datasource.BlockingRedisDataSourceImpl;
+import io.quarkus.redis.runtime.datasource.ReactiveRedisDataSourceImpl;
+import io.smallrye.mutiny.Uni;
+
+public class PipelineTest extends DatasourceTestBase {
+
+    private RedisDataSource blocking;
+    private ReactiveRedisDataSource reactive;
+
+    @BeforeEach
+    void initialize() {
+        blocking = new BlockingRedisDataSourceImpl(vertx, redis, api, Duration.ofSeconds(5));
+        reactive = new ReactiveRedisDataSourceImpl(vertx, redis, api);
+    }
+
+    @AfterEach
+    public void clear() {
+        blocking.flushall();
+    }
+
+    @Test
+    void pipelineReactive() {
+        List<Object> results = reactive.withPipeline(ds -> {
+            ReactiveValueCommands<String, Long> values = ds.value(Long.class);
+            ReactiveHashCommands<String, String, String> hashes = ds.hash(String.class);
+            return Uni.join().all(
+                    values.set(key, 1L).replaceWith(0L),
+                    values.incr(key),
+                    values.incrby(key, 10),
+                    hashes.hset("h", "field", "value").replaceWith(0L))
+                    .andFailFast()
+                    .map(list -> List.<Object> copyOf(list));
+        }).await().indefinitely();
+
+        assertThat(results).containsExactly(0L, 2L, 12L, 0L);
+        assertThat(blocking.value(Long.class).get(key)).isEqualTo(12L);
+        assertThat(blocking.hash(String.class).hget("h", "field")).isEqualTo("value");
+    }
+
+    @Test
+    void pipelineWithSequentialCommands() {
+        String result = reactive.withPipeline(ds -> {
+            ReactiveValueCommands<String, String> values = ds.value(String.class);
+            return values.set(key, "hello")
+                    .chain(() -> values.append(key, " world"))
+                    .chain(() -> values.get(key));
+        }).await().indefinitely();
+
+        assertThat(result).isEqualTo("hello world");
+    }
+
+    @Test
+    void pipelineWithAutoFlushWindow() {
+        Map<String, String> result = reactive.withPipeline(Duration.ofMillis(50), ds -> {
+            ReactiveValueCommands<String, String> values = ds.value(String.class);
+            return values.mset(Map.of("a", "1", "b", "2"))
+                    .chain(() -> values.mget("a", "b", "c"));
+        }).await().indefinitely();
+
+        assertThat(result).containsEntry("a", "1").containsEntry("b", "2").containsEntry("c", null);
+    }
+
+    @Test
+    void pipelineBlocking() {
+        blocking.value(String.class).set(key, "hello");
+
+        Long length = blocking.withPipeline(ds -> ds.value(String.class).strlen(key));
+
+        assertThat(length).isEqualTo(5L);
+    }
+
+    @Test
+    void pipelineFailure() {
+        blocking.value(String.class).set(key, "hello");
+
+        assertThatThrownBy(() -> blocking.withPipeline(ds -> ds.list(String.class).lpop(key)))
+                .hasMessageContaining("WRONGTYPE");
+    }
+
+    @Test
+    void pipelineArguments() {
+        assertThatThrownBy(() -> reactive.withPipeline(null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> reactive.withPipeline(Duration.ofMillis(-1), ds -> Uni.createFrom().voidItem()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,38 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.nio.charset.StandardCharsets;
+
+import io.netty.buffer.ByteBuf;
+import io.quarkus.qute.ByteSink;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.VertxByteBufAllocator;
+
+/**
+ * Writes the rendered template directly into a Vert.x buffer.
+ * <p>
+ * The static text of the template is copied as is, the other chunks are encoded into the buffer without intermediate
+ * strings and byte arrays. The buffer is not pooled as Vert.x does not release the buffers written to a response.
+ */
+final class BufferSink implements ByteSink {
+
+    private final ByteBuf buffer;
+
+    BufferSink(int initialCapacity) {
+        this.buffer = VertxByteBufAllocator.DEFAULT.heapBuffer(initialCapacity);
+    }
+
+    @Override
+    public void write(byte[] utf8) {
+        buffer.writeBytes(utf8);
+    }
+
+    @Override
+    public void write(String value) {
+        buffer.writeCharSequence(value, StandardCharsets.UTF_8);
+    }
+
+    Buffer toBuffer() {
+        return Buffer.buffer(buffer);
+    }
+
+}
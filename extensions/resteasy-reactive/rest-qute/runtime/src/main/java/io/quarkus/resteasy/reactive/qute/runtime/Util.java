@@ -1,9 +1,12 @@
 package io.quarkus.resteasy.reactive.qute.runtime;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Request;
@@ -14,14 +17,65 @@
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.Variant;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
 
 final class Util {
 
     private Util() {
     }
 
+    // The default initial capacity of the buffers the templates are rendered into
+    private static final int BUFFER_CAPACITY = 1024;
+
     static Uni<String> toUni(TemplateInstance instance, Engine engine) {
-        Uni<String> uni = instance.createUni();
+        return withTimeout(instance.createUni(), instance, engine);
+    }
+
+    /**
+     * Renders the template directly into a buffer, provided the selected encoding is UTF-8.
+     *
+     * @return the rendered template as a {@link Buffer}, or as a {@link String} if another encoding was selected
+     */
+    static Uni<?> toBufferUni(TemplateInstance instance, MediaType mediaType, Engine engine) {
+        if (!isUtf8(instance, mediaType)) {
+            return toUni(instance, engine);
+        }
+        Uni<Buffer> uni = Uni.createFrom().deferred(new Supplier<Uni<? extends Buffer>>() {
+            @Override
+            public Uni<? extends Buffer> get() {
+                BufferSink sink = new BufferSink(getCapacity(instance));
+                return Uni.createFrom().completionStage(instance.consumeBytes(sink)).map(new Function<Void, Buffer>() {
+                    @Override
+                    public Buffer apply(Void ignored) {
+                        return sink.toBuffer();
+                    }
+                });
+            }
+        });
+        return withTimeout(uni, instance, engine);
+    }
+
+    private static int getCapacity(TemplateInstance instance) {
+        Object capacity = instance.getAttribute(TemplateInstance.CAPACITY);
+        return capacity instanceof Number number ? number.intValue() : BUFFER_CAPACITY;
+    }
+
+    private static boolean isUtf8(TemplateInstance instance, MediaType mediaType) {
+        if (mediaType != null) {
+            String charset = mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+            if (charset != null && !StandardCharsets.UTF_8.name().equalsIgnoreCase(charset)) {
+                return false;
+            }
+        }
+        Object selected = instance.getAttribute(TemplateInstance.SELECTED_VARIANT);
+        if (selected instanceof Variant variant) {
+            String encoding = variant.getEncoding();
+            return encoding == null || StandardCharsets.UTF_8.name().equalsIgnoreCase(encoding);
+        }
+        return true;
+    }
+
+    private static <T> Uni<T> withTimeout(Uni<T> uni, TemplateInstance instance, Engine engine) {
         if (!engine.useAsyncTimeout()) {
             // Make sure the timeout is always used
             long timeout = instance.getTimeout();
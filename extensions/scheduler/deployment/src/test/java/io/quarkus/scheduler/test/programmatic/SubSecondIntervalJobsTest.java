@@ -0,0 +1,59 @@
+package io.quarkus.scheduler.test.programmatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class SubSecondIntervalJobsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .overrideConfigKey("quarkus.scheduler.start-mode", "forced");
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testSubSecondInterval() throws InterruptedException {
+        // Jobs that are not due must not delay the others
+        for (int i = 0; i < 1000; i++) {
+            scheduler.newJob("idle" + i)
+                    .setInterval("1h")
+                    .setDelayed("1h")
+                    .setTask(ec -> {
+                    })
+                    .schedule();
+        }
+        CountDownLatch latch = new CountDownLatch(5);
+        AtomicInteger counter = new AtomicInteger();
+        assertNotNull(scheduler.newJob("fast")
+                .setInterval("0.1s")
+                .setTask(ec -> {
+                    counter.incrementAndGet();
+                    latch.countDown();
+                })
+                .schedule());
+        // The simple scheduler used to check the triggers every second
+        assertTrue(latch.await(3, TimeUnit.SECONDS));
+
+        assertNotNull(scheduler.unscheduleJob("fast"));
+        int executions = counter.get();
+        Thread.sleep(300);
+        // At most one execution could have been in progress
+        assertTrue(counter.get() - executions <= 1);
+        assertEquals(1000, scheduler.getScheduledJobs().size());
+    }
+
+}
@@ -2,7 +2,6 @@
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
@@ -15,6 +14,7 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -71,8 +71,12 @@ public class SimpleScheduler extends BaseScheduler implements Scheduler {
     // milliseconds
     public static final long CHECK_PERIOD = 1000L;
 
+    // milliseconds
+    public static final long MIN_INTERVAL = 1L;
+
     private final ScheduledExecutorService scheduledExecutor;
     private volatile boolean running;
+    private volatile boolean started;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
     private final SchedulerConfig schedulerConfig;
 
@@ -123,13 +127,17 @@ public Thread newThread(Runnable runnable) {
                 return t;
             }
         };
-        // This executor is used to check all registered triggers every second
-        this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
+        // This executor is used to check each registered trigger when it is due
+        // The checks are kept in the priority queue of the executor, ordered by time, so only the due triggers are evaluated
+        JBossScheduledThreadPoolExecutor executor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
             @Override
             public void run() {
                 // noop
             }
         });
+        // Remove the checks of unscheduled jobs from the queue immediately
+        executor.setRemoveOnCancelPolicy(true);
+        this.scheduledExecutor = executor;
 
         if (startMode == StartMode.HALTED) {
             running = false;
@@ -196,6 +204,7 @@ public Trigger unscheduleJob(String identity) {
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    task.cancel();
                     return task.trigger;
                 }
             }
@@ -208,12 +217,10 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         if (scheduledExecutor == null) {
             return;
         }
-        // Try to compute the initial delay to execute the checks near to the whole second
-        // Note that this does not guarantee anything, it's just best effort
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
-                TimeUnit.MILLISECONDS);
+        started = true;
+        for (ScheduledTask task : scheduledTasks.values()) {
+            task.start();
+        }
     }
 
     @PreDestroy
@@ -227,16 +234,25 @@ void stop() {
         }
     }
 
-    void checkTriggers() {
-        if (!running) {
-            LOG.trace("Skip all triggers - scheduler paused");
+    void checkTrigger(ScheduledTask task) {
+        if (scheduledTasks.get(task.trigger.id) != task) {
+            // Unscheduled in the meantime
+            return;
+        }
+        if (!running || !task.trigger.isRunning()) {
+            // Paused triggers are checked periodically so that they are evaluated soon after resumed
+            task.scheduleCheck(CHECK_PERIOD);
             return;
         }
         ZonedDateTime now = ZonedDateTime.now();
-        LOG.tracef("Check triggers at %s", now);
-        for (ScheduledTask task : scheduledTasks.values()) {
-            task.execute(now, vertx);
+        task.execute(now);
+        ZonedDateTime next = task.trigger.nextEvaluation(now);
+        if (next == null) {
+            LOG.debugf("%s will not fire anymore", task.trigger);
+            return;
         }
+        // The evaluation may be too early if the system clock was adjusted - in that case the trigger is checked again
+        task.scheduleCheck(Math.max(MIN_INTERVAL, ChronoUnit.MILLIS.between(now, next)));
     }
 
     @Override
@@ -373,22 +389,50 @@ Optional<SimpleTrigger> createTrigger(String id, String methodDescription, Sched
         }
     }
 
-    static class ScheduledTask {
+    class ScheduledTask implements Runnable {
 
         final boolean isProgrammatic;
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
 
+        // The next check of the trigger; guarded by this
+        private ScheduledFuture<?> check;
+        private boolean cancelled;
+
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean isProgrammatic) {
             this.trigger = trigger;
             this.invoker = invoker;
             this.isProgrammatic = isProgrammatic;
         }
 
-        void execute(ZonedDateTime now, Vertx vertx) {
-            if (!trigger.isRunning()) {
-                return;
+        @Override
+        public void run() {
+            checkTrigger(this);
+        }
+
+        /**
+         * Schedules the first check of the trigger, unless already scheduled.
+         */
+        synchronized void start() {
+            if (check == null && !cancelled) {
+                check = scheduledExecutor.schedule(this, 0, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        synchronized void scheduleCheck(long delay) {
+            if (!cancelled) {
+                check = scheduledExecutor.schedule(this, delay, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            if (check != null) {
+                check.cancel(false);
             }
+        }
+
+        void execute(ZonedDateTime now) {
             ZonedDateTime scheduledFireTime = trigger.evaluate(now);
             if (scheduledFireTime != null) {
                 try {
@@ -422,6 +466,12 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * @param now The current date-time in the default time zone
+         * @return the date-time when the trigger should be evaluated next, or {@code null} if it will not fire anymore
+         */
+        abstract ZonedDateTime nextEvaluation(ZonedDateTime now);
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -451,15 +501,18 @@ static class IntervalTrigger extends SimpleTrigger {
         // milliseconds
         private final long interval;
         private final Duration gracePeriod;
+        // Intervals of whole seconds are aligned to the second
+        private final ChronoUnit precision;
 
         IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String description) {
             super(id, start, description);
             this.interval = interval;
             this.gracePeriod = gracePeriod;
-            if (interval < CHECK_PERIOD) {
+            this.precision = interval % 1000 == 0 ? ChronoUnit.SECONDS : ChronoUnit.MILLIS;
+            if (interval < MIN_INTERVAL) {
                 LOG.warnf(
                         "An every() value less than %s ms is not supported - the scheduled job will be executed with a delay: %s",
-                        CHECK_PERIOD, description);
+                        MIN_INTERVAL, description);
             }
         }
 
@@ -470,19 +523,33 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             }
             if (lastFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = now.truncatedTo(precision);
                 return now;
             }
             long diff = ChronoUnit.MILLIS.between(lastFireTime, now);
             if (diff >= interval) {
                 ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                if (precision == ChronoUnit.MILLIS && diff < 2 * interval) {
+                    // Do not accumulate the delay of the checks unless an execution was missed
+                    lastFireTime = scheduledFireTime;
+                } else {
+                    lastFireTime = now.truncatedTo(precision);
+                }
                 LOG.tracef("%s fired, diff=%s ms", this, diff);
                 return scheduledFireTime;
             }
             return null;
         }
 
+        @Override
+        ZonedDateTime nextEvaluation(ZonedDateTime now) {
+            if (now.isBefore(start)) {
+                return start;
+            }
+            ZonedDateTime last = lastFireTime;
+            return last == null ? now : last.plus(Duration.ofMillis(interval));
+        }
+
         @Override
         public Instant getNextFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -551,6 +618,14 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             return null;
         }
 
+        @Override
+        ZonedDateTime nextEvaluation(ZonedDateTime now) {
+            if (now.isBefore(start)) {
+                return start;
+            }
+            return executionTime.nextExecution(lastFireTime).orElse(null);
+        }
+
         @Override
         public boolean isOverdue() {
             ZonedDateTime now = ZonedDateTime.now();
@@ -672,6 +747,9 @@ public boolean isBlocking() {
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                if (started) {
+                    scheduledTask.start();
+                }
                 return simpleTrigger;
             }
             return null;
@@ -0,0 +1,27 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.List;
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedVariant;
+
+/**
+ * The compressed variants of static resources generated at build time.
+ */
+public final class PrecompressedStaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final Map<String, List<PrecompressedVariant>> variants;
+
+    public PrecompressedStaticResourcesBuildItem(Map<String, List<PrecompressedVariant>> variants) {
+        this.variants = variants;
+    }
+
+    /**
+     * @return the variants of a resource path, in the order of preference
+     */
+    public Map<String, List<PrecompressedVariant>> getVariants() {
+        return variants;
+    }
+
+}
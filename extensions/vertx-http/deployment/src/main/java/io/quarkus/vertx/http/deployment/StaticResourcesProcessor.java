@@ -2,14 +2,35 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
+import org.jboss.logging.Logger;
+
+import com.aayushatharva.brotli4j.encoder.Encoder;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.Brotli;
+import io.netty.handler.codec.compression.Zstd;
+import io.netty.handler.codec.compression.ZstdEncoder;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
@@ -19,21 +40,29 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
 import io.quarkus.paths.PathVisitor;
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.quarkus.vertx.http.runtime.VertxHttpBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedVariant;
+import io.vertx.core.http.impl.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
  */
 public class StaticResourcesProcessor {
 
+    private static final Logger LOG = Logger.getLogger(StaticResourcesProcessor.class);
+
     @BuildStep(onlyIf = IsDevelopment.class)
     HotDeploymentWatchedFileBuildItem indexHtmlFile() {
         String staticRoot = StaticResourcesRecorder.META_INF_RESOURCES + "/index.html";
@@ -60,13 +89,90 @@ void collectStaticResources(Capabilities capabilities,
         }
     }
 
+    @BuildStep
+    void precompressStaticResources(Capabilities capabilities, LaunchModeBuildItem launchMode,
+            VertxHttpBuildTimeConfig httpBuildTimeConfig,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedStaticResources) {
+        if (capabilities.isPresent(Capability.SERVLET)
+                // The generated resources can't be sent as files in the dev and test mode
+                || launchMode.getLaunchMode() != LaunchMode.NORMAL
+                || httpBuildTimeConfig.precompressStaticResources().isEmpty()
+                || httpBuildTimeConfig.compressMediaTypes().isEmpty()) {
+            return;
+        }
+        List<String> encodings = new ArrayList<>();
+        for (String encoding : httpBuildTimeConfig.precompressStaticResources().get()) {
+            encoding = encoding.trim().toLowerCase(Locale.ROOT);
+            if (!encodings.contains(encoding) && isCompressorAvailable(encoding)) {
+                encodings.add(encoding);
+            }
+        }
+        if (encodings.isEmpty()) {
+            return;
+        }
+        Set<String> compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes().get());
+        Set<String> knownPaths = new HashSet<>();
+        for (StaticResourcesBuildItem.Entry entry : getClasspathResources()) {
+            knownPaths.add(entry.getPath());
+        }
+        Map<String, List<PrecompressedVariant>> variants = new HashMap<>();
+        final String prefix = StaticResourcesRecorder.META_INF_RESOURCES;
+        visitRuntimeMetaInfResources(visit -> {
+            Path visitPath = visit.getPath();
+            String rel = visit.getRelativePath();
+            if (Files.isDirectory(visitPath) || !rel.startsWith(prefix)) {
+                return;
+            }
+            String path = rel.substring(prefix.length());
+            String contentType = MimeMapping.getMimeTypeForFilename(path);
+            if (contentType == null || !compressMediaTypes.contains(contentType) || variants.containsKey(path)) {
+                return;
+            }
+            byte[] content;
+            try {
+                content = Files.readAllBytes(visitPath);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            List<PrecompressedVariant> resourceVariants = new ArrayList<>(encodings.size());
+            for (String encoding : encodings) {
+                String variantPath = path + fileExtension(encoding);
+                if (knownPaths.contains(variantPath)) {
+                    // Never shadow an existing resource
+                    continue;
+                }
+                byte[] compressed = compress(encoding, content);
+                if (compressed.length >= content.length) {
+                    continue;
+                }
+                String file = prefix + variantPath;
+                generatedResources.produce(new GeneratedResourceBuildItem(file, compressed));
+                nativeImageResources.produce(new NativeImageResourceBuildItem(file));
+                resourceVariants.add(new PrecompressedVariant(encoding, file, etag(compressed), compressed.length));
+            }
+            // Resources without variants are registered as well so that they are visited only once
+            variants.put(path, resourceVariants);
+        });
+        variants.values().removeIf(List::isEmpty);
+        if (!variants.isEmpty()) {
+            LOG.debugf("Generated compressed variants of %s static resources", variants.size());
+            precompressedStaticResources.produce(new PrecompressedStaticResourcesBuildItem(variants));
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
-    public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
+    public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedStaticResources, StaticResourcesRecorder recorder,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            Map<String, List<PrecompressedVariant>> variants = precompressedStaticResources.isPresent()
+                    ? precompressedStaticResources.get().getVariants()
+                    : new HashMap<>();
+            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(), variants)));
         }
     }
 
@@ -143,4 +249,93 @@ private static void visitRuntimeMetaInfResources(PathVisitor visitor) {
             }
         }
     }
+
+    private static boolean isCompressorAvailable(String encoding) {
+        switch (encoding) {
+            case "gzip":
+                return true;
+            case "br":
+                if (!Brotli.isAvailable()) {
+                    LOG.warn("Compressed variants of static resources are not generated for br,"
+                            + " the Brotli native library is not available", Brotli.cause());
+                }
+                return Brotli.isAvailable();
+            case "zstd":
+                if (!Zstd.isAvailable()) {
+                    LOG.warn("Compressed variants of static resources are not generated for zstd,"
+                            + " com.github.luben:zstd-jni is not on the build class path");
+                }
+                return Zstd.isAvailable();
+            default:
+                throw new ConfigurationException("Unsupported content coding of precompressed static resources: " + encoding,
+                        Set.of("quarkus.http.precompress-static-resources"));
+        }
+    }
+
+    private static String fileExtension(String encoding) {
+        switch (encoding) {
+            case "gzip":
+                return ".gz";
+            case "br":
+                return ".br";
+            case "zstd":
+                return ".zst";
+            default:
+                throw new IllegalArgumentException(encoding);
+        }
+    }
+
+    /**
+     * Compresses the content with the best compression level as it's done once per build.
+     */
+    private static byte[] compress(String encoding, byte[] content) {
+        try {
+            switch (encoding) {
+                case "gzip":
+                    ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+                    try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+                        {
+                            def.setLevel(Deflater.BEST_COMPRESSION);
+                        }
+                    }) {
+                        gzip.write(content);
+                    }
+                    return out.toByteArray();
+                case "br":
+                    return Encoder.compress(content, new Encoder.Parameters().setQuality(11));
+                case "zstd":
+                    return zstd(content);
+                default:
+                    throw new IllegalArgumentException(encoding);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] zstd(byte[] content) throws IOException {
+        // zstd-jni is an optional dependency of Netty so the encoder is used instead of the library
+        // A single block so that the content is compressed as one frame
+        EmbeddedChannel channel = new EmbeddedChannel(new ZstdEncoder(19, Math.max(content.length, 1), Integer.MAX_VALUE));
+        channel.writeOutbound(Unpooled.wrappedBuffer(content));
+        channel.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        ByteBuf buf;
+        while ((buf = channel.readOutbound()) != null) {
+            try {
+                buf.readBytes(out, buf.readableBytes());
+            } finally {
+                buf.release();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] content) {
+        try {
+            return '"' + HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
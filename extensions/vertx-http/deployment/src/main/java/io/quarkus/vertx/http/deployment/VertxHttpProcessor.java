@@ -437,7 +437,8 @@ ServiceStartBuildItem finalizeRouter(Optional<LoggingDecorateBuildItem> decorate
             CoreVertxBuildItem core, // Injected to be sure that Vert.x has been produced before calling this method.
             ExecutorBuildItem executorBuildItem,
             TlsRegistryBuildItem tlsRegistryBuildItem, // Injected to be sure that the TLS registry has been produced before calling this method.
-            Optional<VertxDevUILogBuildItem> vertxDevUILogBuildItem)
+            Optional<VertxDevUILogBuildItem> vertxDevUILogBuildItem,
+            ShutdownContextBuildItem shutdown)
             throws BuildException {
 
         Optional<DefaultRouteBuildItem> defaultRoute;
@@ -520,7 +521,8 @@ ServiceStartBuildItem finalizeRouter(Optional<LoggingDecorateBuildItem> decorate
                 srcMainJava,
                 knowClasses,
                 combinedActions,
-                publisher);
+                publisher,
+                shutdown);
 
         return new ServiceStartBuildItem("vertx-http");
     }
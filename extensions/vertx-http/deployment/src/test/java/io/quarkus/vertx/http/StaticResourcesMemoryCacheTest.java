@@ -0,0 +1,69 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StaticResourcesMemoryCacheTest {
+
+    private static final String LARGE = "x".repeat(4096);
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.static-resources.memory-cache-size=1M\n"
+                            + "quarkus.http.static-resources.memory-cache-max-entry-size=2K\n"),
+                            "application.properties")
+                    .addAsResource("static-file.html", "META-INF/resources/index.html")
+                    .addAsResource("static-file.html", "META-INF/resources/.hidden-file.html")
+                    .addAsResource(new StringAsset(LARGE), "META-INF/resources/large.txt"));
+
+    @Test
+    public void shouldServeFromMemory() {
+        String etag = given().get("/index.html").then().statusCode(200)
+                .header("Content-Type", is("text/html;charset=UTF-8"))
+                .header("ETag", startsWith("\""))
+                .header("Last-Modified", notNullValue())
+                .header("Cache-Control", is("public, immutable, max-age=86400"))
+                .body(containsString("This is the title of the webpage!"))
+                .extract().header("ETag");
+
+        // The index page is the same resource
+        given().get("/").then().statusCode(200)
+                .header("ETag", is(etag))
+                .body(containsString("This is the title of the webpage!"));
+
+        given().header("If-None-Match", "\"foo\", W/" + etag).get("/").then().statusCode(304)
+                .header("ETag", is(etag));
+
+        given().head("/").then().statusCode(200)
+                .header("ETag", is(etag))
+                .header("Accept-Ranges", "bytes")
+                .header("Content-Length", Integer::parseInt, greaterThan(0));
+    }
+
+    @Test
+    public void shouldDelegateLargeResourcesAndRanges() {
+        given().get("/large.txt").then().statusCode(200)
+                .header("ETag", nullValue())
+                .body(equalTo(LARGE));
+
+        given().header("Range", "bytes=0-9").get("/index.html").then().statusCode(206)
+                .header("Content-Length", "10");
+
+        given().get("/.hidden-file.html").then().statusCode(200)
+                .header("ETag", startsWith("\""));
+    }
+
+}
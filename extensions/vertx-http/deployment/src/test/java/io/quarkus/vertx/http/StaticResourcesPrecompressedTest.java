@@ -0,0 +1,81 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusProdModeTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.specification.RequestSpecification;
+
+public class StaticResourcesPrecompressedTest {
+
+    private static final String CONTENT = "<html><body>" + CompressionTest.TEXT + CompressionTest.TEXT + "</body></html>";
+
+    @RegisterExtension
+    static final QuarkusProdModeTest config = new QuarkusProdModeTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset("quarkus.http.precompress-static-resources=br,gzip\n"),
+                            "application.properties")
+                    .addAsResource(new StringAsset(CONTENT), "META-INF/resources/index.html")
+                    .addAsResource(new StringAsset(CONTENT), "META-INF/resources/image.svg")
+                    .addAsResource(new StringAsset(CONTENT), "META-INF/resources/.hidden.html"))
+            .setRun(true);
+
+    @Test
+    public void shouldServeGzipVariant() {
+        String etag = given().get("/").then().statusCode(200)
+                .header("Content-Encoding", is("gzip"))
+                .header("Content-Type", is("text/html;charset=UTF-8"))
+                .header("Content-Length", Integer::parseInt, lessThan(CONTENT.length()))
+                .header("Vary", is("accept-encoding"))
+                .header("ETag", startsWith("\""))
+                .body(equalTo(CONTENT))
+                .extract().header("ETag");
+
+        given().header("If-None-Match", etag).get("/index.html").then().statusCode(304)
+                .header("ETag", is(etag));
+    }
+
+    @Test
+    public void shouldServeBrotliVariant() {
+        String gzipEtag = given().get("/index.html").then().statusCode(200).extract().header("ETag");
+        withoutDecoders().header("Accept-Encoding", "gzip;q=0.8, br").get("/index.html").then().statusCode(200)
+                .header("Content-Encoding", is("br"))
+                .header("Content-Length", Integer::parseInt, lessThan(CONTENT.length()))
+                .header("ETag", not(gzipEtag));
+    }
+
+    @Test
+    public void shouldServeIdentity() {
+        withoutDecoders().header("Accept-Encoding", "identity").get("/index.html").then().statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .header("Vary", is("accept-encoding"))
+                .body(equalTo(CONTENT));
+
+        // Not a compressed media type
+        given().get("/image.svg").then().statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(equalTo(CONTENT));
+    }
+
+    @Test
+    public void shouldNotServeHiddenFile() {
+        // quarkus.http.static-resources.include-hidden is false by default
+        given().get("/.hidden.html").then().statusCode(404);
+    }
+
+    private static RequestSpecification withoutDecoders() {
+        return given().config(RestAssured.config.decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()));
+    }
+
+}
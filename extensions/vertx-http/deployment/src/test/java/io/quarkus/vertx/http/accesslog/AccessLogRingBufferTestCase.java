@@ -0,0 +1,88 @@
+package io.quarkus.vertx.http.accesslog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.Awaitility;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.bootstrap.util.IoUtils;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Tests writing the access log to a file through the ring buffer
+ */
+public class AccessLogRingBufferTestCase {
+
+    @RegisterExtension
+    public static QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> {
+                try {
+                    Path logDirectory = Files.createTempDirectory("quarkus-tests");
+                    Properties p = new Properties();
+                    p.setProperty("quarkus.http.access-log.enabled", "true");
+                    p.setProperty("quarkus.http.access-log.log-to-file", "true");
+                    p.setProperty("quarkus.http.access-log.base-file-name", "server");
+                    p.setProperty("quarkus.http.access-log.log-directory", logDirectory.toAbsolutePath().toString());
+                    p.setProperty("quarkus.http.access-log.exclude-pattern", "^/health$");
+                    p.setProperty("quarkus.http.access-log.ring-buffer", "true");
+                    p.setProperty("quarkus.http.access-log.ring-buffer-format", "json");
+                    p.setProperty("quarkus.http.record-request-start-time", "true");
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    p.store(out, null);
+                    jar.add(new ByteArrayAsset(out.toByteArray()), "application.properties");
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+
+    @ConfigProperty(name = "quarkus.http.access-log.log-directory")
+    Path logDirectory;
+
+    @BeforeEach
+    public void before() throws IOException {
+        Files.createDirectories(logDirectory);
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        IoUtils.recursiveDelete(logDirectory);
+    }
+
+    @Test
+    public void testJsonLogMessageToFile() {
+        String paramValue = UUID.randomUUID().toString();
+        RestAssured.given().get("/health"); //should be ignored
+        RestAssured.given().header("User-Agent", "test-agent").get("/does-not-exist?foo=" + paramValue);
+
+        Awaitility.given().pollInterval(100, TimeUnit.MILLISECONDS)
+                .atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(() -> {
+                    Path path = logDirectory.resolve("server.log");
+                    assertThat(path).exists();
+                    List<String> lines = Files.readAllLines(path);
+                    assertThat(lines).hasSize(1);
+                    assertThat(lines.get(0))
+                            .startsWith("{\"timestamp\":\"")
+                            .contains("\"method\":\"GET\"", "\"uri\":\"/does-not-exist?foo=" + paramValue + "\"",
+                                    "\"protocol\":\"HTTP/1.1\"", "\"status\":404", "\"responseTimeMillis\":",
+                                    "\"userAgent\":\"test-agent\"")
+                            .endsWith("}");
+                });
+    }
+
+}
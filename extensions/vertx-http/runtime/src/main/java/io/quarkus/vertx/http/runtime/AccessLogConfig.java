@@ -94,4 +94,41 @@ public interface AccessLogConfig {
      */
     @WithDefault("false")
     boolean consolidateReroutedRequests();
+
+    /**
+     * If enabled, and the access log is written to a file, the entries are collected in a bounded ring buffer and a dedicated
+     * thread formats them and writes them to the file in batches. The request threads only capture the fields of an entry,
+     * i.e. the remote host, the remote user, the request line, the status code, the bytes sent, the response time and the
+     * `Referer` and `User-Agent` headers.
+     * <p>
+     * The {@link #pattern()} is ignored, the output is configured with {@link #ringBufferFormat()}. The response time is only
+     * available if `quarkus.http.record-request-start-time` is enabled.
+     * <p>
+     * If the ring buffer is full, the entry is dropped. The number of dropped entries is logged periodically.
+     */
+    @WithDefault("false")
+    boolean ringBuffer();
+
+    /**
+     * The maximum number of entries in the ring buffer, rounded up to a power of two.
+     */
+    @WithDefault("8192")
+    int ringBufferSize();
+
+    /**
+     * The output format of the access log if the {@link #ringBuffer()} is enabled.
+     */
+    @WithDefault("text")
+    RingBufferFormat ringBufferFormat();
+
+    enum RingBufferFormat {
+        /**
+         * The `combined` format, i.e. `%h %l %u %t "%r" %s %b "%{i,Referer}" "%{i,User-Agent}"`.
+         */
+        TEXT,
+        /**
+         * One JSON object per line.
+         */
+        JSON
+    }
 }
@@ -2,7 +2,9 @@
 
 import java.nio.charset.Charset;
 import java.time.Duration;
+import java.util.Optional;
 
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.WithDefault;
 
 public interface StaticResourcesConfig {
@@ -53,4 +55,19 @@ public interface StaticResourcesConfig {
      */
     @WithDefault("UTF-8")
     Charset contentEncoding();
+
+    /**
+     * The maximum total size of the static resources from {@code META-INF/resources} that are cached in memory. If not set,
+     * the resources are not cached in memory.
+     * <p>
+     * A resource is cached when it's requested for the first time and served from memory afterwards, until the total size is
+     * reached. The {@code ETag}, {@code Last-Modified} and {@code Content-Length} headers are computed once.
+     */
+    Optional<MemorySize> memoryCacheSize();
+
+    /**
+     * The maximum size of a static resource that is cached in memory.
+     */
+    @WithDefault("256K")
+    MemorySize memoryCacheMaxEntrySize();
 }
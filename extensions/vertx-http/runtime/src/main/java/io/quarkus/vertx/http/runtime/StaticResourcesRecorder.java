@@ -5,12 +5,16 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedStaticHandler;
+import io.quarkus.vertx.http.runtime.handlers.PrecompressedVariant;
+import io.quarkus.vertx.http.runtime.handlers.StaticResourcesMemoryCache;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.Route;
@@ -39,7 +43,7 @@ public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    public Consumer<Route> start(Set<String> knownPaths, Map<String, List<PrecompressedVariant>> precompressedVariants) {
         List<Handler<RoutingContext>> handlers = new ArrayList<>();
         Set<String> compressMediaTypes;
         if (httpBuildTimeConfig.enableCompression() && httpBuildTimeConfig.compressMediaTypes().isPresent()) {
@@ -78,6 +82,10 @@ public void handle(RoutingContext ctx) {
                 });
             }
         }
+        if (!precompressedVariants.isEmpty()) {
+            handlers.add(new PrecompressedStaticHandler(precompressedVariants, config.indexPage(), config.contentEncoding(),
+                    config.includeHidden(), config.cachingEnabled() ? config.maxAge().toSeconds() : -1));
+        }
         if (!knownPaths.isEmpty()) {
             ClassLoader currentCl = Thread.currentThread().getContextClassLoader();
             StaticHandler staticHandler = StaticHandler.create(META_INF_RESOURCES)
@@ -94,6 +102,12 @@ public void handle(RoutingContext ctx) {
             final String indexPage = (config.indexPage().charAt(0) == '/')
                     ? config.indexPage().substring(1)
                     : config.indexPage();
+            final StaticResourcesMemoryCache memoryCache = config.memoryCacheSize().isPresent()
+                    ? new StaticResourcesMemoryCache(currentCl, META_INF_RESOURCES,
+                            config.memoryCacheSize().get().asLongValue(), config.memoryCacheMaxEntrySize().asLongValue(),
+                            "UTF-8", config.includeHidden(), config.enableRangeSupport(),
+                            config.cachingEnabled() ? config.maxAge().toSeconds() : -1)
+                    : null;
             handlers.add(new Handler<>() {
                 @Override
                 public void handle(RoutingContext ctx) {
@@ -105,7 +119,11 @@ public void handle(RoutingContext ctx) {
                     // check effective path, otherwise the index page when path ends with '/'
                     if (knownPaths.contains(rel) || (rel.endsWith("/") && knownPaths.contains(rel.concat(indexPage)))) {
                         compressIfNeeded(httpBuildTimeConfig, compressMediaTypes, ctx, rel);
-                        staticHandler.handle(ctx);
+                        if (memoryCache != null) {
+                            memoryCache.handle(ctx, rel.endsWith("/") ? rel.concat(indexPage) : rel, staticHandler);
+                        } else {
+                            staticHandler.handle(ctx);
+                        }
                     } else {
                         // make sure we don't lose the correct TCCL to Vert.x...
                         Thread.currentThread().setContextClassLoader(currentCl);
@@ -116,6 +116,21 @@ public interface VertxHttpBuildTimeConfig {
      */
     OptionalInt compressionLevel();
 
+    /**
+     * The content codings of the compressed variants of static resources generated at build time, in the order of preference,
+     * e.g. {@code br,gzip}.
+     * Supported values are {@code br}, {@code zstd} and {@code gzip}. The {@code zstd} coding requires
+     * {@code com.github.luben:zstd-jni} on the build class path.
+     * <p>
+     * The variants are generated for the resources from {@code META-INF/resources} of the compressed media types as configured
+     * via {@link #compressMediaTypes}, if they are smaller than the original. A variant is selected according to the
+     * {@code Accept-Encoding} header of the request and sent as is, i.e. the content is not compressed per request. The
+     * {@code ETag} and {@code Vary} headers are added to the response.
+     * <p>
+     * The variants are only generated for the production mode.
+     */
+    Optional<List<String>> precompressStaticResources();
+
     /**
      * Configure Quarkus to serve static files from a local filesystem directory (outside of Java resources)
      *
@@ -89,6 +89,8 @@
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.JBossLoggingAccessLogReceiver;
+import io.quarkus.vertx.http.runtime.filters.accesslog.RingBufferAccessLogHandler;
+import io.quarkus.vertx.http.runtime.filters.accesslog.RingBufferAccessLogWriter;
 import io.quarkus.vertx.http.runtime.management.ManagementConfig;
 import io.quarkus.vertx.http.runtime.management.ManagementInterfaceBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.options.HttpServerCommonHandlers;
@@ -409,7 +411,8 @@ public void finalizeRouter(
             String srcMainJava,
             List<String> knowClasses,
             List<ErrorPageAction> actions,
-            Optional<RuntimeValue<SubmissionPublisher<String>>> publisher) {
+            Optional<RuntimeValue<SubmissionPublisher<String>>> publisher,
+            ShutdownContext shutdown) {
         VertxHttpConfig httpConfig = this.httpConfig.getValue();
         // install the default route at the end
         Router httpRouteRouter = httpRouterRuntimeValue.getValue();
@@ -496,16 +499,40 @@ public void handle(RoutingContext routingContext) {
 
         AccessLogConfig accessLog = httpConfig.accessLog();
         if (accessLog.enabled()) {
-            AccessLogReceiver receiver;
-            if (accessLog.logToFile()) {
+            Handler<RoutingContext> handler;
+            if (accessLog.logToFile() && accessLog.ringBuffer()) {
                 File outputDir = accessLog.logDirectory().isPresent() ? new File(accessLog.logDirectory().get()) : new File("");
-                receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName(), accessLog.logSuffix(),
+                RingBufferAccessLogWriter writer = new RingBufferAccessLogWriter(accessLog.ringBufferSize(),
+                        accessLog.ringBufferFormat(), outputDir.toPath(), accessLog.baseFileName(), accessLog.logSuffix(),
                         accessLog.rotate());
+                writer.start();
+                shutdown.addLastShutdownTask(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            writer.close();
+                        } catch (IOException e) {
+                            LOGGER.error("Unable to close the access log", e);
+                        }
+                    }
+                });
+                handler = new RingBufferAccessLogHandler(writer, accessLog.consolidateReroutedRequests(),
+                        accessLog.excludePattern());
             } else {
-                receiver = new JBossLoggingAccessLogReceiver(accessLog.category());
+                AccessLogReceiver receiver;
+                if (accessLog.logToFile()) {
+                    File outputDir = accessLog.logDirectory().isPresent() ? new File(accessLog.logDirectory().get())
+                            : new File("");
+                    receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName(),
+                            accessLog.logSuffix(), accessLog.rotate());
+                } else {
+                    receiver = new JBossLoggingAccessLogReceiver(accessLog.category());
+                }
+                handler = new AccessLogHandler(receiver, accessLog.pattern(), accessLog.consolidateReroutedRequests(),
+                        getClass().getClassLoader(), accessLog.excludePattern());
             }
-            setupAccessLogHandler(mainRouterRuntimeValue, httpRouterRuntimeValue, frameworkRouter, receiver, rootPath,
-                    nonRootPath, accessLog.pattern(), accessLog.consolidateReroutedRequests(), accessLog.excludePattern());
+            setupAccessLogHandler(mainRouterRuntimeValue, httpRouterRuntimeValue, frameworkRouter, handler, rootPath,
+                    nonRootPath);
             quarkusWrapperNeeded = true;
         }
 
@@ -520,9 +547,11 @@ public void logMessage(String message) {
                 }
             };
 
-            setupAccessLogHandler(mainRouterRuntimeValue, httpRouterRuntimeValue, frameworkRouter, receiver, rootPath,
-                    nonRootPath, accessLog.pattern(), accessLog.consolidateReroutedRequests(),
+            AccessLogHandler handler = new AccessLogHandler(receiver, accessLog.pattern(),
+                    accessLog.consolidateReroutedRequests(), getClass().getClassLoader(),
                     accessLog.excludePattern().or(() -> Optional.of("^" + nonRootPath + ".*")));
+            setupAccessLogHandler(mainRouterRuntimeValue, httpRouterRuntimeValue, frameworkRouter, handler, rootPath,
+                    nonRootPath);
             quarkusWrapperNeeded = true;
         }
 
@@ -615,17 +644,11 @@ public void handle(HttpServerRequest event) {
     private void setupAccessLogHandler(Optional<RuntimeValue<Router>> mainRouterRuntimeValue,
             RuntimeValue<Router> httpRouterRuntimeValue,
             RuntimeValue<Router> frameworkRouter,
-            AccessLogReceiver receiver,
+            Handler<RoutingContext> handler,
             String rootPath,
-            String nonRootPath,
-            String pattern,
-            boolean consolidateReroutedRequests,
-            Optional<String> excludePattern) {
+            String nonRootPath) {
 
         Router httpRouteRouter = httpRouterRuntimeValue.getValue();
-        AccessLogHandler handler = new AccessLogHandler(receiver, pattern, consolidateReroutedRequests,
-                getClass().getClassLoader(),
-                excludePattern);
         if (rootPath.equals("/") || nonRootPath.equals("/")) {
             mainRouterRuntimeValue.orElse(httpRouterRuntimeValue).getValue().route()
                     .order(RouteConstants.ROUTE_ORDER_ACCESS_LOG_HANDLER)
@@ -0,0 +1,21 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+/**
+ * The raw fields of an access log entry, captured when the request is done and formatted later by the
+ * {@link RingBufferAccessLogWriter}.
+ *
+ * @param timestamp the time the request was done, in milliseconds since the epoch
+ * @param remoteHost the remote host, may be {@code null}
+ * @param remoteUser the authenticated user, may be {@code null}
+ * @param method the request method
+ * @param uri the request URI
+ * @param protocol the request protocol
+ * @param status the response status code
+ * @param bytesSent the number of bytes sent, excluding HTTP headers
+ * @param responseTimeNanos the time taken to process the request, or a negative value if unknown
+ * @param referer the {@code Referer} header, may be {@code null}
+ * @param userAgent the {@code User-Agent} header, may be {@code null}
+ */
+public record AccessLogEntry(long timestamp, String remoteHost, String remoteUser, String method, String uri,
+        String protocol, int status, long bytesSent, long responseTimeNanos, String referer, String userAgent) {
+}
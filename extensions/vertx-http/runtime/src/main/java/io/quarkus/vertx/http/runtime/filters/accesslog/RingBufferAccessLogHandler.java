@@ -0,0 +1,72 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import io.quarkus.vertx.http.runtime.VertxHttpRecorder;
+import io.quarkus.vertx.http.runtime.attribute.RemoteHostAttribute;
+import io.quarkus.vertx.http.runtime.attribute.RemoteUserAttribute;
+import io.quarkus.vertx.http.runtime.attribute.RequestProtocolAttribute;
+import io.quarkus.vertx.http.runtime.filters.OriginalRequestContext;
+import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Access log handler that captures a fixed set of fields when the request is done and passes them to the
+ * {@link RingBufferAccessLogWriter}. Unlike {@link AccessLogHandler}, no message is formatted on the request thread.
+ */
+public class RingBufferAccessLogHandler implements Handler<RoutingContext> {
+
+    private final RingBufferAccessLogWriter writer;
+    private final boolean consolidateReroutedRequests;
+    private final Pattern excludePattern;
+
+    public RingBufferAccessLogHandler(RingBufferAccessLogWriter writer, boolean consolidateReroutedRequests,
+            Optional<String> excludePattern) {
+        this.writer = writer;
+        this.consolidateReroutedRequests = consolidateReroutedRequests;
+        this.excludePattern = excludePattern.map(Pattern::compile).orElse(null);
+    }
+
+    @Override
+    public void handle(RoutingContext rc) {
+        if (excludePattern != null && excludePattern.matcher(rc.normalizedPath()).matches()) {
+            rc.next();
+            return;
+        }
+        if (consolidateReroutedRequests && rc.get(OriginalRequestContext.RC_DATA_KEY, null) != null) {
+            rc.next();
+            return;
+        }
+        QuarkusRequestWrapper.get(rc.request()).addRequestDoneHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void event) {
+                writer.log(createEntry(rc));
+            }
+        });
+        if (consolidateReroutedRequests) {
+            rc.put(OriginalRequestContext.RC_DATA_KEY, new OriginalRequestContext(rc));
+        }
+        rc.next();
+    }
+
+    static AccessLogEntry createEntry(RoutingContext rc) {
+        HttpServerRequest request = rc.request();
+        Long requestStartTime = rc.get(VertxHttpRecorder.REQUEST_START_TIME);
+        return new AccessLogEntry(System.currentTimeMillis(),
+                RemoteHostAttribute.INSTANCE.readAttribute(rc),
+                RemoteUserAttribute.INSTANCE.readAttribute(rc),
+                request.method().name(),
+                request.uri(),
+                RequestProtocolAttribute.INSTANCE.readAttribute(rc),
+                rc.response().getStatusCode(),
+                rc.response().bytesWritten(),
+                requestStartTime == null ? -1 : System.nanoTime() - requestStartTime,
+                request.getHeader(HttpHeaders.REFERER),
+                request.getHeader(HttpHeaders.USER_AGENT));
+    }
+
+}
@@ -0,0 +1,287 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jboss.logging.Logger;
+
+import io.netty.util.internal.PlatformDependent;
+import io.quarkus.vertx.http.runtime.AccessLogConfig.RingBufferFormat;
+
+/**
+ * Writes access log entries to a file from a dedicated thread.
+ * <p>
+ * Request threads only add the raw entries to a bounded lock-free ring buffer, they never format an entry, touch the file or
+ * wake up the writer thread. If the ring buffer is full, the entry is dropped and counted. The writer thread drains the ring
+ * buffer periodically, formats the entries and writes them in batches with a single {@link FileChannel} write. The file is
+ * rotated after midnight, using the same names as {@link DefaultAccessLogReceiver}.
+ */
+public class RingBufferAccessLogWriter implements Runnable, Closeable {
+
+    private static final Logger log = Logger.getLogger(RingBufferAccessLogWriter.class);
+
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long DROPPED_REPORT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final DateTimeFormatter COMMON_LOG_FORMAT = DateTimeFormatter.ofPattern("'['dd/MMM/yyyy:HH:mm:ss Z']'",
+            Locale.US);
+
+    private final Queue<AccessLogEntry> ringBuffer;
+    private final LongAdder dropped = new LongAdder();
+    private final RingBufferFormat format;
+    private final Path outputDirectory;
+    private final String logBaseName;
+    private final String logNameSuffix;
+    private final Path logFile;
+    private final boolean rotate;
+    private final Thread thread;
+    private volatile boolean closed;
+
+    // only accessed by the writer thread
+    private final StringBuilder batch = new StringBuilder(8192);
+    private FileChannel channel;
+    private LocalDate fileDate;
+    private long reportedDropped;
+    private long lastDroppedReport;
+
+    public RingBufferAccessLogWriter(int size, RingBufferFormat format, Path outputDirectory, String logBaseName,
+            String logNameSuffix, boolean rotate) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The ring buffer size must be greater than zero");
+        }
+        this.ringBuffer = PlatformDependent.newFixedMpscQueue(size);
+        this.format = format;
+        this.outputDirectory = outputDirectory;
+        this.logBaseName = logBaseName.endsWith(".") ? logBaseName.substring(0, logBaseName.length() - 1) : logBaseName;
+        this.logNameSuffix = logNameSuffix.startsWith(".") ? logNameSuffix : "." + logNameSuffix;
+        this.logFile = outputDirectory.resolve(this.logBaseName + this.logNameSuffix);
+        this.rotate = rotate;
+        this.thread = new Thread(this, "access-log-writer");
+        this.thread.setDaemon(true);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * Adds the entry to the ring buffer, or drops it if the ring buffer is full. This method never blocks.
+     */
+    public void log(AccessLogEntry entry) {
+        if (!ringBuffer.offer(entry)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     *
+     * @return the number of entries dropped because the ring buffer was full
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void run() {
+        for (;;) {
+            // read the flag first so that the entries added before close() are written
+            boolean done = closed;
+            int count = drain();
+            if (count > 0) {
+                write();
+            }
+            if (done && count == 0) {
+                // all the entries added before close() are written
+                break;
+            }
+            reportDropped(false);
+            if (!done && count < MAX_BATCH_SIZE) {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+        }
+        reportDropped(true);
+        closeChannel();
+    }
+
+    /**
+     * Writes the remaining entries and stops the writer thread.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        if (!thread.isAlive()) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int drain() {
+        int count = 0;
+        AccessLogEntry entry;
+        while (count < MAX_BATCH_SIZE && (entry = ringBuffer.poll()) != null) {
+            if (format == RingBufferFormat.JSON) {
+                appendJson(batch, entry);
+            } else {
+                appendText(batch, entry);
+            }
+            batch.append('\n');
+            count++;
+        }
+        return count;
+    }
+
+    private void write() {
+        ByteBuffer bytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(batch));
+        batch.setLength(0);
+        try {
+            if (rotate && fileDate != null && !fileDate.equals(LocalDate.now())) {
+                doRotate();
+            }
+            if (channel == null) {
+                openChannel();
+            }
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        } catch (IOException e) {
+            log.error("Error writing access log", e);
+            closeChannel();
+        }
+    }
+
+    private void openChannel() throws IOException {
+        if (Files.exists(logFile)) {
+            // an existing file is rotated with the date it was last modified
+            fileDate = LocalDate.ofInstant(Files.getLastModifiedTime(logFile).toInstant(), ZoneId.systemDefault());
+            if (rotate && !fileDate.equals(LocalDate.now())) {
+                doRotate();
+            }
+        }
+        fileDate = LocalDate.now();
+        channel = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void doRotate() throws IOException {
+        closeChannel();
+        if (!Files.exists(logFile)) {
+            return;
+        }
+        Path newFile = outputDirectory.resolve(logBaseName + "." + fileDate + logNameSuffix);
+        int count = 0;
+        while (Files.exists(newFile)) {
+            ++count;
+            newFile = outputDirectory.resolve(logBaseName + "." + fileDate + "-" + count + logNameSuffix);
+        }
+        Files.move(logFile, newFile);
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.error("Error closing access log", e);
+            }
+            channel = null;
+        }
+    }
+
+    private void reportDropped(boolean force) {
+        long total = dropped.sum();
+        if (total == reportedDropped) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (force || reportedDropped == 0 || now - lastDroppedReport >= DROPPED_REPORT_INTERVAL_NANOS) {
+            log.warnf("%d access log entries were dropped because the ring buffer was full, consider increasing "
+                    + "quarkus.http.access-log.ring-buffer-size", total - reportedDropped);
+            reportedDropped = total;
+            lastDroppedReport = now;
+        }
+    }
+
+    static void appendText(StringBuilder sb, AccessLogEntry entry) {
+        sb.append(orDash(entry.remoteHost())).append(" - ").append(orDash(entry.remoteUser())).append(' ');
+        COMMON_LOG_FORMAT.formatTo(ZonedDateTime.ofInstant(Instant.ofEpochMilli(entry.timestamp()), ZoneId.systemDefault()),
+                sb);
+        sb.append(" \"").append(entry.method()).append(' ').append(entry.uri()).append(' ').append(entry.protocol())
+                .append("\" ").append(entry.status()).append(' ');
+        if (entry.bytesSent() == 0) {
+            sb.append('-');
+        } else {
+            sb.append(entry.bytesSent());
+        }
+        sb.append(" \"").append(orDash(entry.referer())).append("\" \"").append(orDash(entry.userAgent())).append('"');
+    }
+
+    static void appendJson(StringBuilder sb, AccessLogEntry entry) {
+        sb.append("{\"timestamp\":\"");
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(entry.timestamp()), sb);
+        sb.append('"');
+        appendJsonField(sb, "remoteHost", entry.remoteHost());
+        appendJsonField(sb, "remoteUser", entry.remoteUser());
+        appendJsonField(sb, "method", entry.method());
+        appendJsonField(sb, "uri", entry.uri());
+        appendJsonField(sb, "protocol", entry.protocol());
+        sb.append(",\"status\":").append(entry.status());
+        sb.append(",\"bytesSent\":").append(entry.bytesSent());
+        if (entry.responseTimeNanos() >= 0) {
+            sb.append(",\"responseTimeMillis\":").append(TimeUnit.NANOSECONDS.toMillis(entry.responseTimeNanos()));
+        }
+        appendJsonField(sb, "referer", entry.referer());
+        appendJsonField(sb, "userAgent", entry.userAgent());
+        sb.append('}');
+    }
+
+    private static void appendJsonField(StringBuilder sb, String name, String value) {
+        if (value == null) {
+            return;
+        }
+        sb.append(",\"").append(name).append("\":\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+
+    private static String orDash(String value) {
+        return value == null || value.isEmpty() ? "-" : value;
+    }
+
+}
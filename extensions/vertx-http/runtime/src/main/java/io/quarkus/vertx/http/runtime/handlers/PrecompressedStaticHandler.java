@@ -0,0 +1,195 @@
+package io.quarkus.vertx.http.runtime.handlers;
+
+import static io.quarkus.vertx.http.runtime.RoutingUtils.resolvePath;
+
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the compressed variants of static resources generated at build time.
+ * <p>
+ * The variant is selected according to the {@code Accept-Encoding} header of the request and sent with
+ * {@link HttpServerResponse#sendFile(String)}, i.e. the content is not compressed per request. Requests for resources
+ * without a variant, requests for hidden files if they are not included, requests that do not accept any of the variants and
+ * range requests are delegated to the next handler.
+ */
+public class PrecompressedStaticHandler implements Handler<RoutingContext> {
+
+    private static final String VARY_VALUE = HttpHeaders.ACCEPT_ENCODING.toString();
+    private static final String IDENTITY = "identity";
+    private static final String ANY = "*";
+
+    private final Map<String, List<PrecompressedVariant>> resources;
+    private final String indexPage;
+    private final Charset defaultEncoding;
+    private final boolean includeHidden;
+    private final String cacheControl;
+
+    /**
+     *
+     * @param resources the variants of a resource path, in the order of preference
+     * @param indexPage the index page
+     * @param defaultEncoding the charset of text resources
+     * @param includeHidden whether hidden files are served
+     * @param maxAgeSeconds the max age of the resources, or a negative value if caching is disabled
+     */
+    public PrecompressedStaticHandler(Map<String, List<PrecompressedVariant>> resources, String indexPage,
+            Charset defaultEncoding, boolean includeHidden, long maxAgeSeconds) {
+        this.resources = resources;
+        // normalize index page like StaticHandler
+        this.indexPage = indexPage.charAt(0) == '/' ? indexPage.substring(1) : indexPage;
+        this.defaultEncoding = defaultEncoding;
+        this.includeHidden = includeHidden;
+        this.cacheControl = maxAgeSeconds < 0 ? null : "public, immutable, max-age=" + maxAgeSeconds;
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        HttpServerRequest request = ctx.request();
+        if ((request.method() != HttpMethod.GET && request.method() != HttpMethod.HEAD)
+                || request.headers().contains(HttpHeaderNames.RANGE)) {
+            ctx.next();
+            return;
+        }
+        String rel = resolvePath(ctx);
+        if (rel == null) {
+            ctx.next();
+            return;
+        }
+        String path = rel.endsWith("/") ? rel.concat(indexPage) : rel;
+        if (!includeHidden && path.charAt(path.lastIndexOf('/') + 1) == '.') {
+            ctx.next();
+            return;
+        }
+        List<PrecompressedVariant> variants = resources.get(path);
+        if (variants == null) {
+            ctx.next();
+            return;
+        }
+        HttpServerResponse response = ctx.response();
+        // The representation depends on the Accept-Encoding header, even if the identity is served by the next handler
+        response.headers().set(HttpHeaders.VARY, VARY_VALUE);
+        PrecompressedVariant variant = select(request.getHeader(HttpHeaders.ACCEPT_ENCODING), variants);
+        if (variant == null) {
+            ctx.next();
+            return;
+        }
+        response.headers().set(HttpHeaders.ETAG, variant.etag());
+        if (cacheControl != null) {
+            response.headers().set(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), variant.etag())) {
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return;
+        }
+        String contentType = MimeMapping.getMimeTypeForFilename(path);
+        if (contentType != null) {
+            if (contentType.startsWith("text")) {
+                response.headers().set(HttpHeaders.CONTENT_TYPE, contentType + ";charset=" + defaultEncoding);
+            } else {
+                response.headers().set(HttpHeaders.CONTENT_TYPE, contentType);
+            }
+        }
+        // The HTTP compression handler leaves responses with a content coding other than identity untouched
+        response.headers().set(HttpHeaders.CONTENT_ENCODING, variant.encoding());
+        if (request.method() == HttpMethod.HEAD) {
+            response.headers().set(HttpHeaders.CONTENT_LENGTH, Long.toString(variant.length()));
+            response.end();
+        } else {
+            response.sendFile(variant.file()).onFailure(t -> {
+                if (!response.headWritten()) {
+                    ctx.fail(t);
+                }
+            });
+        }
+    }
+
+    /**
+     * Selects the variant with the highest quality value in the {@code Accept-Encoding} header. The order of the variants
+     * breaks ties. No variant is selected if the identity is preferred.
+     *
+     * @param acceptEncoding the value of the header, may be {@code null}
+     * @param variants the variants, in the order of preference
+     * @return the variant, or {@code null} if the identity should be served
+     */
+    static PrecompressedVariant select(String acceptEncoding, List<PrecompressedVariant> variants) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+        Map<String, Float> qualities = new HashMap<>();
+        for (String coding : acceptEncoding.split(",")) {
+            int paramsStart = coding.indexOf(';');
+            String name = (paramsStart == -1 ? coding : coding.substring(0, paramsStart)).trim().toLowerCase(Locale.ROOT);
+            if (name.isEmpty()) {
+                continue;
+            }
+            qualities.put(name, paramsStart == -1 ? 1.0f : quality(coding.substring(paramsStart + 1)));
+        }
+        Float any = qualities.get(ANY);
+        PrecompressedVariant selected = null;
+        float selectedQuality = 0;
+        for (PrecompressedVariant variant : variants) {
+            Float quality = qualities.getOrDefault(variant.encoding(), any);
+            if (quality != null && quality > selectedQuality) {
+                selected = variant;
+                selectedQuality = quality;
+            }
+        }
+        if (selected != null) {
+            Float identity = qualities.getOrDefault(IDENTITY, any);
+            if (identity != null && identity > selectedQuality) {
+                return null;
+            }
+        }
+        return selected;
+    }
+
+    private static float quality(String params) {
+        for (String param : params.split(";")) {
+            param = param.trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    float quality = Float.parseFloat(param.substring(2).trim());
+                    return quality < 0 || quality > 1 ? 0 : quality;
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1.0f;
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.equals(ANY)) {
+                return true;
+            }
+            // weak comparison
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
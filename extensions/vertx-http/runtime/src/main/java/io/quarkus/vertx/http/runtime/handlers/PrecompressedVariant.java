@@ -0,0 +1,13 @@
+package io.quarkus.vertx.http.runtime.handlers;
+
+/**
+ * A compressed variant of a static resource generated at build time.
+ *
+ * @param encoding the content coding, e.g. {@code br}
+ * @param file the classpath location of the variant
+ * @param etag the strong entity tag of the variant
+ * @param length the length of the variant in bytes
+ */
+public record PrecompressedVariant(String encoding, String file, String etag, long length) {
+
+}
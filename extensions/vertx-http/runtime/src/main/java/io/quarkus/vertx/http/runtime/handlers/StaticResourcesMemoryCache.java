@@ -0,0 +1,235 @@
+package io.quarkus.vertx.http.runtime.handlers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.impl.Utils;
+
+/**
+ * An in-memory cache of static resources from the classpath.
+ * <p>
+ * A resource is loaded on a worker thread when it's requested for the first time. The content is stored in a read-only
+ * direct buffer and the response headers are computed once. A cache hit is answered directly on the event loop. Resources that
+ * exceed the maximum entry size, or the remaining budget, are delegated to the fallback handler, as well as range requests.
+ * <p>
+ * The entries are never evicted as the set of static resources is fixed.
+ */
+public class StaticResourcesMemoryCache {
+
+    private static final Logger LOG = Logger.getLogger(StaticResourcesMemoryCache.class);
+
+    // Marks a resource that is not cached
+    private static final CachedResource NOT_CACHED = new CachedResource(null, null, null, null);
+
+    private final ConcurrentMap<String, CachedResource> resources = new ConcurrentHashMap<>();
+    private final AtomicLong size = new AtomicLong();
+    private final ClassLoader classLoader;
+    private final String root;
+    private final long maxSize;
+    private final int maxEntrySize;
+    private final String defaultContentEncoding;
+    private final boolean includeHidden;
+    private final boolean enableRangeSupport;
+    private final String cacheControl;
+
+    /**
+     *
+     * @param classLoader the class loader used to load the resources
+     * @param root the classpath root of the resources
+     * @param maxSize the maximum total size of the cached resources
+     * @param maxEntrySize the maximum size of a cached resource
+     * @param defaultContentEncoding the charset of text resources
+     * @param includeHidden whether hidden files are served
+     * @param enableRangeSupport whether range requests are supported
+     * @param maxAgeSeconds the max age of the resources, or a negative value if caching is disabled
+     */
+    public StaticResourcesMemoryCache(ClassLoader classLoader, String root, long maxSize, long maxEntrySize,
+            String defaultContentEncoding, boolean includeHidden, boolean enableRangeSupport, long maxAgeSeconds) {
+        this.classLoader = classLoader;
+        this.root = root;
+        this.maxSize = maxSize;
+        this.maxEntrySize = (int) Math.min(maxEntrySize, Integer.MAX_VALUE - 1);
+        this.defaultContentEncoding = defaultContentEncoding;
+        this.includeHidden = includeHidden;
+        this.enableRangeSupport = enableRangeSupport;
+        this.cacheControl = maxAgeSeconds < 0 ? null : "public, immutable, max-age=" + maxAgeSeconds;
+    }
+
+    /**
+     *
+     * @param ctx the routing context
+     * @param path the path of the resource relative to the root
+     * @param fallback the handler of requests that are not answered from the cache
+     */
+    public void handle(RoutingContext ctx, String path, Handler<RoutingContext> fallback) {
+        HttpServerRequest request = ctx.request();
+        if ((request.method() != HttpMethod.GET && request.method() != HttpMethod.HEAD)
+                || request.headers().contains(HttpHeaderNames.RANGE)
+                || (!includeHidden && path.charAt(path.lastIndexOf('/') + 1) == '.')) {
+            fallback.handle(ctx);
+            return;
+        }
+        CachedResource resource = resources.get(path);
+        if (resource == NOT_CACHED) {
+            fallback.handle(ctx);
+        } else if (resource != null) {
+            send(ctx, resource);
+        } else if (size.get() >= maxSize) {
+            fallback.handle(ctx);
+        } else {
+            ctx.vertx().executeBlocking(() -> load(path), false).onComplete(ar -> {
+                if (ar.failed()) {
+                    LOG.debugf(ar.cause(), "Unable to cache the static resource %s", path);
+                    fallback.handle(ctx);
+                } else if (ar.result() == NOT_CACHED) {
+                    fallback.handle(ctx);
+                } else {
+                    send(ctx, ar.result());
+                }
+            });
+        }
+    }
+
+    private void send(RoutingContext ctx, CachedResource resource) {
+        HttpServerResponse response = ctx.response();
+        response.headers().addAll(resource.validators());
+        if (matches(ctx.request().getHeader(HttpHeaders.IF_NONE_MATCH), resource.etag())) {
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return;
+        }
+        response.headers().addAll(resource.headers());
+        if (ctx.request().method() == HttpMethod.HEAD) {
+            response.end();
+        } else {
+            // Vert.x writes an unreleasable slice of the buffer so the content is neither copied nor released
+            response.end(Buffer.buffer(resource.content()));
+        }
+    }
+
+    private CachedResource load(String path) throws IOException {
+        CachedResource resource = resources.get(path);
+        if (resource != null) {
+            return resource;
+        }
+        URL url = classLoader.getResource(root + path);
+        if (url == null) {
+            return notCached(path);
+        }
+        URLConnection connection = url.openConnection();
+        long lastModified = connection.getLastModified();
+        byte[] data;
+        try (InputStream in = connection.getInputStream()) {
+            data = in.readNBytes(maxEntrySize + 1);
+        }
+        if (data.length > maxEntrySize) {
+            return notCached(path);
+        }
+        if (size.addAndGet(data.length) > maxSize) {
+            // The resource does not fit in the remaining budget, and it never will as the entries are not evicted
+            size.addAndGet(-data.length);
+            return notCached(path);
+        }
+        resource = create(path, data, lastModified);
+        CachedResource existing = resources.putIfAbsent(path, resource);
+        if (existing != null) {
+            size.addAndGet(-data.length);
+            return existing;
+        }
+        return resource;
+    }
+
+    private CachedResource notCached(String path) {
+        resources.putIfAbsent(path, NOT_CACHED);
+        return NOT_CACHED;
+    }
+
+    private CachedResource create(String path, byte[] data, long lastModified) {
+        // A direct buffer allocated by the JDK is freed by the GC
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data).flip();
+        ByteBuf content = Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(direct).asReadOnly());
+
+        String etag = '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(sha256(data)) + '"';
+        MultiMap validators = HttpHeaders.headers();
+        validators.set(HttpHeaders.ETAG, etag);
+        if (lastModified > 0) {
+            validators.set(HttpHeaders.LAST_MODIFIED, Utils.formatRFC1123DateTime(lastModified));
+        }
+        if (cacheControl != null) {
+            validators.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        // The response may be compressed
+        validators.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        MultiMap headers = HttpHeaders.headers();
+        String contentType = MimeMapping.getMimeTypeForFilename(path);
+        if (contentType != null) {
+            if (contentType.startsWith("text")) {
+                headers.set(HttpHeaders.CONTENT_TYPE, contentType + ";charset=" + defaultContentEncoding);
+            } else {
+                headers.set(HttpHeaders.CONTENT_TYPE, contentType);
+            }
+        }
+        headers.set(HttpHeaders.CONTENT_LENGTH, Integer.toString(data.length));
+        if (enableRangeSupport) {
+            headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        }
+        return new CachedResource(content, etag, validators, headers);
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            // weak comparison
+            if (tag.equals("*") || tag.equals(etag) || (tag.startsWith("W/") && tag.substring(2).equals(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] sha256(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     *
+     * @param content the read-only content
+     * @param etag the strong entity tag
+     * @param validators the headers of both full and not modified responses
+     * @param headers the headers of full responses
+     */
+    record CachedResource(ByteBuf content, String etag, MultiMap validators, MultiMap headers) {
+    }
+
+}
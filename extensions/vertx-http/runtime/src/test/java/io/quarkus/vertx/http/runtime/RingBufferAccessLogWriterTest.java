@@ -0,0 +1,89 @@
+package io.quarkus.vertx.http.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.vertx.http.runtime.AccessLogConfig.RingBufferFormat;
+import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogEntry;
+import io.quarkus.vertx.http.runtime.filters.accesslog.RingBufferAccessLogWriter;
+
+class RingBufferAccessLogWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testTextFormat() throws IOException {
+        try (RingBufferAccessLogWriter writer = new RingBufferAccessLogWriter(16, RingBufferFormat.TEXT, tempDir, "access",
+                ".log", true)) {
+            writer.start();
+            writer.log(entry("/hello", 1234, -1, "https://example.com/"));
+            writer.log(entry("/empty", 0, -1, null));
+        }
+
+        List<String> lines = Files.readAllLines(tempDir.resolve("access.log"), StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).matches("127\\.0\\.0\\.1 - alice \\[\\d{2}/\\w{3}/\\d{4}:\\d{2}:\\d{2}:\\d{2} [+-]\\d{4}] "
+                + "\"GET /hello HTTP/1\\.1\" 200 1234 \"https://example\\.com/\" \"curl/8\\.0\"");
+        assertThat(lines.get(1)).endsWith("\"GET /empty HTTP/1.1\" 200 - \"-\" \"curl/8.0\"");
+    }
+
+    @Test
+    void testJsonFormat() throws IOException {
+        try (RingBufferAccessLogWriter writer = new RingBufferAccessLogWriter(16, RingBufferFormat.JSON, tempDir, "access.",
+                "json", false)) {
+            writer.start();
+            writer.log(entry("/hello?name=\"quarkus\"\\", 1234, 5_000_000, null));
+        }
+
+        List<String> lines = Files.readAllLines(tempDir.resolve("access.json"), StandardCharsets.UTF_8);
+        assertThat(lines).containsExactly("{\"timestamp\":\"2024-01-02T03:04:05Z\",\"remoteHost\":\"127.0.0.1\","
+                + "\"remoteUser\":\"alice\",\"method\":\"GET\",\"uri\":\"/hello?name=\\\"quarkus\\\"\\\\\","
+                + "\"protocol\":\"HTTP/1.1\",\"status\":200,\"bytesSent\":1234,\"responseTimeMillis\":5,"
+                + "\"userAgent\":\"curl/8.0\"}");
+    }
+
+    @Test
+    void testDropOnOverflow() throws IOException {
+        try (RingBufferAccessLogWriter writer = new RingBufferAccessLogWriter(4, RingBufferFormat.TEXT, tempDir, "access",
+                ".log", true)) {
+            // the writer thread is not started so the ring buffer is not drained
+            for (int i = 0; i < 10; i++) {
+                writer.log(entry("/" + i, 1, -1, null));
+            }
+            assertThat(writer.getDroppedCount()).isEqualTo(6);
+            writer.start();
+        }
+
+        assertThat(Files.readAllLines(tempDir.resolve("access.log"), StandardCharsets.UTF_8)).hasSize(4);
+    }
+
+    @Test
+    void testCloseWritesAllEntries() throws IOException {
+        try (RingBufferAccessLogWriter writer = new RingBufferAccessLogWriter(4096, RingBufferFormat.TEXT, tempDir, "access",
+                ".log", true)) {
+            // more entries than the writer thread drains at once
+            for (int i = 0; i < 2500; i++) {
+                writer.log(entry("/" + i, 1, -1, null));
+            }
+            writer.start();
+        }
+
+        List<String> lines = Files.readAllLines(tempDir.resolve("access.log"), StandardCharsets.UTF_8);
+        assertThat(lines).hasSize(2500);
+        assertThat(lines.get(2499)).contains("\"GET /2499 HTTP/1.1\"");
+    }
+
+    private static AccessLogEntry entry(String uri, long bytesSent, long responseTimeNanos, String referer) {
+        return new AccessLogEntry(1704164645000L, "127.0.0.1", "alice", "GET", uri, "HTTP/1.1", 200, bytesSent,
+                responseTimeNanos, referer, "curl/8.0");
+    }
+}
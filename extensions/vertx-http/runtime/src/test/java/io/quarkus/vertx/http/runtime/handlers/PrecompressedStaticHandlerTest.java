@@ -0,0 +1,45 @@
+package io.quarkus.vertx.http.runtime.handlers;
+
+import static io.quarkus.vertx.http.runtime.handlers.PrecompressedStaticHandler.select;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PrecompressedStaticHandlerTest {
+
+    private static final PrecompressedVariant BR = new PrecompressedVariant("br", "index.html.br", "\"1\"", 1);
+    private static final PrecompressedVariant ZSTD = new PrecompressedVariant("zstd", "index.html.zst", "\"2\"", 2);
+    private static final PrecompressedVariant GZIP = new PrecompressedVariant("gzip", "index.html.gz", "\"3\"", 3);
+    private static final List<PrecompressedVariant> VARIANTS = List.of(BR, ZSTD, GZIP);
+
+    @Test
+    public void testServerPreference() {
+        Assertions.assertSame(BR, select("gzip, deflate, br, zstd", VARIANTS));
+        Assertions.assertSame(ZSTD, select("gzip, zstd", VARIANTS));
+        Assertions.assertSame(GZIP, select("GZIP", VARIANTS));
+        Assertions.assertSame(BR, select("*", VARIANTS));
+    }
+
+    @Test
+    public void testQualityValues() {
+        Assertions.assertSame(GZIP, select("br;q=0.5, gzip;q=0.8", VARIANTS));
+        Assertions.assertSame(ZSTD, select("br;q=0, *;q=0.1", VARIANTS));
+        Assertions.assertSame(GZIP, select("br;q=invalid, gzip", VARIANTS));
+        Assertions.assertSame(GZIP, select("br ; q=0.3, gzip ; Q=0.4", VARIANTS));
+    }
+
+    @Test
+    public void testIdentity() {
+        Assertions.assertNull(select(null, VARIANTS));
+        Assertions.assertNull(select("", VARIANTS));
+        Assertions.assertNull(select("identity", VARIANTS));
+        Assertions.assertNull(select("deflate", VARIANTS));
+        Assertions.assertNull(select("br;q=0, gzip;q=0", VARIANTS));
+        Assertions.assertNull(select("identity, gzip;q=0.5", VARIANTS));
+        Assertions.assertSame(GZIP, select("identity;q=0.5, gzip", VARIANTS));
+        Assertions.assertNull(select("gzip", List.of(BR)));
+    }
+
+}
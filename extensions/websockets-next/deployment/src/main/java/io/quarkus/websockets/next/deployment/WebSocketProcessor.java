@@ -107,6 +107,7 @@
 import io.quarkus.gizmo2.desc.ConstructorDesc;
 import io.quarkus.gizmo2.desc.FieldDesc;
 import io.quarkus.gizmo2.desc.MethodDesc;
+import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.security.identity.IdentityProvider;
 import io.quarkus.security.identity.IdentityProviderManager;
@@ -138,6 +139,7 @@
 import io.quarkus.websockets.next.deployment.Callback.MessageType;
 import io.quarkus.websockets.next.deployment.Callback.Target;
 import io.quarkus.websockets.next.deployment.config.WebSocketsServerBuildConfig;
+import io.quarkus.websockets.next.deployment.config.WebSocketsServerBuildConfig.ClusterTransport;
 import io.quarkus.websockets.next.runtime.BasicWebSocketConnectorImpl;
 import io.quarkus.websockets.next.runtime.ClientConnectionManager;
 import io.quarkus.websockets.next.runtime.Codecs;
@@ -158,6 +160,8 @@
 import io.quarkus.websockets.next.runtime.WebSocketHttpServerOptionsCustomizer;
 import io.quarkus.websockets.next.runtime.WebSocketSecurityIdentityAssociation;
 import io.quarkus.websockets.next.runtime.WebSocketServerRecorder;
+import io.quarkus.websockets.next.runtime.cluster.InProcessClusterTransport;
+import io.quarkus.websockets.next.runtime.cluster.RedisClusterTransport;
 import io.quarkus.websockets.next.runtime.config.WebSocketsServerRuntimeConfig;
 import io.quarkus.websockets.next.runtime.kotlin.ApplicationCoroutineScope;
 import io.quarkus.websockets.next.runtime.kotlin.CoroutineInvoker;
@@ -251,6 +255,26 @@ void additionalBeans(CombinedIndexBuildItem combinedIndex, BuildProducer<Additio
         additionalBeans.produce(unremovable.build());
     }
 
+    @BuildStep
+    void clusterTransport(WebSocketsServerBuildConfig serverConfig, Capabilities capabilities,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        Optional<ClusterTransport> transport = serverConfig.cluster().transport();
+        if (transport.isEmpty()) {
+            return;
+        }
+        switch (transport.get()) {
+            case IN_PROCESS -> additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(InProcessClusterTransport.class));
+            case REDIS -> {
+                if (!capabilities.isPresent(Capability.REDIS_CLIENT)) {
+                    throw new ConfigurationException(
+                            "The Redis cluster transport requires the quarkus-redis-client extension",
+                            Set.of("quarkus.websockets-next.server.cluster.transport"));
+                }
+                additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(RedisClusterTransport.class));
+            }
+        }
+    }
+
     @BuildStep
     void produceCoroutineScope(BuildProducer<AdditionalBeanBuildItem> additionalBean) {
         if (!QuarkusClassLoader.isClassPresentAtRuntime("kotlinx.coroutines.CoroutineScope")) {
@@ -1,5 +1,7 @@
 package io.quarkus.websockets.next.deployment.config;
 
+import java.util.Optional;
+
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -38,6 +40,33 @@ public interface WebSocketsServerBuildConfig {
     @WithDefault("false")
     boolean propagateSubprotocolHeaders();
 
+    /**
+     * Cluster configuration.
+     */
+    Cluster cluster();
+
+    interface Cluster {
+
+        /**
+         * The built-in transport used to exchange messages with the other application nodes. If not set, a CDI bean that
+         * implements {@code io.quarkus.websockets.next.runtime.spi.cluster.WebSocketClusterTransport} is used if available.
+         * Otherwise, broadcasts and messages sent by connection id only reach the connections of the local node.
+         */
+        Optional<ClusterTransport> transport();
+
+    }
+
+    enum ClusterTransport {
+        /**
+         * The messages are only exchanged between the applications running in the same JVM. Useful for tests.
+         */
+        IN_PROCESS,
+        /**
+         * The messages are exchanged through a Redis channel. Requires the {@code quarkus-redis-client} extension.
+         */
+        REDIS
+    }
+
     enum ContextActivation {
         /**
          * The context is only activated if needed.
@@ -0,0 +1,103 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.WebSocketClient;
+import io.vertx.core.http.WebSocketClientOptions;
+
+public class BroadcastEncodedMessageTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Ticker.class, Tick.class);
+            })
+            .overrideConfigKey("quarkus.http.websocket-server.max-frame-size", "100");
+
+    @TestHTTPResource("ticker")
+    URI tickerUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testBroadcast() throws Exception {
+        // The clients reject frames larger than the max frame size of the server
+        WebSocketClient client1 = vertx.createWebSocketClient(new WebSocketClientOptions().setMaxFrameSize(100));
+        WebSocketClient client2 = vertx.createWebSocketClient(new WebSocketClientOptions().setMaxFrameSize(100));
+        try {
+            List<String> messages1 = new CopyOnWriteArrayList<>();
+            List<String> messages2 = new CopyOnWriteArrayList<>();
+            CountDownLatch messagesLatch = new CountDownLatch(8);
+            io.vertx.core.http.WebSocket ws1 = connect(client1, messages1, messagesLatch);
+            connect(client2, messages2, messagesLatch);
+
+            ws1.writeTextMessage("pojo");
+            ws1.writeTextMessage("string");
+            // Fewer chars but more bytes than the max frame size - the message is fragmented
+            ws1.writeTextMessage("medium");
+            // Larger than the max frame size - the message is fragmented
+            ws1.writeTextMessage("large");
+            assertTrue(messagesLatch.await(5, TimeUnit.SECONDS));
+
+            assertEquals(List.of("{\"symbol\":\"QRKS\",\"price\":42}", "Ahoj světe!", "ž".repeat(60), "ž".repeat(200)),
+                    messages1);
+            assertEquals(messages1, messages2);
+        } finally {
+            client1.close().toCompletionStage().toCompletableFuture().get();
+            client2.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    io.vertx.core.http.WebSocket connect(WebSocketClient client, List<String> messages, CountDownLatch messagesLatch)
+            throws Exception {
+        io.vertx.core.http.WebSocket ws = client.connect(tickerUri.getPort(), tickerUri.getHost(), tickerUri.getPath())
+                .toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+        ws.textMessageHandler(msg -> {
+            messages.add(msg);
+            messagesLatch.countDown();
+        });
+        return ws;
+    }
+
+    public record Tick(String symbol, int price) {
+    }
+
+    @WebSocket(path = "/ticker")
+    public static class Ticker {
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        void message(String message) {
+            switch (message) {
+                case "pojo" -> connection.broadcast().sendTextAndAwait(new Tick("QRKS", 42));
+                case "string" -> connection.broadcast().sendTextAndAwait("Ahoj světe!");
+                case "medium" -> connection.broadcast().sendTextAndAwait("ž".repeat(60));
+                case "large" -> connection.broadcast().sendTextAndAwait("ž".repeat(200));
+                default -> throw new IllegalArgumentException(message);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,125 @@
+package io.quarkus.websockets.next.test.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.OpenConnections;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.runtime.cluster.InProcessClusterTransport;
+import io.quarkus.websockets.next.runtime.spi.cluster.WebSocketClusterMessage;
+import io.quarkus.websockets.next.runtime.spi.cluster.WebSocketClusterMessage.Kind;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.WebSocketClient;
+
+public class ClusterBroadcastTest {
+
+    static final String OTHER_NODE = "other";
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Chat.class);
+            })
+            .overrideConfigKey("quarkus.websockets-next.server.cluster.transport", "in-process");
+
+    @TestHTTPResource("chat")
+    URI chatUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    InProcessClusterTransport transport;
+
+    @Inject
+    OpenConnections openConnections;
+
+    @Test
+    public void testClusteredMessages() throws Exception {
+        // Acts as the other nodes of the cluster
+        List<WebSocketClusterMessage> published = new CopyOnWriteArrayList<>();
+        transport.subscribe(batch -> {
+            for (WebSocketClusterMessage message : batch) {
+                if (!message.nodeId().equals(OTHER_NODE)) {
+                    published.add(message);
+                }
+            }
+        });
+
+        WebSocketClient client = vertx.createWebSocketClient();
+        try {
+            LinkedBlockingQueue<String> messages = new LinkedBlockingQueue<>();
+            io.vertx.core.http.WebSocket ws = client.connect(chatUri.getPort(), chatUri.getHost(), chatUri.getPath())
+                    .toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+            ws.textMessageHandler(messages::add);
+            Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> openConnections.listAll().size() == 1);
+            String connectionId = openConnections.listAll().iterator().next().id();
+
+            // A local broadcast is published to the other nodes
+            ws.writeTextMessage("hello");
+            assertEquals("hello", messages.poll(5, TimeUnit.SECONDS));
+            Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> published.size() == 1);
+            WebSocketClusterMessage broadcast = published.get(0);
+            assertEquals("chat", broadcast.endpointId());
+            assertNull(broadcast.connectionId());
+            assertEquals(Kind.TEXT, broadcast.kind());
+            assertEquals("hello", new String(broadcast.payload(), StandardCharsets.UTF_8));
+
+            // A message sent to a connection that is not open on this node is published to the other nodes
+            openConnections.sendText("unknown", "ping").await().atMost(Duration.ofSeconds(5));
+            Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> published.size() == 2);
+            assertEquals("unknown", published.get(1).connectionId());
+            assertEquals("ping", new String(published.get(1).payload(), StandardCharsets.UTF_8));
+
+            // Messages published by other nodes are sent to the local connections
+            transport.publish(List.of(
+                    new WebSocketClusterMessage(OTHER_NODE, Kind.TEXT, "chat", null, bytes("remote broadcast")),
+                    new WebSocketClusterMessage(OTHER_NODE, Kind.TEXT, null, connectionId, bytes("remote direct"))))
+                    .toCompletableFuture().get(5, TimeUnit.SECONDS);
+            assertEquals("remote broadcast", messages.poll(5, TimeUnit.SECONDS));
+            assertEquals("remote direct", messages.poll(5, TimeUnit.SECONDS));
+            // Messages received from other nodes are not published again
+            assertEquals(2, published.size());
+            assertTrue(messages.isEmpty());
+        } finally {
+            client.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @WebSocket(path = "/chat", endpointId = "chat")
+    public static class Chat {
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        void message(String message) {
+            connection.broadcast().sendTextAndAwait(message);
+        }
+
+    }
+
+}
@@ -0,0 +1,131 @@
+package io.quarkus.websockets.next.test.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.inject.Inject;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.redis.datasource.pubsub.PubSubCommands.RedisSubscriber;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.OpenConnections;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.runtime.cluster.RedisClusterTransport;
+import io.quarkus.websockets.next.runtime.spi.cluster.WebSocketClusterMessage;
+import io.quarkus.websockets.next.runtime.spi.cluster.WebSocketClusterMessage.Kind;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.WebSocketClient;
+
+/**
+ * Exchanges the messages through the Redis instance started by Dev Services.
+ */
+public class RedisClusterTransportTest {
+
+    static final String OTHER_NODE = "other";
+    static final String CHANNEL = "websockets-test";
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Chat.class);
+            })
+            .overrideConfigKey("quarkus.websockets-next.server.cluster.transport", "redis")
+            .overrideConfigKey("quarkus.websockets-next.server.cluster.redis-channel", CHANNEL);
+
+    @TestHTTPResource("chat")
+    URI chatUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    RedisClusterTransport transport;
+
+    @Inject
+    RedisDataSource redis;
+
+    @Inject
+    OpenConnections openConnections;
+
+    @Test
+    public void testClusteredMessages() throws Exception {
+        // Acts as the other nodes of the cluster
+        List<String> published = new CopyOnWriteArrayList<>();
+        RedisSubscriber subscriber = redis.pubsub(byte[].class).subscribe(CHANNEL,
+                message -> published.add(new String(message, StandardCharsets.UTF_8)));
+
+        WebSocketClient client = vertx.createWebSocketClient();
+        try {
+            AtomicBoolean ready = new AtomicBoolean();
+            LinkedBlockingQueue<String> messages = new LinkedBlockingQueue<>();
+            io.vertx.core.http.WebSocket ws = client.connect(chatUri.getPort(), chatUri.getHost(), chatUri.getPath())
+                    .toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+            ws.textMessageHandler(msg -> {
+                if (msg.equals("ready")) {
+                    ready.set(true);
+                } else {
+                    messages.add(msg);
+                }
+            });
+            Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> openConnections.listAll().size() == 1);
+            String connectionId = openConnections.listAll().iterator().next().id();
+
+            // The application subscribes to the channel asynchronously
+            Awaitility.await().pollInterval(Duration.ofMillis(200)).atMost(Duration.ofSeconds(10)).until(() -> {
+                transport.publish(List.of(new WebSocketClusterMessage(OTHER_NODE, Kind.TEXT, "chat", null, bytes("ready"))))
+                        .toCompletableFuture().get(5, TimeUnit.SECONDS);
+                return ready.get();
+            });
+
+            // A local broadcast is published to the channel
+            ws.writeTextMessage("hello");
+            assertEquals("hello", messages.poll(5, TimeUnit.SECONDS));
+            Awaitility.await().atMost(Duration.ofSeconds(5))
+                    .until(() -> published.stream().anyMatch(m -> m.contains("chat") && m.contains("hello")));
+
+            // Messages published by other nodes are sent to the local connections
+            transport.publish(List.of(
+                    new WebSocketClusterMessage(OTHER_NODE, Kind.TEXT, "chat", null, bytes("remote broadcast")),
+                    new WebSocketClusterMessage(OTHER_NODE, Kind.TEXT, null, connectionId, bytes("remote direct"))))
+                    .toCompletableFuture().get(5, TimeUnit.SECONDS);
+            assertEquals("remote broadcast", messages.poll(5, TimeUnit.SECONDS));
+            assertEquals("remote direct", messages.poll(5, TimeUnit.SECONDS));
+        } finally {
+            subscriber.unsubscribe();
+            client.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @WebSocket(path = "/chat", endpointId = "chat")
+    public static class Chat {
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        void message(String message) {
+            connection.broadcast().sendTextAndAwait(message);
+        }
+
+    }
+
+}
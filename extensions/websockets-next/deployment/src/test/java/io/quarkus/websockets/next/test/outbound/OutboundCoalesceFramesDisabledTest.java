@@ -0,0 +1,80 @@
+package io.quarkus.websockets.next.test.outbound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.netty.handler.flush.FlushConsolidationHandler;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.WebSocketClient;
+import io.vertx.core.net.impl.ConnectionBase;
+import io.vertx.ext.web.Router;
+
+public class OutboundCoalesceFramesDisabledTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Echo.class);
+            });
+
+    static volatile ConnectionBase serverConnection;
+
+    @TestHTTPResource("echo")
+    URI echoUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testFramesNotCoalescedByDefault() throws Exception {
+        WebSocketClient client = vertx.createWebSocketClient();
+        try {
+            CompletableFuture<String> reply = new CompletableFuture<>();
+            io.vertx.core.http.WebSocket ws = client.connect(echoUri.getPort(), echoUri.getHost(), echoUri.getPath())
+                    .toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+            ws.textMessageHandler(reply::complete);
+            ws.writeTextMessage("hello");
+            assertEquals("hello", reply.get(5, TimeUnit.SECONDS));
+
+            assertNotNull(serverConnection);
+            assertNull(serverConnection.channelHandlerContext().pipeline().get(FlushConsolidationHandler.class));
+        } finally {
+            client.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    static void captureConnection(@Observes Router router) {
+        router.route("/echo").order(-1).handler(rc -> {
+            if (rc.request().connection() instanceof ConnectionBase connection) {
+                serverConnection = connection;
+            }
+            rc.next();
+        });
+    }
+
+    @WebSocket(path = "/echo")
+    public static class Echo {
+
+        @OnTextMessage
+        String process(String message) {
+            return message;
+        }
+
+    }
+
+}
@@ -0,0 +1,108 @@
+package io.quarkus.websockets.next.test.outbound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.netty.handler.flush.FlushConsolidationHandler;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.WebSocketClient;
+import io.vertx.core.net.impl.ConnectionBase;
+import io.vertx.ext.web.Router;
+
+public class OutboundCoalesceFramesTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Burst.class);
+            })
+            .overrideConfigKey("quarkus.websockets-next.server.outbound.coalesce-frames", "true");
+
+    static volatile ConnectionBase serverConnection;
+
+    @TestHTTPResource("burst")
+    URI burstUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testFramesWrittenInOrder() throws Exception {
+        WebSocketClient client = vertx.createWebSocketClient();
+        try {
+            List<String> received = new CopyOnWriteArrayList<>();
+            CountDownLatch endLatch = new CountDownLatch(1);
+            io.vertx.core.http.WebSocket ws = client.connect(burstUri.getPort(), burstUri.getHost(), burstUri.getPath())
+                    .toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+            ws.textMessageHandler(msg -> {
+                if (msg.equals("end")) {
+                    endLatch.countDown();
+                } else {
+                    received.add(msg);
+                }
+            });
+            // More frames than FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES are written
+            // within one event loop task, so that some of them are flushed explicitly before the end of the task
+            ws.writeTextMessage("600");
+            assertTrue(endLatch.await(10, TimeUnit.SECONDS));
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < 600; i++) {
+                expected.add(String.valueOf(i));
+            }
+            assertEquals(expected, received);
+
+            assertNotNull(serverConnection);
+            assertNotNull(serverConnection.channelHandlerContext().pipeline().get(FlushConsolidationHandler.class));
+        } finally {
+            client.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    static void captureConnection(@Observes Router router) {
+        router.route("/burst").order(-1).handler(rc -> {
+            if (rc.request().connection() instanceof ConnectionBase connection) {
+                serverConnection = connection;
+            }
+            rc.next();
+        });
+    }
+
+    @WebSocket(path = "/burst")
+    public static class Burst {
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        Uni<Void> message(String message) {
+            // Runs on the event loop, so that all the frames are written within the same task
+            List<Uni<Void>> sends = new ArrayList<>();
+            for (int i = 0; i < Integer.parseInt(message); i++) {
+                sends.add(connection.sendText(String.valueOf(i)));
+            }
+            return Uni.join().all(sends).andFailFast().chain(() -> connection.sendText("end"));
+        }
+
+    }
+
+}
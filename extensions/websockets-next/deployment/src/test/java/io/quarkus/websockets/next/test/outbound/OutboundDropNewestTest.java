@@ -0,0 +1,106 @@
+package io.quarkus.websockets.next.test.outbound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.WebSocketClient;
+
+public class OutboundDropNewestTest {
+
+    private static final int COUNT = 4096;
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Flood.class);
+            })
+            .overrideConfigKey("quarkus.websockets-next.server.outbound.high-watermark", "65536")
+            .overrideConfigKey("quarkus.websockets-next.server.outbound.overflow-strategy", "drop-newest");
+
+    @TestHTTPResource("flood")
+    URI floodUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testMessagesDropped() throws Exception {
+        WebSocketClient client = vertx.createWebSocketClient();
+        try {
+            List<Integer> received = new CopyOnWriteArrayList<>();
+            CountDownLatch endLatch = new CountDownLatch(1);
+            io.vertx.core.http.WebSocket ws = client.connect(floodUri.getPort(), floodUri.getHost(), floodUri.getPath())
+                    .toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+            ws.textMessageHandler(msg -> {
+                if (msg.equals("end")) {
+                    endLatch.countDown();
+                } else {
+                    received.add(Integer.parseInt(msg.substring(0, msg.indexOf(':'))));
+                }
+            });
+            // Stop reading so that the outbound data of the server connection grows
+            ws.pause();
+            ws.writeTextMessage("flood");
+            assertTrue(Flood.SENT.await(10, TimeUnit.SECONDS));
+
+            ws.resume();
+            // The dropped messages are not failed, so the end message is sent once all the others are handled
+            assertTrue(endLatch.await(10, TimeUnit.SECONDS));
+            assertTrue(received.size() < COUNT, "No message was dropped");
+            List<Integer> sorted = new ArrayList<>(received);
+            sorted.sort(null);
+            assertEquals(sorted, received);
+            assertEquals(0, received.get(0));
+            // The messages sent while the connection is saturated are discarded
+            assertTrue(received.get(received.size() - 1) < COUNT - 1);
+        } finally {
+            client.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    @WebSocket(path = "/flood")
+    public static class Flood {
+
+        static final CountDownLatch SENT = new CountDownLatch(1);
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        void message(String message) {
+            String payload = "x".repeat(16 * 1024);
+            List<Uni<Void>> sends = new ArrayList<>();
+            for (int i = 0; i < COUNT; i++) {
+                sends.add(connection.sendText(i + ":" + payload));
+            }
+            SENT.countDown();
+            Uni.join().all(sends).andFailFast().subscribe().with(ignored -> {
+                connection.sendText("end").subscribe().with(v -> {
+                }, t -> {
+                });
+            }, t -> {
+            });
+        }
+
+    }
+
+}
@@ -0,0 +1,92 @@
+package io.quarkus.websockets.next.test.outbound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.WebSocketException;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.WebSocketClient;
+
+public class OutboundHighWatermarkCloseTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Flood.class);
+            })
+            .overrideConfigKey("quarkus.websockets-next.server.outbound.high-watermark", "65536")
+            .overrideConfigKey("quarkus.websockets-next.server.outbound.overflow-strategy", "close")
+            .overrideConfigKey("quarkus.websockets-next.server.outbound.coalesce-frames", "true");
+
+    @TestHTTPResource("flood")
+    URI floodUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testSlowConsumerClosed() throws Exception {
+        WebSocketClient client = vertx.createWebSocketClient();
+        try {
+            CountDownLatch closedLatch = new CountDownLatch(1);
+            AtomicReference<Short> closeStatus = new AtomicReference<>();
+            io.vertx.core.http.WebSocket ws = client.connect(floodUri.getPort(), floodUri.getHost(), floodUri.getPath())
+                    .toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+            ws.textMessageHandler(msg -> {
+            });
+            ws.closeHandler(v -> {
+                closeStatus.set(ws.closeStatusCode());
+                closedLatch.countDown();
+            });
+            // Stop reading so that the outbound data of the server connection grows
+            ws.pause();
+            ws.writeTextMessage("flood");
+            assertTrue(Flood.FAILED.await(10, TimeUnit.SECONDS));
+
+            ws.resume();
+            assertTrue(closedLatch.await(10, TimeUnit.SECONDS));
+            assertEquals((short) 1013, closeStatus.get());
+        } finally {
+            client.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    @WebSocket(path = "/flood")
+    public static class Flood {
+
+        static final CountDownLatch FAILED = new CountDownLatch(1);
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        void message(String message) {
+            String payload = "x".repeat(16 * 1024);
+            for (int i = 0; i < 4096 && connection.isOpen(); i++) {
+                connection.sendText(payload).subscribe().with(ignored -> {
+                }, t -> {
+                    if (t instanceof WebSocketException) {
+                        FAILED.countDown();
+                    }
+                });
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,137 @@
+package io.quarkus.websockets.next.test.outbound;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.WebSocketException;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.WebSocketClient;
+
+public class OutboundSuspendTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Flood.class);
+            })
+            .overrideConfigKey("quarkus.websockets-next.server.outbound.high-watermark", "65536")
+            .overrideConfigKey("quarkus.websockets-next.server.outbound.max-queued", "1048576");
+
+    @TestHTTPResource("flood")
+    URI floodUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testQueuedMessagesWrittenInOrder() throws Exception {
+        WebSocketClient client = vertx.createWebSocketClient();
+        try {
+            Flood.sent = new CountDownLatch(1);
+            List<String> received = new CopyOnWriteArrayList<>();
+            CountDownLatch endLatch = new CountDownLatch(1);
+            io.vertx.core.http.WebSocket ws = client.connect(floodUri.getPort(), floodUri.getHost(), floodUri.getPath())
+                    .toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+            ws.textMessageHandler(msg -> {
+                if (msg.equals("end")) {
+                    endLatch.countDown();
+                } else {
+                    received.add(msg.substring(0, msg.indexOf(':')));
+                }
+            });
+            // Stop reading so that the outbound data of the server connection grows
+            ws.pause();
+            ws.writeTextMessage("48");
+            assertTrue(Flood.sent.await(10, TimeUnit.SECONDS));
+
+            ws.resume();
+            assertTrue(endLatch.await(10, TimeUnit.SECONDS));
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < 48; i++) {
+                expected.add(String.valueOf(i));
+            }
+            assertEquals(expected, received);
+        } finally {
+            client.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    @Test
+    public void testConnectionClosedOnceQueueLimitExceeded() throws Exception {
+        WebSocketClient client = vertx.createWebSocketClient();
+        try {
+            Flood.sent = new CountDownLatch(1);
+            CountDownLatch closedLatch = new CountDownLatch(1);
+            AtomicReference<Short> closeStatus = new AtomicReference<>();
+            io.vertx.core.http.WebSocket ws = client.connect(floodUri.getPort(), floodUri.getHost(), floodUri.getPath())
+                    .toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+            ws.textMessageHandler(msg -> {
+            });
+            ws.closeHandler(v -> {
+                closeStatus.set(ws.closeStatusCode());
+                closedLatch.countDown();
+            });
+            ws.pause();
+            ws.writeTextMessage("4096");
+            assertTrue(Flood.FAILED.await(10, TimeUnit.SECONDS));
+
+            ws.resume();
+            assertTrue(closedLatch.await(10, TimeUnit.SECONDS));
+            assertEquals((short) 1013, closeStatus.get());
+        } finally {
+            client.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+    @WebSocket(path = "/flood")
+    public static class Flood {
+
+        static final CountDownLatch FAILED = new CountDownLatch(1);
+
+        static volatile CountDownLatch sent;
+
+        @Inject
+        WebSocketConnection connection;
+
+        @OnTextMessage
+        void message(String message) {
+            String payload = "x".repeat(16 * 1024);
+            List<Uni<Void>> sends = new ArrayList<>();
+            for (int i = 0; i < Integer.parseInt(message) && connection.isOpen(); i++) {
+                sends.add(connection.sendText(i + ":" + payload).onFailure().invoke(t -> {
+                    if (t instanceof WebSocketException) {
+                        FAILED.countDown();
+                    }
+                }));
+            }
+            sent.countDown();
+            Uni.join().all(sends).andCollectFailures().subscribe().with(ignored -> {
+                connection.sendText("end").subscribe().with(v -> {
+                }, t -> {
+                });
+            }, t -> {
+            });
+        }
+
+    }
+
+}
@@ -9,6 +9,8 @@
 import static io.quarkus.websockets.next.test.telemetry.MetricsAsserter.assertClientMessagesCountBytesReceived;
 import static io.quarkus.websockets.next.test.telemetry.MetricsAsserter.assertClientMessagesCountBytesSent;
 import static io.quarkus.websockets.next.test.telemetry.MetricsAsserter.assertClientMessagesCountSent;
+import static io.quarkus.websockets.next.test.telemetry.MetricsAsserter.assertServerBroadcastCount;
+import static io.quarkus.websockets.next.test.telemetry.MetricsAsserter.assertServerBroadcastRecipients;
 import static io.quarkus.websockets.next.test.telemetry.MetricsAsserter.assertServerConnectionClosedTotal;
 import static io.quarkus.websockets.next.test.telemetry.MetricsAsserter.assertServerConnectionOpenedTotal;
 import static io.quarkus.websockets.next.test.telemetry.MetricsAsserter.assertServerErrorTotal;
@@ -449,6 +451,10 @@ public void testServerEndpoint_broadcasting() throws InterruptedException, Execu
 
         asserter.serverConnectionOpenedCount += 2;
         asserter.assertTotalMetricsForAllPaths(0, 0, 2, receivedBytes, sentBytes, 0, 0, 0, 4, 0);
+        // 2 messages broadcast to 2 connections
+        Awaitility.await().atMost(Duration.ofSeconds(12)).untilAsserted(() -> getMetrics()
+                .body(assertServerBroadcastCount(broadcast_Uri.getPath(), 2))
+                .body(assertServerBroadcastRecipients(broadcast_Uri.getPath(), 4)));
     }
 
     @Test
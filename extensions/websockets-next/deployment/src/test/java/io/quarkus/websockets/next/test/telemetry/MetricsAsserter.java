@@ -26,6 +26,8 @@ public final class MetricsAsserter {
     private static final String SERVER_BYTES = "quarkus.websockets.server.bytes";
     private static final String CLIENT_COUNT = "quarkus.websockets.client.count";
     private static final String CLIENT_BYTES = "quarkus.websockets.client.bytes";
+    private static final String SERVER_BROADCAST = "quarkus.websockets.server.broadcast";
+    private static final String SERVER_BROADCAST_RECIPIENTS = "quarkus.websockets.server.broadcast.recipients";
 
     public enum Direction {
         INBOUND,
@@ -183,8 +185,22 @@ static Matcher<String> assertClientConnectionClosedTotal(String path, int client
         return assertTotal(CLIENT_CONNECTION_CLOSED, clientConnectionClosedCount, path, null);
     }
 
+    static Matcher<String> assertServerBroadcastCount(String path, int serverBroadcastCount) {
+        return assertSum("%s_seconds_count".formatted(toPrometheusFormat(SERVER_BROADCAST)), serverBroadcastCount, path,
+                null);
+    }
+
+    static Matcher<String> assertServerBroadcastRecipients(String path, int serverBroadcastRecipients) {
+        return assertSum("%s_sum".formatted(toPrometheusFormat(SERVER_BROADCAST_RECIPIENTS)), serverBroadcastRecipients,
+                path, null);
+    }
+
     private static Matcher<String> assertTotal(String metricKey, int expectedCount, String path, Direction direction) {
-        var prometheusFormatKey = "%s_total".formatted(toPrometheusFormat(metricKey));
+        return assertSum("%s_total".formatted(toPrometheusFormat(metricKey)), expectedCount, path, direction);
+    }
+
+    private static Matcher<String> assertSum(String prometheusFormatKey, int expectedCount, String path,
+            Direction direction) {
         return new BaseMatcher<>() {
             @Override
             public boolean matches(Object o) {
@@ -6,6 +6,9 @@
 
 import jakarta.enterprise.inject.Default;
 
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
+
 /**
  * Provides convenient access to all open connections.
  * <p>
@@ -44,6 +47,38 @@ default Optional<WebSocketConnection> findByConnectionId(String connectionId) {
         return stream().filter(c -> c.id().equals(connectionId)).findFirst();
     }
 
+    /**
+     * Sends a text message to the connection with the given id.
+     * <p>
+     * If a cluster transport is configured and the connection is not open on this application node, the message is
+     * published to the other nodes and sent by the node the connection is open on.
+     *
+     * @param connectionId
+     * @param message
+     * @return a new {@link Uni} with a {@code null} item, completed when the message is sent or published
+     * @see WebSocketConnection#id()
+     */
+    default Uni<Void> sendText(String connectionId, String message) {
+        Optional<WebSocketConnection> connection = findByConnectionId(connectionId);
+        return connection.isPresent() ? connection.get().sendText(message) : Uni.createFrom().voidItem();
+    }
+
+    /**
+     * Sends a binary message to the connection with the given id.
+     * <p>
+     * If a cluster transport is configured and the connection is not open on this application node, the message is
+     * published to the other nodes and sent by the node the connection is open on.
+     *
+     * @param connectionId
+     * @param message
+     * @return a new {@link Uni} with a {@code null} item, completed when the message is sent or published
+     * @see WebSocketConnection#id()
+     */
+    default Uni<Void> sendBinary(String connectionId, Buffer message) {
+        Optional<WebSocketConnection> connection = findByConnectionId(connectionId);
+        return connection.isPresent() ? connection.get().sendBinary(message) : Uni.createFrom().voidItem();
+    }
+
     /**
      * Returns the stream of all open connections at the given time.
      *
@@ -0,0 +1,162 @@
+package io.quarkus.websockets.next.runtime;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.websockets.next.runtime.spi.cluster.WebSocketClusterMessage;
+import io.quarkus.websockets.next.runtime.spi.cluster.WebSocketClusterMessage.Kind;
+import io.quarkus.websockets.next.runtime.spi.cluster.WebSocketClusterTransport;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+
+/**
+ * Publishes the messages sent to the connections of other nodes through a {@link WebSocketClusterTransport} and
+ * dispatches the messages received from other nodes.
+ * <p>
+ * The first message queued after a flush schedules the next flush: at the end of the current event loop task if the
+ * batch window is zero, or once the window has elapsed otherwise. So, all the messages sent in the same event loop task, or
+ * during the window, are published as a single batch.
+ */
+class ClusterSupport {
+
+    private static final Logger LOG = Logger.getLogger(ClusterSupport.class);
+
+    private final String nodeId;
+    private final WebSocketClusterTransport transport;
+    private final Vertx vertx;
+    private final long windowInMillis;
+
+    // The following fields are guarded by this
+    private List<WebSocketClusterMessage> messages = new ArrayList<>();
+    private List<UniEmitter<? super Void>> emitters = new ArrayList<>();
+    private boolean flushScheduled;
+
+    ClusterSupport(WebSocketClusterTransport transport, Vertx vertx, Duration batchWindow,
+            Consumer<WebSocketClusterMessage> receiver) {
+        this.nodeId = UUID.randomUUID().toString();
+        this.transport = transport;
+        this.vertx = vertx;
+        this.windowInMillis = batchWindow.toMillis();
+        transport.subscribe(new Consumer<List<WebSocketClusterMessage>>() {
+            @Override
+            public void accept(List<WebSocketClusterMessage> batch) {
+                for (WebSocketClusterMessage message : batch) {
+                    if (nodeId.equals(message.nodeId())) {
+                        // Published by this node
+                        continue;
+                    }
+                    try {
+                        receiver.accept(message);
+                    } catch (Exception e) {
+                        LOG.warnf(e, "Unable to dispatch the message received from node %s", message.nodeId());
+                    }
+                }
+            }
+        });
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * @param endpointId the endpoint the message is broadcast to
+     * @param kind the kind of the message
+     * @param payload the payload
+     * @return a new {@link Uni} with a {@code null} item, completed when the batch that contains the message is published
+     */
+    Uni<Void> broadcast(String endpointId, Kind kind, byte[] payload) {
+        return publish(new WebSocketClusterMessage(nodeId, kind, endpointId, null, payload));
+    }
+
+    /**
+     * @param connectionId the connection the message is sent to
+     * @param kind the kind of the message
+     * @param payload the payload
+     * @return a new {@link Uni} with a {@code null} item, completed when the batch that contains the message is published
+     */
+    Uni<Void> send(String connectionId, Kind kind, byte[] payload) {
+        return publish(new WebSocketClusterMessage(nodeId, kind, null, connectionId, payload));
+    }
+
+    private Uni<Void> publish(WebSocketClusterMessage message) {
+        return Uni.createFrom().emitter(new Consumer<UniEmitter<? super Void>>() {
+            @Override
+            public void accept(UniEmitter<? super Void> emitter) {
+                boolean schedule;
+                synchronized (ClusterSupport.this) {
+                    messages.add(message);
+                    emitters.add(emitter);
+                    schedule = !flushScheduled;
+                    flushScheduled = true;
+                }
+                if (schedule) {
+                    scheduleFlush();
+                }
+            }
+        });
+    }
+
+    private void scheduleFlush() {
+        Context context = Vertx.currentContext();
+        Handler<Void> flush = new Handler<Void>() {
+            @Override
+            public void handle(Void ignored) {
+                if (windowInMillis <= 0) {
+                    flush();
+                } else {
+                    vertx.setTimer(windowInMillis, new Handler<Long>() {
+                        @Override
+                        public void handle(Long timerId) {
+                            flush();
+                        }
+                    });
+                }
+            }
+        };
+        if (context != null) {
+            context.runOnContext(flush);
+        } else {
+            vertx.runOnContext(flush);
+        }
+    }
+
+    private void flush() {
+        List<WebSocketClusterMessage> batch;
+        List<UniEmitter<? super Void>> waiting;
+        synchronized (this) {
+            batch = messages;
+            waiting = emitters;
+            messages = new ArrayList<>();
+            emitters = new ArrayList<>();
+            flushScheduled = false;
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transport.publish(batch).whenComplete((ignored, failure) -> {
+                for (UniEmitter<? super Void> emitter : waiting) {
+                    if (failure != null) {
+                        emitter.fail(failure);
+                    } else {
+                        emitter.complete(null);
+                    }
+                }
+            });
+        } catch (Throwable t) {
+            for (UniEmitter<? super Void> emitter : waiting) {
+                emitter.fail(t);
+            }
+        }
+    }
+
+}
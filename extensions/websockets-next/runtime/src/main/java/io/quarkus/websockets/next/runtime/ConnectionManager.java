@@ -1,7 +1,9 @@
 package io.quarkus.websockets.next.runtime;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -10,6 +12,7 @@
 
 import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Singleton;
 
 import org.jboss.logging.Logger;
@@ -20,6 +23,13 @@
 import io.quarkus.websockets.next.Open;
 import io.quarkus.websockets.next.OpenConnections;
 import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.runtime.config.WebSocketsServerRuntimeConfig;
+import io.quarkus.websockets.next.runtime.spi.cluster.WebSocketClusterMessage;
+import io.quarkus.websockets.next.runtime.spi.cluster.WebSocketClusterMessage.Kind;
+import io.quarkus.websockets.next.runtime.spi.cluster.WebSocketClusterTransport;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 
 @Singleton
 public class ConnectionManager implements OpenConnections {
@@ -29,18 +39,35 @@ public class ConnectionManager implements OpenConnections {
     // generatedEndpointClassName -> open connections
     private final ConcurrentMap<String, Set<WebSocketConnection>> endpointToConnections = new ConcurrentHashMap<>();
 
+    // connectionId -> open connection
+    private final ConcurrentMap<String, WebSocketConnection> idToConnection = new ConcurrentHashMap<>();
+
+    // endpointId -> generatedEndpointClassName
+    private final ConcurrentMap<String, String> endpointIdToEndpoint = new ConcurrentHashMap<>();
+
     private final List<ConnectionListener> listeners = new CopyOnWriteArrayList<>();
 
     private final Event<WebSocketConnection> openEvent;
     private final Event<WebSocketConnection> closedEvent;
 
-    ConnectionManager(@Open Event<WebSocketConnection> openEvent, @Closed Event<WebSocketConnection> closedEvent) {
+    // null if no cluster transport is available
+    private final ClusterSupport cluster;
+
+    ConnectionManager(@Open Event<WebSocketConnection> openEvent, @Closed Event<WebSocketConnection> closedEvent,
+            Instance<WebSocketClusterTransport> clusterTransport, Vertx vertx, WebSocketsServerRuntimeConfig config) {
         ArcContainer container = Arc.container();
         this.openEvent = container.resolveObserverMethods(WebSocketConnection.class, Open.Literal.INSTANCE).isEmpty()
                 ? null
                 : openEvent;
         this.closedEvent = container.resolveObserverMethods(WebSocketConnection.class, Closed.Literal.INSTANCE)
                 .isEmpty() ? null : closedEvent;
+        if (clusterTransport.isResolvable()) {
+            WebSocketClusterTransport transport = clusterTransport.get();
+            this.cluster = new ClusterSupport(transport, vertx, config.cluster().batchWindow(), this::receive);
+            LOG.debugf("Cluster transport %s used by node %s", transport.getClass().getName(), cluster.nodeId());
+        } else {
+            this.cluster = null;
+        }
     }
 
     @Override
@@ -53,9 +80,79 @@ public Stream<WebSocketConnection> stream() {
         return endpointToConnections.values().stream().flatMap(Set::stream).filter(WebSocketConnection::isOpen);
     }
 
+    @Override
+    public Optional<WebSocketConnection> findByConnectionId(String connectionId) {
+        WebSocketConnection connection = idToConnection.get(connectionId);
+        return connection != null && connection.isOpen() ? Optional.of(connection) : Optional.empty();
+    }
+
+    @Override
+    public Uni<Void> sendText(String connectionId, String message) {
+        WebSocketConnection connection = idToConnection.get(connectionId);
+        if (connection != null) {
+            // The connection is held by this node, so the message is not published even if the connection is closed
+            return connection.isOpen() ? connection.sendText(message) : Uni.createFrom().voidItem();
+        }
+        if (cluster == null) {
+            return Uni.createFrom().voidItem();
+        }
+        return cluster.send(connectionId, Kind.TEXT, message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Uni<Void> sendBinary(String connectionId, Buffer message) {
+        WebSocketConnection connection = idToConnection.get(connectionId);
+        if (connection != null) {
+            // The connection is held by this node, so the message is not published even if the connection is closed
+            return connection.isOpen() ? connection.sendBinary(message) : Uni.createFrom().voidItem();
+        }
+        if (cluster == null) {
+            return Uni.createFrom().voidItem();
+        }
+        return cluster.send(connectionId, Kind.BINARY, message.getBytes());
+    }
+
+    /**
+     * @return the cluster support, or {@code null} if no cluster transport is available
+     */
+    ClusterSupport cluster() {
+        return cluster;
+    }
+
+    private void receive(WebSocketClusterMessage message) {
+        if (message.isBroadcast()) {
+            String endpoint = endpointIdToEndpoint.get(message.endpointId());
+            if (endpoint == null) {
+                return;
+            }
+            // Any connection of the endpoint can broadcast the message to the local connections
+            for (WebSocketConnection connection : getConnections(endpoint)) {
+                if (connection.isOpen() && connection instanceof WebSocketConnectionImpl impl) {
+                    subscribe(impl.broadcastLocally(message.kind(), message.payload()), message);
+                    return;
+                }
+            }
+        } else {
+            WebSocketConnection connection = idToConnection.get(message.connectionId());
+            if (connection == null || !connection.isOpen()) {
+                return;
+            }
+            subscribe(message.kind() == Kind.TEXT
+                    ? connection.sendText(new String(message.payload(), StandardCharsets.UTF_8))
+                    : connection.sendBinary(Buffer.buffer(message.payload())), message);
+        }
+    }
+
+    private void subscribe(Uni<Void> send, WebSocketClusterMessage message) {
+        send.subscribe().with(ignored -> {
+        }, t -> LOG.debugf(t, "Unable to send the message received from node %s", message.nodeId()));
+    }
+
     void add(String endpoint, WebSocketConnection connection) {
         LOG.debugf("Add connection: %s", connection);
         if (endpointToConnections.computeIfAbsent(endpoint, e -> ConcurrentHashMap.newKeySet()).add(connection)) {
+            idToConnection.put(connection.id(), connection);
+            endpointIdToEndpoint.putIfAbsent(connection.endpointId(), endpoint);
             if (openEvent != null) {
                 openEvent.fireAsync(connection);
             }
@@ -77,6 +174,7 @@ void remove(String endpoint, WebSocketConnection connection) {
         Set<WebSocketConnection> connections = endpointToConnections.get(endpoint);
         if (connections != null) {
             if (connections.remove(connection)) {
+                idToConnection.remove(connection.id());
                 if (closedEvent != null) {
                     closedEvent.fireAsync(connection);
                 }
@@ -114,6 +212,7 @@ public void addListener(ConnectionListener listener) {
     @PreDestroy
     void destroy() {
         endpointToConnections.clear();
+        idToConnection.clear();
     }
 
     public interface ConnectionListener {
@@ -0,0 +1,43 @@
+package io.quarkus.websockets.next.runtime;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A text message encoded once for all the connections it is broadcast to.
+ * <p>
+ * The text is only encoded to UTF-8 when the bytes are first needed, e.g. to write a frame, to account for the
+ * outbound data or to publish the message to the other nodes of a cluster.
+ */
+final class EncodedText {
+
+    private final String text;
+
+    // Racy initialization is fine, the text is encoded to equal arrays
+    private volatile byte[] bytes;
+
+    EncodedText(String text) {
+        this.text = text;
+    }
+
+    EncodedText(String text, byte[] bytes) {
+        this.text = text;
+        this.bytes = bytes;
+    }
+
+    String text() {
+        return text;
+    }
+
+    /**
+     * @return the UTF-8 encoded text, which must not be modified
+     */
+    byte[] bytes() {
+        byte[] bytes = this.bytes;
+        if (bytes == null) {
+            bytes = text.getBytes(StandardCharsets.UTF_8);
+            this.bytes = bytes;
+        }
+        return bytes;
+    }
+
+}
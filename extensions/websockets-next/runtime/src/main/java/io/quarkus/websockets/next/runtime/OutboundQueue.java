@@ -0,0 +1,238 @@
+package io.quarkus.websockets.next.runtime;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.netty.handler.codec.http.websocketx.WebSocketCloseStatus;
+import io.quarkus.websockets.next.CloseReason;
+import io.quarkus.websockets.next.WebSocketException;
+import io.quarkus.websockets.next.runtime.config.OutboundOverflowStrategy;
+import io.quarkus.websockets.next.runtime.config.WebSocketsServerRuntimeConfig;
+import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+
+/**
+ * Limits the outbound data of a connection that is sent but not written to the socket yet.
+ * <p>
+ * Once the high watermark is exceeded, the connection is saturated and the {@link OutboundOverflowStrategy} applies to the
+ * messages sent until the outbound data falls below the low watermark. Then the queued messages are written in order.
+ * The queued data is bounded too: if it exceeds the maximum queued data, the connection is closed.
+ */
+class OutboundQueue {
+
+    private static final Logger LOG = Logger.getLogger(OutboundQueue.class);
+
+    private static final CloseReason SATURATED = new CloseReason(WebSocketCloseStatus.TRY_AGAIN_LATER.code(),
+            "Outbound high watermark exceeded");
+    private static final CloseReason QUEUE_FULL = new CloseReason(WebSocketCloseStatus.TRY_AGAIN_LATER.code(),
+            "Outbound queue limit exceeded");
+
+    private final WebSocketConnectionBase connection;
+
+    private final Limits limits;
+
+    // The following fields are guarded by this
+    private final ArrayDeque<Message> queue;
+    // Bytes written but not completed yet
+    private long pending;
+    // Bytes queued
+    private long queued;
+    private boolean saturated;
+    private boolean closing;
+
+    OutboundQueue(WebSocketConnectionBase connection, Limits limits) {
+        this.connection = connection;
+        this.limits = limits;
+        this.queue = new ArrayDeque<>();
+    }
+
+    /**
+     * @param size the size of the message
+     * @param write writes the message to the socket
+     * @param onSent invoked when the message is written, may be {@code null}
+     * @return a new {@link Uni} with a {@code null} item, completed when the message is written or discarded
+     */
+    Uni<Void> write(int size, Supplier<Future<Void>> write, Runnable onSent) {
+        return Uni.createFrom().emitter(new Consumer<UniEmitter<? super Void>>() {
+            @Override
+            public void accept(UniEmitter<? super Void> emitter) {
+                offer(new Message(size, write, onSent, emitter));
+            }
+        });
+    }
+
+    private void offer(Message message) {
+        boolean write = false;
+        boolean exceeded = false;
+        boolean close = false;
+        CloseReason rejected = null;
+        List<Message> dropped = null;
+        synchronized (this) {
+            if (!saturated && queue.isEmpty()) {
+                write = true;
+                exceeded = add(message.size);
+            } else {
+                switch (limits.strategy) {
+                    case SUSPEND -> {
+                        if (queued + message.size > limits.maxQueued) {
+                            rejected = QUEUE_FULL;
+                            close = !closing;
+                            closing = true;
+                        } else {
+                            enqueue(message);
+                        }
+                    }
+                    case DROP_OLDEST -> {
+                        enqueue(message);
+                        // Always keep the newest message, even if it exceeds the high watermark alone
+                        while (queued > limits.highWatermark && queue.size() > 1) {
+                            Message oldest = queue.poll();
+                            queued -= oldest.size;
+                            if (dropped == null) {
+                                dropped = new ArrayList<>();
+                            }
+                            dropped.add(oldest);
+                        }
+                    }
+                    case DROP_NEWEST -> dropped = List.of(message);
+                    case CLOSE -> {
+                        rejected = SATURATED;
+                        close = !closing;
+                        closing = true;
+                    }
+                }
+            }
+        }
+        if (exceeded) {
+            highWatermarkExceeded();
+        }
+        if (write) {
+            doWrite(message);
+        } else if (dropped != null) {
+            for (Message m : dropped) {
+                LOG.debugf("Outbound message of %s bytes dropped: %s", m.size, connection);
+                SendingInterceptor interceptor = connection.sendingInterceptor();
+                if (interceptor != null) {
+                    interceptor.onMessageDropped();
+                }
+                m.emitter.complete(null);
+            }
+        } else if (rejected != null) {
+            if (close) {
+                LOG.debugf("%s - closing connection: %s", rejected.getMessage(), connection);
+                connection.close(rejected).subscribe().with(ignored -> {
+                }, t -> LOG.debugf(t, "Unable to close connection: %s", connection));
+            }
+            message.emitter.fail(new WebSocketException(rejected.getMessage() + ": " + connection));
+        }
+    }
+
+    private void enqueue(Message message) {
+        queue.offer(message);
+        queued += message.size;
+    }
+
+    /**
+     * @return {@code true} if the high watermark was exceeded
+     */
+    private boolean add(int size) {
+        pending += size;
+        if (!saturated && pending > limits.highWatermark) {
+            saturated = true;
+            return true;
+        }
+        return false;
+    }
+
+    private void doWrite(Message message) {
+        Future<Void> future;
+        try {
+            future = message.write.get();
+        } catch (Throwable t) {
+            completed(message, Future.failedFuture(t));
+            return;
+        }
+        future.onComplete(new Handler<AsyncResult<Void>>() {
+            @Override
+            public void handle(AsyncResult<Void> result) {
+                completed(message, result);
+            }
+        });
+    }
+
+    private void completed(Message message, AsyncResult<Void> result) {
+        List<Message> drained = null;
+        boolean exceeded = false;
+        synchronized (this) {
+            pending -= message.size;
+            if (saturated && pending <= limits.lowWatermark) {
+                saturated = false;
+                while (!saturated && !queue.isEmpty()) {
+                    Message next = queue.poll();
+                    queued -= next.size;
+                    exceeded |= add(next.size);
+                    if (drained == null) {
+                        drained = new ArrayList<>();
+                    }
+                    drained.add(next);
+                }
+            }
+        }
+        if (exceeded) {
+            highWatermarkExceeded();
+        }
+        if (result.succeeded()) {
+            if (message.onSent != null) {
+                message.onSent.run();
+            }
+            message.emitter.complete(null);
+        } else {
+            message.emitter.fail(result.cause());
+        }
+        if (drained != null) {
+            for (Message m : drained) {
+                doWrite(m);
+            }
+        }
+    }
+
+    private void highWatermarkExceeded() {
+        LOG.debugf("Outbound high watermark exceeded: %s", connection);
+        SendingInterceptor interceptor = connection.sendingInterceptor();
+        if (interceptor != null) {
+            interceptor.onHighWatermarkExceeded();
+        }
+    }
+
+    private record Message(int size, Supplier<Future<Void>> write, Runnable onSent, UniEmitter<? super Void> emitter) {
+    }
+
+    record Limits(long highWatermark, long lowWatermark, long maxQueued, OutboundOverflowStrategy strategy) {
+
+        /**
+         * @return the limits, or {@code null} if the outbound data is not limited
+         */
+        static Limits from(WebSocketsServerRuntimeConfig.Outbound config) {
+            if (config.highWatermark().isEmpty()) {
+                return null;
+            }
+            int highWatermark = config.highWatermark().getAsInt();
+            int lowWatermark = config.lowWatermark().orElse(highWatermark / 2);
+            if (lowWatermark > highWatermark) {
+                throw new IllegalStateException("The outbound low watermark [" + lowWatermark
+                        + "] must not be greater than the high watermark [" + highWatermark + "]");
+            }
+            long maxQueued = config.maxQueued().orElse(16L * highWatermark);
+            return new Limits(highWatermark, lowWatermark, maxQueued, config.overflowStrategy());
+        }
+    }
+}
@@ -3,11 +3,13 @@
 import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import javax.net.ssl.SSLSession;
 
 import org.jboss.logging.Logger;
 
+import io.netty.buffer.ByteBufUtil;
 import io.netty.handler.codec.http.websocketx.WebSocketCloseStatus;
 import io.quarkus.vertx.utils.NoBoundChecksBuffer;
 import io.quarkus.websockets.next.CloseReason;
@@ -17,9 +19,12 @@
 import io.quarkus.websockets.next.WebSocketConnection.BroadcastSender;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.http.WebSocketBase;
+import io.vertx.core.http.WebSocketFrameType;
+import io.vertx.core.http.impl.ws.WebSocketFrameImpl;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.SocketAddress;
@@ -44,8 +49,11 @@ public abstract class WebSocketConnectionBase implements Connection {
 
     private final SendingInterceptor sendingInterceptor;
 
+    private final OutboundQueue outboundQueue;
+
     WebSocketConnectionBase(Map<String, String> pathParams, Codecs codecs, HandshakeRequest handshakeRequest,
-            TrafficLogger trafficLogger, UserData userData, SendingInterceptor sendingInterceptor) {
+            TrafficLogger trafficLogger, UserData userData, SendingInterceptor sendingInterceptor,
+            OutboundQueue.Limits outboundLimits) {
         this.identifier = UUID.randomUUID().toString();
         this.pathParams = pathParams;
         this.codecs = codecs;
@@ -54,6 +62,7 @@ public abstract class WebSocketConnectionBase implements Connection {
         this.trafficLogger = trafficLogger;
         this.userData = userData;
         this.sendingInterceptor = sendingInterceptor;
+        this.outboundQueue = outboundLimits != null ? new OutboundQueue(this, outboundLimits) : null;
     }
 
     abstract WebSocketBase webSocket();
@@ -70,37 +79,97 @@ public String pathParam(String name) {
 
     @Override
     public Uni<Void> sendText(String message) {
-        Uni<Void> uni = Uni.createFrom().completionStage(() -> webSocket().writeTextMessage(message).toCompletionStage());
-        if (sendingInterceptor != null) {
-            uni = uni.invoke(() -> sendingInterceptor.onSend(message));
-        }
-        return trafficLogger == null ? uni : uni.invoke(() -> {
-            trafficLogger.textMessageSent(this, message);
-        });
+        // the size of the encoded text is only needed if the outbound data is limited
+        int size = outboundQueue != null ? ByteBufUtil.utf8Bytes(message) : message.length();
+        return write(size, () -> webSocket().writeTextMessage(message),
+                sendingInterceptor == null && trafficLogger == null ? null : () -> {
+                    if (sendingInterceptor != null) {
+                        sendingInterceptor.onSend(message);
+                    }
+                    if (trafficLogger != null) {
+                        trafficLogger.textMessageSent(this, message);
+                    }
+                });
     }
 
     @Override
     public Uni<Void> sendBinary(Buffer message) {
-        Uni<Void> uni = Uni.createFrom().completionStage(() -> webSocket().writeBinaryMessage(message).toCompletionStage());
-        if (sendingInterceptor != null) {
-            uni = uni.invoke(() -> sendingInterceptor.onSend(message));
+        return write(message.length(), () -> webSocket().writeBinaryMessage(message),
+                sendingInterceptor == null && trafficLogger == null ? null : () -> {
+                    if (sendingInterceptor != null) {
+                        sendingInterceptor.onSend(message);
+                    }
+                    if (trafficLogger != null) {
+                        trafficLogger.binaryMessageSent(this, message);
+                    }
+                });
+    }
+
+    /**
+     * Sends a text message that is encoded once, e.g. for all the connections a message is broadcast to.
+     * <p>
+     * If the encoded message fits into a single frame, the frame wraps the shared encoded bytes, so the text is neither
+     * re-encoded nor copied for each connection. Larger messages are written with
+     * {@link WebSocketBase#writeTextMessage(String)}, which fragments them.
+     *
+     * @param message the text message
+     * @param maxFrameSize the maximum size of a frame the server is configured with
+     * @return a new {@link Uni} with a {@code null} item
+     */
+    Uni<Void> sendText(EncodedText message, int maxFrameSize) {
+        String text = message.text();
+        // A UTF-8 encoded text has at least as many bytes as chars
+        byte[] encoded = text.length() <= maxFrameSize ? message.bytes() : null;
+        Supplier<Future<Void>> write;
+        if (encoded != null && encoded.length <= maxFrameSize) {
+            write = () -> webSocket().writeFrame(new WebSocketFrameImpl(WebSocketFrameType.TEXT, encoded, true));
+        } else {
+            write = () -> webSocket().writeTextMessage(text);
         }
-        return trafficLogger == null ? uni : uni.invoke(() -> trafficLogger.binaryMessageSent(this, message));
+        // the size of the encoded text is only needed if the outbound data is limited
+        int size = outboundQueue != null ? message.bytes().length : text.length();
+        return write(size, write,
+                sendingInterceptor == null && trafficLogger == null ? null : () -> {
+                    if (sendingInterceptor != null) {
+                        sendingInterceptor.onSend(message.bytes());
+                    }
+                    if (trafficLogger != null) {
+                        trafficLogger.textMessageSent(this, text);
+                    }
+                });
+    }
+
+    /**
+     * Writes a message, or hands it over to the outbound queue if the outbound data is limited.
+     *
+     * @param size the size of the message
+     * @param write writes the message to the socket
+     * @param onSent invoked when the message is written, may be {@code null}
+     * @return a new {@link Uni} with a {@code null} item
+     */
+    private Uni<Void> write(int size, Supplier<Future<Void>> write, Runnable onSent) {
+        if (outboundQueue != null) {
+            return outboundQueue.write(size, write, onSent);
+        }
+        Uni<Void> uni = Uni.createFrom().completionStage(() -> write.get().toCompletionStage());
+        return onSent == null ? uni : uni.invoke(onSent);
     }
 
     @Override
     public <M> Uni<Void> sendText(M message) {
-        String text;
+        return sendText(encodeText(message));
+    }
+
+    <M> String encodeText(M message) {
         // Use the same conversion rules as defined for the OnTextMessage
         if (message instanceof JsonObject || message instanceof JsonArray || message instanceof BufferImpl
                 || message instanceof NoBoundChecksBuffer) {
-            text = message.toString();
+            return message.toString();
         } else if (message.getClass().isArray() && message.getClass().arrayType().equals(byte.class)) {
-            text = Buffer.buffer((byte[]) message).toString();
+            return Buffer.buffer((byte[]) message).toString();
         } else {
-            text = codecs.textEncode(message, null);
+            return codecs.textEncode(message, null);
         }
-        return sendText(text);
     }
 
     @Override
@@ -170,6 +239,10 @@ public BroadcastSender broadcast() {
         throw new UnsupportedOperationException();
     }
 
+    SendingInterceptor sendingInterceptor() {
+        return sendingInterceptor;
+    }
+
     @Override
     public CloseReason closeReason() {
         WebSocketBase ws = webSocket();
@@ -1,5 +1,6 @@
 package io.quarkus.websockets.next.runtime;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -10,11 +11,15 @@
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.jboss.logging.Logger;
+
 import io.quarkus.websockets.next.HandshakeRequest;
 import io.quarkus.websockets.next.UserData;
 import io.quarkus.websockets.next.WebSocketConnection;
+import io.quarkus.websockets.next.runtime.spi.cluster.WebSocketClusterMessage.Kind;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.buffer.Buffer;
@@ -24,6 +29,8 @@
 
 class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSocketConnection {
 
+    private static final Logger LOG = Logger.getLogger(WebSocketConnectionImpl.class);
+
     private final String generatedEndpointClass;
 
     private final String endpointId;
@@ -36,18 +43,22 @@ class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSock
 
     private final SecuritySupport securitySupport;
 
+    private final int maxFrameSize;
+
     WebSocketConnectionImpl(String generatedEndpointClass, String endpointClass, ServerWebSocket webSocket,
             ConnectionManager connectionManager, Codecs codecs, RoutingContext ctx,
             TrafficLogger trafficLogger, UserData userData, SendingInterceptor sendingInterceptor,
-            Function<WebSocketConnectionImpl, SecuritySupport> securitySupportCreator) {
+            Function<WebSocketConnectionImpl, SecuritySupport> securitySupportCreator, int maxFrameSize,
+            OutboundQueue.Limits outboundLimits) {
         super(Map.copyOf(ctx.pathParams()), codecs, new HandshakeRequestImpl(webSocket, ctx), trafficLogger,
-                userData, sendingInterceptor);
+                userData, sendingInterceptor, outboundLimits);
         this.generatedEndpointClass = generatedEndpointClass;
         this.endpointId = endpointClass;
         this.webSocket = Objects.requireNonNull(webSocket);
         this.connectionManager = Objects.requireNonNull(connectionManager);
-        this.defaultBroadcast = new BroadcastImpl(null);
+        this.defaultBroadcast = new BroadcastImpl(null, true);
         this.securitySupport = securitySupportCreator.apply(this);
+        this.maxFrameSize = maxFrameSize;
     }
 
     SecuritySupport securitySupport() {
@@ -69,6 +80,16 @@ public BroadcastSender broadcast() {
         return defaultBroadcast;
     }
 
+    /**
+     * Broadcasts a message received from another node to the open connections of this endpoint on the local node.
+     */
+    Uni<Void> broadcastLocally(Kind kind, byte[] payload) {
+        BroadcastImpl broadcast = new BroadcastImpl(null, false);
+        return kind == Kind.TEXT
+                ? broadcast.sendText(new EncodedText(new String(payload, StandardCharsets.UTF_8), payload))
+                : broadcast.sendBinary(Buffer.buffer(payload));
+    }
+
     @Override
     public Set<WebSocketConnection> getOpenConnections() {
         return connectionManager.getConnections(generatedEndpointClass).stream().filter(WebSocketConnection::isOpen)
@@ -181,16 +202,13 @@ static Map<String, List<String>> initHeaders(RoutingContext ctx) {
 
     private class BroadcastImpl implements WebSocketConnection.BroadcastSender {
 
-        private static final BiFunction<WebSocketConnection, String, Uni<Void>> SEND_TEXT_STR = new BiFunction<>() {
+        private static final BiFunction<WebSocketConnection, EncodedText, Uni<Void>> SEND_TEXT = new BiFunction<>() {
             @Override
-            public Uni<Void> apply(WebSocketConnection c, String s) {
-                return c.sendText(s);
-            }
-        };
-        private static final BiFunction<WebSocketConnection, Object, Uni<Void>> SEND_TEXT_POJO = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Object o) {
-                return c.sendText(o);
+            public Uni<Void> apply(WebSocketConnection c, EncodedText t) {
+                if (c instanceof WebSocketConnectionImpl impl) {
+                    return impl.sendText(t, impl.maxFrameSize);
+                }
+                return c.sendText(t.text());
             }
         };
         private static final BiFunction<WebSocketConnection, Buffer, Uni<Void>> SEND_BINARY = new BiFunction<>() {
@@ -202,28 +220,38 @@ public Uni<Void> apply(WebSocketConnection c, Buffer b) {
 
         private final Predicate<WebSocketConnection> filter;
 
-        BroadcastImpl(Predicate<WebSocketConnection> filter) {
+        // If true then the message is also published to the other nodes of the cluster
+        private final boolean clustered;
+
+        BroadcastImpl(Predicate<WebSocketConnection> filter, boolean clustered) {
             this.filter = filter;
+            this.clustered = clustered;
         }
 
         @Override
         public BroadcastSender filter(Predicate<WebSocketConnection> predicate) {
-            return new BroadcastImpl(Objects.requireNonNull(predicate));
+            // The predicate cannot be evaluated on other nodes
+            return new BroadcastImpl(Objects.requireNonNull(predicate), false);
         }
 
         @Override
         public Uni<Void> sendText(String message) {
-            return doSend(SEND_TEXT_STR, message);
+            return sendText(new EncodedText(message));
         }
 
         @Override
         public <M> Uni<Void> sendText(M message) {
-            return doSend(SEND_TEXT_POJO, message);
+            // Encode the message once, not for each connection
+            return sendText(new EncodedText(encodeText(message)));
+        }
+
+        Uni<Void> sendText(EncodedText message) {
+            return publish(doSend(SEND_TEXT, message), Kind.TEXT, message::bytes);
         }
 
         @Override
         public Uni<Void> sendBinary(Buffer message) {
-            return doSend(SEND_BINARY, message);
+            return publish(doSend(SEND_BINARY, message), Kind.BINARY, message::getBytes);
         }
 
         @Override
@@ -236,6 +264,23 @@ public Uni<Void> sendPong(Buffer data) {
             throw new UnsupportedOperationException();
         }
 
+        private Uni<Void> publish(Uni<Void> local, Kind kind, Supplier<byte[]> payload) {
+            ClusterSupport cluster = connectionManager.cluster();
+            if (!clustered || cluster == null) {
+                return local;
+            }
+            return Uni.createFrom().deferred(new Supplier<Uni<? extends Void>>() {
+                @Override
+                public Uni<? extends Void> get() {
+                    // The local delivery neither waits for nor fails with the publication to the other nodes
+                    cluster.broadcast(endpointId, kind, payload.get()).subscribe().with(ignored -> {
+                    }, t -> LOG.warnf("Unable to publish the broadcast of %s to the other nodes: %s",
+                            WebSocketConnectionImpl.this, t.toString()));
+                    return local;
+                }
+            });
+        }
+
         private <M> Uni<Void> doSend(BiFunction<WebSocketConnection, M, Uni<Void>> sendFunction, M message) {
             Set<WebSocketConnection> connections = connectionManager.getConnections(generatedEndpointClass);
             if (connections.isEmpty()) {
@@ -255,7 +300,25 @@ private <M> Uni<Void> doSend(BiFunction<WebSocketConnection, M, Uni<Void>> sendF
             if (unis.isEmpty()) {
                 return Uni.createFrom().voidItem();
             }
-            return Uni.join().all(unis).andCollectFailures().replaceWithVoid();
+            Uni<Void> broadcast = Uni.join().all(unis).andCollectFailures().replaceWithVoid();
+            SendingInterceptor sendingInterceptor = sendingInterceptor();
+            if (sendingInterceptor == null) {
+                return broadcast;
+            }
+            int recipients = unis.size();
+            return Uni.createFrom().deferred(new Supplier<Uni<? extends Void>>() {
+                @Override
+                public Uni<? extends Void> get() {
+                    long start = System.nanoTime();
+                    return broadcast.onTermination().invoke(new Runnable() {
+                        @Override
+                        public void run() {
+                            // The time it takes to write the message to all the connections
+                            sendingInterceptor.onBroadcast(recipients, System.nanoTime() - start);
+                        }
+                    });
+                }
+            });
         }
 
     }
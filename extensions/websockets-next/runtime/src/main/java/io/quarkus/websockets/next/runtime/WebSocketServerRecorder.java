@@ -22,6 +22,8 @@
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.jboss.logging.Logger;
 
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.SyntheticCreationalContext;
@@ -35,6 +37,7 @@
 import io.quarkus.security.spi.runtime.SecurityCheck;
 import io.quarkus.security.spi.runtime.SecurityEventHelper;
 import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
+import io.quarkus.vertx.http.runtime.VertxHttpConfig;
 import io.quarkus.vertx.http.runtime.security.EagerSecurityInterceptorStorage;
 import io.quarkus.vertx.http.runtime.security.HttpSecurityPolicy;
 import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
@@ -56,7 +59,9 @@
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.http.ServerWebSocket;
+import io.vertx.core.net.impl.ConnectionBase;
 import io.vertx.ext.web.RoutingContext;
 
 @Recorder
@@ -64,9 +69,12 @@ public class WebSocketServerRecorder {
     private static final Logger LOG = Logger.getLogger(WebSocketServerRecorder.class);
 
     private final RuntimeValue<WebSocketsServerRuntimeConfig> runtimeConfig;
+    private final RuntimeValue<VertxHttpConfig> httpConfig;
 
-    public WebSocketServerRecorder(final RuntimeValue<WebSocketsServerRuntimeConfig> runtimeConfig) {
+    public WebSocketServerRecorder(final RuntimeValue<WebSocketsServerRuntimeConfig> runtimeConfig,
+            final RuntimeValue<VertxHttpConfig> httpConfig) {
         this.runtimeConfig = runtimeConfig;
+        this.httpConfig = httpConfig;
     }
 
     public Supplier<Object> connectionSupplier() {
@@ -93,6 +101,11 @@ public Handler<RoutingContext> createEndpointHandler(String generatedEndpointCla
         Codecs codecs = container.instance(Codecs.class).get();
         HttpUpgradeCheck[] httpUpgradeChecks = getHttpUpgradeChecks(endpointId, container);
         TrafficLogger trafficLogger = TrafficLogger.forServer(runtimeConfig.getValue());
+        // The same precedence as the HTTP server options: WebSocketHttpServerOptionsCustomizer overrides the HTTP config
+        int maxFrameSize = runtimeConfig.getValue().maxFrameSize().orElse(httpConfig.getValue().websocketServer()
+                .maxFrameSize().orElse(HttpServerOptions.DEFAULT_MAX_WEBSOCKET_FRAME_SIZE));
+        OutboundQueue.Limits outboundLimits = OutboundQueue.Limits.from(runtimeConfig.getValue().outbound());
+        boolean coalesceFrames = runtimeConfig.getValue().outbound().coalesceFrames();
         WebSocketTelemetryProvider telemetryProvider = container.instance(WebSocketTelemetryProvider.class).orElse(null);
         return new Handler<RoutingContext>() {
 
@@ -139,12 +152,15 @@ public void handle(Throwable throwable) {
 
                 future.onSuccess(ws -> {
                     Vertx vertx = VertxCoreRecorder.getVertx().get();
+                    if (coalesceFrames) {
+                        coalesceFrames(ctx);
+                    }
 
                     SendingInterceptor sendingInterceptor = telemetrySupport == null ? null
                             : telemetrySupport.getSendingInterceptor();
                     WebSocketConnectionImpl connection = new WebSocketConnectionImpl(generatedEndpointClass, endpointId, ws,
                             connectionManager, codecs, ctx, trafficLogger, userData, sendingInterceptor,
-                            getSecuritySupportCreator(container, ctx));
+                            getSecuritySupportCreator(container, ctx), maxFrameSize, outboundLimits);
                     connectionManager.add(generatedEndpointClass, connection);
                     if (trafficLogger != null) {
                         trafficLogger.connectionOpened(connection);
@@ -187,6 +203,17 @@ private static Uni<CheckResult> checkHttpUpgrade(HttpUpgradeContext ctx,
         };
     }
 
+    private static void coalesceFrames(RoutingContext ctx) {
+        if (ctx.request().connection() instanceof ConnectionBase connection) {
+            // Frames written outside of a read are flushed at the end of the current event loop task
+            ChannelHandlerContext chctx = connection.channelHandlerContext();
+            chctx.pipeline().addBefore(chctx.name(), "websockets-next-flush-consolidation",
+                    new FlushConsolidationHandler(FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES, true));
+        } else {
+            LOG.debugf("Frames cannot be coalesced for connection: %s", ctx.request().connection());
+        }
+    }
+
     private static HttpUpgradeCheck[] getHttpUpgradeChecks(String endpointId, ArcContainer container) {
         List<HttpUpgradeCheck> httpUpgradeChecks = null;
         for (var check : container.select(HttpUpgradeCheck.class)) {
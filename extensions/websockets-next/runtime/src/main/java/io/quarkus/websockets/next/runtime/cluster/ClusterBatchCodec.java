@@ -0,0 +1,104 @@
+package io.quarkus.websockets.next.runtime.cluster;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.quarkus.websockets.next.runtime.spi.cluster.WebSocketClusterMessage;
+import io.quarkus.websockets.next.runtime.spi.cluster.WebSocketClusterMessage.Kind;
+
+/**
+ * Encodes a batch of messages for the transports that exchange bytes.
+ * <p>
+ * The batch starts with the format version and the number of messages. Each message starts with a flags byte, followed by
+ * the node id if it differs from the node id of the previous message, the endpoint id or the connection id, and the
+ * payload.
+ */
+final class ClusterBatchCodec {
+
+    private static final byte VERSION = 1;
+
+    private static final int BINARY = 1;
+    private static final int BROADCAST = 1 << 1;
+    private static final int NODE_ID = 1 << 2;
+
+    private ClusterBatchCodec() {
+    }
+
+    static byte[] encode(List<WebSocketClusterMessage> batch) {
+        int size = 8;
+        for (WebSocketClusterMessage message : batch) {
+            size += message.payload().length + 48;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(size);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeInt(batch.size());
+            String nodeId = null;
+            for (WebSocketClusterMessage message : batch) {
+                int flags = 0;
+                if (message.kind() == Kind.BINARY) {
+                    flags |= BINARY;
+                }
+                if (message.isBroadcast()) {
+                    flags |= BROADCAST;
+                }
+                boolean writeNodeId = !message.nodeId().equals(nodeId);
+                if (writeNodeId) {
+                    flags |= NODE_ID;
+                    nodeId = message.nodeId();
+                }
+                out.writeByte(flags);
+                if (writeNodeId) {
+                    out.writeUTF(nodeId);
+                }
+                out.writeUTF(message.isBroadcast() ? message.endpointId() : message.connectionId());
+                out.writeInt(message.payload().length);
+                out.write(message.payload());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static List<WebSocketClusterMessage> decode(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported version: " + version);
+            }
+            int count = in.readInt();
+            List<WebSocketClusterMessage> batch = new ArrayList<>(count);
+            String nodeId = null;
+            for (int i = 0; i < count; i++) {
+                int flags = in.readUnsignedByte();
+                if ((flags & NODE_ID) != 0) {
+                    nodeId = in.readUTF();
+                } else if (nodeId == null) {
+                    throw new IllegalArgumentException("Node id missing");
+                }
+                String target = in.readUTF();
+                int length = in.readInt();
+                if (length < 0) {
+                    throw new IllegalArgumentException("Invalid payload length: " + length);
+                }
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                Kind kind = (flags & BINARY) != 0 ? Kind.BINARY : Kind.TEXT;
+                batch.add((flags & BROADCAST) != 0
+                        ? new WebSocketClusterMessage(nodeId, kind, target, null, payload)
+                        : new WebSocketClusterMessage(nodeId, kind, null, target, payload));
+            }
+            return batch;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed batch", e);
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+package io.quarkus.websockets.next.runtime.cluster;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.websockets.next.runtime.spi.cluster.WebSocketClusterMessage;
+import io.quarkus.websockets.next.runtime.spi.cluster.WebSocketClusterTransport;
+
+/**
+ * Delivers the published batches to the subscribers of all the applications running in the current JVM.
+ * <p>
+ * This transport does not connect separate processes; it is meant to be used in tests and during development.
+ */
+@Singleton
+public class InProcessClusterTransport implements WebSocketClusterTransport {
+
+    private static final Logger LOG = Logger.getLogger(InProcessClusterTransport.class);
+
+    private static final List<Consumer<List<WebSocketClusterMessage>>> SUBSCRIBERS = new CopyOnWriteArrayList<>();
+
+    private final List<Consumer<List<WebSocketClusterMessage>>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public CompletionStage<Void> publish(List<WebSocketClusterMessage> batch) {
+        List<WebSocketClusterMessage> messages = List.copyOf(batch);
+        for (Consumer<List<WebSocketClusterMessage>> subscriber : SUBSCRIBERS) {
+            try {
+                subscriber.accept(messages);
+            } catch (Exception e) {
+                LOG.warnf(e, "Unable to deliver the batch of %s messages", messages.size());
+            }
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public void subscribe(Consumer<List<WebSocketClusterMessage>> subscriber) {
+        subscribers.add(subscriber);
+        SUBSCRIBERS.add(subscriber);
+    }
+
+    @PreDestroy
+    void destroy() {
+        SUBSCRIBERS.removeAll(subscribers);
+        subscribers.clear();
+    }
+
+}
@@ -0,0 +1,88 @@
+package io.quarkus.websockets.next.runtime.cluster;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Default;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Singleton;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.redis.client.RedisClientName;
+import io.quarkus.redis.datasource.ReactiveRedisDataSource;
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands;
+import io.quarkus.redis.datasource.pubsub.ReactivePubSubCommands.ReactiveRedisSubscriber;
+import io.quarkus.websockets.next.runtime.config.WebSocketsServerRuntimeConfig;
+import io.quarkus.websockets.next.runtime.spi.cluster.WebSocketClusterMessage;
+import io.quarkus.websockets.next.runtime.spi.cluster.WebSocketClusterTransport;
+
+/**
+ * Publishes the batches to a Redis channel, and subscribes to the same channel.
+ * <p>
+ * Each batch is encoded as a single Redis message, see {@link ClusterBatchCodec}.
+ */
+@Singleton
+public class RedisClusterTransport implements WebSocketClusterTransport {
+
+    private static final Logger LOG = Logger.getLogger(RedisClusterTransport.class);
+
+    private final ReactivePubSubCommands<byte[]> pubsub;
+    private final String channel;
+
+    private volatile ReactiveRedisSubscriber subscriber;
+
+    RedisClusterTransport(@Any Instance<ReactiveRedisDataSource> dataSources, WebSocketsServerRuntimeConfig config) {
+        WebSocketsServerRuntimeConfig.Cluster cluster = config.cluster();
+        ReactiveRedisDataSource dataSource = cluster.redisClientName().isPresent()
+                ? dataSources.select(RedisClientName.Literal.of(cluster.redisClientName().get())).get()
+                : dataSources.select(Default.Literal.INSTANCE).get();
+        this.pubsub = dataSource.pubsub(byte[].class);
+        this.channel = cluster.redisChannel();
+    }
+
+    @Override
+    public CompletionStage<Void> publish(List<WebSocketClusterMessage> batch) {
+        return pubsub.publish(channel, ClusterBatchCodec.encode(batch)).subscribeAsCompletionStage();
+    }
+
+    @Override
+    public void subscribe(Consumer<List<WebSocketClusterMessage>> subscriber) {
+        pubsub.subscribe(channel, new Consumer<byte[]>() {
+            @Override
+            public void accept(byte[] message) {
+                List<WebSocketClusterMessage> batch;
+                try {
+                    batch = ClusterBatchCodec.decode(message);
+                } catch (IllegalArgumentException e) {
+                    LOG.warnf("Invalid message received from the Redis channel %s: %s", channel, e.getMessage());
+                    return;
+                }
+                subscriber.accept(batch);
+            }
+        }).subscribe().with(new Consumer<ReactiveRedisSubscriber>() {
+            @Override
+            public void accept(ReactiveRedisSubscriber redisSubscriber) {
+                RedisClusterTransport.this.subscriber = redisSubscriber;
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                LOG.errorf(failure, "Unable to subscribe to the Redis channel %s", channel);
+            }
+        });
+    }
+
+    @PreDestroy
+    void destroy() {
+        ReactiveRedisSubscriber subscriber = this.subscriber;
+        if (subscriber != null) {
+            subscriber.unsubscribe().subscribe().with(ignored -> {
+            }, t -> LOG.debugf(t, "Unable to unsubscribe from the Redis channel %s", channel));
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package io.quarkus.websockets.next.runtime.config;
+
+/**
+ * The strategy used when a message is sent but the outbound high watermark of a connection is exceeded.
+ */
+public enum OutboundOverflowStrategy {
+    /**
+     * Queue the message until the outbound data falls below the low watermark. The {@code Uni} returned from the send
+     * methods completes once the message is written, so that a {@code Multi} returned from an {@code @OnTextMessage} or
+     * {@code @OnBinaryMessage} callback is not requested more items in the meantime. If the queued data exceeds the
+     * maximum queued data, the connection is closed as with {@link #CLOSE}.
+     */
+    SUSPEND,
+    /**
+     * Queue the message until the outbound data falls below the low watermark, and discard the oldest queued messages
+     * if the queued data exceeds the high watermark.
+     */
+    DROP_OLDEST,
+    /**
+     * Discard the message.
+     */
+    DROP_NEWEST,
+    /**
+     * Close the connection with the {@code 1013 Try Again Later} status code. The message is not sent.
+     */
+    CLOSE;
+
+}
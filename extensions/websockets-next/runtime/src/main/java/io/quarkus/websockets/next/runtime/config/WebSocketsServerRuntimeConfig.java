@@ -4,6 +4,7 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -61,6 +62,16 @@ public interface WebSocketsServerRuntimeConfig {
     @WithDefault("log-and-close")
     UnhandledFailureStrategy unhandledFailureStrategy();
 
+    /**
+     * Outbound backpressure configuration.
+     */
+    Outbound outbound();
+
+    /**
+     * Cluster configuration.
+     */
+    Cluster cluster();
+
     /**
      * WebSockets-specific security configuration.
      */
@@ -93,6 +104,74 @@ interface Security {
 
     }
 
+    interface Outbound {
+
+        /**
+         * The maximum amount of outbound data in bytes that is sent but not written to the socket yet, per connection. For
+         * text messages, the size of the UTF-8 encoded text is used. Once exceeded, the {@link #overflowStrategy()} applies
+         * to the messages sent until the outbound data falls below the {@link #lowWatermark()}.
+         * <p>
+         * The outbound data is not limited by default.
+         */
+        OptionalInt highWatermark();
+
+        /**
+         * The amount of outbound data in bytes below which the messages are sent again, after the {@link #highWatermark()}
+         * was exceeded.
+         * <p>
+         * By default, half of the high watermark is used.
+         */
+        OptionalInt lowWatermark();
+
+        /**
+         * The strategy used when a message is sent but the {@link #highWatermark()} is exceeded.
+         */
+        @WithDefault("suspend")
+        OutboundOverflowStrategy overflowStrategy();
+
+        /**
+         * The maximum amount of outbound data in bytes that is queued with the {@code suspend} {@link #overflowStrategy()},
+         * per connection. Once exceeded, the connection is closed with the {@code 1013 Try Again Later} status code and the
+         * message is not sent.
+         * <p>
+         * By default, 16 times the high watermark is used.
+         */
+        OptionalLong maxQueued();
+
+        /**
+         * If set to {@code true}, the frames written to a connection within one event loop task are flushed to the socket
+         * at once, at the end of the task. This reduces the number of system calls when many small messages are sent, at
+         * the cost of a slightly higher latency.
+         */
+        @WithDefault("false")
+        boolean coalesceFrames();
+
+    }
+
+    interface Cluster {
+
+        /**
+         * The time window during which the messages sent to the connections of other nodes are collected and then published
+         * as a single batch. By default, the messages sent within one event loop task are published at once.
+         */
+        @WithDefault("0")
+        Duration batchWindow();
+
+        /**
+         * The name of the Redis channel used to exchange messages between nodes, if the {@code redis} cluster transport is
+         * used.
+         */
+        @WithDefault("quarkus-websockets-next")
+        String redisChannel();
+
+        /**
+         * The name of the Redis client used by the {@code redis} cluster transport. By default, the default Redis client is
+         * used.
+         */
+        Optional<String> redisClientName();
+
+    }
+
     interface DevMode {
 
         /**
@@ -24,4 +24,24 @@ public void onSend(String text) {
     public void onSend(Buffer message) {
         interceptor.onMessageSent(message.getBytes(), path);
     }
+
+    @Override
+    public void onSend(byte[] encodedText) {
+        interceptor.onMessageSent(encodedText, path);
+    }
+
+    @Override
+    public void onBroadcast(int recipients, long durationInNanos) {
+        interceptor.onBroadcast(recipients, durationInNanos, path);
+    }
+
+    @Override
+    public void onHighWatermarkExceeded() {
+        interceptor.onHighWatermarkExceeded(path);
+    }
+
+    @Override
+    public void onMessageDropped() {
+        interceptor.onMessageDropped(path);
+    }
 }
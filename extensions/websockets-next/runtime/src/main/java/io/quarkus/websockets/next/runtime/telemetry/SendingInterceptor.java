@@ -24,4 +24,31 @@ public sealed interface SendingInterceptor permits MetricsSendingInterceptor {
      */
     void onSend(Buffer binaryMessage);
 
+    /**
+     * Intercept sent text messages that were encoded once for multiple connections, corresponds
+     * to the {@link io.quarkus.websockets.next.WebSocketConnection.BroadcastSender#sendText(String)} method.
+     *
+     * @param encodedTextMessage sent text message, encoded in UTF-8
+     */
+    void onSend(byte[] encodedTextMessage);
+
+    /**
+     * Intercept completed broadcasts, corresponds
+     * to the {@link io.quarkus.websockets.next.WebSocketConnection.BroadcastSender} methods.
+     *
+     * @param recipients number of connections the message was sent to
+     * @param durationInNanos time it took to send the message to all the connections
+     */
+    void onBroadcast(int recipients, long durationInNanos);
+
+    /**
+     * Intercept exceeded outbound high watermarks, i.e. when a connection becomes saturated.
+     */
+    void onHighWatermarkExceeded();
+
+    /**
+     * Intercept outbound messages discarded because the outbound high watermark of a connection was exceeded.
+     */
+    void onMessageDropped();
+
 }
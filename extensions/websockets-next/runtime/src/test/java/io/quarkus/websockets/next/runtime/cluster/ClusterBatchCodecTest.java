@@ -0,0 +1,66 @@
+package io.quarkus.websockets.next.runtime.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.websockets.next.runtime.spi.cluster.WebSocketClusterMessage;
+import io.quarkus.websockets.next.runtime.spi.cluster.WebSocketClusterMessage.Kind;
+
+class ClusterBatchCodecTest {
+
+    @Test
+    void testRoundTrip() {
+        List<WebSocketClusterMessage> batch = List.of(
+                new WebSocketClusterMessage("node-1", Kind.TEXT, "chat", null, bytes("hello é世")),
+                new WebSocketClusterMessage("node-1", Kind.BINARY, null, "connection-1", new byte[] { 0, -1, 42 }),
+                new WebSocketClusterMessage("node-2", Kind.TEXT, null, "connection-2", new byte[0]),
+                new WebSocketClusterMessage("node-1", Kind.BINARY, "chat", null, bytes("bye")));
+
+        List<WebSocketClusterMessage> decoded = ClusterBatchCodec.decode(ClusterBatchCodec.encode(batch));
+
+        assertEquals(batch.size(), decoded.size());
+        for (int i = 0; i < batch.size(); i++) {
+            WebSocketClusterMessage expected = batch.get(i);
+            WebSocketClusterMessage actual = decoded.get(i);
+            assertEquals(expected.nodeId(), actual.nodeId());
+            assertEquals(expected.kind(), actual.kind());
+            assertEquals(expected.endpointId(), actual.endpointId());
+            assertEquals(expected.connectionId(), actual.connectionId());
+            assertEquals(expected.isBroadcast(), actual.isBroadcast());
+            assertArrayEquals(expected.payload(), actual.payload());
+        }
+    }
+
+    @Test
+    void testNodeIdWrittenOnce() {
+        WebSocketClusterMessage message = new WebSocketClusterMessage("node-with-a-long-identifier", Kind.TEXT, "chat", null,
+                bytes("hi"));
+        int single = ClusterBatchCodec.encode(List.of(message)).length;
+        int pair = ClusterBatchCodec.encode(List.of(message, message)).length;
+        // The second message only consists of the flags, the endpoint id and the payload
+        assertEquals(1 + 2 + "chat".length() + 4 + 2, pair - single);
+    }
+
+    @Test
+    void testMalformedBatch() {
+        byte[] encoded = ClusterBatchCodec.encode(List.of(
+                new WebSocketClusterMessage("node-1", Kind.TEXT, "chat", null, bytes("hello"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> ClusterBatchCodec.decode(Arrays.copyOf(encoded, encoded.length - 1)));
+        byte[] unsupported = encoded.clone();
+        unsupported[0] = 42;
+        assertThrows(IllegalArgumentException.class, () -> ClusterBatchCodec.decode(unsupported));
+    }
+
+    static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,37 @@
+package io.quarkus.websockets.next.runtime.spi.cluster;
+
+import java.util.Objects;
+
+/**
+ * A message sent to the connections of other application nodes.
+ *
+ * @param nodeId the identifier of the node that published the message
+ * @param kind the kind of the message
+ * @param endpointId the endpoint the message is broadcast to, or {@code null} if the message targets a connection
+ * @param connectionId the connection the message is sent to, or {@code null} if the message is broadcast
+ * @param payload the UTF-8 encoded text, or the binary message
+ */
+public record WebSocketClusterMessage(String nodeId, Kind kind, String endpointId, String connectionId, byte[] payload) {
+
+    public WebSocketClusterMessage {
+        Objects.requireNonNull(nodeId);
+        Objects.requireNonNull(kind);
+        Objects.requireNonNull(payload);
+        if ((endpointId == null) == (connectionId == null)) {
+            throw new IllegalArgumentException("Either the endpoint id or the connection id must be set");
+        }
+    }
+
+    /**
+     * @return {@code true} if the message is broadcast to all the connections of an endpoint
+     */
+    public boolean isBroadcast() {
+        return endpointId != null;
+    }
+
+    public enum Kind {
+        TEXT,
+        BINARY
+    }
+
+}
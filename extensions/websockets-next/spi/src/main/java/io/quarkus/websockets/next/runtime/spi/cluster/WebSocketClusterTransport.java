@@ -0,0 +1,35 @@
+package io.quarkus.websockets.next.runtime.spi.cluster;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+/**
+ * Exchanges the messages sent to the connections of other application nodes.
+ * <p>
+ * If a CDI bean that implements this interface is available, a broadcast is also published to the other nodes, and a
+ * message sent to a connection that is not open on the local node is published as well. The messages published within a
+ * short time window are published at once, as a batch.
+ * <p>
+ * An implementation must deliver each published batch to the subscribers of all the nodes, including the node that
+ * published it. The batches published by the local node are ignored by the subscriber.
+ */
+public interface WebSocketClusterTransport {
+
+    /**
+     * Publishes the batch of messages to all the nodes.
+     *
+     * @param batch the messages, never empty
+     * @return the completion stage, completed when the batch is published
+     */
+    CompletionStage<Void> publish(List<WebSocketClusterMessage> batch);
+
+    /**
+     * Registers the subscriber that receives the batches published by all the nodes. This method is called once, when the
+     * application starts.
+     *
+     * @param subscriber the subscriber
+     */
+    void subscribe(Consumer<List<WebSocketClusterMessage>> subscriber);
+
+}
@@ -44,6 +44,33 @@ interface WebSocketMetricsInterceptor {
          */
         void onMessageReceived(byte[] data, String route);
 
+        /**
+         * Called when an outbound message was sent to all the connections of a broadcast. Each sent message is also
+         * reported with {@link #onMessageSent(byte[], String)}.
+         *
+         * @param recipients number of connections the message was sent to
+         * @param durationInNanos time it took to send the message to all the connections
+         * @param route endpoint route
+         */
+        default void onBroadcast(int recipients, long durationInNanos, String route) {
+        }
+
+        /**
+         * Called when the outbound data of a connection exceeds the configured high watermark.
+         *
+         * @param route endpoint route
+         */
+        default void onHighWatermarkExceeded(String route) {
+        }
+
+        /**
+         * Called when an outbound message is discarded because the outbound high watermark of a connection was exceeded.
+         *
+         * @param route endpoint route
+         */
+        default void onMessageDropped(String route) {
+        }
+
         /**
          * Called when a WebSocket connection is opened.
          *
@@ -21,7 +21,11 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -61,6 +65,9 @@ public class BeanDeployment {
 
     private static final Logger LOGGER = Logger.getLogger(BeanDeployment.class);
 
+    // The number of components processed by a single task if the bean deployment is initialized and validated in parallel
+    private static final int PARALLEL_CHUNK_SIZE = 64;
+
     final String name;
     private final BuildContextImpl buildContext;
 
@@ -115,6 +122,9 @@ public class BeanDeployment {
 
     private final List<Predicate<BeanInfo>> unusedExclusions;
 
+    // all the exclusions from the removal of unused beans, set during init
+    private List<Predicate<BeanInfo>> allUnusedExclusions = List.of();
+
     private final Set<BeanInfo> removedBeans;
 
     private final Set<BeanInfo> beansWithRuntimeDeferredUnproxyableError;
@@ -318,27 +328,53 @@ RegistrationContext registerBeans(List<BeanRegistrar> beanRegistrars) {
     }
 
     void init(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
-            List<Predicate<BeanInfo>> additionalUnusedBeanExclusions) {
+            List<Predicate<BeanInfo>> additionalUnusedBeanExclusions, ExecutorService executor) {
         long start = System.nanoTime();
 
         initObserverAndProducerMethods(observers, beans);
 
         // Collect dependency resolution errors
         List<Throwable> errors = new ArrayList<>();
-        for (BeanInfo bean : beans) {
-            bean.init(errors, bytecodeTransformerConsumer, transformUnproxyableClasses);
-        }
-        for (ObserverInfo observer : observers) {
-            observer.init(errors);
-        }
-        for (InterceptorInfo interceptor : interceptors) {
-            interceptor.init(errors, bytecodeTransformerConsumer, transformUnproxyableClasses);
-        }
-        for (DecoratorInfo decorator : decorators) {
-            decorator.init(errors, bytecodeTransformerConsumer, transformUnproxyableClasses);
-        }
-        for (InvokerInfo invoker : invokers) {
-            invoker.init(errors);
+        if (executor != null) {
+            // Resolve all injection points in parallel first
+            // The errors are collected per component and reported in the same order as in the sequential mode
+            List<List<Throwable>> beanErrors = resolveInjectionPoints(beans, BeanInfo::resolveInjectionPoints, executor);
+            List<List<Throwable>> observerErrors = resolveInjectionPoints(observers, ObserverInfo::init, executor);
+            List<List<Throwable>> interceptorErrors = resolveInjectionPoints(interceptors, BeanInfo::resolveInjectionPoints,
+                    executor);
+            List<List<Throwable>> decoratorErrors = resolveInjectionPoints(decorators, BeanInfo::resolveInjectionPoints,
+                    executor);
+            List<List<Throwable>> invokerErrors = resolveInjectionPoints(invokers, InvokerInfo::init, executor);
+            for (int i = 0; i < beans.size(); i++) {
+                errors.addAll(beanErrors.get(i));
+                beans.get(i).initInterception(errors, bytecodeTransformerConsumer, transformUnproxyableClasses);
+            }
+            observerErrors.forEach(errors::addAll);
+            for (int i = 0; i < interceptors.size(); i++) {
+                errors.addAll(interceptorErrors.get(i));
+                interceptors.get(i).initInterception(errors, bytecodeTransformerConsumer, transformUnproxyableClasses);
+            }
+            for (int i = 0; i < decorators.size(); i++) {
+                errors.addAll(decoratorErrors.get(i));
+                decorators.get(i).initInterception(errors, bytecodeTransformerConsumer, transformUnproxyableClasses);
+            }
+            invokerErrors.forEach(errors::addAll);
+        } else {
+            for (BeanInfo bean : beans) {
+                bean.init(errors, bytecodeTransformerConsumer, transformUnproxyableClasses);
+            }
+            for (ObserverInfo observer : observers) {
+                observer.init(errors);
+            }
+            for (InterceptorInfo interceptor : interceptors) {
+                interceptor.init(errors, bytecodeTransformerConsumer, transformUnproxyableClasses);
+            }
+            for (DecoratorInfo decorator : decorators) {
+                decorator.init(errors, bytecodeTransformerConsumer, transformUnproxyableClasses);
+            }
+            for (InvokerInfo invoker : invokers) {
+                invoker.init(errors);
+            }
         }
 
         processErrors(errors);
@@ -346,6 +382,7 @@ void init(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
         if (unusedExclusions != null) {
             allUnusedExclusions.addAll(unusedExclusions);
         }
+        this.allUnusedExclusions = allUnusedExclusions;
 
         if (removeUnusedBeans) {
             long removalStart = System.nanoTime();
@@ -369,6 +406,58 @@ void init(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
         LOGGER.debugf("Bean deployment initialized in %s ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
     }
 
+    private static <T> List<List<Throwable>> resolveInjectionPoints(Collection<T> components,
+            BiConsumer<T, List<Throwable>> resolver, ExecutorService executor) {
+        List<List<Throwable>> result = new ArrayList<>(components.size());
+        for (List<List<Throwable>> chunkErrors : forEachChunk(new ArrayList<>(components), chunk -> {
+            List<List<Throwable>> errors = new ArrayList<>(chunk.size());
+            for (T component : chunk) {
+                List<Throwable> componentErrors = new ArrayList<>();
+                resolver.accept(component, componentErrors);
+                errors.add(componentErrors);
+            }
+            return errors;
+        }, executor)) {
+            result.addAll(chunkErrors);
+        }
+        return result;
+    }
+
+    /**
+     * Splits the list into chunks of consecutive elements and performs the task for each chunk. The chunks are processed in
+     * parallel if an executor is set.
+     *
+     * @return the results in the order of the chunks
+     */
+    static <T, R> List<R> forEachChunk(List<T> elements, Function<List<T>, R> task, ExecutorService executor) {
+        if (executor == null || elements.size() <= PARALLEL_CHUNK_SIZE) {
+            return List.of(task.apply(elements));
+        }
+        List<Future<R>> futures = new ArrayList<>();
+        for (int i = 0; i < elements.size(); i += PARALLEL_CHUNK_SIZE) {
+            List<T> chunk = elements.subList(i, Math.min(i + PARALLEL_CHUNK_SIZE, elements.size()));
+            futures.add(executor.submit(() -> task.apply(chunk)));
+        }
+        List<R> results = new ArrayList<>(futures.size());
+        for (Future<R> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+        return results;
+    }
+
     /**
      * Re-initialize the map that is used to speed-up lookup requests.
      */
@@ -496,6 +585,21 @@ private Set<DecoratorInfo> removeUnusedDecorators(Set<DecoratorInfo> removedDeco
         return removableDecorators;
     }
 
+    /**
+     *
+     * @param bean
+     * @return {@code true} if the bean is excluded from the removal of unused beans, e.g. because it's annotated with
+     *         {@link io.quarkus.arc.Unremovable}
+     */
+    boolean isUnusedExclusion(BeanInfo bean) {
+        for (Predicate<BeanInfo> exclusion : allUnusedExclusions) {
+            if (exclusion.test(bean)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private Set<BeanInfo> removeUnusedBeans(Set<BeanInfo> declaresObserver, Set<BeanInfo> invokerLookups,
             List<Predicate<BeanInfo>> allUnusedExclusions) {
         Set<BeanInfo> removableBeans = UnusedBeans.findRemovableBeans(beanResolver, this.beans, this.injectionPoints,
@@ -516,11 +620,11 @@ private Set<BeanInfo> removeUnusedBeans(Set<BeanInfo> declaresObserver, Set<Bean
     }
 
     ValidationContext validate(List<BeanDeploymentValidator> validators,
-            Consumer<BytecodeTransformer> bytecodeTransformerConsumer) {
+            Consumer<BytecodeTransformer> bytecodeTransformerConsumer, ExecutorService executor) {
         // Validate the bean deployment
         List<Throwable> errors = new ArrayList<>();
         // First, validate all beans internally
-        validateBeans(errors, bytecodeTransformerConsumer);
+        validateBeans(errors, bytecodeTransformerConsumer, executor);
         validateInterceptorsAndDecorators(errors, bytecodeTransformerConsumer);
         validateNonAppBeansWithAppDecorators(errors, bytecodeTransformerConsumer);
         ValidationContextImpl validationContext = new ValidationContextImpl(buildContext);
@@ -1719,11 +1823,21 @@ private void validateInterceptorsAndDecorators(List<Throwable> errors,
         }
     }
 
-    private void validateBeans(List<Throwable> errors, Consumer<BytecodeTransformer> bytecodeTransformerConsumer) {
+    private void validateBeans(List<Throwable> errors, Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
+            ExecutorService executor) {
 
         Set<String> namespaces = new HashSet<>();
         Map<String, List<BeanInfo>> namedBeans = new HashMap<>();
         Set<DotName> classesReceivingNoArgsCtor = new HashSet<>();
+        // A no-args constructor is only added once per class, even if several beans require it
+        BiConsumer<DotName, BytecodeTransformer> noArgsCtorConsumer = new BiConsumer<>() {
+            @Override
+            public void accept(DotName className, BytecodeTransformer transformer) {
+                if (classesReceivingNoArgsCtor.add(className)) {
+                    bytecodeTransformerConsumer.accept(transformer);
+                }
+            }
+        };
 
         // this set is only used in strict compatible mode (see `Beans.validateBean()`),
         // so no need to initialize it otherwise
@@ -1746,7 +1860,21 @@ private void validateBeans(List<Throwable> errors, Consumer<BytecodeTransformer>
                 named.add(bean);
                 findNamespaces(bean, namespaces);
             }
-            bean.validate(errors, bytecodeTransformerConsumer, classesReceivingNoArgsCtor, injectedBeans);
+            if (executor == null) {
+                bean.validate(errors, bytecodeTransformerConsumer, noArgsCtorConsumer, injectedBeans);
+            }
+        }
+        if (executor != null) {
+            List<ValidationChunk> chunks = forEachChunk(beans, beansChunk -> {
+                ValidationChunk chunk = new ValidationChunk();
+                for (BeanInfo bean : beansChunk) {
+                    bean.validate(chunk.errors, chunk.transformers::add, chunk::addNoArgsCtor, injectedBeans);
+                }
+                return chunk;
+            }, executor);
+            for (ValidationChunk chunk : chunks) {
+                chunk.replay(errors, noArgsCtorConsumer, bytecodeTransformerConsumer);
+            }
         }
 
         if (!namedBeans.isEmpty()) {
@@ -2097,4 +2225,35 @@ public BeanStream beans() {
 
     }
 
+    /**
+     * Holds the results of the validation of a chunk of beans, so that they can be applied in the same order as in the
+     * sequential mode.
+     */
+    private static final class ValidationChunk {
+
+        final List<Throwable> errors = new ArrayList<>();
+        final List<BytecodeTransformer> transformers = new ArrayList<>();
+        // transformer index -> class that receives a synthetic no-args constructor
+        final Map<Integer, DotName> noArgsCtorTransformers = new HashMap<>();
+
+        void addNoArgsCtor(DotName className, BytecodeTransformer transformer) {
+            noArgsCtorTransformers.put(transformers.size(), className);
+            transformers.add(transformer);
+        }
+
+        void replay(List<Throwable> errors, BiConsumer<DotName, BytecodeTransformer> noArgsCtorConsumer,
+                Consumer<BytecodeTransformer> bytecodeTransformerConsumer) {
+            errors.addAll(this.errors);
+            for (int i = 0; i < transformers.size(); i++) {
+                DotName noArgsCtorClass = noArgsCtorTransformers.get(i);
+                if (noArgsCtorClass != null) {
+                    // A no-args constructor may have been already added by a bean from a previous chunk
+                    noArgsCtorConsumer.accept(noArgsCtorClass, transformers.get(i));
+                } else {
+                    bytecodeTransformerConsumer.accept(transformers.get(i));
+                }
+            }
+        }
+    }
+
 }
@@ -104,12 +104,15 @@ public class BeanGenerator extends AbstractGenerator {
     protected final Set<String> existingClasses;
     protected final Map<BeanInfo, String> beanToGeneratedName;
     protected final Map<BeanInfo, String> beanToGeneratedBaseName;
+    protected final Map<BeanInfo, Integer> beanToContextIndex;
+    protected final Set<InjectionPointInfo> elidedClientProxies;
     protected final Predicate<DotName> injectionPointAnnotationsPredicate;
     protected final List<Function<BeanInfo, Consumer<BlockCreator>>> suppressConditionGenerators;
 
     public BeanGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
             PrivateMembersCollector privateMembers, boolean generateSources, ReflectionRegistration reflectionRegistration,
             Set<String> existingClasses, Map<BeanInfo, String> beanToGeneratedName,
+            Map<BeanInfo, Integer> beanToContextIndex, Set<InjectionPointInfo> elidedClientProxies,
             Predicate<DotName> injectionPointAnnotationsPredicate,
             List<Function<BeanInfo, Consumer<BlockCreator>>> suppressConditionGenerators) {
         super(generateSources, reflectionRegistration);
@@ -118,6 +121,8 @@ public BeanGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<Do
         this.privateMembers = privateMembers;
         this.existingClasses = existingClasses;
         this.beanToGeneratedName = beanToGeneratedName;
+        this.beanToContextIndex = beanToContextIndex;
+        this.elidedClientProxies = elidedClientProxies;
         this.injectionPointAnnotationsPredicate = injectionPointAnnotationsPredicate;
         this.suppressConditionGenerators = suppressConditionGenerators;
         this.beanToGeneratedBaseName = new HashMap<>();
@@ -301,6 +306,7 @@ private void generateBean(Gizmo gizmo, BeanInfo bean, String generatedName, Stri
             if (!BuiltinScope.isDefault(bean.getScope())) {
                 generateGetScope(cc, bean);
             }
+            generateGetContextIndex(cc, bean);
             if (qualifiersField != null) {
                 generateGetQualifiers(cc, qualifiersField);
             }
@@ -768,6 +774,7 @@ private void generateCreateForClassBean(ClassCreator cc, BeanInfo bean,
                         LocalVar injectedReference = b1.localVar("injectedReference",
                                 b1.invokeInterface(MethodDescs.INJECTABLE_REF_PROVIDER_GET, provider, childCC));
                         checkPrimitiveInjection(b1, injectionPoint, injectedReference);
+                        elideClientProxy(b1, injectionPoint, injectedReference);
 
                         FieldInfo injectedField = injection.target.asField();
                         // only use reflection fallback if we are not performing transformation
@@ -807,6 +814,7 @@ private void generateCreateForClassBean(ClassCreator cc, BeanInfo bean,
                     LocalVar injectedReference = bc.localVar("injectedReference",
                             bc.invokeInterface(MethodDescs.INJECTABLE_REF_PROVIDER_GET, provider, childCC));
                     checkPrimitiveInjection(bc, injectionPoint, injectedReference);
+                    elideClientProxy(bc, injectionPoint, injectedReference);
                     injectedReferences[paramIdx++] = injectedReference;
                     // We need to destroy dependent beans for @TransientReference injection points
                     if (injectionPoint.isDependentTransientReference()) {
@@ -1084,6 +1092,7 @@ private void newProviders(BeanInfo bean, ClassCreator cc, BlockCreator bc,
                 LocalVar injectedReference = bc.localVar("injectedReference",
                         bc.invokeInterface(MethodDescs.INJECTABLE_REF_PROVIDER_GET, provider, childCC));
                 checkPrimitiveInjection(bc, injectionPoint, injectedReference);
+                elideClientProxy(bc, injectionPoint, injectedReference);
                 injectableParams.add(injectedReference);
                 if (injectionPoint.isDependentTransientReference()) {
                     transientReferences.add(new TransientReference(provider, injectedReference, childCC));
@@ -1453,6 +1462,14 @@ public BlockCreator checkActiveMethod() {
         b0.return_(result);
     }
 
+    private void elideClientProxy(BlockCreator bc, InjectionPointInfo injectionPoint, LocalVar injectedReference) {
+        if (elidedClientProxies.contains(injectionPoint)) {
+            // The injected bean is initialized eagerly and the contextual instance is injected directly
+            bc.set(injectedReference, bc.invokeInterface(MethodDescs.CLIENT_PROXY_GET_CONTEXTUAL_INSTANCE,
+                    injectedReference));
+        }
+    }
+
     static void checkPrimitiveInjection(BlockCreator b0, InjectionPointInfo injectionPoint, LocalVar localVar) {
         if (injectionPoint.getType().kind() == Type.Kind.PRIMITIVE) {
             Type producerType = null;
@@ -1783,6 +1800,21 @@ protected void generateGetIdentifier(ClassCreator cc, BeanInfo bean) {
         });
     }
 
+    /**
+     * @see InjectableBean#getContextIndex()
+     */
+    protected void generateGetContextIndex(ClassCreator cc, BeanInfo bean) {
+        Integer index = beanToContextIndex.get(bean);
+        if (index != null) {
+            cc.method("getContextIndex", mc -> {
+                mc.returning(int.class);
+                mc.body(bc -> {
+                    bc.return_(index);
+                });
+            });
+        }
+    }
+
     /**
      * @see InjectableBean#getTypes()
      */
@@ -18,6 +18,7 @@
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -659,17 +660,17 @@ public String getClientProxyPackageName() {
     }
 
     void validate(List<Throwable> errors, Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
-            Set<DotName> classesReceivingNoArgsCtor, Set<BeanInfo> injectedBeans) {
+            BiConsumer<DotName, BytecodeTransformer> noArgsCtorConsumer, Set<BeanInfo> injectedBeans) {
 
         // by default, we fail deployment due to unproxyability for all beans, but in strict mode,
         // we only do that for beans that are injected somewhere -- and defer the error to runtime otherwise,
         // due to CDI spec requirements
         boolean failIfNotProxyable = beanDeployment.strictCompatibility ? injectedBeans.contains(this) : true;
-        Beans.validateBean(this, errors, bytecodeTransformerConsumer, classesReceivingNoArgsCtor, failIfNotProxyable);
+        Beans.validateBean(this, errors, bytecodeTransformerConsumer, noArgsCtorConsumer, failIfNotProxyable);
 
         if (interceptionProxy != null) {
-            Beans.validateBean(interceptionProxy.getPseudoBean(), errors, bytecodeTransformerConsumer,
-                    classesReceivingNoArgsCtor, true);
+            Beans.validateBean(interceptionProxy.getPseudoBean(), errors, bytecodeTransformerConsumer, noArgsCtorConsumer,
+                    true);
         }
     }
 
@@ -679,6 +680,18 @@ void validateInterceptorDecorator(List<Throwable> errors, Consumer<BytecodeTrans
 
     void init(List<Throwable> errors, Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
             boolean transformUnproxyableClasses) {
+        resolveInjectionPoints(errors);
+        initInterception(errors, bytecodeTransformerConsumer, transformUnproxyableClasses);
+    }
+
+    /**
+     * Resolves the injection points of this bean and its disposer.
+     * <p>
+     * This method may be called concurrently for different beans.
+     *
+     * @param errors
+     */
+    void resolveInjectionPoints(List<Throwable> errors) {
         for (Injection injection : injections) {
             for (InjectionPointInfo injectionPoint : injection.injectionPoints) {
                 if (injectionPoint.isDelegate() && !isDecorator()) {
@@ -695,6 +708,10 @@ void init(List<Throwable> errors, Consumer<BytecodeTransformer> bytecodeTransfor
         if (disposer != null) {
             disposer.init(errors);
         }
+    }
+
+    void initInterception(List<Throwable> errors, Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
+            boolean transformUnproxyableClasses) {
         interceptedMethods = Map.copyOf(initInterceptedMethods(errors, bytecodeTransformerConsumer,
                 transformUnproxyableClasses, null));
         decoratedMethods = Map.copyOf(initDecoratedMethods());
@@ -87,6 +87,8 @@ public static Builder builder() {
     private final boolean allowMocking;
     private final boolean transformUnproxyableClasses;
     private final Predicate<BeanDeployment> optimizeContexts;
+    private final boolean elideClientProxies;
+    private final boolean flattenInterceptorChains;
     private final List<Function<BeanInfo, Consumer<BlockCreator>>> suppressConditionGenerators;
 
     // This predicate is used to filter annotations for InjectionPoint metadata
@@ -117,6 +119,8 @@ private BeanProcessor(Builder builder) {
         this.generateSources = builder.generateSources;
         this.allowMocking = builder.allowMocking;
         this.optimizeContexts = builder.optimizeContexts;
+        this.elideClientProxies = builder.elideClientProxies;
+        this.flattenInterceptorChains = builder.flattenInterceptorChains;
         this.transformUnproxyableClasses = builder.transformUnproxyableClasses;
         this.suppressConditionGenerators = builder.suppressConditionGenerators;
 
@@ -174,7 +178,18 @@ public ObserverRegistrar.RegistrationContext registerSyntheticObservers() {
      */
     public void initialize(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
             List<Predicate<BeanInfo>> additionalUnusedBeanExclusions) {
-        beanDeployment.init(bytecodeTransformerConsumer, additionalUnusedBeanExclusions);
+        initialize(bytecodeTransformerConsumer, additionalUnusedBeanExclusions, null);
+    }
+
+    /**
+     *
+     * @param bytecodeTransformerConsumer Used to register a bytecode transformation
+     * @param additionalUnusedBeanExclusions Additional predicates to exclude unused beans
+     * @param executor If set, the injection points are resolved in parallel
+     */
+    public void initialize(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
+            List<Predicate<BeanInfo>> additionalUnusedBeanExclusions, ExecutorService executor) {
+        beanDeployment.init(bytecodeTransformerConsumer, additionalUnusedBeanExclusions, executor);
     }
 
     /**
@@ -183,7 +198,19 @@ public void initialize(Consumer<BytecodeTransformer> bytecodeTransformerConsumer
      * @return the validation context
      */
     public BeanDeploymentValidator.ValidationContext validate(Consumer<BytecodeTransformer> bytecodeTransformerConsumer) {
-        ValidationContext validationContext = beanDeployment.validate(beanDeploymentValidators, bytecodeTransformerConsumer);
+        return validate(bytecodeTransformerConsumer, null);
+    }
+
+    /**
+     *
+     * @param bytecodeTransformerConsumer Used to register a bytecode transformation
+     * @param executor If set, the beans are validated in parallel
+     * @return the validation context
+     */
+    public BeanDeploymentValidator.ValidationContext validate(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
+            ExecutorService executor) {
+        ValidationContext validationContext = beanDeployment.validate(beanDeploymentValidators, bytecodeTransformerConsumer,
+                executor);
         customAlterableContexts.validate(validationContext, transformUnproxyableClasses, bytecodeTransformerConsumer);
         if (buildCompatibleExtensions != null) {
             buildCompatibleExtensions.runValidation(beanDeployment.getBeanArchiveIndex(),
@@ -212,9 +239,13 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
         Map<BeanInfo, String> beanToGeneratedName = new HashMap<>();
         Map<ObserverInfo, String> observerToGeneratedName = new HashMap<>();
         Map<DotName, String> scopeToGeneratedName = new HashMap<>();
+        Map<BeanInfo, Integer> beanToContextIndex = new HashMap<>();
+        Set<InjectionPointInfo> elidedClientProxies = elideClientProxies && !allowMocking
+                ? ClientProxyElision.find(beanDeployment)
+                : Collections.emptySet();
 
         BeanGenerator beanGenerator = new BeanGenerator(annotationLiterals, applicationClassPredicate, privateMembers,
-                generateSources, refReg, existingClasses, beanToGeneratedName,
+                generateSources, refReg, existingClasses, beanToGeneratedName, beanToContextIndex, elidedClientProxies,
                 injectionPointAnnotationsPredicate, suppressConditionGenerators);
         Collection<BeanInfo> beans = beanDeployment.getBeans();
         for (BeanInfo bean : beans) {
@@ -247,7 +278,7 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
         }
 
         SubclassGenerator subclassGenerator = new SubclassGenerator(annotationLiterals, applicationClassPredicate,
-                generateSources, refReg, existingClasses, privateMembers);
+                generateSources, refReg, existingClasses, privateMembers, flattenInterceptorChains);
 
         ObserverGenerator observerGenerator = new ObserverGenerator(annotationLiterals, applicationClassPredicate,
                 privateMembers, generateSources, refReg, existingClasses, observerToGeneratedName,
@@ -258,7 +289,7 @@ public List<Resource> generateResources(ReflectionRegistration reflectionRegistr
         }
 
         ContextInstancesGenerator contextInstancesGenerator = new ContextInstancesGenerator(generateSources,
-                refReg, beanDeployment, scopeToGeneratedName);
+                refReg, beanDeployment, scopeToGeneratedName, beanToContextIndex);
         if (optimizeContextsValue) {
             contextInstancesGenerator.precomputeGeneratedName(BuiltinScope.APPLICATION.getName());
             contextInstancesGenerator.precomputeGeneratedName(BuiltinScope.REQUEST.getName());
@@ -644,6 +675,8 @@ public static class Builder {
         boolean allowMocking;
         boolean strictCompatibility;
         Predicate<BeanDeployment> optimizeContexts;
+        boolean elideClientProxies;
+        boolean flattenInterceptorChains;
 
         AlternativePriorities alternativePriorities;
         final List<Predicate<ClassInfo>> excludeTypes;
@@ -679,6 +712,8 @@ public Builder() {
             failOnInterceptedPrivateMethod = false;
             allowMocking = false;
             strictCompatibility = false;
+            elideClientProxies = false;
+            flattenInterceptorChains = false;
 
             excludeTypes = new ArrayList<>();
 
@@ -948,6 +983,36 @@ public Builder setOptimizeContexts(Predicate<BeanDeployment> fun) {
             return this;
         }
 
+        /**
+         * If set to true the container will inject the contextual instance of an {@code @ApplicationScoped} bean directly
+         * into an {@code @ApplicationScoped} bean, instead of its client proxy, if it is safe to do so. The injected bean is
+         * initialized eagerly, i.e. when the bean that declares the injection point is created.
+         * <p>
+         * This optimization is ignored if mocking is allowed, see {@link #setAllowMocking(boolean)}.
+         *
+         * @param value
+         * @return self
+         */
+        public Builder setElideClientProxies(boolean value) {
+            this.elideClientProxies = value;
+            return this;
+        }
+
+        /**
+         * If set to true the container will generate a specialized invocation context for each intercepted method. The
+         * method arguments are only copied to a parameter array if an interceptor needs them.
+         * <p>
+         * Methods that are also decorated, or intercepted by around invoke methods declared on the target class, are not
+         * affected.
+         *
+         * @param value
+         * @return self
+         */
+        public Builder setFlattenInterceptorChains(boolean value) {
+            this.flattenInterceptorChains = value;
+            return this;
+        }
+
         /**
          * Can be used to compute a priority of an alternative bean. A non-null computed value always
          * takes precedence over the priority defined by {@link Priority} or a stereotype.
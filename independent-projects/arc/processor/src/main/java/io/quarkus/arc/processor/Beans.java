@@ -13,6 +13,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -841,8 +842,17 @@ static void validateInterceptorDecorator(BeanInfo bean, List<Throwable> errors,
         }
     }
 
+    /**
+     *
+     * @param bean
+     * @param errors
+     * @param bytecodeTransformerConsumer
+     * @param noArgsCtorConsumer receives the class and the transformer that adds a synthetic no-args constructor to the class;
+     *        it is responsible for applying the transformer only once per class
+     * @param failIfNotProxyable
+     */
     static void validateBean(BeanInfo bean, List<Throwable> errors, Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
-            Set<DotName> classesReceivingNoArgsCtor, boolean failIfNotProxyable) {
+            BiConsumer<DotName, BytecodeTransformer> noArgsCtorConsumer, boolean failIfNotProxyable) {
 
         if (bean.isClassBean()) {
             ClassInfo beanClass = bean.getTarget().get().asClass();
@@ -893,12 +903,9 @@ static void validateBean(BeanInfo bean, List<Throwable> errors, Consumer<Bytecod
                         }
                     }
                     if (superName != null) {
-                        if (!classesReceivingNoArgsCtor.contains(beanClass.name())) {
-                            String superClassName = superName.toString().replace('.', '/');
-                            bytecodeTransformerConsumer.accept(new BytecodeTransformer(beanClass.name().toString(),
-                                    new NoArgConstructorTransformFunction(superClassName)));
-                            classesReceivingNoArgsCtor.add(beanClass.name());
-                        }
+                        String superClassName = superName.toString().replace('.', '/');
+                        noArgsCtorConsumer.accept(beanClass.name(), new BytecodeTransformer(beanClass.name().toString(),
+                                new NoArgConstructorTransformFunction(superClassName)));
 
                     } else if (failIfNotProxyable) {
                         errors.add(cannotAddSyntheticNoArgsConstructor(beanClass));
@@ -988,12 +995,10 @@ static void validateBean(BeanInfo bean, List<Throwable> errors, Consumer<Bytecod
                             }
                         }
                         if (superName != null) {
-                            if (!classesReceivingNoArgsCtor.contains(returnTypeClass.name())) {
-                                String superClassName = superName.toString().replace('.', '/');
-                                bytecodeTransformerConsumer.accept(new BytecodeTransformer(returnTypeClass.name().toString(),
-                                        new NoArgConstructorTransformFunction(superClassName)));
-                                classesReceivingNoArgsCtor.add(returnTypeClass.name());
-                            }
+                            String superClassName = superName.toString().replace('.', '/');
+                            noArgsCtorConsumer.accept(returnTypeClass.name(),
+                                    new BytecodeTransformer(returnTypeClass.name().toString(),
+                                            new NoArgConstructorTransformFunction(superClassName)));
                         } else {
                             errors.add(cannotAddSyntheticNoArgsConstructor(returnTypeClass));
                         }
@@ -1047,12 +1052,9 @@ static void validateBean(BeanInfo bean, List<Throwable> errors, Consumer<Bytecod
                         }
                     }
                     if (superName != null) {
-                        if (!classesReceivingNoArgsCtor.contains(beanClass.name())) {
-                            String superClassName = superName.toString().replace('.', '/');
-                            bytecodeTransformerConsumer.accept(new BytecodeTransformer(beanClass.name().toString(),
-                                    new NoArgConstructorTransformFunction(superClassName)));
-                            classesReceivingNoArgsCtor.add(beanClass.name());
-                        }
+                        String superClassName = superName.toString().replace('.', '/');
+                        noArgsCtorConsumer.accept(beanClass.name(), new BytecodeTransformer(beanClass.name().toString(),
+                                new NoArgConstructorTransformFunction(superClassName)));
                     } else {
                         errors.add(cannotAddSyntheticNoArgsConstructor(beanClass));
                     }
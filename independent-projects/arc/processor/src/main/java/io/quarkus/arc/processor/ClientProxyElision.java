@@ -0,0 +1,152 @@
+package io.quarkus.arc.processor;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Finds the injection points of {@link jakarta.enterprise.context.ApplicationScoped} beans that can be injected with the
+ * contextual instance of an {@code @ApplicationScoped} bean directly, instead of its client proxy.
+ * <p>
+ * The client proxy of the injected bean can be elided if:
+ * <ul>
+ * <li>both beans are class-based {@code @ApplicationScoped} beans, and the injection point is neither a programmatic lookup
+ * nor a delegate injection point,</li>
+ * <li>the injected bean does not match any programmatic lookup injection point, i.e. it cannot be destroyed via
+ * {@code Instance#destroy()}, it has no name, and it is not excluded from the removal of unused beans, because such beans
+ * are typically obtained via {@code Arc.container().instance()}, {@code CDI.current().select()} or {@code BeanManager}
+ * and may be destroyed via {@code InstanceHandle#destroy()} or {@code Instance#destroy()}, and</li>
+ * <li>the injected bean can be initialized eagerly, i.e. its dependencies are known at build time and do not include the bean
+ * that declares the injection point.</li>
+ * </ul>
+ * A dynamic lookup of any other bean cannot be detected at build time. Therefore, the optimization is disabled by default,
+ * and enabling it asserts that the application does not destroy the contextual instances of {@code @ApplicationScoped}
+ * beans.
+ */
+final class ClientProxyElision {
+
+    private static final Logger LOGGER = Logger.getLogger(ClientProxyElision.class);
+
+    private final BeanDeployment beanDeployment;
+    private final List<InjectionPointInfo> programmaticLookups;
+    // bean -> transitive dependencies, or empty if the dependencies cannot be determined at build time
+    private final Map<BeanInfo, Optional<Set<BeanInfo>>> dependencies = new HashMap<>();
+
+    private ClientProxyElision(BeanDeployment beanDeployment) {
+        this.beanDeployment = beanDeployment;
+        this.programmaticLookups = beanDeployment.getInjectionPoints().stream()
+                .filter(InjectionPointInfo::isProgrammaticLookup)
+                .toList();
+    }
+
+    /**
+     *
+     * @param beanDeployment
+     * @return the injection points that can be injected with the contextual instance directly
+     */
+    static Set<InjectionPointInfo> find(BeanDeployment beanDeployment) {
+        return new ClientProxyElision(beanDeployment).find();
+    }
+
+    private Set<InjectionPointInfo> find() {
+        Set<InjectionPointInfo> result = new HashSet<>();
+        Map<BeanInfo, Boolean> eligible = new HashMap<>();
+        for (BeanInfo bean : beanDeployment.getBeans()) {
+            if (!isApplicationScopedClassBean(bean)) {
+                continue;
+            }
+            for (InjectionPointInfo injectionPoint : bean.getAllInjectionPoints()) {
+                if (injectionPoint.isProgrammaticLookup() || injectionPoint.isDelegate() || injectionPoint.isSynthetic()
+                        || !injectionPoint.hasResolvedBean()) {
+                    continue;
+                }
+                BeanInfo injected = injectionPoint.getResolvedBean();
+                if (injected.equals(bean) || !isApplicationScopedClassBean(injected)
+                        || !eligible.computeIfAbsent(injected, this::isNotLookedUp)) {
+                    continue;
+                }
+                Optional<Set<BeanInfo>> injectedDependencies = dependencies(injected);
+                if (injectedDependencies.isEmpty() || injectedDependencies.get().contains(bean)) {
+                    continue;
+                }
+                LOGGER.debugf("Client proxy elided for %s", injectionPoint.getTargetInfo());
+                result.add(injectionPoint);
+            }
+        }
+        if (!result.isEmpty()) {
+            LOGGER.infof("Client proxy elided for %s injection points of @ApplicationScoped beans", result.size());
+        }
+        return result;
+    }
+
+    private static boolean isApplicationScopedClassBean(BeanInfo bean) {
+        return bean.isClassBean() && BuiltinScope.APPLICATION.is(bean.getScope());
+    }
+
+    private boolean isNotLookedUp(BeanInfo bean) {
+        if (bean.getName() != null || beanDeployment.isUnusedExclusion(bean)) {
+            // Likely obtained via Arc.container(), CDI.current() or BeanManager
+            return false;
+        }
+        BeanResolver resolver = beanDeployment.getBeanResolver();
+        for (InjectionPointInfo lookup : programmaticLookups) {
+            if (resolver.matches(bean, lookup.getRequiredType(), lookup.getRequiredQualifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Optional<Set<BeanInfo>> dependencies(BeanInfo bean) {
+        Optional<Set<BeanInfo>> result = dependencies.get(bean);
+        if (result == null) {
+            result = computeDependencies(bean);
+            dependencies.put(bean, result);
+        }
+        return result;
+    }
+
+    private Optional<Set<BeanInfo>> computeDependencies(BeanInfo bean) {
+        Set<BeanInfo> visited = new HashSet<>();
+        Deque<BeanInfo> queue = new ArrayDeque<>();
+        queue.add(bean);
+        while (!queue.isEmpty()) {
+            BeanInfo next = queue.poll();
+            for (InjectionPointInfo injectionPoint : next.getAllInjectionPoints()) {
+                if (injectionPoint.hasResolvedBean()) {
+                    enqueue(injectionPoint.getResolvedBean(), visited, queue);
+                } else if (!BuiltinBean.INJECTION_POINT.matches(injectionPoint)) {
+                    // Programmatic lookup, BeanManager, Event, etc. - any bean could be obtained
+                    return Optional.empty();
+                }
+            }
+            if (next.isProducer()) {
+                enqueue(next.getDeclaringBean(), visited, queue);
+            }
+            enqueueAll(next.getBoundInterceptors(), visited, queue);
+            enqueueAll(next.getBoundDecorators(), visited, queue);
+        }
+        return Optional.of(visited);
+    }
+
+    private static void enqueueAll(Collection<? extends BeanInfo> beans, Set<BeanInfo> visited, Deque<BeanInfo> queue) {
+        for (BeanInfo bean : beans) {
+            enqueue(bean, visited, queue);
+        }
+    }
+
+    private static void enqueue(BeanInfo bean, Set<BeanInfo> visited, Deque<BeanInfo> queue) {
+        if (bean != null && visited.add(bean)) {
+            queue.add(bean);
+        }
+    }
+
+}
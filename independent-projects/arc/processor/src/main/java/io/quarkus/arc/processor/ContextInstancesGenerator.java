@@ -20,6 +20,7 @@
 import org.jboss.jandex.DotName;
 
 import io.quarkus.arc.ContextInstanceHandle;
+import io.quarkus.arc.impl.ArrayContextInstances;
 import io.quarkus.arc.impl.ContextInstances;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
 import io.quarkus.gizmo2.Const;
@@ -30,6 +31,7 @@
 import io.quarkus.gizmo2.ParamVar;
 import io.quarkus.gizmo2.StaticFieldVar;
 import io.quarkus.gizmo2.creator.ClassCreator;
+import io.quarkus.gizmo2.desc.ConstructorDesc;
 import io.quarkus.gizmo2.desc.FieldDesc;
 import io.quarkus.gizmo2.desc.MethodDesc;
 
@@ -39,19 +41,36 @@ public class ContextInstancesGenerator extends AbstractGenerator {
 
     private final BeanDeployment beanDeployment;
     private final Map<DotName, String> scopeToGeneratedName;
+    private final Map<BeanInfo, Integer> beanToContextIndex;
 
     public ContextInstancesGenerator(boolean generateSources, ReflectionRegistration reflectionRegistration,
-            BeanDeployment beanDeployment, Map<DotName, String> scopeToGeneratedName) {
+            BeanDeployment beanDeployment, Map<DotName, String> scopeToGeneratedName,
+            Map<BeanInfo, Integer> beanToContextIndex) {
         super(generateSources, reflectionRegistration);
         this.beanDeployment = beanDeployment;
         this.scopeToGeneratedName = scopeToGeneratedName;
+        this.beanToContextIndex = beanToContextIndex;
     }
 
+    /**
+     * Precompute the generated name for the given scope so that the {@link ComponentsProviderGenerator} can be executed
+     * before the context instances are generated. For the request scope, the context index of each bean is precomputed as
+     * well so that the {@link BeanGenerator} can use it.
+     *
+     * @param scope
+     */
     void precomputeGeneratedName(DotName scope) {
         String generatedName = DEFAULT_PACKAGE + "." + beanDeployment.name + UNDERSCORE
                 + scope.toString().replace(".", UNDERSCORE)
                 + CONTEXT_INSTANCES_SUFFIX;
         scopeToGeneratedName.put(scope, generatedName);
+        if (isArrayBacked(scope)) {
+            int index = 0;
+            // We need to iterate the beans in order for the indexes to be deterministic
+            for (BeanInfo bean : orderedBeans(new BeanStream(beanDeployment.getBeans()).withScope(scope).collect())) {
+                beanToContextIndex.put(bean, index++);
+            }
+        }
     }
 
     Collection<Resource> generate(DotName scope) {
@@ -59,11 +78,74 @@ Collection<Resource> generate(DotName scope) {
 
         Gizmo gizmo = gizmo(classOutput);
 
-        createContextInstances(gizmo, scope);
+        if (isArrayBacked(scope)) {
+            createArrayContextInstances(gizmo, scope);
+        } else {
+            createContextInstances(gizmo, scope);
+        }
 
         return classOutput.getResources();
     }
 
+    /**
+     * The request context is activated for each request, so its context instances are stored in a flat array that is
+     * allocated at once, and the beans are looked up by index.
+     */
+    private static boolean isArrayBacked(DotName scope) {
+        return BuiltinScope.REQUEST.getName().equals(scope);
+    }
+
+    private void createArrayContextInstances(Gizmo gizmo, DotName scope) {
+        String generatedName = scopeToGeneratedName.get(scope);
+        reflectionRegistration.registerMethod(generatedName, Methods.INIT);
+
+        Map<String, Integer> indexes = new TreeMap<>();
+        for (Map.Entry<BeanInfo, Integer> e : beanToContextIndex.entrySet()) {
+            if (e.getKey().getScope().getDotName().equals(scope)) {
+                indexes.put(e.getKey().getIdentifier(), e.getValue());
+            }
+        }
+
+        gizmo.class_(generatedName, cc -> {
+            cc.extends_(ArrayContextInstances.class);
+
+            // public <generatedName>() {
+            //   super(<number of beans>);
+            // }
+            cc.constructor(mc -> {
+                mc.body(bc -> {
+                    bc.invokeSpecial(ConstructorDesc.of(ArrayContextInstances.class, int.class), cc.this_(),
+                            Const.of(indexes.size()));
+                    bc.return_();
+                });
+            });
+
+            // protected int indexOf(String beanId) {
+            //   switch (beanId) {
+            //     case "<beanId>": return <idx>;
+            //     default: throw new IllegalArgumentException("Unknown bean identifier");
+            //   }
+            // }
+            cc.method("indexOf", mc -> {
+                mc.protected_();
+                mc.returning(int.class);
+                ParamVar rtBeanId = mc.parameter("beanId", String.class);
+                mc.body(b0 -> {
+                    b0.return_(b0.switch_(int.class, rtBeanId, sc -> {
+                        for (Map.Entry<String, Integer> e : indexes.entrySet()) {
+                            sc.caseOf(e.getKey(), b1 -> {
+                                b1.yield(Const.of(e.getValue()));
+                            });
+                        }
+                        sc.default_(b1 -> {
+                            b1.throw_(IllegalArgumentException.class, "Unknown bean identifier");
+                        });
+                    }));
+                });
+            });
+        });
+    }
+
     private void createContextInstances(Gizmo gizmo, DotName scope) {
         String generatedName = scopeToGeneratedName.get(scope);
         reflectionRegistration.registerMethod(generatedName, Methods.INIT);
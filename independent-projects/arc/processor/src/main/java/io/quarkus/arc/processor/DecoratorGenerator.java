@@ -55,7 +55,9 @@ public DecoratorGenerator(AnnotationLiteralProcessor annotationLiterals, Predica
             Set<String> existingClasses, Map<BeanInfo, String> beanToGeneratedName,
             Predicate<DotName> injectionPointAnnotationsPredicate) {
         super(annotationLiterals, applicationClassPredicate, privateMembers, generateSources, reflectionRegistration,
-                existingClasses, beanToGeneratedName, injectionPointAnnotationsPredicate, Collections.emptyList());
+                existingClasses, beanToGeneratedName, Collections.emptyMap(), Collections.emptySet(),
+                injectionPointAnnotationsPredicate,
+                Collections.emptyList());
     }
 
     /**
@@ -57,7 +57,9 @@ public InterceptorGenerator(AnnotationLiteralProcessor annotationLiterals, Predi
             Set<String> existingClasses, Map<BeanInfo, String> beanToGeneratedName,
             Predicate<DotName> injectionPointAnnotationsPredicate) {
         super(annotationLiterals, applicationClassPredicate, privateMembers, generateSources, reflectionRegistration,
-                existingClasses, beanToGeneratedName, injectionPointAnnotationsPredicate, Collections.emptyList());
+                existingClasses, beanToGeneratedName, Collections.emptyMap(), Collections.emptySet(),
+                injectionPointAnnotationsPredicate,
+                Collections.emptyList());
     }
 
     /**
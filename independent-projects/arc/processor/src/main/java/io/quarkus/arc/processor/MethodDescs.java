@@ -36,6 +36,7 @@
 import io.quarkus.arc.impl.CreationalContextImpl;
 import io.quarkus.arc.impl.DecoratorDelegateProvider;
 import io.quarkus.arc.impl.FixedValueSupplier;
+import io.quarkus.arc.impl.FlatAroundInvokeInvocationContext;
 import io.quarkus.arc.impl.InjectableReferenceProviders;
 import io.quarkus.arc.impl.InjectionPointImpl;
 import io.quarkus.arc.impl.InterceptedMethodMetadata;
@@ -128,6 +129,9 @@ private MethodDescs() {
     static final MethodDesc INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE = MethodDesc.of(InvocationContexts.class,
             "performAroundInvoke", Object.class, Object.class, Object[].class, InterceptedMethodMetadata.class);
 
+    static final MethodDesc FLAT_AROUND_INVOKE_INVOCATION_CONTEXT_PERFORM = MethodDesc.of(
+            FlatAroundInvokeInvocationContext.class, "perform", Object.class);
+
     static final MethodDesc INVOCATION_CONTEXTS_PERFORM_TARGET_AROUND_INVOKE = MethodDesc.of(InvocationContexts.class,
             "performTargetAroundInvoke", Object.class, InvocationContext.class, List.class, BiFunction.class);
 
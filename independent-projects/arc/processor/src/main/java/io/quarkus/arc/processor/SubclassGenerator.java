@@ -42,6 +42,7 @@
 import io.quarkus.arc.InjectableDecorator;
 import io.quarkus.arc.InjectableInterceptor;
 import io.quarkus.arc.Subclass;
+import io.quarkus.arc.impl.FlatAroundInvokeInvocationContext;
 import io.quarkus.arc.impl.InterceptedMethodMetadata;
 import io.quarkus.arc.processor.BeanInfo.DecorationInfo;
 import io.quarkus.arc.processor.BeanInfo.DecoratorMethod;
@@ -57,6 +58,7 @@
 import io.quarkus.gizmo2.InstanceFieldVar;
 import io.quarkus.gizmo2.LocalVar;
 import io.quarkus.gizmo2.ParamVar;
+import io.quarkus.gizmo2.Reflection2Gizmo;
 import io.quarkus.gizmo2.Var;
 import io.quarkus.gizmo2.creator.BlockCreator;
 import io.quarkus.gizmo2.creator.ClassCreator;
@@ -76,6 +78,7 @@ public class SubclassGenerator extends AbstractGenerator {
     private static final DotName JAVA_LANG_RUNTIME_EXCEPTION = DotNames.create(RuntimeException.class);
 
     static final String SUBCLASS_SUFFIX = "_Subclass";
+    static final String INVOCATION_SUFFIX = "_Invocation";
     static final String MARK_CONSTRUCTED_METHOD_NAME = "arc$markConstructed";
     static final String DESTROY_METHOD_NAME = "arc$destroy";
 
@@ -86,6 +89,7 @@ public class SubclassGenerator extends AbstractGenerator {
     private final Set<String> existingClasses;
     private final PrivateMembersCollector privateMembers;
     private final AnnotationLiteralProcessor annotationLiterals;
+    private final boolean flattenInterceptorChains;
 
     static String generatedName(DotName providerTypeName, String baseName) {
         return generatedNameFromTarget(DotNames.packagePrefix(providerTypeName), baseName, SUBCLASS_SUFFIX);
@@ -93,12 +97,13 @@ static String generatedName(DotName providerTypeName, String baseName) {
 
     SubclassGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
             boolean generateSources, ReflectionRegistration reflectionRegistration,
-            Set<String> existingClasses, PrivateMembersCollector privateMembers) {
+            Set<String> existingClasses, PrivateMembersCollector privateMembers, boolean flattenInterceptorChains) {
         super(generateSources, reflectionRegistration);
         this.applicationClassPredicate = applicationClassPredicate;
         this.annotationLiterals = annotationLiterals;
         this.existingClasses = existingClasses;
         this.privateMembers = privateMembers;
+        this.flattenInterceptorChains = flattenInterceptorChains;
     }
 
     Collection<Resource> generate(BeanInfo bean, String beanClassName) {
@@ -125,6 +130,7 @@ Collection<Resource> generate(BeanInfo bean, String beanClassName) {
     private void createSubclass(Gizmo gizmo, BeanInfo bean, String generatedName, Type providerType) {
         CodeGenInfo codeGenInfo = preprocess(bean);
         InterceptionInfo preDestroyInterception = bean.getLifecycleInterceptors(InterceptionType.PRE_DESTROY);
+        List<FlatInvocation> flatInvocations = new ArrayList<>();
 
         // Foo_Subclass extends Foo implements Subclass
         gizmo.class_(generatedName, cc -> {
@@ -320,8 +326,8 @@ private void createSubclass(Gizmo gizmo, BeanInfo bean, String generatedName, Ty
             });
 
             for (MethodGroup group : codeGenInfo.methodGroups()) {
-                generateInitMetadata(cc, bean, providerType, aroundInvokesField, constructedField, group,
-                        forwardingMethods, interceptorChainKeys, bindingKeys);
+                generateInitMetadata(cc, bean, generatedName, providerType, aroundInvokesField, constructedField, group,
+                        forwardingMethods, interceptorChainKeys, bindingKeys, flatInvocations);
             }
 
             cc.method(MARK_CONSTRUCTED_METHOD_NAME, mc -> {
@@ -358,12 +364,16 @@ private void createSubclass(Gizmo gizmo, BeanInfo bean, String generatedName, Ty
                 });
             }
         });
+
+        for (FlatInvocation flatInvocation : flatInvocations) {
+            createFlatInvocationContext(gizmo, flatInvocation);
+        }
     }
 
-    private void generateInitMetadata(ClassCreator cc, BeanInfo bean, Type providerType,
+    private void generateInitMetadata(ClassCreator cc, BeanInfo bean, String generatedName, Type providerType,
             FieldDesc aroundInvokesField, FieldDesc constructedField, MethodGroup group,
             Map<MethodDesc, MethodDesc> forwardingMethods, Map<List<InterceptorInfo>, String> interceptorChainKeys,
-            Map<Set<AnnotationInstanceEquivalenceProxy>, String> bindingKeys) {
+            Map<Set<AnnotationInstanceEquivalenceProxy>, String> bindingKeys, List<FlatInvocation> flatInvocations) {
 
         cc.method("arc$initMetadata" + group.id(), mc -> {
             mc.private_();
@@ -490,7 +500,26 @@ private void generateInitMetadata(ClassCreator cc, BeanInfo bean, Type providerT
 
                         // Finally create the intercepted method
                         MethodDesc forwardDescriptor = forwardingMethods.get(methodDesc);
-                        createInterceptedMethod(method, cc, metadataField, constructedField, forwardDescriptor, cc::this_);
+                        if (flattenInterceptorChains && decoration == null && !bean.hasAroundInvokes()
+                                && !Modifier.isAbstract(method.flags())) {
+                            // The interceptor chain is performed by a specialized invocation context
+                            FlatInvocation flatInvocation = new FlatInvocation(
+                                    generatedName + INVOCATION_SUFFIX + interceptedDecoratedMethod.index, cc.type(),
+                                    forwardDescriptor);
+                            flatInvocations.add(flatInvocation);
+                            createInterceptedMethod(method, cc, constructedField, forwardDescriptor, (b1, params) -> {
+                                // new Foo_Subclass_Invocation1(this, arc$1, p1).perform()
+                                List<Expr> ctorArgs = new ArrayList<>(params.size() + 2);
+                                ctorArgs.add(cc.this_());
+                                ctorArgs.add(cc.this_().field(metadataField));
+                                ctorArgs.addAll(params);
+                                Expr ctx = b1.new_(flatInvocation.constructor(), ctorArgs);
+                                return b1.invokeVirtual(MethodDescs.FLAT_AROUND_INVOKE_INVOCATION_CONTEXT_PERFORM, ctx);
+                            });
+                        } else {
+                            createInterceptedMethod(method, cc, metadataField, constructedField, forwardDescriptor,
+                                    cc::this_);
+                        }
                     } else {
                         // Only decorators are applied
                         cc.method(methodDesc, dmc -> {
@@ -876,6 +905,18 @@ static MethodDesc createForwardingMethod(io.quarkus.gizmo2.creator.ClassCreator
     static void createInterceptedMethod(MethodInfo method, ClassCreator subclass,
             FieldDesc metadataField, FieldDesc constructedField, MethodDesc forwardMethod,
             Supplier<Expr> getTarget) {
+        createInterceptedMethod(method, subclass, constructedField, forwardMethod, (b1, params) -> {
+            // Object[] args = new Object[] {p1}
+            Expr args = method.parametersCount() > 0 ? b1.newArray(Object.class, params) : Const.ofNull(Object[].class);
+            // InvocationContexts.performAroundInvoke(...)
+            FieldVar methodMetadata = subclass.this_().field(metadataField);
+            return b1.invokeStatic(MethodDescs.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE, getTarget.get(), args,
+                    methodMetadata);
+        });
+    }
+
+    private static void createInterceptedMethod(MethodInfo method, ClassCreator subclass, FieldDesc constructedField,
+            MethodDesc forwardMethod, BiFunction<BlockCreator, List<ParamVar>, Expr> performAroundInvoke) {
 
         subclass.method(methodDescOf(method), mc -> {
             mc.public_();
@@ -895,16 +936,9 @@ static void createInterceptedMethod(MethodInfo method, ClassCreator subclass,
                     }
                 });
 
-                // Object[] args = new Object[] {p1}
-                LocalVar args = b0.localVar("args",
-                        method.parametersCount() > 0 ? b0.newArray(Object.class, params) : Const.ofNull(Object[].class));
-
                 b0.try_(tc -> {
                     tc.body(b1 -> {
-                        // InvocationContexts.performAroundInvoke(...)
-                        FieldVar methodMetadata = subclass.this_().field(metadataField);
-                        Expr result = b1.invokeStatic(MethodDescs.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
-                                getTarget.get(), args, methodMetadata);
+                        Expr result = performAroundInvoke.apply(b1, params);
                         if (method.returnType().kind() == Kind.VOID) {
                             result = Const.ofVoid();
                         }
@@ -944,6 +978,97 @@ static void createInterceptedMethod(MethodInfo method, ClassCreator subclass,
         });
     }
 
+    /**
+     * Generates a specialized invocation context for an intercepted method:
+     *
+     * <pre>
+     * final class Foo_Subclass_Invocation1 extends FlatAroundInvokeInvocationContext {
+     *
+     *     private final Foo_Subclass target;
+     *     private final String arg0;
+     *
+     *     Foo_Subclass_Invocation1(Foo_Subclass target, InterceptedMethodMetadata metadata, String arg0) {
+     *         super(target, metadata);
+     *         this.target = target;
+     *         this.arg0 = arg0;
+     *     }
+     *
+     *     protected Object[] arguments() {
+     *         return new Object[] { arg0 };
+     *     }
+     *
+     *     protected Object invokeTarget() {
+     *         return target.foo$$superforward(arg0);
+     *     }
+     * }
+     * </pre>
+     */
+    private void createFlatInvocationContext(Gizmo gizmo, FlatInvocation flatInvocation) {
+        MethodDesc forwardMethod = flatInvocation.forwardMethod();
+        int paramsCount = forwardMethod.parameterCount();
+
+        gizmo.class_(flatInvocation.className(), cc -> {
+            cc.final_();
+            cc.extends_(FlatAroundInvokeInvocationContext.class);
+
+            FieldDesc targetField = cc.field("target", fc -> {
+                fc.private_();
+                fc.final_();
+                fc.setType(flatInvocation.subclass());
+            });
+            List<FieldDesc> argFields = new ArrayList<>(paramsCount);
+            for (int i = 0; i < paramsCount; i++) {
+                ClassDesc paramType = forwardMethod.parameterType(i);
+                argFields.add(cc.field("arg" + i, fc -> {
+                    fc.private_();
+                    fc.final_();
+                    fc.setType(paramType);
+                }));
+            }
+
+            cc.constructor(mc -> {
+                ParamVar target = mc.parameter("target", flatInvocation.subclass());
+                ParamVar metadata = mc.parameter("metadata", InterceptedMethodMetadata.class);
+                List<ParamVar> args = new ArrayList<>(paramsCount);
+                for (int i = 0; i < paramsCount; i++) {
+                    args.add(mc.parameter("arg" + i, forwardMethod.parameterType(i)));
+                }
+                mc.body(bc -> {
+                    bc.invokeSpecial(ConstructorDesc.of(FlatAroundInvokeInvocationContext.class, Object.class,
+                            InterceptedMethodMetadata.class), cc.this_(), target, metadata);
+                    bc.set(cc.this_().field(targetField), target);
+                    for (int i = 0; i < paramsCount; i++) {
+                        bc.set(cc.this_().field(argFields.get(i)), args.get(i));
+                    }
+                    bc.return_();
+                });
+            });
+
+            cc.method("arguments", mc -> {
+                mc.protected_();
+                mc.returning(Object[].class);
+                mc.body(bc -> {
+                    bc.return_(bc.newArray(Object.class, argFields.stream()
+                            .map(f -> (Expr) cc.this_().field(f))
+                            .toList()));
+                });
+            });
+
+            cc.method("invokeTarget", mc -> {
+                mc.protected_();
+                mc.returning(Object.class);
+                mc.throws_(Exception.class);
+                mc.body(bc -> {
+                    List<Expr> args = argFields.stream()
+                            .map(f -> (Expr) cc.this_().field(f))
+                            .toList();
+                    Expr result = bc.invokeVirtual(forwardMethod, cc.this_().field(targetField), args);
+                    bc.return_(result.isVoid() ? Const.ofNull(Object.class) : result);
+                });
+            });
+        });
+    }
+
     static class IntegerHolder {
         int i = 1;
     }
@@ -953,6 +1078,19 @@ record InterceptedDecoratedMethod(int index, MethodInfo method, BeanInfo.Interce
             BeanInfo.DecorationInfo decoration) {
     }
 
+    record FlatInvocation(String className, ClassDesc subclass, MethodDesc forwardMethod) {
+
+        ConstructorDesc constructor() {
+            List<ClassDesc> params = new ArrayList<>(forwardMethod.parameterCount() + 2);
+            params.add(subclass);
+            params.add(Reflection2Gizmo.classDescOf(InterceptedMethodMetadata.class));
+            for (int i = 0; i < forwardMethod.parameterCount(); i++) {
+                params.add(forwardMethod.parameterType(i));
+            }
+            return ConstructorDesc.of(ClassDesc.of(className), params);
+        }
+    }
+
     record MethodGroup(int id, List<InterceptedDecoratedMethod> interceptedDecoratedMethods) {
     }
 
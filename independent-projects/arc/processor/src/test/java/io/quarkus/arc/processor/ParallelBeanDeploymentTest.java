@@ -0,0 +1,157 @@
+package io.quarkus.arc.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.inject.spi.DeploymentException;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Verifies that the bean deployment is resolved and validated deterministically if an executor is used.
+ * <p>
+ * The bean archive is a synthetic index of {@value #BEANS} beans.
+ */
+public class ParallelBeanDeploymentTest {
+
+    private static final int BEANS = 300;
+    private static final String PACKAGE = "io/quarkus/arc/processor/synthetic/";
+
+    private static IndexView index;
+    private static IndexView invalidIndex;
+    private static ExecutorService executor;
+
+    @BeforeAll
+    static void init() throws IOException {
+        index = syntheticIndex(BEANS, false);
+        invalidIndex = syntheticIndex(BEANS, true);
+        executor = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+    }
+
+    @AfterAll
+    static void destroy() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testDeterministicResult() {
+        Result sequential = process(index, null);
+        Result parallel = process(index, executor);
+        assertTrue(sequential.beans >= BEANS);
+        assertEquals(sequential.beans, parallel.beans);
+        assertEquals(sequential.resolved, parallel.resolved);
+        assertEquals(sequential.problems, parallel.problems);
+        assertEquals(sequential.transformers, parallel.transformers);
+    }
+
+    @Test
+    public void testDeterministicErrors() {
+        DeploymentException sequential = assertThrows(DeploymentException.class, () -> process(invalidIndex, null));
+        DeploymentException parallel = assertThrows(DeploymentException.class, () -> process(invalidIndex, executor));
+        assertTrue(sequential.getMessage().startsWith("Found " + BEANS / 50 + " deployment problems"), sequential.getMessage());
+        assertEquals(sequential.getMessage(), parallel.getMessage());
+    }
+
+    private static Result process(IndexView index, ExecutorService executor) {
+        BeanProcessor processor = BeanProcessor.builder()
+                .setImmutableBeanArchiveIndex(index)
+                .build();
+        processor.registerCustomContexts();
+        processor.registerScopes();
+        BeanRegistrar.RegistrationContext registrationContext = processor.registerBeans();
+        processor.registerSyntheticInjectionPoints(registrationContext);
+        processor.getBeanDeployment().initBeanByTypeMap();
+        processor.registerSyntheticObservers();
+
+        List<BytecodeTransformer> transformers = new ArrayList<>();
+        processor.initialize(transformers::add, Collections.emptyList(), executor);
+        BeanDeploymentValidator.ValidationContext validationContext = processor.validate(transformers::add, executor);
+
+        BeanDeployment deployment = processor.getBeanDeployment();
+        List<String> resolved = new ArrayList<>();
+        for (InjectionPointInfo injectionPoint : deployment.getInjectionPoints()) {
+            resolved.add(injectionPoint.getTargetInfo() + " -> "
+                    + (injectionPoint.hasResolvedBean() ? injectionPoint.getResolvedBean().getIdentifier() : null));
+        }
+        List<String> problems = new ArrayList<>();
+        for (Throwable problem : validationContext.getDeploymentProblems()) {
+            problems.add(problem.getMessage());
+        }
+        List<String> transformerClasses = new ArrayList<>();
+        for (BytecodeTransformer transformer : transformers) {
+            transformerClasses.add(transformer.getClassToTransform());
+        }
+        return new Result(deployment.getBeans().size(), resolved, problems, transformerClasses);
+    }
+
+    /**
+     * Every bean injects its "parent" so that the beans form a tree. Every 20th bean also declares a programmatic lookup. If
+     * {@code unsatisfied} is set then every 50th bean declares an unsatisfied dependency.
+     */
+    private static IndexView syntheticIndex(int beans, boolean unsatisfied) throws IOException {
+        Indexer indexer = new Indexer();
+        indexer.indexClass(Object.class);
+        for (int i = 0; i < beans; i++) {
+            indexer.index(new ByteArrayInputStream(generateBean(i, unsatisfied)));
+        }
+        return BeanArchives.buildImmutableBeanArchiveIndex(indexer.complete());
+    }
+
+    private static byte[] generateBean(int i, boolean unsatisfied) {
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, beanName(i), null, "java/lang/Object", null);
+        writer.visitAnnotation("Ljakarta/enterprise/context/ApplicationScoped;", true).visitEnd();
+        if (i > 0) {
+            injectField(writer, "parent", "L" + beanName(i / 2) + ";", null);
+        }
+        if (i > 0 && i % 20 == 0) {
+            injectField(writer, "lookup", "Ljakarta/enterprise/inject/Instance;",
+                    "Ljakarta/enterprise/inject/Instance<L" + beanName(i - 1) + ";>;");
+        }
+        if (unsatisfied && i % 50 == 49) {
+            injectField(writer, "missing", "L" + PACKAGE + "Missing;", null);
+        }
+        MethodVisitor constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(Opcodes.ALOAD, 0);
+        constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        constructor.visitInsn(Opcodes.RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static void injectField(ClassWriter writer, String name, String descriptor, String signature) {
+        FieldVisitor field = writer.visitField(0, name, descriptor, signature, null);
+        field.visitAnnotation("Ljakarta/inject/Inject;", true).visitEnd();
+        field.visitEnd();
+    }
+
+    private static String beanName(int i) {
+        return PACKAGE + "Bean" + i;
+    }
+
+    record Result(int beans, List<String> resolved, List<String> problems, List<String> transformers) {
+    }
+
+}
@@ -160,6 +160,16 @@ default int getPriority() {
         return 0;
     }
 
+    /**
+     * The index of the slot that holds the contextual instance of this bean, if the storage of the context instances is
+     * generated for the scope of this bean. This method is used internally by the container.
+     *
+     * @return the index, or {@code -1} if no slot is assigned
+     */
+    default int getContextIndex() {
+        return -1;
+    }
+
     /**
      * The return value depends on the {@link #getKind()}.
      *
@@ -1,6 +1,8 @@
 package io.quarkus.arc.impl;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -24,19 +26,43 @@
 class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
     static Object perform(Object target, Object[] args, InterceptedMethodMetadata metadata) throws Exception {
-        if (metadata.chain.isEmpty()) {
-            return metadata.aroundInvokeForward.apply(target, new AroundInvokeInvocationContext(target, args, metadata));
+        return new AroundInvokeInvocationContext(target, args, metadata).start();
+    }
+
+    private static final VarHandle LAZY_CONTEXT_DATA;
+
+    static {
+        try {
+            LAZY_CONTEXT_DATA = MethodHandles.lookup().findVarHandle(AroundInvokeInvocationContext.class, "lazyContextData",
+                    ContextDataMap.class);
+        } catch (ReflectiveOperationException e) {
+            throw new Error(e);
         }
-        return metadata.chain.get(0).invoke(new AroundInvokeInvocationContext(target, args, metadata));
     }
 
     private final InterceptedMethodMetadata metadata;
 
+    // The context data map is only created if needed; an asynchronous continuation may access it from another thread
+    private volatile ContextDataMap lazyContextData;
+
     AroundInvokeInvocationContext(Object target, Object[] args, InterceptedMethodMetadata metadata) {
-        super(target, args, new ContextDataMap(metadata.bindings));
+        super(target, args, null);
         this.metadata = metadata;
     }
 
+    @Override
+    public Map<String, Object> getContextData() {
+        ContextDataMap data = lazyContextData;
+        if (data == null) {
+            ContextDataMap created = new ContextDataMap(metadata.bindings);
+            data = (ContextDataMap) LAZY_CONTEXT_DATA.compareAndExchange(this, null, created);
+            if (data == null) {
+                data = created;
+            }
+        }
+        return data;
+    }
+
     @Override
     public Set<Annotation> getInterceptorBindings() {
         return metadata.bindings;
@@ -62,6 +88,20 @@ public Object proceed() throws Exception {
         return proceed(1);
     }
 
+    Object start() throws Exception {
+        if (metadata.chain.isEmpty()) {
+            return forward();
+        }
+        return metadata.chain.get(0).invoke(this);
+    }
+
+    /**
+     * Invokes the target method.
+     */
+    Object forward() throws Exception {
+        return metadata.aroundInvokeForward.apply(target, this);
+    }
+
     private Object proceed(int currentPosition) throws Exception {
         try {
             if (currentPosition < metadata.chain.size()) {
@@ -70,7 +110,7 @@ private Object proceed(int currentPosition) throws Exception {
                         .invoke(new NextAroundInvokeInvocationContext(currentPosition + 1));
             } else {
                 // Invoke the target method
-                return metadata.aroundInvokeForward.apply(target, this);
+                return forward();
             }
         } catch (InvocationTargetException e) {
             Throwable cause = e.getCause();
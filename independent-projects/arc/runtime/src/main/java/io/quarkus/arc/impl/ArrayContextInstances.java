@@ -0,0 +1,234 @@
+package io.quarkus.arc.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import io.quarkus.arc.ContextInstanceHandle;
+import io.quarkus.arc.InjectableBean;
+
+/**
+ * Stores the context instances in a flat array. Each bean is assigned a slot at build time, see
+ * {@link InjectableBean#getContextIndex()}.
+ * <p>
+ * A slot is either empty, holds the instance handle, or holds a marker of the thread that is creating the instance. A
+ * lookup is a single volatile read; no lock is allocated. If a thread attempts to obtain an instance that is being created
+ * by another thread, it spins for a short while and then blocks until the creation completes. The latch it blocks on is
+ * only allocated at that point.
+ * <p>
+ * Subclasses are generated for a specific scope and map the bean identifiers to the slots, which is only needed if
+ * the identifier is used instead of the bean.
+ */
+public abstract class ArrayContextInstances implements ContextInstances {
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private static final int SPINS = 100;
+
+    private final Object[] slots;
+
+    protected ArrayContextInstances(int size) {
+        this.slots = new Object[size];
+    }
+
+    /**
+     *
+     * @param id
+     * @return the index of the slot of the bean with the given identifier
+     * @throws IllegalArgumentException if no such bean exists
+     */
+    protected abstract int indexOf(String id);
+
+    @Override
+    public ContextInstanceHandle<?> computeIfAbsent(String id, Supplier<ContextInstanceHandle<?>> supplier) {
+        return computeIfAbsent(indexOf(id), supplier);
+    }
+
+    @Override
+    public ContextInstanceHandle<?> computeIfAbsent(InjectableBean<?> bean, Supplier<ContextInstanceHandle<?>> supplier) {
+        return computeIfAbsent(index(bean), supplier);
+    }
+
+    @Override
+    public ContextInstanceHandle<?> getIfPresent(String id) {
+        return getIfPresent(indexOf(id));
+    }
+
+    @Override
+    public ContextInstanceHandle<?> getIfPresent(InjectableBean<?> bean) {
+        return getIfPresent(index(bean));
+    }
+
+    @Override
+    public ContextInstanceHandle<?> remove(String id) {
+        return remove(indexOf(id));
+    }
+
+    @Override
+    public ContextInstanceHandle<?> remove(InjectableBean<?> bean) {
+        return remove(index(bean));
+    }
+
+    @Override
+    public Set<ContextInstanceHandle<?>> getAllPresent() {
+        Set<ContextInstanceHandle<?>> result = new HashSet<>();
+        for (int i = 0; i < slots.length; i++) {
+            ContextInstanceHandle<?> handle = getIfPresent(i);
+            if (handle != null) {
+                result.add(handle);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void removeEach(Consumer<? super ContextInstanceHandle<?>> action) {
+        for (int i = 0; i < slots.length; i++) {
+            ContextInstanceHandle<?> handle = remove(i);
+            if (handle != null && action != null) {
+                action.accept(handle);
+            }
+        }
+    }
+
+    private int index(InjectableBean<?> bean) {
+        int index = bean.getContextIndex();
+        return index < 0 ? indexOf(bean.getIdentifier()) : index;
+    }
+
+    private ContextInstanceHandle<?> computeIfAbsent(int index, Supplier<ContextInstanceHandle<?>> supplier) {
+        Thread current = Thread.currentThread();
+        Creation creation = null;
+        int attempts = 0;
+        while (true) {
+            Object value = SLOTS.getVolatile(slots, index);
+            if (value instanceof ContextInstanceHandle<?> handle) {
+                return handle;
+            }
+            if (value == null) {
+                if (creation == null) {
+                    creation = new Creation(current);
+                }
+                if (SLOTS.compareAndSet(slots, index, null, creation)) {
+                    ContextInstanceHandle<?> handle;
+                    try {
+                        handle = supplier.get();
+                    } catch (Throwable t) {
+                        SLOTS.setVolatile(slots, index, null);
+                        creation.complete();
+                        throw t;
+                    }
+                    SLOTS.setVolatile(slots, index, handle);
+                    creation.complete();
+                    return handle;
+                }
+            } else if (((Creation) value).owner == current) {
+                // Reentrant creation of the same bean, e.g. from its @PostConstruct callback
+                return supplier.get();
+            } else {
+                // Another thread is creating the instance
+                attempts = await(index, (Creation) value, attempts);
+            }
+        }
+    }
+
+    private ContextInstanceHandle<?> getIfPresent(int index) {
+        return SLOTS.getVolatile(slots, index) instanceof ContextInstanceHandle<?> handle ? handle : null;
+    }
+
+    private ContextInstanceHandle<?> remove(int index) {
+        int attempts = 0;
+        while (true) {
+            Object value = SLOTS.getVolatile(slots, index);
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof ContextInstanceHandle<?> handle) {
+                if (SLOTS.compareAndSet(slots, index, value, null)) {
+                    return handle;
+                }
+            } else if (((Creation) value).owner == Thread.currentThread()) {
+                // The instance is being created by the current thread
+                return null;
+            } else {
+                attempts = await(index, (Creation) value, attempts);
+            }
+        }
+    }
+
+    private int await(int index, Creation creation, int attempts) {
+        if (attempts < SPINS) {
+            Thread.onSpinWait();
+            return attempts + 1;
+        }
+        // The creation of an instance may take a while, e.g. if it invokes a remote service
+        CountDownLatch latch = creation.latch();
+        // The latch is installed before the slot is read again, and the owner updates the slot before it reads the latch,
+        // so either the creation is already complete or the owner releases the latch
+        if (SLOTS.getVolatile(slots, index) == creation) {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    latch.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return attempts;
+    }
+
+    /**
+     * Marks a slot whose instance is being created.
+     */
+    private static final class Creation {
+
+        private static final VarHandle LATCH;
+
+        static {
+            try {
+                LATCH = MethodHandles.lookup().findVarHandle(Creation.class, "latch", CountDownLatch.class);
+            } catch (ReflectiveOperationException e) {
+                throw new Error(e);
+            }
+        }
+
+        final Thread owner;
+
+        // Only allocated if another thread blocks until the creation completes
+        private volatile CountDownLatch latch;
+
+        Creation(Thread owner) {
+            this.owner = owner;
+        }
+
+        CountDownLatch latch() {
+            CountDownLatch current = latch;
+            if (current == null) {
+                CountDownLatch created = new CountDownLatch(1);
+                current = (CountDownLatch) LATCH.compareAndExchange(this, null, created);
+                if (current == null) {
+                    current = created;
+                }
+            }
+            return current;
+        }
+
+        void complete() {
+            CountDownLatch current = latch;
+            if (current != null) {
+                current.countDown();
+            }
+        }
+
+    }
+
+}
@@ -101,10 +101,10 @@ public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, Creat
             return null;
         }
         ContextInstances contextInstances = state.contextInstances;
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) contextInstances.getIfPresent(bean.getIdentifier());
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) contextInstances.getIfPresent(bean);
         if (instance == null) {
             CreationalContext<T> creationalContext = creationalContextFun.apply(contextual);
-            return (T) contextInstances.computeIfAbsent(bean.getIdentifier(), new Supplier<ContextInstanceHandle<?>>() {
+            return (T) contextInstances.computeIfAbsent(bean, new Supplier<ContextInstanceHandle<?>>() {
 
                 @Override
                 public ContextInstanceHandle<?> get() {
@@ -138,7 +138,7 @@ public <T> T get(Contextual<T> contextual) {
         }
         @SuppressWarnings("unchecked")
         ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.contextInstances
-                .getIfPresent(bean.getIdentifier());
+                .getIfPresent(bean);
         return instance == null ? null : instance.get();
     }
 
@@ -160,7 +160,7 @@ public void destroy(Contextual<?> contextual) {
             throw notActive();
         }
         InjectableBean<?> bean = (InjectableBean<?>) contextual;
-        ContextInstanceHandle<?> instance = state.contextInstances.remove(bean.getIdentifier());
+        ContextInstanceHandle<?> instance = state.contextInstances.remove(bean);
         if (instance != null) {
             instance.destroy();
         }
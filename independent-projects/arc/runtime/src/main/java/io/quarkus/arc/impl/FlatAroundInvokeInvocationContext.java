@@ -0,0 +1,62 @@
+package io.quarkus.arc.impl;
+
+/**
+ * A specialized {@link jakarta.interceptor.InvocationContext} for {@link jakarta.interceptor.AroundInvoke} interceptors.
+ * <p>
+ * A subclass is generated for each intercepted method if interceptor chains are flattened at build time. The subclass holds
+ * the method arguments and invokes the target method directly. The parameter array is only created if an interceptor calls
+ * {@link #getParameters()}. If an interceptor calls {@link #getParameters()} or {@link #setParameters(Object[])}, the
+ * target method is invoked with the values from the parameter array instead, because the array may have been modified.
+ */
+public abstract class FlatAroundInvokeInvocationContext extends AroundInvokeInvocationContext {
+
+    private boolean parametersAccessed;
+
+    protected FlatAroundInvokeInvocationContext(Object target, InterceptedMethodMetadata metadata) {
+        super(target, null, metadata);
+    }
+
+    /**
+     *
+     * @return a new array of the method arguments
+     */
+    protected abstract Object[] arguments();
+
+    /**
+     * Invokes the target method with the method arguments.
+     *
+     * @return the return value
+     */
+    protected abstract Object invokeTarget() throws Exception;
+
+    /**
+     * Invokes the interceptor chain.
+     *
+     * @return the return value
+     * @throws Exception
+     */
+    public final Object perform() throws Exception {
+        return start();
+    }
+
+    @Override
+    public Object[] getParameters() {
+        if (!parametersAccessed) {
+            parameters = arguments();
+            parametersAccessed = true;
+        }
+        return parameters;
+    }
+
+    @Override
+    public void setParameters(Object[] params) {
+        super.setParameters(params);
+        parametersAccessed = true;
+    }
+
+    @Override
+    Object forward() throws Exception {
+        return parametersAccessed ? super.forward() : invokeTarget();
+    }
+
+}
@@ -0,0 +1,135 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.ContextInstanceHandle;
+
+public class ArrayContextInstancesTest {
+
+    private static final int THREADS = 8;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    private final ArrayContextInstances instances = new ArrayContextInstances(2) {
+        @Override
+        protected int indexOf(String id) {
+            return Integer.parseInt(id);
+        }
+    };
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentComputeIfAbsent() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Supplier<ContextInstanceHandle<?>> slowSupplier = () -> {
+            created.incrementAndGet();
+            try {
+                // Long enough for the other threads to block
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return newHandle();
+        };
+        List<Future<ContextInstanceHandle<?>>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return instances.computeIfAbsent("0", slowSupplier);
+            }));
+        }
+        start.countDown();
+        ContextInstanceHandle<?> handle = results.get(0).get(10, TimeUnit.SECONDS);
+        for (Future<ContextInstanceHandle<?>> result : results) {
+            assertSame(handle, result.get(10, TimeUnit.SECONDS));
+        }
+        assertSame(handle, instances.getIfPresent("0"));
+        assertEquals(1, created.get());
+        assertNull(instances.getIfPresent("1"));
+    }
+
+    @Test
+    public void testConcurrentComputeIfAbsentAndRemove() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger removed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Supplier<ContextInstanceHandle<?>> supplier = () -> {
+            created.incrementAndGet();
+            return newHandle();
+        };
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 10_000; j++) {
+                    assertNotNull(instances.computeIfAbsent("0", supplier));
+                    if (instances.remove("0") != null) {
+                        removed.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        // Each instance is created once and removed once
+        int present = instances.getIfPresent("0") != null ? 1 : 0;
+        assertEquals(created.get(), removed.get() + present);
+    }
+
+    @Test
+    public void testWaitersRetryAfterFailedCreation() throws Exception {
+        CountDownLatch creating = new CountDownLatch(1);
+        CountDownLatch fail = new CountDownLatch(1);
+        Future<?> failing = executor.submit(() -> instances.computeIfAbsent("0", () -> {
+            creating.countDown();
+            try {
+                fail.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            throw new IllegalStateException("Creation failed");
+        }));
+        assertTrue(creating.await(10, TimeUnit.SECONDS));
+        ContextInstanceHandle<?> handle = newHandle();
+        Future<ContextInstanceHandle<?>> waiting = executor.submit(() -> instances.computeIfAbsent("0", () -> handle));
+        // Let the waiting thread block
+        Thread.sleep(50);
+        fail.countDown();
+
+        Exception e = assertThrows(Exception.class, () -> failing.get(10, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        assertSame(handle, waiting.get(10, TimeUnit.SECONDS));
+        assertSame(handle, instances.getIfPresent("0"));
+    }
+
+    private static ContextInstanceHandle<?> newHandle() {
+        return new ContextInstanceHandleImpl<>(null, new Object(), null);
+    }
+
+}
@@ -95,6 +95,8 @@ public static class Builder {
         private final List<BuildCompatibleExtension> buildCompatibleExtensions;
         private boolean strictCompatibility = false;
         private boolean optimizeContexts = false;
+        private boolean elideClientProxies = false;
+        private boolean flattenInterceptorChains = false;
         private final List<Predicate<ClassInfo>> excludeTypes;
         private boolean testMode = false;
 
@@ -238,6 +240,16 @@ public Builder optimizeContexts(boolean value) {
             return this;
         }
 
+        public Builder elideClientProxies(boolean value) {
+            this.elideClientProxies = value;
+            return this;
+        }
+
+        public Builder flattenInterceptorChains(boolean value) {
+            this.flattenInterceptorChains = value;
+            return this;
+        }
+
         public Builder excludeType(Predicate<ClassInfo> predicate) {
             this.excludeTypes.add(predicate);
             return this;
@@ -280,6 +292,8 @@ public ArcTestContainer build() {
 
     private final boolean strictCompatibility;
     private final boolean optimizeContexts;
+    private final boolean elideClientProxies;
+    private final boolean flattenInterceptorChains;
     private final boolean testMode;
 
     public ArcTestContainer(Class<?>... beanClasses) {
@@ -305,6 +319,8 @@ public ArcTestContainer(Class<?>... beanClasses) {
         this.buildCompatibleExtensions = Collections.emptyList();
         this.strictCompatibility = false;
         this.optimizeContexts = false;
+        this.elideClientProxies = false;
+        this.flattenInterceptorChains = false;
         this.excludeTypes = Collections.emptyList();
         this.testMode = false;
     }
@@ -332,6 +348,8 @@ public ArcTestContainer(Builder builder) {
         this.buildCompatibleExtensions = builder.buildCompatibleExtensions;
         this.strictCompatibility = builder.strictCompatibility;
         this.optimizeContexts = builder.optimizeContexts;
+        this.elideClientProxies = builder.elideClientProxies;
+        this.flattenInterceptorChains = builder.flattenInterceptorChains;
         this.excludeTypes = builder.excludeTypes;
         this.testMode = builder.testMode;
     }
@@ -451,7 +469,9 @@ private ClassLoader init(ExtensionContext context) {
                     .setApplicationIndex(applicationIndex)
                     .setBuildCompatibleExtensions(buildCompatibleExtensions)
                     .setStrictCompatibility(strictCompatibility)
-                    .setOptimizeContexts(optimizeContexts);
+                    .setOptimizeContexts(optimizeContexts)
+                    .setElideClientProxies(elideClientProxies)
+                    .setFlattenInterceptorChains(flattenInterceptorChains);
             if (!resourceAnnotations.isEmpty()) {
                 builder.addResourceAnnotations(resourceAnnotations.stream()
                         .map(c -> DotName.createSimple(c.getName()))
@@ -0,0 +1,155 @@
+package io.quarkus.arc.test.clientproxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+import org.jboss.jandex.DotName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class ClientProxyElisionTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Consumer.class, Service.class, LookedUpService.class, NamedService.class, UnremovableService.class,
+                    CircularA.class, CircularB.class)
+            .removeUnusedBeans(true)
+            // Excluded beans are likely obtained via Arc.container().instance() and could be destroyed
+            .addRemovalExclusion(b -> Set.of(DotName.createSimple(Consumer.class), DotName.createSimple(CircularA.class),
+                    DotName.createSimple(UnremovableService.class)).contains(b.getBeanClass()))
+            .elideClientProxies(true)
+            .build();
+
+    @Test
+    public void testElision() {
+        Consumer consumer = Arc.container().instance(Consumer.class).get();
+        // The injecting bean itself is still accessed via a client proxy
+        assertTrue(consumer instanceof ClientProxy);
+        assertFalse(consumer.service() instanceof ClientProxy);
+        assertFalse(consumer.constructorService() instanceof ClientProxy);
+        assertEquals("ok", consumer.service().ping());
+        // The instance is still the one stored in the application context
+        assertEquals(ClientProxy.unwrap(Arc.container().instance(Service.class).get()), consumer.service());
+        // The bean is obtained via programmatic lookup and could be destroyed
+        assertTrue(consumer.lookedUpService() instanceof ClientProxy);
+        // Named and unremovable beans could be obtained via BeanManager or Arc.container() and destroyed
+        assertTrue(consumer.namedService() instanceof ClientProxy);
+        assertTrue(consumer.unremovableService() instanceof ClientProxy);
+    }
+
+    @Test
+    public void testCircularDependency() {
+        CircularA a = Arc.container().instance(CircularA.class).get();
+        assertTrue(a.b() instanceof ClientProxy);
+        assertTrue(ClientProxy.unwrap(a).b().a() instanceof ClientProxy);
+    }
+
+    @ApplicationScoped
+    static class Consumer {
+
+        private final Service constructorService;
+
+        @Inject
+        Service service;
+
+        @Inject
+        LookedUpService lookedUpService;
+
+        @Inject
+        Instance<LookedUpService> instance;
+
+        @Inject
+        NamedService namedService;
+
+        @Inject
+        UnremovableService unremovableService;
+
+        @Inject
+        Consumer(Service constructorService) {
+            this.constructorService = constructorService;
+        }
+
+        Service service() {
+            return service;
+        }
+
+        Service constructorService() {
+            return constructorService;
+        }
+
+        LookedUpService lookedUpService() {
+            return lookedUpService;
+        }
+
+        NamedService namedService() {
+            return namedService;
+        }
+
+        UnremovableService unremovableService() {
+            return unremovableService;
+        }
+
+    }
+
+    @ApplicationScoped
+    static class Service {
+
+        String ping() {
+            return "ok";
+        }
+
+    }
+
+    @ApplicationScoped
+    static class LookedUpService {
+
+    }
+
+    @Named
+    @ApplicationScoped
+    static class NamedService {
+
+    }
+
+    @ApplicationScoped
+    static class UnremovableService {
+
+    }
+
+    @ApplicationScoped
+    static class CircularA {
+
+        @Inject
+        CircularB b;
+
+        CircularB b() {
+            return b;
+        }
+
+    }
+
+    @ApplicationScoped
+    static class CircularB {
+
+        @Inject
+        CircularA a;
+
+        CircularA a() {
+            return a;
+        }
+
+    }
+
+}
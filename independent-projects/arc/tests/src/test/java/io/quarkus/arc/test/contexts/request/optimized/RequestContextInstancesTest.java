@@ -3,6 +3,7 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
@@ -42,6 +43,8 @@ public void testContext() {
         container.requestContext().activate();
 
         InstanceHandle<Boom> handle = container.instance(Boom.class);
+        // The instance is stored in the slot assigned at build time
+        assertTrue(handle.getBean().getContextIndex() >= 0);
         Boom boom = handle.get();
         // ContextInstances#computeIfAbsent()
         String id1 = boom.ping();
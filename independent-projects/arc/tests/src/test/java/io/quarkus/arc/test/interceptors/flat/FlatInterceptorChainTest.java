@@ -0,0 +1,129 @@
+package io.quarkus.arc.test.interceptors.flat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InterceptorBinding;
+import jakarta.interceptor.InvocationContext;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+
+public class FlatInterceptorChainTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(MyBean.class, Counted.class, Swapped.class, CountingInterceptor.class, SwappingInterceptor.class)
+            .flattenInterceptorChains(true)
+            .build();
+
+    @Test
+    public void testInterception() throws IOException {
+        MyBean bean = Arc.container().instance(MyBean.class).get();
+        CountingInterceptor.COUNTER.set(0);
+
+        assertEquals(3, bean.add(1, 2L));
+        bean.ping();
+        assertEquals("foo", bean.echo("foo"));
+        assertEquals(3, CountingInterceptor.COUNTER.get());
+
+        // SwappingInterceptor replaces the parameters
+        assertEquals("2-1", bean.join(1, "2"));
+        assertEquals(4, CountingInterceptor.COUNTER.get());
+
+        // SwappingInterceptor modifies the parameter array returned by getParameters()
+        assertEquals("bar", bean.echo("modify"));
+
+        assertThrows(IOException.class, () -> bean.echo("fail"));
+    }
+
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    @InterceptorBinding
+    @interface Counted {
+    }
+
+    @Target({ ElementType.TYPE, ElementType.METHOD })
+    @Retention(RetentionPolicy.RUNTIME)
+    @InterceptorBinding
+    @interface Swapped {
+    }
+
+    @Counted
+    @Priority(1)
+    @Interceptor
+    static class CountingInterceptor {
+
+        static final AtomicInteger COUNTER = new AtomicInteger();
+
+        @AroundInvoke
+        Object count(InvocationContext ctx) throws Exception {
+            COUNTER.incrementAndGet();
+            ctx.getContextData().put("counted", true);
+            return ctx.proceed();
+        }
+
+    }
+
+    @Swapped
+    @Priority(2)
+    @Interceptor
+    static class SwappingInterceptor {
+
+        @AroundInvoke
+        Object swap(InvocationContext ctx) throws Exception {
+            if (!Boolean.TRUE.equals(ctx.getContextData().get("counted"))) {
+                throw new IllegalStateException("Context data not shared");
+            }
+            if (ctx.getMethod().getName().equals("join")) {
+                Object[] params = ctx.getParameters();
+                ctx.setParameters(new Object[] { Integer.parseInt((String) params[1]), params[0].toString() });
+            } else if ("modify".equals(ctx.getParameters()[0])) {
+                ctx.getParameters()[0] = "bar";
+            }
+            return ctx.proceed();
+        }
+
+    }
+
+    @Counted
+    @ApplicationScoped
+    static class MyBean {
+
+        long add(int a, long b) {
+            return a + b;
+        }
+
+        void ping() {
+        }
+
+        @Swapped
+        String echo(String value) throws IOException {
+            if ("fail".equals(value)) {
+                throw new IOException();
+            }
+            return value;
+        }
+
+        @Swapped
+        String join(int a, String b) {
+            return a + "-" + b;
+        }
+
+    }
+
+}
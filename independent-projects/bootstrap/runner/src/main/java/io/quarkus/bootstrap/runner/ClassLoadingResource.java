@@ -1,6 +1,7 @@
 package io.quarkus.bootstrap.runner;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.security.ProtectionDomain;
 
 public interface ClassLoadingResource {
@@ -13,6 +14,15 @@ public interface ClassLoadingResource {
 
     byte[] getResourceData(String resource);
 
+    /**
+     * Returns the data of a class file as a read-only buffer, if this resource can provide it without copying.
+     *
+     * @return the buffer, or {@code null} in which case {@link #getResourceData(String)} should be used instead
+     */
+    default ByteBuffer getClassData(String resource) {
+        return null;
+    }
+
     URL getResourceURL(String resource);
 
     ManifestInfo getManifestInfo();
@@ -11,6 +11,7 @@
 import java.net.URL;
 import java.net.URLConnection;
 import java.net.URLStreamHandler;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.security.CodeSource;
 import java.security.ProtectionDomain;
@@ -31,13 +32,22 @@ public class JarResource implements ClassLoadingResource {
 
     private volatile ProtectionDomain protectionDomain;
     private final ManifestInfo manifestInfo;
+    // if set then all class files of this jar are stored in the archive
+    private final MappedClassArchive classArchive;
+    private final int classArchiveIndex;
 
     final Path jarPath;
     final AtomicReference<CompletableFuture<JarFileReference>> jarFileReference = new AtomicReference<>();
 
     public JarResource(ManifestInfo manifestInfo, Path jarPath) {
+        this(manifestInfo, jarPath, null, -1);
+    }
+
+    JarResource(ManifestInfo manifestInfo, Path jarPath, MappedClassArchive classArchive, int classArchiveIndex) {
         this.manifestInfo = manifestInfo;
         this.jarPath = jarPath;
+        this.classArchive = classArchive;
+        this.classArchiveIndex = classArchiveIndex;
     }
 
     @Override
@@ -58,9 +68,23 @@ public void init() {
 
     @Override
     public byte[] getResourceData(String resource) {
+        if (classArchive != null && resource.endsWith(".class")) {
+            ByteBuffer buffer = classArchive.get(classArchiveIndex, resource);
+            if (buffer == null) {
+                return null;
+            }
+            byte[] data = new byte[buffer.remaining()];
+            buffer.get(data);
+            return data;
+        }
         return JarFileReference.withJarFile(this, resource, JarResourceDataProvider.INSTANCE);
     }
 
+    @Override
+    public ByteBuffer getClassData(String resource) {
+        return classArchive != null ? classArchive.get(classArchiveIndex, resource) : null;
+    }
+
     private static class JarResourceDataProvider implements JarFileReference.JarFileConsumer<byte[]> {
         private static final JarResourceDataProvider INSTANCE = new JarResourceDataProvider();
 
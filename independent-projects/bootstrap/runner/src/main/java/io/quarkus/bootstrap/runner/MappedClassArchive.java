@@ -0,0 +1,337 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+/**
+ * A single uncompressed archive of the class files of the application JARs that is memory-mapped at startup.
+ * <p>
+ * The class files are indexed with a perfect hash function (hash and displace), keyed by the index of the JAR in the
+ * class path and the resource name. Loading a class is then a hash lookup and a slice of the mapped buffer, without parsing the
+ * central directory of the JAR or inflating the entry.
+ * <p>
+ * Multi-release JARs are not archived because the version of an entry is selected at runtime. A JAR that is archived is
+ * archived completely, i.e. if a class file is not found in the archive then it does not exist in the JAR.
+ * <p>
+ * This format is subject to change, and gives no compatibility guarantees, it is only intended to be used
+ * with the same version of Quarkus that created it.
+ */
+final class MappedClassArchive {
+
+    private static final int MAGIC = 0XF0315433;
+    private static final int VERSION = 1;
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    // jar index, name offset, name length, data offset, data length
+    private static final int SLOT_SIZE = 5 * Integer.BYTES;
+    private static final int EMPTY_SLOT = -1;
+    // the average number of keys per bucket
+    private static final int BUCKET_SIZE = 3;
+    private static final int MAX_SEED = 1 << 20;
+
+    private final ByteBuffer buffer;
+    private final boolean[] archivedJars;
+    private final int bucketCount;
+    private final int seedsStart;
+    private final int slotCount;
+    private final int slotsStart;
+    private final int namesStart;
+    private final int dataStart;
+
+    private MappedClassArchive(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC) {
+            throw new RuntimeException("Wrong magic number");
+        }
+        if (buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new RuntimeException("Wrong class archive version");
+        }
+        int pos = 2 * Integer.BYTES;
+        int jars = buffer.getInt(pos);
+        pos += Integer.BYTES;
+        this.archivedJars = new boolean[jars];
+        for (int i = 0; i < jars; i++) {
+            archivedJars[i] = buffer.get(pos++) != 0;
+        }
+        this.bucketCount = buffer.getInt(pos);
+        pos += Integer.BYTES;
+        this.slotCount = buffer.getInt(pos);
+        pos += Integer.BYTES;
+        int namesLength = buffer.getInt(pos);
+        pos += Integer.BYTES;
+        this.seedsStart = pos;
+        this.slotsStart = seedsStart + bucketCount * Integer.BYTES;
+        this.namesStart = slotsStart + slotCount * SLOT_SIZE;
+        this.dataStart = namesStart + namesLength;
+    }
+
+    static MappedClassArchive open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new MappedClassArchive(buffer);
+        }
+    }
+
+    /**
+     *
+     * @param jarIndex the index of the JAR in the class path
+     * @return {@code true} if the class files of the given JAR are archived
+     */
+    boolean isArchived(int jarIndex) {
+        return jarIndex < archivedJars.length && archivedJars[jarIndex];
+    }
+
+    /**
+     *
+     * @param jarIndex the index of the JAR in the class path
+     * @param name the resource name of the class file
+     * @return a read-only slice of the mapped buffer, or {@code null} if no such class file exists
+     */
+    ByteBuffer get(int jarIndex, String name) {
+        if (bucketCount == 0) {
+            return null;
+        }
+        byte[] key = name.getBytes(StandardCharsets.UTF_8);
+        int bucket = Math.floorMod(hash(jarIndex, key, 0), bucketCount);
+        int seed = buffer.getInt(seedsStart + bucket * Integer.BYTES);
+        int slot = slotsStart + Math.floorMod(hash(jarIndex, key, seed), slotCount) * SLOT_SIZE;
+        if (buffer.getInt(slot) != jarIndex) {
+            return null;
+        }
+        int nameOffset = namesStart + buffer.getInt(slot + Integer.BYTES);
+        int nameLength = buffer.getInt(slot + 2 * Integer.BYTES);
+        if (nameLength != key.length) {
+            return null;
+        }
+        for (int i = 0; i < nameLength; i++) {
+            if (buffer.get(nameOffset + i) != key[i]) {
+                return null;
+            }
+        }
+        int dataOffset = dataStart + buffer.getInt(slot + 3 * Integer.BYTES);
+        int dataLength = buffer.getInt(slot + 4 * Integer.BYTES);
+        return buffer.slice(dataOffset, dataLength).asReadOnlyBuffer();
+    }
+
+    /**
+     * Writes the class files of the given JARs.
+     *
+     * @param archive the target file
+     * @param classPath the class path, in the same order as in the serialized application
+     * @throws IOException
+     */
+    static void write(Path archive, List<Path> classPath) throws IOException {
+        boolean[] archivedJars = new boolean[classPath.size()];
+        List<Entry> entries = new ArrayList<>();
+        Path data = Files.createTempFile(archive.getParent(), archive.getFileName().toString(), ".tmp");
+        try {
+            long dataLength = 0;
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(data))) {
+                byte[] buf = new byte[8192];
+                for (int i = 0; i < classPath.size(); i++) {
+                    try (JarFile jar = new JarFile(classPath.get(i).toFile())) {
+                        if (jar.isMultiRelease()) {
+                            continue;
+                        }
+                        archivedJars[i] = true;
+                        Set<String> names = new HashSet<>();
+                        Enumeration<? extends ZipEntry> jarEntries = jar.entries();
+                        while (jarEntries.hasMoreElements()) {
+                            ZipEntry jarEntry = jarEntries.nextElement();
+                            if (jarEntry.isDirectory() || !jarEntry.getName().endsWith(CLASS_SUFFIX)
+                                    || !names.add(jarEntry.getName())) {
+                                continue;
+                            }
+                            long length = 0;
+                            try (InputStream in = jar.getInputStream(jarEntry)) {
+                                int read;
+                                while ((read = in.read(buf)) != -1) {
+                                    out.write(buf, 0, read);
+                                    length += read;
+                                }
+                            }
+                            entries.add(new Entry(i, jarEntry.getName().getBytes(StandardCharsets.UTF_8), dataLength,
+                                    length));
+                            dataLength += length;
+                        }
+                    }
+                }
+            }
+            Table table = Table.build(entries);
+            long namesLength = 0;
+            for (Entry entry : entries) {
+                namesLength += entry.name.length;
+            }
+            long headerLength = 6 * Integer.BYTES + archivedJars.length + (long) table.seeds.length * Integer.BYTES
+                    + (long) table.slots.length * SLOT_SIZE;
+            if (headerLength + namesLength + dataLength > Integer.MAX_VALUE) {
+                throw new IOException("The class files are too large to be stored in a single mapped class archive");
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(archive)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(archivedJars.length);
+                for (boolean archived : archivedJars) {
+                    out.writeBoolean(archived);
+                }
+                out.writeInt(table.seeds.length);
+                out.writeInt(table.slots.length);
+                out.writeInt((int) namesLength);
+                for (int seed : table.seeds) {
+                    out.writeInt(seed);
+                }
+                int nameOffset = 0;
+                int[] nameOffsets = new int[entries.size()];
+                for (int i = 0; i < entries.size(); i++) {
+                    nameOffsets[i] = nameOffset;
+                    nameOffset += entries.get(i).name.length;
+                }
+                for (int slot : table.slots) {
+                    if (slot == EMPTY_SLOT) {
+                        out.writeInt(EMPTY_SLOT);
+                        out.writeInt(0);
+                        out.writeInt(0);
+                        out.writeInt(0);
+                        out.writeInt(0);
+                    } else {
+                        Entry entry = entries.get(slot);
+                        out.writeInt(entry.jarIndex);
+                        out.writeInt(nameOffsets[slot]);
+                        out.writeInt(entry.name.length);
+                        out.writeInt((int) entry.dataOffset);
+                        out.writeInt((int) entry.dataLength);
+                    }
+                }
+                for (Entry entry : entries) {
+                    out.write(entry.name);
+                }
+                Files.copy(data, out);
+            }
+        } finally {
+            Files.deleteIfExists(data);
+        }
+    }
+
+    static int hash(int jarIndex, byte[] key, int seed) {
+        int h = seed ^ (jarIndex * 0x9E3779B9);
+        for (byte b : key) {
+            h = (h ^ b) * 0x01000193;
+        }
+        // murmur3 finalizer
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private record Entry(int jarIndex, byte[] name, long dataOffset, long dataLength) {
+    }
+
+    /**
+     * The hash and displace table. A key is first hashed into a bucket, and then into a slot with the seed of its bucket. The
+     * buckets are placed from the largest one, the seed of a bucket is the first one that maps all its keys to free slots.
+     */
+    private record Table(int[] seeds, int[] slots) {
+
+        static Table build(List<Entry> entries) {
+            if (entries.isEmpty()) {
+                return new Table(new int[0], new int[0]);
+            }
+            int bucketCount = entries.size() / BUCKET_SIZE + 1;
+            // a load factor of ~0.9 keeps the search for seeds short
+            int slotCount = entries.size() + entries.size() / 8 + 1;
+            while (slotCount / 4 <= entries.size()) {
+                Table table = tryBuild(entries, bucketCount, slotCount);
+                if (table != null) {
+                    return table;
+                }
+                slotCount += slotCount / 8 + 1;
+            }
+            throw new IllegalStateException("Unable to build the class archive index for " + entries.size() + " entries");
+        }
+
+        private static Table tryBuild(List<Entry> entries, int bucketCount, int slotCount) {
+            List<List<Integer>> buckets = new ArrayList<>(bucketCount);
+            for (int i = 0; i < bucketCount; i++) {
+                buckets.add(new ArrayList<>(BUCKET_SIZE));
+            }
+            for (int i = 0; i < entries.size(); i++) {
+                Entry entry = entries.get(i);
+                buckets.get(Math.floorMod(hash(entry.jarIndex, entry.name, 0), bucketCount)).add(i);
+            }
+            Integer[] order = new Integer[bucketCount];
+            for (int i = 0; i < bucketCount; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (b1, b2) -> Integer.compare(buckets.get(b2).size(), buckets.get(b1).size()));
+
+            int[] seeds = new int[bucketCount];
+            int[] slots = new int[slotCount];
+            Arrays.fill(slots, EMPTY_SLOT);
+            int[] candidate = new int[0];
+            for (int b : order) {
+                List<Integer> bucket = buckets.get(b);
+                if (bucket.isEmpty()) {
+                    break;
+                }
+                if (candidate.length < bucket.size()) {
+                    candidate = new int[bucket.size()];
+                }
+                boolean placed = false;
+                for (int seed = 1; seed < MAX_SEED && !placed; seed++) {
+                    placed = true;
+                    for (int k = 0; k < bucket.size(); k++) {
+                        Entry entry = entries.get(bucket.get(k));
+                        int slot = Math.floorMod(hash(entry.jarIndex, entry.name, seed), slotCount);
+                        if (slots[slot] != EMPTY_SLOT || contains(candidate, k, slot)) {
+                            placed = false;
+                            break;
+                        }
+                        candidate[k] = slot;
+                    }
+                    if (placed) {
+                        seeds[b] = seed;
+                        for (int k = 0; k < bucket.size(); k++) {
+                            slots[candidate[k]] = bucket.get(k);
+                        }
+                    }
+                }
+                if (!placed) {
+                    return null;
+                }
+            }
+            return new Table(seeds, slots);
+        }
+
+        private static boolean contains(int[] values, int length, int value) {
+            for (int i = 0; i < length; i++) {
+                if (values[i] == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+}
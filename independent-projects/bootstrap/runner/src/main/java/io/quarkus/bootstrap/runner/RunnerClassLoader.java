@@ -4,6 +4,7 @@
 import static io.quarkus.commons.classloading.ClassLoaderHelper.isInJdkPackage;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -125,6 +126,11 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
                 }
 
                 accessingResource(resource);
+                ByteBuffer buffer = resource.getClassData(classResource);
+                if (buffer != null) {
+                    definePackage(packageName, resources);
+                    return defineClass(name, buffer, resource);
+                }
                 byte[] data = resource.getResourceData(classResource);
                 if (data == null) {
                     continue;
@@ -184,6 +190,22 @@ private Class<?> defineClass(String name, byte[] data, ClassLoadingResource reso
         }
     }
 
+    private Class<?> defineClass(String name, ByteBuffer data, ClassLoadingResource resource) {
+        Class<?> loaded = findLoadedClass(name);
+        if (loaded != null) {
+            return loaded;
+        }
+        try {
+            return defineClass(name, data, resource.getProtectionDomain());
+        } catch (LinkageError e) {
+            loaded = findLoadedClass(name);
+            if (loaded != null) {
+                return loaded;
+            }
+            throw e;
+        }
+    }
+
     private void accessingResource(final ClassLoadingResource resource) {
         final ClassLoadingResource toEvict;
         synchronized (this.currentlyBufferedResources) {
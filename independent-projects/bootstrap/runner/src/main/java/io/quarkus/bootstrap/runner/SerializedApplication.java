@@ -38,7 +38,7 @@ public class SerializedApplication {
     private static final List<String> FULLY_INDEXED_PATHS = List.of("", "META-INF/services");
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 2;
+    private static final int VERSION = 3;
 
     private static final ClassLoadingResource[] EMPTY_ARRAY = new ClassLoadingResource[0];
     private static final JarResource SENTINEL = new JarResource(null, Path.of("wqxehxivam"));
@@ -62,10 +62,28 @@ public String getMainClass() {
     public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
             List<Path> parentFirst, List<String> nonExistentResources)
             throws IOException {
+        write(outputStream, mainClass, applicationRoot, classPath, parentFirst, nonExistentResources, false);
+    }
+
+    /**
+     *
+     * @param mappedClassArchive if set to {@code true} then the class files of the class path are also written to a single
+     *        uncompressed archive that is memory-mapped at startup, see {@link QuarkusEntryPoint#QUARKUS_CLASSES_DAT}
+     */
+    public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
+            List<Path> parentFirst, List<String> nonExistentResources, boolean mappedClassArchive)
+            throws IOException {
+        Path classArchive = applicationRoot.resolve(QuarkusEntryPoint.QUARKUS_CLASSES_DAT);
+        if (mappedClassArchive) {
+            MappedClassArchive.write(classArchive, classPath);
+        } else {
+            Files.deleteIfExists(classArchive);
+        }
         try (DataOutputStream data = new DataOutputStream(outputStream)) {
             data.writeInt(MAGIC);
             data.writeInt(VERSION);
             data.writeUTF(mainClass);
+            data.writeBoolean(mappedClassArchive);
             data.writeShort(classPath.size());
             Map<String, List<Integer>> directlyIndexedResourcesToCPJarIndex = new LinkedHashMap<>();
             for (int i = 0; i < classPath.size(); i++) {
@@ -111,6 +129,9 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                 throw new RuntimeException("Wrong class path version");
             }
             String mainClass = in.readUTF();
+            MappedClassArchive classArchive = in.readBoolean()
+                    ? MappedClassArchive.open(appRoot.resolve(QuarkusEntryPoint.QUARKUS_CLASSES_DAT))
+                    : null;
             ResourceDirectoryTracker resourceDirectoryTracker = new ResourceDirectoryTracker();
             int numPaths = in.readUnsignedShort();
             ClassLoadingResource[] allClassLoadingResources = new ClassLoadingResource[numPaths];
@@ -126,7 +147,9 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                     info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
                             readNullableString(in), readNullableString(in), readNullableString(in));
                 }
-                JarResource resource = new JarResource(info, appRoot.resolve(path));
+                JarResource resource = classArchive != null && classArchive.isArchived(pathCount)
+                        ? new JarResource(info, appRoot.resolve(path), classArchive, pathCount)
+                        : new JarResource(info, appRoot.resolve(path));
                 boolean generatedBytecodeJar = in.readBoolean();
                 boolean transformedBytecodeJar = in.readBoolean();
                 if (generatedBytecodeJar) {
@@ -0,0 +1,108 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link MappedClassArchive}
+ */
+public class MappedClassArchiveTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testLookup() throws Exception {
+        JavaArchive first = ShrinkWrap.create(JavaArchive.class);
+        JavaArchive second = ShrinkWrap.create(JavaArchive.class);
+        for (int i = 0; i < 5_000; i++) {
+            first.addAsResource(new StringAsset("first" + i), "org/acme/Foo" + i + ".class");
+        }
+        // the same names in a different jar
+        second.addAsResource(new StringAsset("second"), "org/acme/Foo1.class");
+        second.addAsResource(new StringAsset("not a class"), "org/acme/foo.txt");
+        JavaArchive multiRelease = ShrinkWrap.create(JavaArchive.class)
+                .addAsManifestResource(new StringAsset("Manifest-Version: 1.0\nMulti-Release: true\n"), "MANIFEST.MF")
+                .addAsResource(new StringAsset("bar"), "org/acme/Bar.class");
+
+        Path firstJar = export(first, "first.jar");
+        Path secondJar = export(second, "second.jar");
+        Path multiReleaseJar = export(multiRelease, "multi-release.jar");
+        Path archivePath = tempDir.resolve("classes.dat");
+        MappedClassArchive.write(archivePath, List.of(firstJar, secondJar, multiReleaseJar));
+
+        MappedClassArchive archive = MappedClassArchive.open(archivePath);
+        assertThat(archive.isArchived(0)).isTrue();
+        assertThat(archive.isArchived(1)).isTrue();
+        assertThat(archive.isArchived(2)).isFalse();
+        for (int i = 0; i < 5_000; i++) {
+            assertThat(toString(archive.get(0, "org/acme/Foo" + i + ".class"))).isEqualTo("first" + i);
+        }
+        assertThat(toString(archive.get(1, "org/acme/Foo1.class"))).isEqualTo("second");
+        assertThat(archive.get(1, "org/acme/Foo2.class")).isNull();
+        assertThat(archive.get(0, "org/acme/Foo5000.class")).isNull();
+        assertThat(archive.get(1, "org/acme/foo.txt")).isNull();
+        assertThat(archive.get(2, "org/acme/Bar.class")).isNull();
+    }
+
+    @Test
+    public void testLoadClass() throws Exception {
+        Path lib = Files.createDirectories(tempDir.resolve("lib"));
+        Files.createDirectories(tempDir.resolve("quarkus"));
+        Path simpleJar = Files.copy(Path.of("src", "test", "resources", "jars", "simple-project-1.0.jar"),
+                lib.resolve("simple-project-1.0.jar"));
+        Path easyJar = Files.copy(Path.of("src", "test", "resources", "jars", "easy-project-1.0.jar"),
+                lib.resolve("easy-project-1.0.jar"));
+
+        Path appInfo = tempDir.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_DAT);
+        try (OutputStream out = Files.newOutputStream(appInfo)) {
+            SerializedApplication.write(out, "org.simple.SimplePojo1", tempDir, List.of(simpleJar, easyJar), List.of(),
+                    List.of(), true);
+        }
+        assertThat(tempDir.resolve(QuarkusEntryPoint.QUARKUS_CLASSES_DAT)).exists();
+        // the class files are loaded from the archive
+        export(ShrinkWrap.create(JavaArchive.class).addAsResource(new StringAsset("foo"), "org/simple/foo.txt"),
+                "lib/simple-project-1.0.jar");
+
+        SerializedApplication app;
+        try (var in = Files.newInputStream(appInfo)) {
+            app = SerializedApplication.read(in, tempDir);
+        }
+        RunnerClassLoader classLoader = app.getRunnerClassLoader();
+        try {
+            Class<?> simple = classLoader.loadClass(app.getMainClass());
+            assertThat(simple.getClassLoader()).isSameAs(classLoader);
+            assertThat(simple.getProtectionDomain().getCodeSource().getLocation().getPath()).endsWith("simple-project-1.0.jar");
+            assertThat(classLoader.loadClass("org.easy.EasyPojo").getClassLoader()).isSameAs(classLoader);
+            assertThat(classLoader.getResource("org/simple/foo.txt")).isNotNull();
+        } finally {
+            classLoader.close();
+        }
+    }
+
+    private Path export(JavaArchive archive, String name) {
+        Path path = tempDir.resolve(name);
+        archive.as(ZipExporter.class).exportTo(path.toFile(), true);
+        return path;
+    }
+
+    private static String toString(ByteBuffer buffer) {
+        byte[] data = new byte[buffer.remaining()];
+        buffer.get(data);
+        return new String(data, StandardCharsets.UTF_8);
+    }
+
+}
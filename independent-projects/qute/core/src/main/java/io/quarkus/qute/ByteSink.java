@@ -0,0 +1,26 @@
+package io.quarkus.qute;
+
+/**
+ * Receives the chunks of a rendered template encoded in UTF-8.
+ * <p>
+ * The static text of a template is encoded once, when the template is parsed, and is written as is. Other chunks are
+ * passed as strings so that the sink can encode them directly into its target, e.g. a network buffer, without
+ * intermediate copies.
+ *
+ * @see TemplateInstance#consumeBytes(ByteSink)
+ */
+public interface ByteSink {
+
+    /**
+     * The bytes must not be modified by the sink.
+     *
+     * @param utf8 the UTF-8 encoded chunk
+     */
+    void write(byte[] utf8);
+
+    /**
+     * @param value the chunk that must be encoded in UTF-8
+     */
+    void write(String value);
+
+}
@@ -30,4 +30,29 @@ static CompletionStage<Object> toCompletionStage(Object result) {
         }
         return CompletedStage.of(result);
     }
+
+    /**
+     * Unlike {@link #toCompletionStage(Object)}, the given stage is reused if its result is not a computation itself.
+     *
+     * @param completed a successfully completed stage
+     * @return the stage representing the result of the given stage
+     */
+    static CompletionStage<Object> flatten(CompletedStage<Object> completed) {
+        Object result = completed.get();
+        if (isComputation(result)) {
+            return toCompletionStage(result);
+        }
+        return completed;
+    }
+
+    /**
+     * @param result
+     * @return {@code true} if the given result is a computation that should be flattened
+     */
+    static boolean isComputation(Object result) {
+        return result instanceof CompletableFuture
+                || result instanceof CompletedStage
+                || result instanceof AbstractUni
+                || (UNRESTRICTED && result instanceof CompletionStage);
+    }
 }
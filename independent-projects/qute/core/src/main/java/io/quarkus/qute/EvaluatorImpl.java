@@ -74,7 +74,22 @@ public CompletionStage<Object> evaluate(Expression expression, ResolutionContext
                     : new NamespaceEvalContextImpl(resolutionContext, part);
             if (matching.length == 1) {
                 // Very often a single matching resolver will be found
-                return matching[0].resolve(context).thenCompose(r -> (parts.size() > 1)
+                CompletionStage<Object> ret = matching[0].resolve(context);
+                if (ret instanceof CompletedStage<Object> completed) {
+                    // No async computation needed
+                    if (completed.isFailure()) {
+                        return completed;
+                    }
+                    try {
+                        return parts.size() > 1
+                                ? resolveReference(false, completed.get(), parts, resolutionContext, expression, 1)
+                                : CompletionStageSupport.flatten(completed);
+                    } catch (Throwable e) {
+                        // Fail the stage just like CompletedStage.thenCompose() does
+                        return CompletedStage.failure(e);
+                    }
+                }
+                return ret.thenCompose(r -> (parts.size() > 1)
                         ? resolveReference(false, r, parts, resolutionContext, expression, 1)
                         : CompletionStageSupport.toCompletionStage(r));
             } else {
@@ -96,29 +111,46 @@ private CompletionStage<Object> resolveNamespace(EvalContext context, Resolution
             List<Part> parts, NamespaceResolver[] resolvers, int resolverIndex, Expression expression) {
         // Use the next matching namespace resolver
         NamespaceResolver resolver = resolvers[resolverIndex];
-        return resolver.resolve(context).thenCompose(r -> {
-            if (Results.isNotFound(r)) {
-                // Result not found
-                int nextIdx = resolverIndex + 1;
-                if (nextIdx < resolvers.length) {
-                    // Try the next matching resolver
-                    return resolveNamespace(context, resolutionContext, parts, resolvers, nextIdx, expression);
-                } else {
-                    // No other matching namespace resolver exist
-                    if (parts.size() > 1) {
-                        // Continue to the next part of the expression
-                        return resolveReference(false, r, parts, resolutionContext, expression, 1);
-                    } else if (strictRendering) {
-                        return CompletedStage.failure(propertyNotFound(r, expression));
-                    }
-                    return Results.notFound(context);
-                }
-            } else if (parts.size() > 1) {
-                return resolveReference(false, r, parts, resolutionContext, expression, 1);
+        CompletionStage<Object> ret = resolver.resolve(context);
+        if (ret instanceof CompletedStage<Object> completed) {
+            // No async computation needed
+            if (completed.isFailure()) {
+                return completed;
+            }
+            try {
+                return namespaceResolved(completed.get(), context, resolutionContext, parts, resolvers, resolverIndex,
+                        expression);
+            } catch (Throwable e) {
+                return CompletedStage.failure(e);
+            }
+        }
+        return ret.thenCompose(
+                r -> namespaceResolved(r, context, resolutionContext, parts, resolvers, resolverIndex, expression));
+    }
+
+    private CompletionStage<Object> namespaceResolved(Object r, EvalContext context, ResolutionContext resolutionContext,
+            List<Part> parts, NamespaceResolver[] resolvers, int resolverIndex, Expression expression) {
+        if (Results.isNotFound(r)) {
+            // Result not found
+            int nextIdx = resolverIndex + 1;
+            if (nextIdx < resolvers.length) {
+                // Try the next matching resolver
+                return resolveNamespace(context, resolutionContext, parts, resolvers, nextIdx, expression);
             } else {
-                return CompletionStageSupport.toCompletionStage(r);
+                // No other matching namespace resolver exist
+                if (parts.size() > 1) {
+                    // Continue to the next part of the expression
+                    return resolveReference(false, r, parts, resolutionContext, expression, 1);
+                } else if (strictRendering) {
+                    return CompletedStage.failure(propertyNotFound(r, expression));
+                }
+                return Results.notFound(context);
             }
-        });
+        } else if (parts.size() > 1) {
+            return resolveReference(false, r, parts, resolutionContext, expression, 1);
+        } else {
+            return CompletionStageSupport.toCompletionStage(r);
+        }
     }
 
     private CompletionStage<Object> resolveReference(boolean tryParent, Object ref, List<Part> parts,
@@ -126,14 +158,44 @@ private CompletionStage<Object> resolveReference(boolean tryParent, Object ref,
         Part part = parts.get(partIndex);
         EvalContextImpl evalContext = tryParent ? new EvalContextImpl(ref, resolutionContext, part)
                 : new TerminalEvalContextImpl(ref, resolutionContext, part);
+        // Try to resolve the part synchronously first, i.e. without wrapping the result in a CompletionStage
+        ValueResolver cached = evalContext.getCachedResolver();
+        if (cached instanceof SyncValueResolver syncResolver && cached.appliesTo(evalContext)) {
+            Object result;
+            try {
+                result = syncResolver.resolveSync(evalContext);
+            } catch (Throwable e) {
+                return CompletedStage.failure(e);
+            }
+            // If not found then continue with the regular resolution
+            if (!Results.isNotFound(result)) {
+                if (partIndex + 1 >= parts.size()) {
+                    return CompletionStageSupport.toCompletionStage(result);
+                } else if (CompletionStageSupport.isComputation(result)) {
+                    return CompletionStageSupport.toCompletionStage(result)
+                            .thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
+                }
+                return resolveReference(false, result, parts, resolutionContext, expression, partIndex + 1);
+            }
+        }
         if (partIndex + 1 >= parts.size()) {
             // The last part - no need to compose
             return resolve(evalContext, null, true, expression, true, partIndex);
-        } else {
-            // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, null, true, expression, false, partIndex)
-                    .thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
         }
+        // Next part - no need to try the parent context/outer scope
+        CompletionStage<Object> ret = resolve(evalContext, null, true, expression, false, partIndex);
+        if (ret instanceof CompletedStage<Object> completed) {
+            // No async computation needed
+            if (completed.isFailure()) {
+                return completed;
+            }
+            try {
+                return resolveReference(false, completed.get(), parts, resolutionContext, expression, partIndex + 1);
+            } catch (Throwable e) {
+                return CompletedStage.failure(e);
+            }
+        }
+        return ret.thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
     }
 
     private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<ValueResolver> resolvers,
@@ -143,7 +205,21 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             // Try the cached resolver first
             ValueResolver cached = evalContext.getCachedResolver();
             if (cached != null && cached.appliesTo(evalContext)) {
-                return cached.resolve(evalContext).thenCompose(r -> {
+                CompletionStage<Object> ret = cached.resolve(evalContext);
+                if (ret instanceof CompletedStage<Object> completed) {
+                    // No async computation needed
+                    if (completed.isFailure()) {
+                        return completed;
+                    }
+                    try {
+                        return Results.isNotFound(completed.get())
+                                ? resolve(evalContext, null, false, expression, isLastPart, partIndex)
+                                : CompletionStageSupport.flatten(completed);
+                    } catch (Throwable e) {
+                        return CompletedStage.failure(e);
+                    }
+                }
+                return ret.thenCompose(r -> {
                     if (Results.isNotFound(r)) {
                         return resolve(evalContext, null, false, expression, isLastPart, partIndex);
                     } else {
@@ -208,7 +284,25 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
 
         final Iterator<ValueResolver> remainingResolvers = resolvers;
         final ValueResolver foundResolver = applicableResolver;
-        return applicableResolver.resolve(evalContext).thenCompose(r -> {
+        CompletionStage<Object> ret = applicableResolver.resolve(evalContext);
+        if (ret instanceof CompletedStage<Object> completed) {
+            // No async computation needed
+            if (completed.isFailure()) {
+                return completed;
+            }
+            try {
+                if (Results.isNotFound(completed.get())) {
+                    // Result not found - try the next resolver
+                    return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
+                }
+                // Cache the first resolver where a result is found
+                evalContext.setCachedResolver(foundResolver.getCachedResolver(evalContext));
+                return CompletionStageSupport.flatten(completed);
+            } catch (Throwable e) {
+                return CompletedStage.failure(e);
+            }
+        }
+        return ret.thenCompose(r -> {
             if (Results.isNotFound(r)) {
                 // Result not found - try the next resolver
                 return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
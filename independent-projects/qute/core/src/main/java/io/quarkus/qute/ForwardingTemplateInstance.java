@@ -58,6 +58,11 @@ public CompletionStage<Void> consume(Consumer<String> consumer) {
         return delegate().consume(consumer);
     }
 
+    @Override
+    public CompletionStage<Void> consumeBytes(ByteSink sink) {
+        return delegate().consumeBytes(sink);
+    }
+
     @Override
     public long getTimeout() {
         return delegate().getTimeout();
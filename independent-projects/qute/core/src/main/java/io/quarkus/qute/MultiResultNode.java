@@ -21,4 +21,11 @@ public void process(Consumer<String> consumer) {
         }
     }
 
+    @Override
+    public void process(ByteSink sink) {
+        for (Supplier<ResultNode> result : results) {
+            result.get().process(sink);
+        }
+    }
+
 }
@@ -20,4 +20,19 @@ public void process(Consumer<String> resultConsumer) {
      */
     public abstract void process(Consumer<String> resultConsumer);
 
+    /**
+     * Writes the result to the given sink. The default implementation passes the chunks to the sink as strings.
+     *
+     * @param sink
+     * @see ByteSink
+     */
+    public void process(ByteSink sink) {
+        process(new Consumer<String>() {
+            @Override
+            public void accept(String value) {
+                sink.write(value);
+            }
+        });
+    }
+
 }
@@ -68,4 +68,15 @@ public CompletionStage<Void> consume(Consumer<String> consumer) {
         });
     }
 
+    @Override
+    public CompletionStage<Void> consumeBytes(ByteSink sink) {
+        // The results are collected as strings
+        return consume(new Consumer<String>() {
+            @Override
+            public void accept(String value) {
+                sink.write(value);
+            }
+        });
+    }
+
 }
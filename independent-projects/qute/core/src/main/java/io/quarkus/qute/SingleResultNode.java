@@ -42,14 +42,22 @@ private static Object extractValue(Object value) {
     @Override
     public void process(Consumer<String> consumer) {
         if (value != null) {
-            String result;
-            if (node != null) {
-                result = node.mapResult(value);
-            } else {
-                result = value.toString();
-            }
-            consumer.accept(result);
+            consumer.accept(toResult());
         }
     }
 
+    @Override
+    public void process(ByteSink sink) {
+        if (value != null) {
+            sink.write(toResult());
+        }
+    }
+
+    private String toResult() {
+        if (node != null) {
+            return node.mapResult(value);
+        }
+        return value.toString();
+    }
+
 }
@@ -0,0 +1,24 @@
+package io.quarkus.qute;
+
+/**
+ * A value resolver that is able to resolve some expression parts synchronously, i.e. without wrapping the result in a
+ * {@link java.util.concurrent.CompletionStage}.
+ * <p>
+ * The evaluator only uses this method for resolvers that were cached for a specific part of an expression, see
+ * {@link ValueResolver#getCachedResolver(EvalContext)}, and that apply to the given {@link EvalContext}. If all the parts of
+ * an expression are resolved synchronously then no intermediate {@link java.util.concurrent.CompletionStage} is created.
+ */
+public interface SyncValueResolver extends ValueResolver {
+
+    /**
+     * This method should return an instance of {@link Results.NotFound} if it's not possible to resolve the context
+     * synchronously. In that case, the evaluator resolves the part with {@link #resolve(EvalContext)} instead, so nothing
+     * should be invoked on the base object before {@link Results.NotFound} is returned. Any other value is considered a
+     * valid result, including {@code null}.
+     *
+     * @param context
+     * @return the result
+     */
+    Object resolveSync(EvalContext context);
+
+}
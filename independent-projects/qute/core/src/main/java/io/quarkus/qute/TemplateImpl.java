@@ -240,6 +240,20 @@ public CompletionStage<Void> consume(Consumer<String> resultConsumer) {
             return cs;
         }
 
+        @Override
+        public CompletionStage<Void> consumeBytes(ByteSink sink) {
+            CompletionStage<Void> cs = renderResult(data(), new Consumer<ResultNode>() {
+                @Override
+                public void accept(ResultNode resultNode) {
+                    resultNode.process(sink);
+                }
+            });
+            if (engine.useAsyncTimeout()) {
+                cs = cs.toCompletableFuture().orTimeout(getTimeout(), TimeUnit.MILLISECONDS);
+            }
+            return cs;
+        }
+
         private TemplateException newTimeoutException(long timeout) {
             return new TemplateException(TemplateImpl.this.toString() + " rendering timeout [" + timeout + "ms] occured");
         }
@@ -279,6 +293,15 @@ private int getCapacityAttributeValue() {
         }
 
         private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
+            return renderResult(data, new Consumer<ResultNode>() {
+                @Override
+                public void accept(ResultNode resultNode) {
+                    resultNode.process(consumer);
+                }
+            });
+        }
+
+        private CompletionStage<Void> renderResult(Object data, Consumer<ResultNode> processor) {
             CompletableFuture<Void> result = new CompletableFuture<>();
             ResolutionContext rootContext = new ResolutionContextImpl(data,
                     engine.getEvaluator(), null, this);
@@ -295,7 +318,7 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
                 } else {
                     // Sync processing of the result tree - build the output
                     try {
-                        r.process(consumer);
+                        processor.accept(r);
                         result.complete(null);
                     } catch (Throwable e) {
                         result.completeExceptionally(e);
@@ -150,6 +150,24 @@ default CompletionStage<Void> consume(Consumer<String> consumer) {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Triggers rendering. Unlike {@link #consume(Consumer)}, the static text of the template is written pre-encoded,
+     * which makes it possible to render the template directly into a byte buffer.
+     * <p>
+     * The default implementation delegates to {@link #consume(Consumer)}.
+     *
+     * @param sink To consume the UTF-8 encoded chunks of the rendered template
+     * @return a completion stage that is completed once the rendering finished
+     */
+    default CompletionStage<Void> consumeBytes(ByteSink sink) {
+        return consume(new Consumer<String>() {
+            @Override
+            public void accept(String value) {
+                sink.write(value);
+            }
+        });
+    }
+
     /**
      * @return the timeout
      * @see TemplateInstance#TIMEOUT
@@ -1,5 +1,6 @@
 package io.quarkus.qute;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -10,11 +11,14 @@ public class TextNode extends ResultNode implements TemplateNode {
 
     private final CompletedStage<ResultNode> result;
     private final String value;
+    // The value encoded once, at parse time
+    private final byte[] utf8;
     private final Origin origin;
 
     public TextNode(String value, Origin origin) {
         this.result = CompletedStage.of(this);
         this.value = value;
+        this.utf8 = value.getBytes(StandardCharsets.UTF_8);
         this.origin = origin;
     }
 
@@ -47,6 +51,11 @@ public void process(Consumer<String> consumer) {
         consumer.accept(value);
     }
 
+    @Override
+    public void process(ByteSink sink) {
+        sink.write(utf8);
+    }
+
     @Override
     public TextNode asText() {
         return this;
@@ -1,11 +1,14 @@
 package io.quarkus.qute;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
@@ -22,6 +25,23 @@ public void testAsyncData() {
         assertEquals("alpha", engine.parse("{token}").data("token", CompletedStage.of("alpha")).render());
     }
 
+    @Test
+    public void testSyncAndAsyncParts() {
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(ValueResolver.builder().applyToBaseClass(Client.class)
+                        .applyToName("delayedTokens").resolveSync(ec -> ((Client) ec.getBase()).getDelayedTokens()).build())
+                .build();
+        // Only the middle part of the expression is resolved asynchronously
+        assertEquals("3:alpha",
+                engine.parse("{client.delayedTokens.size}:{client.delayedTokens.get(0)}").data("client", new Client())
+                        .render());
+        // All parts resolved synchronously
+        CompletionStage<Object> result = engine.getEvaluator().evaluate(ExpressionImpl.from("list.size"),
+                new ResolutionContextImpl(Map.of("list", List.of(1, 2, 3)), engine.getEvaluator(), null, null));
+        assertTrue(result instanceof CompletedStage);
+        assertEquals(3, ((CompletedStage<?>) result).get());
+    }
+
     static class Client {
 
         public CompletionStage<List<String>> getTokens() {
@@ -30,6 +50,11 @@ public CompletionStage<List<String>> getTokens() {
             return tokens;
         }
 
+        public CompletionStage<List<String>> getDelayedTokens() {
+            return CompletableFuture.supplyAsync(() -> Arrays.asList("alpha", "bravo", "delta"),
+                    CompletableFuture.delayedExecutor(10, TimeUnit.MILLISECONDS));
+        }
+
     }
 
 }
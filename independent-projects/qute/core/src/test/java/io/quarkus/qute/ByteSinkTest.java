@@ -0,0 +1,58 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+public class ByteSinkTest {
+
+    @Test
+    public void testConsumeBytes() throws InterruptedException, ExecutionException {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver())
+                .addResultMapper(new HtmlEscaper(List.of("text/html"))).build();
+        Template template = engine.parse("<h1>Héllo {name}!</h1>\n{#for item in items}<li>{item}</li>{/for}",
+                Variant.forContentType("text/html"));
+        TemplateInstance instance = template.data("name", "Žluťoučký <kůň>").data("items", List.of("€1", "€2"));
+
+        CollectingSink sink = new CollectingSink();
+        instance.consumeBytes(sink).toCompletableFuture().get();
+
+        assertEquals("<h1>Héllo Žluťoučký &lt;kůň&gt;!</h1>\n<li>€1</li><li>€2</li>", sink.toString());
+        assertEquals(instance.render(), sink.toString());
+        // The static text is written pre-encoded, only the values of the expressions are passed as strings
+        assertTrue(sink.encoded > 0);
+        assertEquals(3, sink.strings);
+    }
+
+    static class CollectingSink implements ByteSink {
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int encoded;
+        int strings;
+
+        @Override
+        public void write(byte[] utf8) {
+            encoded++;
+            out.writeBytes(utf8);
+        }
+
+        @Override
+        public void write(String value) {
+            strings++;
+            out.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String toString() {
+            return out.toString(StandardCharsets.UTF_8);
+        }
+
+    }
+
+}
@@ -54,6 +54,19 @@ public void testConsume() throws InterruptedException {
         });
     }
 
+    @Test
+    public void testConsumeBytes() throws InterruptedException {
+        assertResults(t -> {
+            try {
+                ByteSinkTest.CollectingSink sink = new ByteSinkTest.CollectingSink();
+                t.consumeBytes(sink).toCompletableFuture().get();
+                return sink.toString();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
     @Test
     public void testRemove() {
         Engine engine = Engine.builder().addDefaults().build();
@@ -113,4 +113,5 @@ private Descriptors() {
     public static final FieldDesc RESULTS_TRUE = FieldDesc.of(Results.class, "TRUE");
     public static final FieldDesc RESULTS_FALSE = FieldDesc.of(Results.class, "FALSE");
     public static final FieldDesc RESULTS_NULL = FieldDesc.of(Results.class, "NULL");
+    public static final FieldDesc NOT_FOUND_EMPTY = FieldDesc.of(NotFound.class, "EMPTY");
 }
@@ -48,9 +48,13 @@
 import io.quarkus.gizmo2.creator.BlockCreator;
 import io.quarkus.gizmo2.creator.ClassCreator;
 import io.quarkus.gizmo2.desc.ClassMethodDesc;
+import io.quarkus.gizmo2.desc.ConstructorDesc;
+import io.quarkus.gizmo2.desc.FieldDesc;
 import io.quarkus.gizmo2.desc.InterfaceMethodDesc;
+import io.quarkus.gizmo2.desc.MethodDesc;
 import io.quarkus.qute.EvalContext;
 import io.quarkus.qute.NamespaceResolver;
+import io.quarkus.qute.SyncValueResolver;
 import io.quarkus.qute.TemplateData;
 import io.quarkus.qute.ValueResolver;
 
@@ -83,6 +87,9 @@ public static Builder builder() {
     public static final String IGNORE = "ignore";
     public static final String PROPERTIES = "properties";
 
+    static final String MEMBER = "member";
+    static final String MEMBER_INDEX = "memberIndex";
+
     public static final int DEFAULT_PRIORITY = 10;
 
     private final Map<DotName, ClassInfo> nameToClass;
@@ -209,12 +216,22 @@ private void generate(DotName className, int priority) {
             String generatedName = generatedNameFromTarget(targetPackage, baseName, SUFFIX);
             String generatedClassName = generatedName.replace('/', '.');
             generatedTypes.add(generatedClassName);
+            List<ZeroParamsMember> zeroParamsMembers = zeroParamsMembers(clazz, result);
             gizmo.class_(generatedClassName, cc -> {
-                cc.implements_(ValueResolver.class);
-                cc.defaultConstructor();
+                FieldDesc memberField = null;
+                if (zeroParamsMembers.isEmpty()) {
+                    cc.implements_(ValueResolver.class);
+                    cc.defaultConstructor();
+                } else {
+                    cc.implements_(SyncValueResolver.class);
+                    memberField = implementMemberIndex(cc, zeroParamsMembers);
+                }
                 implementGetPriority(cc, priority);
                 implementAppliesTo(cc, clazz);
-                implementResolve(cc, clazzName, clazz, result);
+                implementResolve(cc, clazzName, clazz, result, zeroParamsMembers, memberField);
+                if (memberField != null) {
+                    implementResolveSync(cc, clazz, zeroParamsMembers, memberField);
+                }
             });
         }
 
@@ -359,7 +376,195 @@ private void implementGetNamespace(ClassCreator namespaceResolver, String namesp
         });
     }
 
-    private void implementResolve(ClassCreator valueResolver, String clazzName, ClassInfo clazz, ScanResult result) {
+    /**
+     * The resolver resolves the no-args members by index. The default constructor creates a general resolver that finds the
+     * index of the member by name. However, the resolver cached for a specific expression part is created with the index
+     * of the member matching the part and can invoke the member directly, i.e. without comparing the names.
+     *
+     * @return the member index field
+     */
+    private FieldDesc implementMemberIndex(ClassCreator valueResolver, List<ZeroParamsMember> members) {
+        FieldDesc memberField = valueResolver.field(MEMBER, fc -> {
+            fc.private_();
+            fc.final_();
+            fc.setType(int.class);
+        });
+        ConstructorDesc memberConstructor = valueResolver.constructor(mc -> {
+            ParamVar member = mc.parameter(MEMBER, int.class);
+            mc.body(bc -> {
+                bc.invokeSpecial(Descriptors.OBJECT_CONSTRUCTOR, valueResolver.this_());
+                bc.set(valueResolver.this_().field(memberField), member);
+                bc.return_();
+            });
+        });
+        valueResolver.constructor(mc -> {
+            mc.body(bc -> {
+                bc.invokeSpecial(memberConstructor, valueResolver.this_(), Const.of(-1));
+                bc.return_();
+            });
+        });
+
+        // static int memberIndex(String name)
+        MethodDesc memberIndex = valueResolver.staticMethod(MEMBER_INDEX, mc -> {
+            mc.returning(int.class);
+            ParamVar name = mc.parameter("name", String.class);
+            mc.body(bc -> {
+                bc.switch_(name, sc -> {
+                    for (int i = 0; i < members.size(); i++) {
+                        int index = i;
+                        sc.case_(cac -> {
+                            for (String matchingName : members.get(index).names()) {
+                                cac.of(matchingName);
+                            }
+                            cac.body(cbc -> cbc.return_(index));
+                        });
+                    }
+                });
+                bc.return_(-1);
+            });
+        });
+
+        valueResolver.method("getCachedResolver", mc -> {
+            mc.returning(ValueResolver.class);
+            ParamVar evalContext = mc.parameter("ec", EvalContext.class);
+            mc.body(bc -> {
+                Expr isGeneral = bc.lt(valueResolver.this_().field(memberField), 0);
+                bc.if_(isGeneral, general -> {
+                    general.if_(general.invokeStatic(Descriptors.VALUE_RESOLVERS_HAS_NO_PARAMS, evalContext), noParams -> {
+                        LocalVar index = noParams.localVar("index", noParams.invokeStatic(memberIndex,
+                                noParams.invokeInterface(Descriptors.GET_NAME, evalContext)));
+                        noParams.if_(noParams.ge(index, 0), found -> {
+                            found.return_(found.new_(memberConstructor, index));
+                        });
+                    });
+                });
+                bc.return_(valueResolver.this_());
+            });
+        });
+        return memberField;
+    }
+
+    /**
+     * @return the no-args members in the order they should be matched
+     */
+    private List<ZeroParamsMember> zeroParamsMembers(ClassInfo clazz, ScanResult result) {
+        List<ZeroParamsMember> members = new ArrayList<>();
+        List<MethodKey> noParamMethods = result.noParamMethods();
+        Function<FieldInfo, String> fieldToGetterFun = forceGettersFunction != null ? forceGettersFunction.apply(clazz)
+                : null;
+        Set<String> matchedNames = new HashSet<>();
+
+        for (MethodKey methodKey : noParamMethods) {
+            // No params - just invoke the method if the name matches
+            MethodInfo method = methodKey.method;
+            List<String> matchingNames = new ArrayList<>();
+            if (matchedNames.add(method.name())) {
+                matchingNames.add(method.name());
+            }
+            String propertyName = isGetterName(method.name(), method.returnType())
+                    ? getPropertyName(method.name())
+                    : null;
+            if (propertyName != null
+                    // No method with exact name match exists
+                    && noParamMethods.stream().noneMatch(mk -> mk.name.equals(propertyName))
+                    && matchedNames.add(propertyName)) {
+                matchingNames.add(propertyName);
+            }
+            if (matchingNames.isEmpty()) {
+                continue;
+            }
+            LOGGER.debugf("No-args method added %s", method);
+            members.add(new ZeroParamsMember(matchingNames, method, null, null));
+        }
+
+        for (FieldInfo field : result.fields()) {
+            String getterName = fieldToGetterFun != null ? fieldToGetterFun.apply(field) : null;
+            if (getterName != null && noneMethodMatches(noParamMethods, getterName)
+                    && matchedNames.add(getterName)) {
+                LOGGER.debugf("Forced getter added: %s", field);
+                List<String> matching;
+                if (matchedNames.add(field.name())) {
+                    matching = List.of(getterName, field.name());
+                } else {
+                    matching = List.of(getterName);
+                }
+                members.add(new ZeroParamsMember(matching, null, field, getterName));
+            } else if (matchedNames.add(field.name())) {
+                LOGGER.debugf("Field added: %s", field);
+                members.add(new ZeroParamsMember(List.of(field.name()), null, field, null));
+            }
+        }
+        return members;
+    }
+
+    private void invokeMember(BlockCreator bc, ClassCreator valueResolver, ClassInfo clazz, ZeroParamsMember member,
+            Expr base) {
+        processReturnVal(bc, member.type(), memberValue(bc, clazz, member, base), valueResolver);
+    }
+
+    private Expr memberValue(BlockCreator bc, ClassInfo clazz, ZeroParamsMember member, Expr base) {
+        if (member.method() != null) {
+            MethodInfo method = member.method();
+            return method.declaringClass().isInterface()
+                    ? bc.invokeInterface(methodDescOf(method), base)
+                    : bc.invokeVirtual(methodDescOf(method), base);
+        } else if (member.getterName() != null) {
+            FieldInfo field = member.field();
+            return clazz.isInterface()
+                    ? bc.invokeInterface(InterfaceMethodDesc.of(classDescOf(clazz), member.getterName(),
+                            MethodTypeDesc.of(classDescOf(field.type()))), base)
+                    : bc.invokeVirtual(ClassMethodDesc.of(classDescOf(clazz), member.getterName(),
+                            MethodTypeDesc.of(classDescOf(field.type()))), base);
+        } else {
+            FieldInfo field = member.field();
+            Expr castBase = bc.cast(base, classDescOf(field.declaringClass()));
+            return castBase.field(fieldDescOf(field));
+        }
+    }
+
+    /**
+     * The resolver cached for a specific expression part resolves the member synchronously, unless the member returns a
+     * {@link CompletionStage}. The general resolver always returns {@link io.quarkus.qute.Results.NotFound#EMPTY}.
+     */
+    private void implementResolveSync(ClassCreator valueResolver, ClassInfo clazz, List<ZeroParamsMember> members,
+            FieldDesc memberField) {
+        valueResolver.method("resolveSync", mc -> {
+            mc.returning(Object.class);
+            ParamVar evalContext = mc.parameter("ec", EvalContext.class);
+            mc.body(bc -> {
+                bc.switch_(valueResolver.this_().field(memberField), sc -> {
+                    for (int i = 0; i < members.size(); i++) {
+                        ZeroParamsMember member = members.get(i);
+                        if (hasCompletionStage(member.type())) {
+                            continue;
+                        }
+                        sc.caseOf(i, cbc -> {
+                            Expr base = cbc.invokeInterface(Descriptors.GET_BASE, evalContext);
+                            Expr val = memberValue(cbc, clazz, member, base);
+                            cbc.return_(member.type().kind() == Type.Kind.PRIMITIVE ? cbc.box(val) : val);
+                        });
+                    }
+                    sc.default_(dbc -> {
+                        // The general resolver or a member that returns a CompletionStage
+                    });
+                });
+                bc.return_(bc.getStaticField(Descriptors.NOT_FOUND_EMPTY));
+            });
+        });
+    }
+
+    /**
+     * A no-args method, a field or a field accessed through a forced getter.
+     */
+    record ZeroParamsMember(List<String> names, MethodInfo method, FieldInfo field, String getterName) {
+
+        Type type() {
+            return method != null ? method.returnType() : field.type();
+        }
+    }
+
+    private void implementResolve(ClassCreator valueResolver, String clazzName, ClassInfo clazz, ScanResult result,
+            List<ZeroParamsMember> zeroParamsMembers, FieldDesc memberField) {
 
         valueResolver.method("resolve", mc -> {
             mc.returning(CompletionStage.class);
@@ -369,7 +574,6 @@ private void implementResolve(ClassCreator valueResolver, String clazzName, Clas
                 LocalVar base = bc.localVar("base", bc.invokeInterface(Descriptors.GET_BASE, evalContext));
                 LocalVar name = bc.localVar("name", bc.invokeInterface(Descriptors.GET_NAME, evalContext));
 
-                List<MethodKey> noParamMethods = result.noParamMethods();
                 Map<Match, List<MethodInfo>> argsMatches = result.argsMatches();
                 Map<Match, List<MethodInfo>> varargsMatches = result.varargsMatches();
 
@@ -379,88 +583,30 @@ private void implementResolve(ClassCreator valueResolver, String clazzName, Clas
                     params = bc.localVar("params", bc.invokeInterface(Descriptors.GET_PARAMS, evalContext));
                     paramsCount = bc.localVar("paramsCount", bc.invokeInterface(Descriptors.COLLECTION_SIZE, params));
                 }
-                Function<FieldInfo, String> fieldToGetterFun = forceGettersFunction != null ? forceGettersFunction.apply(clazz)
-                        : null;
-
-                if (!noParamMethods.isEmpty() || !result.fields().isEmpty()) {
-                    Expr hasNoParams;
-                    if (paramsCount != null) {
-                        hasNoParams = bc.eq(paramsCount, 0);
-                    } else {
-                        hasNoParams = bc.invokeStatic(Descriptors.VALUE_RESOLVERS_HAS_NO_PARAMS, evalContext);
-                    }
-                    bc.if_(hasNoParams, zeroParams -> {
-                        zeroParams.switch_(name, sc -> {
-                            Set<String> matchedNames = new HashSet<>();
-
-                            for (MethodKey methodKey : noParamMethods) {
-                                // No params - just invoke the method if the name matches
-                                MethodInfo method = methodKey.method;
-                                List<String> matchingNames = new ArrayList<>();
-                                if (matchedNames.add(method.name())) {
-                                    matchingNames.add(method.name());
-                                }
-                                String propertyName = isGetterName(method.name(), method.returnType())
-                                        ? getPropertyName(method.name())
-                                        : null;
-                                if (propertyName != null
-                                        // No method with exact name match exists
-                                        && noParamMethods.stream().noneMatch(mk -> mk.name.equals(propertyName))
-                                        && matchedNames.add(propertyName)) {
-                                    matchingNames.add(propertyName);
-                                }
-                                if (matchingNames.isEmpty()) {
-                                    continue;
-                                }
-                                LOGGER.debugf("No-args method added %s", method);
-                                sc.case_(cac -> {
-                                    for (String matchingName : matchingNames) {
-                                        cac.of(matchingName);
-                                    }
-                                    cac.body(cbc -> {
-                                        Type returnType = method.returnType();
-                                        Expr invokeRet = method.declaringClass().isInterface()
-                                                ? cbc.invokeInterface(methodDescOf(method), base)
-                                                : cbc.invokeVirtual(methodDescOf(method), base);
-                                        processReturnVal(cbc, returnType, invokeRet, valueResolver);
-                                    });
-                                });
-                            }
-
-                            for (FieldInfo field : result.fields()) {
-                                String getterName = fieldToGetterFun != null ? fieldToGetterFun.apply(field) : null;
-                                if (getterName != null && noneMethodMatches(noParamMethods, getterName)
-                                        && matchedNames.add(getterName)) {
-                                    LOGGER.debugf("Forced getter added: %s", field);
-                                    List<String> matching;
-                                    if (matchedNames.add(field.name())) {
-                                        matching = List.of(getterName, field.name());
-                                    } else {
-                                        matching = List.of(getterName);
-                                    }
-                                    sc.case_(cac -> {
-                                        for (String matchingName : matching) {
-                                            cac.of(matchingName);
-                                        }
-                                        cac.body(cbc -> {
-                                            Expr val = clazz.isInterface()
-                                                    ? cbc.invokeInterface(InterfaceMethodDesc.of(classDescOf(clazz), getterName,
-                                                            MethodTypeDesc.of(classDescOf(field.type()))), base)
-                                                    : cbc.invokeVirtual(ClassMethodDesc.of(classDescOf(clazz), getterName,
-                                                            MethodTypeDesc.of(classDescOf(field.type()))), base);
-                                            processReturnVal(cbc, field.type(), val, valueResolver);
-                                        });
-                                    });
 
-                                } else if (matchedNames.add(field.name())) {
-                                    LOGGER.debugf("Field added: %s", field);
-                                    sc.caseOf(Const.of(field.name()), cac -> {
-                                        Expr castBase = cac.cast(base, classDescOf(field.declaringClass()));
-                                        Expr val = castBase.field(fieldDescOf(field));
-                                        processReturnVal(cac, field.type(), val, valueResolver);
-                                    });
-                                }
-                            }
+                if (!zeroParamsMembers.isEmpty()) {
+                    // The index is set if the resolver was cached for a specific expression part
+                    LocalVar index = bc.localVar("index", valueResolver.this_().field(memberField));
+                    LocalVar count = paramsCount;
+                    bc.if_(bc.lt(index, 0), general -> {
+                        Expr hasNoParams;
+                        if (count != null) {
+                            hasNoParams = general.eq(count, 0);
+                        } else {
+                            hasNoParams = general.invokeStatic(Descriptors.VALUE_RESOLVERS_HAS_NO_PARAMS, evalContext);
+                        }
+                        general.if_(hasNoParams, zeroParams -> {
+                            zeroParams.set(index, zeroParams.invokeStatic(
+                                    ClassMethodDesc.of(valueResolver.type(), MEMBER_INDEX, int.class, String.class), name));
+                        });
+                    });
+                    bc.switch_(index, sc -> {
+                        for (int i = 0; i < zeroParamsMembers.size(); i++) {
+                            ZeroParamsMember member = zeroParamsMembers.get(i);
+                            sc.caseOf(i, cbc -> invokeMember(cbc, valueResolver, clazz, member, base));
+                        }
+                        sc.default_(dbc -> {
+                            // No matching no-args member
                         });
                     });
                 }
@@ -1,6 +1,10 @@
 package io.quarkus.qute.generator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.File;
@@ -33,6 +37,9 @@
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.NamespaceResolver;
 import io.quarkus.qute.Resolver;
+import io.quarkus.qute.Results;
+import io.quarkus.qute.SyncValueResolver;
+import io.quarkus.qute.Template;
 import io.quarkus.qute.TestEvalContext;
 import io.quarkus.qute.ValueResolver;
 import io.quarkus.qute.generator.ExtensionMethodGenerator.NamespaceExtensionMethodInfo;
@@ -123,6 +130,53 @@ public void testGenerator() throws Exception {
                         .toCompletableFuture().get(1, TimeUnit.SECONDS).toString());
     }
 
+    @Test
+    public void testCachedResolver() throws Exception {
+        ValueResolver resolver = (ValueResolver) newResolver("io.quarkus.qute.generator.MyService_ValueResolver");
+        ValueResolver cached = resolver.getCachedResolver(new TestEvalContext(new MyService(), "getName", null));
+        assertNotSame(resolver, cached);
+        assertEquals("Foo",
+                cached.resolve(new TestEvalContext(new MyService(), "getName", null))
+                        .toCompletableFuture().get(1, TimeUnit.SECONDS).toString());
+        // Members with params and unknown members are not cached
+        assertSame(resolver, resolver.getCachedResolver(new TestEvalContext(new MyService(), "getList",
+                e -> CompletableFuture.completedFuture(Integer.valueOf(10)), "1")));
+        assertSame(resolver, resolver.getCachedResolver(new TestEvalContext(new MyService(), "surname", null)));
+        // A cached resolver is never cached again
+        assertSame(cached, cached.getCachedResolver(new TestEvalContext(new MyService(), "getName", null)));
+
+        ValueResolver itemResolver = (ValueResolver) newResolver("io.quarkus.qute.generator.MyItem_ValueResolver");
+        cached = itemResolver.getCachedResolver(new TestEvalContext(new MyItem(), "id", null));
+        assertNotSame(itemResolver, cached);
+        assertEquals("foo", cached.resolve(new TestEvalContext(new MyItem(), "id", null))
+                .toCompletableFuture().get(1, TimeUnit.SECONDS).toString());
+    }
+
+    @Test
+    public void testSyncResolver() throws Exception {
+        SyncValueResolver resolver = (SyncValueResolver) newResolver("io.quarkus.qute.generator.MyService_ValueResolver");
+        // The general resolver does not resolve anything synchronously
+        assertTrue(Results.isNotFound(resolver.resolveSync(new TestEvalContext(new MyService(), "getName", null))));
+
+        TestEvalContext name = new TestEvalContext(new MyService(), "name", null);
+        assertEquals("Foo", ((SyncValueResolver) resolver.getCachedResolver(name)).resolveSync(name));
+        TestEvalContext active = new TestEvalContext(new MyService(), "active", null);
+        assertEquals(Boolean.TRUE, ((SyncValueResolver) resolver.getCachedResolver(active)).resolveSync(active));
+        TestEvalContext activeNull = new TestEvalContext(new MyService(), "isActiveObjectNull", null);
+        assertNull(((SyncValueResolver) resolver.getCachedResolver(activeNull)).resolveSync(activeNull));
+        // Members that return a CompletionStage are resolved asynchronously
+        TestEvalContext testName = new TestEvalContext(new MyService(), "testName", null);
+        assertTrue(Results.isNotFound(((SyncValueResolver) resolver.getCachedResolver(testName)).resolveSync(testName)));
+
+        Engine engine = Engine.builder().addDefaults().addValueResolver(resolver).build();
+        Template template = engine
+                .parse("{service.name}::{service.active}::{service.isActiveObjectNull}::{service.testName}::{service.myEnum}");
+        // The second rendering uses the cached resolvers
+        for (int i = 0; i < 2; i++) {
+            assertEquals("Foo::true::::oof::BAR", template.data("service", new MyService()).render());
+        }
+    }
+
     @Test
     public void testWithEngine() throws Exception {
         try {
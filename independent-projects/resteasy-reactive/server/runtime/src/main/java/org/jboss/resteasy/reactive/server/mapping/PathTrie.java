@@ -0,0 +1,138 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A compact prefix tree (radix tree) of path stems.
+ * <p>
+ * {@link PathMatcher} needs one substring hash lookup per distinct stem length to find the stems that are a prefix
+ * of a request path. This trie finds all of them in a single pass over the path, without allocating. Walking down
+ * from the {@link #root()} and trying the deepest node first yields the stems ordered from the longest to the shortest,
+ * which is the same order {@link PathMatcher#match(String)} uses.
+ */
+@SuppressWarnings("ForLoopReplaceableByForEach")
+class PathTrie<T> {
+
+    private final Node<T> root;
+
+    PathTrie(Node<T> root) {
+        this.root = root;
+    }
+
+    Node<T> root() {
+        return root;
+    }
+
+    static final class Node<T> {
+
+        /**
+         * The part of the stem between the parent node and this node
+         */
+        final String label;
+
+        /**
+         * The value of the stem ending at this node, or {@code null} if no stem ends here
+         */
+        final T value;
+
+        /**
+         * The first character of the label of each child, used to select a child without comparing labels
+         */
+        private final char[] keys;
+        private final Node<T>[] children;
+
+        Node(String label, T value, char[] keys, Node<T>[] children) {
+            this.label = label;
+            this.value = value;
+            this.keys = keys;
+            this.children = children;
+        }
+
+        /**
+         * @return the child whose label is found in the path at the given position, or {@code null}
+         */
+        Node<T> child(String path, int pos) {
+            if (pos >= path.length()) {
+                return null;
+            }
+            char c = path.charAt(pos);
+            final char[] keys = this.keys;
+            for (int i = 0; i < keys.length; ++i) {
+                if (keys[i] == c) {
+                    Node<T> child = children[i];
+                    return path.startsWith(child.label, pos) ? child : null;
+                }
+            }
+            return null;
+        }
+    }
+
+    static class Builder<T> {
+
+        private final MutableNode<T> root = new MutableNode<>("");
+
+        void put(String path, T value) {
+            if (path.isEmpty()) {
+                throw new IllegalArgumentException("Path not specified");
+            }
+            insert(root, path, 0, value);
+        }
+
+        PathTrie<T> build() {
+            return new PathTrie<>(root.freeze());
+        }
+
+        private static <T> void insert(MutableNode<T> node, String path, int pos, T value) {
+            while (pos < path.length()) {
+                char c = path.charAt(pos);
+                MutableNode<T> child = node.children.get(c);
+                if (child == null) {
+                    MutableNode<T> leaf = new MutableNode<>(path.substring(pos));
+                    leaf.value = value;
+                    node.children.put(c, leaf);
+                    return;
+                }
+                int common = 0;
+                int max = Math.min(child.label.length(), path.length() - pos);
+                while (common < max && child.label.charAt(common) == path.charAt(pos + common)) {
+                    common++;
+                }
+                if (common < child.label.length()) {
+                    //split the edge, so that the common part becomes a node of its own
+                    MutableNode<T> split = new MutableNode<>(child.label.substring(0, common));
+                    child.label = child.label.substring(common);
+                    split.children.put(child.label.charAt(0), child);
+                    node.children.put(c, split);
+                    child = split;
+                }
+                node = child;
+                pos += common;
+            }
+            node.value = value;
+        }
+    }
+
+    private static final class MutableNode<T> {
+
+        private String label;
+        private T value;
+        private final Map<Character, MutableNode<T>> children = new TreeMap<>();
+
+        MutableNode(String label) {
+            this.label = label;
+        }
+
+        @SuppressWarnings("unchecked")
+        Node<T> freeze() {
+            char[] keys = new char[children.size()];
+            Node<T>[] frozen = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, MutableNode<T>> entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                frozen[i++] = entry.getValue().freeze();
+            }
+            return new Node<>(label, value, keys, frozen);
+        }
+    }
+}
@@ -4,7 +4,6 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
@@ -15,11 +14,14 @@
 
     private final PathMatcher<ArrayList<RequestPath<T>>> requestPaths;
     private final PathMatcher.Builder<ArrayList<RequestPath<T>>> pathMatcherBuilder;
+    private final PathTrie<ArrayList<RequestPath<T>>> stems;
+    private final ArrayList<RequestPath<T>> defaultPaths;
     private final ArrayList<RequestPath<T>> templates;
     final int maxParams;
 
     public RequestMapper(ArrayList<RequestPath<T>> templates) {
         pathMatcherBuilder = new PathMatcher.Builder<>();
+        PathTrie.Builder<ArrayList<RequestPath<T>>> stemsBuilder = new PathTrie.Builder<>();
         this.templates = templates;
         int max = 0;
         Map<String, ArrayList<RequestPath<T>>> aggregates = new HashMap<>();
@@ -36,10 +38,15 @@ public RequestMapper(ArrayList<RequestPath<T>> templates) {
             public void accept(String stem, ArrayList<RequestPath<T>> list) {
                 Collections.sort(list);
                 pathMatcherBuilder.addPrefixPath(stem, list);
+                if (!stem.equals("/")) {
+                    stemsBuilder.put(stem, list);
+                }
             }
         });
         maxParams = max;
         requestPaths = pathMatcherBuilder.build();
+        stems = stemsBuilder.build();
+        defaultPaths = aggregates.get("/");
     }
 
     /**
@@ -49,16 +56,27 @@ public void accept(String stem, ArrayList<RequestPath<T>> list) {
      * @return best RequestMatch, or null if the path has no match
      */
     public RequestMatch<T> map(String path) {
-        List<PathMatcher.PathMatch<ArrayList<RequestPath<T>>>> matches = requestPaths.match(path);
-        for (int i = 0; i < matches.size(); i++) {
-            var result = mapFromPathMatcher(path, matches.get(i), 0);
+        RequestMatch<T> result = mapFromStems(path, stems.root(), 0);
+        if (result != null) {
+            return result;
+        }
+
+        // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
+        return mapFromCandidates(path, defaultPaths, 1, 0);
+    }
+
+    /**
+     * Walks down the stem trie along the path, and tries the templates of the longest matching stem first.
+     */
+    private RequestMatch<T> mapFromStems(String path, PathTrie.Node<ArrayList<RequestPath<T>>> node, int matched) {
+        PathTrie.Node<ArrayList<RequestPath<T>>> child = node.child(path, matched);
+        if (child != null) {
+            RequestMatch<T> result = mapFromStems(path, child, matched + child.label.length());
             if (result != null) {
                 return result;
             }
         }
-
-        // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        return mapFromPathMatcher(path, requestPaths.defaultMatch(path), 0);
+        return mapFromCandidates(path, node.value, matched, 0);
     }
 
     /**
@@ -113,21 +131,28 @@ private int nextMatchStartingIndex(PathMatcher.PathMatch<ArrayList<RequestPath<T
         return -1;
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
     private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatches,
             int startIdx) {
-        var value = initialMatches.getValue();
+        return mapFromCandidates(path, initialMatches.getValue(), initialMatches.getMatched().length(), startIdx);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private RequestMatch<T> mapFromCandidates(String path, ArrayList<RequestPath<T>> value, int stemLength, int startIdx) {
         if (value == null || startIdx < 0) {
             return null;
         }
         int pathLength = path.length();
+        //the array is only handed out on a successful match, so it can be shared by all the candidates
+        String[] params = null;
         for (int index = startIdx; index < value.size(); index++) {
             RequestPath<T> potentialMatch = value.get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+            if (params == null) {
+                params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+            }
             int paramCount = 0;
             boolean matched = true;
             boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatches.getMatched().length();
+            int matchPos = stemLength;
             for (int i = 1; i < potentialMatch.template.components.length; ++i) {
                 URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
                 if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
@@ -177,7 +202,7 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
                 continue;
             }
             if (paramCount < params.length) {
-                params[paramCount] = null;
+                Arrays.fill(params, paramCount, params.length, null);
             }
             boolean fullMatch = matchPos == pathLength;
             boolean doPrefixMatch = false;
@@ -0,0 +1,70 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+public class RequestMapperTest {
+
+    @Test
+    public void testLongestStemWins() {
+        RequestMapper<String> mapper = mapper(false, "/foo", "/foo/bar", "/foobar", "/foo/bar/baz", "/fo");
+        assertMatch(mapper, "/foo", "/foo", "");
+        assertMatch(mapper, "/foo/", "/foo", "/");
+        assertMatch(mapper, "/foo/bar", "/foo/bar", "");
+        assertMatch(mapper, "/foobar", "/foobar", "");
+        assertMatch(mapper, "/foo/bar/baz", "/foo/bar/baz", "");
+        assertMatch(mapper, "/fo", "/fo", "");
+        assertNull(mapper.map("/foo/ba"));
+        assertNull(mapper.map("/f"));
+        assertNull(mapper.map("/"));
+    }
+
+    @Test
+    public void testFallbackToShorterStem() {
+        RequestMapper<String> mapper = mapper(false, "/users/{id}", "/users/{id}/orders", "/users/admin");
+        assertMatch(mapper, "/users/admin", "/users/admin", "");
+        assertMatch(mapper, "/users/42", "/users/{id}", "", "42");
+        assertMatch(mapper, "/users/42/orders", "/users/{id}/orders", "", "42");
+        assertMatch(mapper, "/users/adminx", "/users/{id}", "", "adminx");
+        assertNull(mapper.map("/users/42/invoices"));
+    }
+
+    @Test
+    public void testPrefixAndDefaultStem() {
+        RequestMapper<String> mapper = mapper(true, "/", "/api", "/api/{version}");
+        assertMatch(mapper, "/api/v1/things", "/api/{version}", "/things", "v1");
+        assertMatch(mapper, "/api", "/api", "");
+        assertMatch(mapper, "/other", "/", "/other");
+    }
+
+    @Test
+    public void testParamsArePadded() {
+        RequestMapper<String> mapper = mapper(false, "/a/{x}/{y}", "/a/{x}");
+        RequestMapper.RequestMatch<String> match = mapper.map("/a/1");
+        assertEquals("/a/{x}", match.value);
+        assertEquals("1", match.pathParamValues[0]);
+        assertNull(match.pathParamValues[1]);
+    }
+
+    private static RequestMapper<String> mapper(boolean prefix, String... templates) {
+        ArrayList<RequestMapper.RequestPath<String>> paths = new ArrayList<>();
+        for (String template : templates) {
+            paths.add(new RequestMapper.RequestPath<>(prefix, new URITemplate(template, prefix), template));
+        }
+        return new RequestMapper<>(paths);
+    }
+
+    private static void assertMatch(RequestMapper<String> mapper, String path, String expected, String remaining,
+            String... params) {
+        RequestMapper.RequestMatch<String> match = mapper.map(path);
+        assertEquals(expected, match.value, path);
+        assertEquals(remaining, match.remaining, path);
+        for (int i = 0; i < params.length; i++) {
+            assertEquals(params[i], match.pathParamValues[i], path);
+        }
+    }
+}